@@ -0,0 +1,66 @@
+package com.fullStc.ai.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fullStc.ai.service.AnswerCache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 답변 캐시 지표 컨트롤러 (관리자)
+ */
+@RestController
+@RequestMapping("/api/admin/answer-cache")
+@RequiredArgsConstructor
+@Tag(name = "AI Answer Cache", description = "AI 답변 캐시 API")
+public class AnswerCacheController {
+
+    private final AnswerCache answerCache;
+
+    /**
+     * 범위(chat, qa)별 적중률·적중/실패 건수·조회 시간 조회
+     */
+    @Operation(summary = "답변 캐시 지표", description = "AI 채팅·Q&A 답변 캐시의 적중률과 건수를 조회합니다. (관리자 전용)")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", answerCache.getStats());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 범위 비우기 (chat 또는 qa)
+     */
+    @Operation(summary = "답변 캐시 비우기", description = "지정한 범위(chat, qa)의 답변 캐시를 모든 인스턴스에서 비웁니다. (관리자 전용)")
+    @DeleteMapping("/{scope}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> invalidate(@PathVariable String scope) {
+        AnswerCache.Scope target;
+        try {
+            target = AnswerCache.Scope.valueOf(scope.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 캐시 범위입니다: " + scope);
+        }
+        answerCache.invalidate(target);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", target.name().toLowerCase());
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 
 /**
  * 얼굴 인식 데이터 엔티티
- * 사용자의 얼굴 이미지와 분석 결과를 저장
+ * 사용자의 얼굴 분석 결과(얼굴 설명)를 저장
+ * (원본 이미지는 저장하지 않음, image_base64는 얼굴 설명을 아직 만들지 못한 등록분에만 남아 있음)
  */
 @Entity
 @Table(name = "faces")
@@ -35,15 +36,15 @@ public class Face {
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
     
-    /** Base64 인코딩된 얼굴 이미지 */
-    @Column(name = "image_base64", columnDefinition = "LONGTEXT", nullable = false)
+    /** Base64 인코딩된 얼굴 이미지 (얼굴 설명을 만든 뒤에만 비움) */
+    @Column(name = "image_base64", columnDefinition = "LONGTEXT")
     private String imageBase64;
     
     /** 얼굴 특징 설명 (OpenAI 분석 결과) */
     @Column(name = "face_description", columnDefinition = "TEXT")
     private String faceDescription;
     
-    /** 얼굴 감지 여부 */
+    /** 얼굴 감지 여부 (이전 등록분 이미지에서 얼굴을 찾지 못하면 false로 표시하고 이미지는 보존) */
     @Column(name = "face_detected", nullable = false)
     @Builder.Default
     private Boolean faceDetected = true;
@@ -72,8 +73,23 @@ public class Face {
         this.faceDescription = faceDescription;
     }
     
+    /** 이미지에서 만든 얼굴 설명 저장 후 원본 이미지 제거 (설명이 없으면 이미지를 남김) */
+    public void replaceImageWithDescription(String faceDescription) {
+        if (faceDescription == null || faceDescription.isBlank()) {
+            throw new IllegalArgumentException("얼굴 설명이 필요합니다.");
+        }
+        this.faceDescription = faceDescription;
+        this.imageBase64 = null;
+    }
+    
     /** 이미지 업데이트 */
     public void updateImage(String imageBase64) {
         this.imageBase64 = imageBase64;
     }
+    
+    /** 저장된 이미지에서 얼굴을 찾지 못함 (이미지는 지우지 않고 다시 변환하지 않도록 표시) */
+    public void markNoFaceDetected() {
+        this.faceDetected = false;
+        this.faceCount = 0;
+    }
 }
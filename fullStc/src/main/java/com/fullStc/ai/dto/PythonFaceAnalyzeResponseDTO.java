@@ -0,0 +1,29 @@
+package com.fullStc.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Python FastAPI로부터 받는 얼굴 분석 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PythonFaceAnalyzeResponseDTO {
+
+    private boolean success;
+
+    @JsonProperty("face_detected")
+    private boolean faceDetected;
+
+    @JsonProperty("face_count")
+    private int faceCount;
+
+    private String description;
+
+    private String error;
+}
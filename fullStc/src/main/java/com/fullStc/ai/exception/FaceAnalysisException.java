@@ -0,0 +1,12 @@
+package com.fullStc.ai.exception;
+
+// Python 서버 얼굴 분석 실패 (응답 없음 또는 success=false)
+public class FaceAnalysisException extends RuntimeException {
+    public FaceAnalysisException(String message) {
+        super(message);
+    }
+
+    public FaceAnalysisException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -56,6 +56,33 @@ public interface FaceRepository extends JpaRepository<Face, Long> {
     @Query("SELECT f FROM Face f WHERE f.member.email = :email ORDER BY f.createdAt DESC")
     Optional<Face> findFirstByMemberEmailOrderByCreatedAtDesc(@Param("email") String email);
     
+    /**
+     * 얼굴 설명이 있는 얼굴 데이터 조회 (색인 구축용, 오래된 순)
+     * @return [회원 ID, 이메일, 닉네임, 얼굴 설명] 목록
+     */
+    @Query("SELECT f.member.id, f.member.email, f.member.nickname, f.faceDescription FROM Face f " +
+           "WHERE f.faceDetected = true AND f.faceDescription IS NOT NULL ORDER BY f.createdAt ASC, f.id ASC")
+    List<Object[]> findDescriptionRows();
+    
+    /**
+     * 얼굴 설명 없이 원본 이미지만 저장된 얼굴 데이터 ID 조회 (얼굴 미감지로 표시된 행 제외)
+     * 이미지가 커서 한 번에 읽지 않고 ID만 가져와 한 건씩 변환
+     * @return 얼굴 데이터 ID 목록
+     */
+    @Query("SELECT f.id FROM Face f WHERE f.imageBase64 IS NOT NULL AND f.faceDetected = true " +
+           "AND (f.faceDescription IS NULL OR f.faceDescription = '')")
+    List<Long> findIdsWithoutDescription();
+    
+    /**
+     * 얼굴 설명이 이미 있는 행의 원본 이미지 제거 (매칭은 얼굴 설명만 사용)
+     * @return 이미지를 비운 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Face f SET f.imageBase64 = NULL WHERE f.imageBase64 IS NOT NULL AND f.faceDetected = true " +
+           "AND f.faceDescription IS NOT NULL AND f.faceDescription <> ''")
+    int clearImagesWithDescription();
+    
     /**
      * 회원으로 얼굴 데이터 존재 여부 확인
      * @param member 회원
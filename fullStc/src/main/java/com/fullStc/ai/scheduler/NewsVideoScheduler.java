@@ -4,6 +4,7 @@ import com.fullStc.ai.dto.VideoTaskDTO;
 import com.fullStc.ai.service.VideoService;
 import com.fullStc.news.repository.NewsClusterRepository;
 import com.fullStc.news.domain.NewsCluster;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.PageRequest;
@@ -22,7 +23,7 @@ public class NewsVideoScheduler {
     private final NewsClusterRepository newsClusterRepository;
 
     /* 10분마다 실행, 각 카테고리별 HOT 이슈 영상제작 요청 */
-    @Scheduled(cron = "0 0/10 * * * *")
+    @Scheduled(cron = "0 0/10 * * * *", scheduler = SchedulingConfig.INGEST)
     public void generateCategoryHotDigest() {
         String[] categories = { "politics", "economy", "society", "world", "it", "culture" };
 
@@ -7,27 +7,38 @@ import com.fullStc.ai.dto.FaceRecognitionRequestDTO;
 import com.fullStc.ai.dto.FaceRecognitionResponseDTO;
 import com.fullStc.ai.dto.PythonFaceRegisterRequestDTO;
 import com.fullStc.ai.dto.PythonFaceRegisterResponseDTO;
-import com.fullStc.ai.dto.PythonFaceRecognitionRequestDTO;
-import com.fullStc.ai.dto.PythonFaceRecognitionResponseDTO;
+import com.fullStc.ai.exception.FaceAnalysisException;
 import com.fullStc.ai.repository.FaceRepository;
+import com.fullStc.ai.service.FaceDescriptionIndex.Match;
+import com.fullStc.ai.service.FaceAnalyzer.Analysis;
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.repository.MemberRepository;
+import com.fullStc.util.SharedVersionStamp;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * AI 얼굴 인식 서비스 구현체
- * Python FastAPI 서버와 통신
+ * 등록 시 Python FastAPI 서버의 분석 결과(얼굴 설명)를 DB에 저장하고 설명을 메모리 색인에 올리며,
+ * 인식 시에는 이미지 한 장만 분석해 메모리 색인에서 기존과 같은 단어 일치 점수로 비교합니다.
+ * 등록·삭제 시 공유 버전을 올려, 다른 인스턴스는 인식 요청 때 버전이 바뀐 것을 보고 색인을 다시 적재합니다.
  */
 @Slf4j
 @Service
@@ -38,14 +49,26 @@ public class AiFaceServiceImpl implements AiFaceService {
     private final RestTemplate restTemplate;
     private final FaceRepository faceRepository;
     private final MemberRepository memberRepository;
+    private final FaceAnalyzer faceAnalyzer;
+    private final SharedVersionStamp versionStamp;
+
+    // 인스턴스 간 얼굴 색인 변경 감지용 Redis 키
+    static final String VERSION_KEY = "face-index:version";
+
+    /** 등록된 얼굴 설명 색인 (기동 시 DB에서 적재, 다른 인스턴스가 바꾸면 통째로 교체) */
+    private volatile FaceDescriptionIndex faceIndex = new FaceDescriptionIndex();
 
     /** Python FastAPI 서버 URL */
     @Value("${ai.python.server.url:http://localhost:8000}")
     private String pythonServerUrl;
 
+    /** 같은 사람으로 판단할 최소 단어 일치 점수 (Python compare_faces 기준과 동일) */
+    @Value("${ai.face.match-threshold:0.3}")
+    private double matchThreshold;
+
     @Override
     public FaceRegisterResponseDTO registerFace(FaceRegisterRequestDTO requestDTO) {
-        log.info("얼굴 등록 요청 (AI 분석 없이): user_id={}", requestDTO.getUserId());
+        log.info("얼굴 등록 요청: user_id={}", requestDTO.getUserId());
 
         // 데이터 검증
         if (requestDTO.getImageBase64() == null || requestDTO.getImageBase64().isEmpty()) {
@@ -79,54 +102,31 @@ public class AiFaceServiceImpl implements AiFaceService {
             Member member = memberRepository.findByEmail(requestDTO.getUserId())
                     .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + requestDTO.getUserId()));
 
-            // 얼굴 데이터 DB에 저장 (AI 분석 없이)
+            // Python 서버에서 얼굴 분석 (파일 시스템에도 저장)
+            PythonFaceRegisterResponseDTO pythonResponse = registerToPython(member, imageBase64);
+            String description = pythonResponse != null && pythonResponse.getFaceDescription() != null
+                    ? pythonResponse.getFaceDescription() : "";
+
+            // 얼굴 설명만 저장하고 원본 이미지는 저장하지 않음
+            // (Python 서버 실패로 설명이 없으면 다음 기동 시 다시 분석하도록 이미지를 남김)
             Face face = Face.builder()
                     .member(member)
-                    .imageBase64(requestDTO.getImageBase64()) // 원본 Base64 데이터 저장
-                    .faceDescription("") // 등록 시에는 설명 없음
+                    .imageBase64(description.isBlank() ? imageBase64 : null)
+                    .faceDescription(description)
                     .faceDetected(true) // 등록 시에는 항상 true로 설정
                     .faceCount(1) // 등록 시에는 1명
                     .quality("good") // 기본값
                     .build();
 
             faceRepository.save(face);
-            log.info("얼굴 데이터 DB 저장 완료 (AI 분석 없이): member_id={}, face_id={}", member.getId(), face.getId());
-
-            // Python 서버에도 얼굴 데이터 저장 (파일 시스템에 저장하여 얼굴 인식 시 사용)
-            try {
-                PythonFaceRegisterRequestDTO pythonRequest = PythonFaceRegisterRequestDTO.builder()
-                        .imageBase64(imageBase64)
-                        .userId(member.getEmail())
-                        .userName(member.getNickname())
-                        .build();
-
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentType(MediaType.APPLICATION_JSON);
-                HttpEntity<PythonFaceRegisterRequestDTO> httpEntity = new HttpEntity<>(pythonRequest, headers);
-
-                String url = pythonServerUrl + "/face/register";
-                log.debug("Python 서버 얼굴 등록 요청 URL: {}", url);
-
-                PythonFaceRegisterResponseDTO pythonResponse = restTemplate.postForObject(
-                        url,
-                        httpEntity,
-                        PythonFaceRegisterResponseDTO.class);
-
-                if (pythonResponse != null && pythonResponse.isSuccess()) {
-                    log.info("Python 서버 얼굴 등록 완료: user_id={}, face_description={}",
-                            member.getEmail(), pythonResponse.getFaceDescription());
-
-                    // Python 서버에서 생성한 얼굴 설명을 DB에 업데이트
-                    if (pythonResponse.getFaceDescription() != null && !pythonResponse.getFaceDescription().isEmpty()) {
-                        face.updateFaceDescription(pythonResponse.getFaceDescription());
-                        faceRepository.save(face);
-                    }
-                } else {
-                    log.warn("Python 서버 얼굴 등록 실패: user_id={}", member.getEmail());
-                }
-            } catch (Exception e) {
-                log.error("Python 서버 얼굴 등록 중 오류 발생: {}", e.getMessage(), e);
-                // Python 서버 등록 실패해도 DB 저장은 성공한 것으로 처리
+            log.info("얼굴 데이터 DB 저장 완료: member_id={}, face_id={}, description={}",
+                    member.getId(), face.getId(), !description.isBlank());
+
+            if (!description.isBlank()) {
+                Long memberId = member.getId();
+                String email = member.getEmail();
+                String nickname = member.getNickname();
+                afterCommit(() -> applyLocal(index -> index.upsert(memberId, email, nickname, description)));
             }
 
             // 성공 응답 반환
@@ -144,120 +144,89 @@ public class AiFaceServiceImpl implements AiFaceService {
         }
     }
 
+    // DB를 사용하지 않으므로 Python 서버 응답을 기다리는 동안 커넥션을 잡지 않음
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FaceRecognitionResponseDTO recognizeFace(FaceRecognitionRequestDTO requestDTO) {
         log.info("얼굴 인식 요청 수신");
 
-        try {
-            // 특정 사용자와 비교하는 경우
-            if (requestDTO.getUserId() != null && !requestDTO.getUserId().isEmpty()) {
-                // DB에서 해당 사용자의 얼굴 데이터 조회
-                Optional<Face> faceOpt = faceRepository
-                        .findFirstByMemberEmailOrderByCreatedAtDesc(requestDTO.getUserId());
-
-                if (faceOpt.isPresent()) {
-                    // Python 서버로 전송할 요청 생성
-                    PythonFaceRecognitionRequestDTO pythonRequest = PythonFaceRecognitionRequestDTO.builder()
-                            .imageBase64(requestDTO.getImageBase64())
-                            .userId(requestDTO.getUserId())
-                            .build();
-
-                    // HTTP 헤더 설정
-                    HttpHeaders headers = new HttpHeaders();
-                    headers.setContentType(MediaType.APPLICATION_JSON);
-
-                    // HTTP 요청 생성
-                    HttpEntity<PythonFaceRecognitionRequestDTO> httpEntity = new HttpEntity<>(pythonRequest, headers);
-
-                    // Python 서버에 POST 요청
-                    String url = pythonServerUrl + "/face/recognize";
-                    log.debug("Python 서버 요청 URL: {}", url);
-
-                    PythonFaceRecognitionResponseDTO pythonResponse = restTemplate.postForObject(
-                            url,
-                            httpEntity,
-                            PythonFaceRecognitionResponseDTO.class);
-
-                    if (pythonResponse == null) {
-                        log.error("Python 서버로부터 빈 응답 수신");
-                        throw new RuntimeException("얼굴 인식 응답을 받지 못했습니다.");
-                    }
-
-                    log.info("얼굴 인식 응답 수신 완료");
-
-                    // Python 응답을 DTO로 변환
-                    return FaceRecognitionResponseDTO.builder()
-                            .success(pythonResponse.isSuccess())
-                            .faceDetected(pythonResponse.isFaceDetected())
-                            .faceCount(pythonResponse.getFaceCount())
-                            .description(pythonResponse.getDescription())
-                            .matchedUserId(pythonResponse.getMatchedUserId())
-                            .matchedUserName(pythonResponse.getMatchedUserName())
-                            .confidence(pythonResponse.getConfidence())
-                            .error(pythonResponse.getError())
-                            .build();
-                } else {
-                    log.warn("등록된 얼굴 데이터가 없습니다: userId={}", requestDTO.getUserId());
-                    return FaceRecognitionResponseDTO.builder()
-                            .success(false)
-                            .faceDetected(false)
-                            .faceCount(0)
-                            .description("")
-                            .matchedUserId(null)
-                            .matchedUserName(null)
-                            .confidence(0.0)
-                            .error("등록된 얼굴 데이터가 없습니다.")
-                            .build();
-                }
-            }
+        String imageBase64 = requestDTO.getImageBase64();
+        if (imageBase64 != null && imageBase64.contains(",")) {
+            imageBase64 = imageBase64.split(",")[1];
+        }
 
-            // 등록된 모든 얼굴과 비교하는 경우
-            // Python 서버의 find_matching_user 함수 사용 (파일 시스템에서 모든 얼굴 데이터 검색)
-            PythonFaceRecognitionRequestDTO pythonRequest = PythonFaceRecognitionRequestDTO.builder()
-                    .imageBase64(requestDTO.getImageBase64())
-                    .userId(null) // 전체 비교를 위해 null
+        Analysis analysis;
+        try {
+            analysis = faceAnalyzer.analyze(imageBase64);
+        } catch (RestClientException e) {
+            log.error("Python 서버 통신 에러: {}", e.getMessage());
+            throw new RuntimeException("얼굴 인식 처리 중 오류가 발생했습니다.", e);
+        } catch (FaceAnalysisException e) {
+            // Python 서버가 분석에 실패한 경우 (기존과 같이 오류 응답으로 반환)
+            log.error("얼굴 분석 실패: {}", e.getMessage());
+            return FaceRecognitionResponseDTO.builder()
+                    .success(false)
+                    .faceDetected(false)
+                    .faceCount(0)
+                    .error(e.getMessage())
                     .build();
+        }
 
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // HTTP 요청 생성
-            HttpEntity<PythonFaceRecognitionRequestDTO> httpEntity = new HttpEntity<>(pythonRequest, headers);
-
-            // Python 서버에 POST 요청
-            String url = pythonServerUrl + "/face/recognize";
-            log.debug("Python 서버 요청 URL: {}", url);
-
-            PythonFaceRecognitionResponseDTO pythonResponse = restTemplate.postForObject(
-                    url,
-                    httpEntity,
-                    PythonFaceRecognitionResponseDTO.class);
+        if (!analysis.faceDetected()) {
+            return FaceRecognitionResponseDTO.builder()
+                    .success(true)
+                    .faceDetected(false)
+                    .faceCount(0)
+                    .description(analysis.description())
+                    .build();
+        }
 
-            if (pythonResponse == null) {
-                log.error("Python 서버로부터 빈 응답 수신");
-                throw new RuntimeException("얼굴 인식 응답을 받지 못했습니다.");
+        FaceDescriptionIndex index = currentIndex();
+
+        // 특정 사용자와 비교하는 경우
+        String userId = requestDTO.getUserId();
+        if (userId != null && !userId.isEmpty()) {
+            Match match = index.similarity(userId, analysis.description());
+            if (match == null) {
+                log.warn("등록된 얼굴 데이터가 없습니다: userId={}", userId);
+                return FaceRecognitionResponseDTO.builder()
+                        .success(false)
+                        .faceDetected(false)
+                        .faceCount(0)
+                        .description("")
+                        .matchedUserId(null)
+                        .matchedUserName(null)
+                        .confidence(0.0)
+                        .error("등록된 얼굴 데이터가 없습니다.")
+                        .build();
             }
-
-            log.info("얼굴 인식 응답 수신 완료: matched_user_id={}, confidence={}",
-                    pythonResponse.getMatchedUserId(), pythonResponse.getConfidence());
-
-            // Python 응답을 DTO로 변환
+            boolean matched = match.score() >= matchThreshold;
             return FaceRecognitionResponseDTO.builder()
-                    .success(pythonResponse.isSuccess())
-                    .faceDetected(pythonResponse.isFaceDetected())
-                    .faceCount(pythonResponse.getFaceCount())
-                    .description(pythonResponse.getDescription())
-                    .matchedUserId(pythonResponse.getMatchedUserId())
-                    .matchedUserName(pythonResponse.getMatchedUserName())
-                    .confidence(pythonResponse.getConfidence())
-                    .error(pythonResponse.getError())
+                    .success(true)
+                    .faceDetected(true)
+                    .faceCount(analysis.faceCount())
+                    .description(analysis.description())
+                    .matchedUserId(matched ? match.email() : null)
+                    .matchedUserName(matched ? match.nickname() : null)
+                    .confidence(match.score())
                     .build();
-
-        } catch (RestClientException e) {
-            log.error("Python 서버 통신 에러: {}", e.getMessage());
-            throw new RuntimeException("얼굴 인식 처리 중 오류가 발생했습니다.", e);
         }
+
+        // 등록된 모든 얼굴과 비교
+        Match best = index.findBest(analysis.description());
+        boolean matched = best != null && best.score() >= matchThreshold;
+        log.info("얼굴 인식 완료: matched_user_id={}, confidence={}, 등록 얼굴 수={}",
+                matched ? best.email() : null, best != null ? best.score() : null, index.size());
+
+        return FaceRecognitionResponseDTO.builder()
+                .success(true)
+                .faceDetected(true)
+                .faceCount(analysis.faceCount())
+                .description(analysis.description())
+                .matchedUserId(matched ? best.email() : null)
+                .matchedUserName(matched ? best.nickname() : null)
+                .confidence(matched ? best.score() : null)
+                .build();
     }
 
     @Override
@@ -271,6 +240,8 @@ public class AiFaceServiceImpl implements AiFaceService {
 
             if (member != null) {
                 faceRepository.deleteByMemberId(member.getId());
+                Long memberId = member.getId();
+                afterCommit(() -> applyLocal(index -> index.remove(memberId)));
                 log.info("DB에서 얼굴 데이터 삭제 완료: userId={}, memberId={}", userId, member.getId());
             }
 
@@ -292,4 +263,150 @@ public class AiFaceServiceImpl implements AiFaceService {
             // 오류가 발생해도 회원 탈퇴는 계속 진행되어야 하므로 예외를 throw하지 않음
         }
     }
+
+    /**
+     * 기동 후 백그라운드에서 얼굴 설명 색인 적재
+     * 얼굴 설명 없이 원본 이미지만 저장된 등록분은 먼저 설명을 만들고, 만든 경우에만 이미지를 비웁니다.
+     * Python 서버를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 행마다 짧은 트랜잭션으로 저장합니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void loadFaceIndex() {
+        migrateLegacyFaces();
+        reloadFaceIndex();
+    }
+
+    /**
+     * DB에서 색인을 새로 만들어 교체
+     */
+    private synchronized void reloadFaceIndex() {
+        long start = System.currentTimeMillis();
+        // 읽기 전에 버전을 기록해 두어, 읽는 도중 다른 인스턴스가 바꾼 내용은 다음 확인 때 반영
+        versionStamp.observe(VERSION_KEY);
+        FaceDescriptionIndex index = new FaceDescriptionIndex();
+        // 오래된 순으로 적재해 회원별 최신 얼굴이 남도록 함
+        List<Object[]> rows = faceRepository.findDescriptionRows();
+        for (Object[] row : rows) {
+            index.upsert((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+        }
+        faceIndex = index;
+        log.info("얼굴 설명 색인 적재 완료: {}명, {}ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 현재 색인 (다른 인스턴스가 얼굴을 등록·삭제했으면 다시 적재)
+     */
+    private FaceDescriptionIndex currentIndex() {
+        if (versionStamp.changedElsewhere(VERSION_KEY)) {
+            try {
+                reloadFaceIndex();
+            } catch (Exception e) {
+                log.warn("얼굴 설명 색인 재적재 실패, 기존 색인 사용: {}", e.getMessage());
+            }
+        }
+        return faceIndex;
+    }
+
+    /**
+     * 커밋된 등록·삭제를 이 인스턴스 색인에 반영하고 다른 인스턴스에 알림
+     * (재적재와 겹쳐 반영이 사라지지 않도록 같은 잠금 사용)
+     */
+    private synchronized void applyLocal(Consumer<FaceDescriptionIndex> change) {
+        change.accept(faceIndex);
+        versionStamp.bump(VERSION_KEY);
+    }
+
+    /**
+     * 원본 이미지만 있는 얼굴 데이터의 얼굴 설명 만들기 (Python 서버 실패 시 다음 기동 때 재시도)
+     * 설명이 이미 있는 행은 이미지만 비우고, 이미지에서 얼굴을 찾지 못하면 이미지를 지우지 않고
+     * face_detected=false로 표시해 다시 변환하지 않습니다.
+     */
+    private void migrateLegacyFaces() {
+        int cleared = faceRepository.clearImagesWithDescription();
+        if (cleared > 0) {
+            log.info("얼굴 설명이 있는 얼굴 데이터 {}건의 원본 이미지 제거", cleared);
+        }
+
+        List<Long> legacyIds = faceRepository.findIdsWithoutDescription();
+        if (legacyIds.isEmpty()) {
+            return;
+        }
+        log.info("얼굴 설명이 없는 얼굴 데이터 {}건 변환 시작", legacyIds.size());
+        for (Long faceId : legacyIds) {
+            Face face = faceRepository.findById(faceId).orElse(null);
+            if (face == null || face.getImageBase64() == null) {
+                continue;
+            }
+            String imageBase64 = face.getImageBase64();
+            if (imageBase64.contains(",")) {
+                imageBase64 = imageBase64.split(",")[1];
+            }
+            try {
+                Analysis analysis = faceAnalyzer.analyze(imageBase64);
+                if (!analysis.faceDetected() || analysis.description() == null || analysis.description().isBlank()) {
+                    face.markNoFaceDetected();
+                    faceRepository.save(face);
+                    log.warn("저장된 이미지에서 얼굴을 찾지 못함 (이미지 보존): face_id={}", faceId);
+                    continue;
+                }
+                face.replaceImageWithDescription(analysis.description());
+                faceRepository.save(face);
+            } catch (Exception e) {
+                log.warn("얼굴 설명 변환 실패 (다음 기동 시 재시도): face_id={}, {}", faceId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Python 서버에 얼굴 등록 (분석 결과와 임베딩 반환, 실패 시 null)
+     */
+    private PythonFaceRegisterResponseDTO registerToPython(Member member, String imageBase64) {
+        try {
+            PythonFaceRegisterRequestDTO pythonRequest = PythonFaceRegisterRequestDTO.builder()
+                    .imageBase64(imageBase64)
+                    .userId(member.getEmail())
+                    .userName(member.getNickname())
+                    .build();
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            HttpEntity<PythonFaceRegisterRequestDTO> httpEntity = new HttpEntity<>(pythonRequest, headers);
+
+            String url = pythonServerUrl + "/face/register";
+            log.debug("Python 서버 얼굴 등록 요청 URL: {}", url);
+
+            PythonFaceRegisterResponseDTO pythonResponse = restTemplate.postForObject(
+                    url,
+                    httpEntity,
+                    PythonFaceRegisterResponseDTO.class);
+
+            if (pythonResponse != null && pythonResponse.isSuccess()) {
+                log.info("Python 서버 얼굴 등록 완료: user_id={}, face_description={}",
+                        member.getEmail(), pythonResponse.getFaceDescription());
+                return pythonResponse;
+            }
+            log.warn("Python 서버 얼굴 등록 실패: user_id={}", member.getEmail());
+        } catch (Exception e) {
+            log.error("Python 서버 얼굴 등록 중 오류 발생: {}", e.getMessage(), e);
+            // Python 서버 등록 실패해도 DB 저장은 성공한 것으로 처리
+        }
+        return null;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 실행 (롤백된 등록·삭제가 색인에 반영되지 않도록)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
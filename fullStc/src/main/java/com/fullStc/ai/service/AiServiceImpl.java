@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 public class AiServiceImpl implements AiService {
 
     private final RestTemplate restTemplate;
+    private final AnswerCache answerCache;
 
     /** Python FastAPI 서버 URL */
     @Value("${ai.python.server.url:http://localhost:8000}")
@@ -43,6 +44,19 @@ public class AiServiceImpl implements AiService {
             throw new IllegalArgumentException("메시지를 입력해주세요.");
         }
 
+        // 이전 대화 없는 첫 질문은 답변 캐시 확인 (같은 질문이면 LLM 호출 생략)
+        boolean firstTurn = requestDTO.getConversationHistory() == null || requestDTO.getConversationHistory().isEmpty();
+        AnswerCache.Lookup cacheLookup = firstTurn ? answerCache.lookup(AnswerCache.Scope.CHAT, requestDTO.getMessage()) : null;
+        if (cacheLookup != null && cacheLookup.hit()) {
+            log.info("AI 채팅 답변 캐시 적중");
+            return ChatResponseDTO.builder()
+                    .reply(cacheLookup.answer())
+                    .timestamp(LocalDateTime.now())
+                    .searched(false)
+                    .isTrending(false)
+                    .build();
+        }
+
         try {
             // Python 서버로 전송할 요청 생성
             PythonChatRequestDTO pythonRequest = convertToPhythonRequest(requestDTO);
@@ -74,6 +88,11 @@ public class AiServiceImpl implements AiService {
 
             log.info("AI 채팅 응답 수신 완료");
 
+            // 검색·실시간 검색어 답변은 시점에 따라 달라지므로 캐시하지 않음
+            if (!Boolean.TRUE.equals(pythonResponse.getSearched()) && !Boolean.TRUE.equals(pythonResponse.getIsTrending())) {
+                answerCache.put(cacheLookup, pythonResponse.getReply());
+            }
+
             // Python 응답의 sources를 ChatResponseDTO의 sources로 변환
             List<ChatResponseDTO.SearchSource> sources = null;
             if (pythonResponse.getSources() != null && !pythonResponse.getSources().isEmpty()) {
@@ -0,0 +1,293 @@
+package com.fullStc.ai.service;
+
+import com.fullStc.news.provider.OpenAiEmbedder;
+import com.fullStc.util.LatencyHistogram;
+import com.fullStc.util.SharedVersionStamp;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 답변 캐시
+ *
+ * 이전 대화 없이 처음 묻는 질문(예: 비밀번호 재설정 방법)은 같은 답이 반복되므로 LLM을 다시 부르지 않고 캐시에서 답합니다.
+ * - 1단계: 정규화한 질문 문자열 일치 (NFKC, 소문자, 문장부호·공백 정리)
+ * - 2단계(선택): 질문 임베딩의 코사인 유사도가 기준 이상인 캐시 답변 사용
+ * 범위(Scope)마다 보관 시간이 다르고 따로 비울 수 있습니다. 비운 뒤에는 그 전에 시작한 요청의 답을 저장하지 않습니다.
+ * 캐시는 인스턴스마다 따로 두며, 비우기는 Redis 버전 스탬프로 다른 인스턴스에도 전달합니다(조회 시 확인).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnswerCache {
+
+    /**
+     * 캐시 범위
+     */
+    public enum Scope {
+        /** AI 채팅 (/api/ai/chat) */
+        CHAT,
+        /** 고객센터 Q&A (FAQ가 바뀌면 비움) */
+        QA
+    }
+
+    private final OpenAiEmbedder embedder;
+    private final SharedVersionStamp versionStamp;
+
+    @Value("${ai.answer-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.answer-cache.chat-ttl-minutes:30}")
+    private long chatTtlMinutes;
+
+    @Value("${ai.answer-cache.qa-ttl-minutes:720}")
+    private long qaTtlMinutes;
+
+    @Value("${ai.answer-cache.max-size:2000}")
+    private long maxSize;
+
+    // 질문이 이보다 길면 캐시하지 않음 (긴 질문은 반복될 가능성이 낮음)
+    @Value("${ai.answer-cache.max-question-length:200}")
+    private int maxQuestionLength;
+
+    // 임베딩 유사도 단계 사용 여부 (캐시 조회마다 임베딩 API를 한 번 부름)
+    @Value("${ai.answer-cache.semantic.enabled:false}")
+    private boolean semanticEnabled;
+
+    // 같은 질문으로 볼 코사인 유사도 기준
+    @Value("${ai.answer-cache.semantic.threshold:0.93}")
+    private double semanticThreshold;
+
+    private final Map<Scope, Region> regions = new EnumMap<>(Scope.class);
+
+    /**
+     * 캐시된 답변
+     * @param vector 질문 임베딩 (정규화된 단위 벡터, 임베딩 단계를 쓰지 않으면 null)
+     */
+    private record Entry(String answer, float[] vector) {
+    }
+
+    /**
+     * 조회 결과 (놓쳤으면 답을 받은 뒤 그대로 put에 넘김)
+     * @param answer 캐시된 답 (없으면 null)
+     * @param generation 조회 시점의 세대 (그 사이 비워졌으면 저장하지 않음)
+     */
+    public record Lookup(Scope scope, String key, float[] vector, long generation, String answer) {
+
+        public boolean hit() {
+            return answer != null;
+        }
+    }
+
+    /**
+     * 범위별 저장소와 지표
+     */
+    private static final class Region {
+        private final Cache<String, Entry> entries;
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder exactHits = new LongAdder();
+        private final LongAdder semanticHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder stores = new LongAdder();
+        private final LatencyHistogram lookupMs = new LatencyHistogram();
+
+        private Region(Duration ttl, long maxSize) {
+            this.entries = Caffeine.newBuilder()
+                    .expireAfterWrite(ttl)
+                    .maximumSize(maxSize)
+                    .build();
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        regions.put(Scope.CHAT, new Region(Duration.ofMinutes(chatTtlMinutes), maxSize));
+        regions.put(Scope.QA, new Region(Duration.ofMinutes(qaTtlMinutes), maxSize));
+        for (Scope scope : Scope.values()) {
+            versionStamp.observe(versionKey(scope));
+        }
+    }
+
+    /**
+     * 캐시 조회
+     * @return 캐시할 수 없는 질문이면 null
+     */
+    public Lookup lookup(Scope scope, String question) {
+        String key = normalize(question);
+        if (!enabled || key.isEmpty() || key.length() > maxQuestionLength) {
+            return null;
+        }
+        if (versionStamp.changedElsewhere(versionKey(scope))) {
+            // 다른 인스턴스에서 비운 범위
+            invalidateLocal(scope);
+        }
+        Region region = regions.get(scope);
+        long generation = region.generation.get();
+        long start = System.currentTimeMillis();
+
+        Entry exact = region.entries.getIfPresent(key);
+        if (exact != null) {
+            region.exactHits.increment();
+            region.lookupMs.record(System.currentTimeMillis() - start);
+            return new Lookup(scope, key, exact.vector(), generation, exact.answer());
+        }
+
+        float[] vector = semanticEnabled ? embed(key) : null;
+        if (vector != null) {
+            Entry best = null;
+            double bestScore = semanticThreshold;
+            for (Entry entry : region.entries.asMap().values()) {
+                if (entry.vector() == null || entry.vector().length != vector.length) {
+                    continue;
+                }
+                double score = dot(vector, entry.vector());
+                if (score >= bestScore) {
+                    bestScore = score;
+                    best = entry;
+                }
+            }
+            if (best != null) {
+                region.semanticHits.increment();
+                region.lookupMs.record(System.currentTimeMillis() - start);
+                log.debug("답변 캐시 유사 질문 적중: scope={}, score={}", scope, bestScore);
+                return new Lookup(scope, key, vector, generation, best.answer());
+            }
+        }
+
+        region.misses.increment();
+        region.lookupMs.record(System.currentTimeMillis() - start);
+        return new Lookup(scope, key, vector, generation, null);
+    }
+
+    /**
+     * LLM 답변 저장 (lookup이 null이었거나 적중했거나 그 사이 비워졌으면 무시)
+     */
+    public void put(Lookup lookup, String answer) {
+        if (lookup == null || lookup.hit() || answer == null || answer.isBlank()) {
+            return;
+        }
+        Region region = regions.get(lookup.scope());
+        if (region.generation.get() != lookup.generation()) {
+            return;
+        }
+        region.entries.put(lookup.key(), new Entry(answer, lookup.vector()));
+        region.stores.increment();
+    }
+
+    /**
+     * 범위 전체 비우기 (모든 인스턴스, 진행 중인 요청의 답도 저장되지 않음)
+     */
+    public void invalidate(Scope scope) {
+        versionStamp.bump(versionKey(scope));
+        invalidateLocal(scope);
+    }
+
+    /**
+     * 이 인스턴스의 범위만 비우기 (모든 인스턴스가 각자 같은 이유로 비우는 경우)
+     */
+    public void invalidateLocal(Scope scope) {
+        Region region = regions.get(scope);
+        region.generation.incrementAndGet();
+        region.entries.invalidateAll();
+        log.info("답변 캐시 비움: scope={}", scope);
+    }
+
+    private static String versionKey(Scope scope) {
+        return "answer-cache:" + scope.name().toLowerCase(Locale.ROOT) + ":version";
+    }
+
+    /**
+     * 범위별 적중률·건수·조회 시간
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Map.Entry<Scope, Region> e : regions.entrySet()) {
+            Region region = e.getValue();
+            long exactHits = region.exactHits.sum();
+            long semanticHits = region.semanticHits.sum();
+            long misses = region.misses.sum();
+            long total = exactHits + semanticHits + misses;
+
+            Map<String, Object> scope = new LinkedHashMap<>();
+            scope.put("hitRate", total == 0 ? 0.0 : (double) (exactHits + semanticHits) / total);
+            scope.put("exactHits", exactHits);
+            scope.put("semanticHits", semanticHits);
+            scope.put("misses", misses);
+            scope.put("stores", region.stores.sum());
+            scope.put("size", region.entries.estimatedSize());
+            scope.put("lookupMs", region.lookupMs.snapshot());
+            stats.put(e.getKey().name().toLowerCase(Locale.ROOT), scope);
+        }
+        return stats;
+    }
+
+    /**
+     * 질문 정규화 (전각/반각 통일, 소문자, 글자·숫자 외 제거, 공백 하나로)
+     */
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 질문 임베딩 (단위 벡터로 맞춰 내적이 코사인 유사도가 되게 함, 실패하면 null)
+     */
+    private float[] embed(String text) {
+        try {
+            float[] v = embedder.embed(text);
+            if (v == null || v.length == 0) {
+                return null;
+            }
+            double norm = Math.sqrt(dot(v, v));
+            if (norm == 0) {
+                return null;
+            }
+            float[] unit = new float[v.length];
+            for (int i = 0; i < v.length; i++) {
+                unit[i] = (float) (v[i] / norm);
+            }
+            return unit;
+        } catch (Exception e) {
+            log.debug("답변 캐시 임베딩 실패, 문자열 일치만 사용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
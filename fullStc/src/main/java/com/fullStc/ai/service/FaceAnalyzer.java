@@ -0,0 +1,23 @@
+package com.fullStc.ai.service;
+
+/**
+ * 얼굴 이미지 분석 (인식할 이미지 한 장 → 얼굴 설명)
+ */
+public interface FaceAnalyzer {
+
+    /**
+     * 분석 결과
+     * @param faceDetected 얼굴 감지 여부
+     * @param faceCount 감지된 얼굴 수
+     * @param description 얼굴 특징 설명
+     */
+    record Analysis(boolean faceDetected, int faceCount, String description) {
+    }
+
+    /**
+     * 이미지 한 장 분석
+     * @param imageBase64 Base64 인코딩된 이미지 (data URL 헤더 제거)
+     * @throws com.fullStc.ai.exception.FaceAnalysisException Python 서버가 분석에 실패한 경우
+     */
+    Analysis analyze(String imageBase64);
+}
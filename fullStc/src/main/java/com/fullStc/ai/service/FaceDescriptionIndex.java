@@ -0,0 +1,201 @@
+package com.fullStc.ai.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 얼굴 설명 색인 (1:N 얼굴 매칭)
+ *
+ * 등록된 얼굴 설명을 단어 집합으로 메모리에 두고, Python compare_faces와 같은 점수
+ * |A∩B| / max(|A|, |B|) 로 비교합니다. 점수가 기존과 같으므로 기존 기준값(0.3)을 그대로 씁니다.
+ * 점수는 min(|A|, |B|) / max(|A|, |B|) 를 넘을 수 없으므로, 단어 수 차이만으로 현재 최고 점수를 넘을 수 없는 행은 건너뜁니다.
+ * 검색은 잠금 없이 현재 스냅샷을 읽고, 추가·삭제는 새 스냅샷을 만들어 교체합니다(등록·삭제는 드묾).
+ */
+public class FaceDescriptionIndex {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 검색 결과
+     * @param memberId 회원 ID
+     * @param email 회원 이메일 (얼굴 인식 userId)
+     * @param nickname 회원 닉네임
+     * @param score 단어 일치 점수 (0~1)
+     */
+    public record Match(Long memberId, String email, String nickname, double score) {
+    }
+
+    /**
+     * 회원 얼굴 설명 추가 또는 교체 (회원당 최신 1개, 단어가 없으면 무시)
+     */
+    public synchronized void upsert(Long memberId, String email, String nickname, String description) {
+        Set<String> words = tokenize(description);
+        if (words.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        Integer row = current.rowByMember.get(memberId);
+        int size = current.size();
+        int newSize = row != null ? size : size + 1;
+        int target = row != null ? row : size;
+
+        Long[] memberIds = Arrays.copyOf(current.memberIds, newSize);
+        String[] emails = Arrays.copyOf(current.emails, newSize);
+        String[] nicknames = Arrays.copyOf(current.nicknames, newSize);
+        Set<String>[] tokens = Arrays.copyOf(current.tokens, newSize);
+        memberIds[target] = memberId;
+        emails[target] = email;
+        nicknames[target] = nickname;
+        tokens[target] = words;
+        snapshot = new Snapshot(memberIds, emails, nicknames, tokens);
+    }
+
+    /**
+     * 회원 얼굴 설명 제거
+     */
+    public synchronized void remove(Long memberId) {
+        Snapshot current = snapshot;
+        Integer row = current.rowByMember.get(memberId);
+        if (row == null) {
+            return;
+        }
+        // 마지막 행을 빈 자리로 옮겨 배열을 줄임
+        int last = current.size() - 1;
+        Long[] memberIds = Arrays.copyOf(current.memberIds, last);
+        String[] emails = Arrays.copyOf(current.emails, last);
+        String[] nicknames = Arrays.copyOf(current.nicknames, last);
+        Set<String>[] tokens = Arrays.copyOf(current.tokens, last);
+        if (row < last) {
+            memberIds[row] = current.memberIds[last];
+            emails[row] = current.emails[last];
+            nicknames[row] = current.nicknames[last];
+            tokens[row] = current.tokens[last];
+        }
+        snapshot = new Snapshot(memberIds, emails, nicknames, tokens);
+    }
+
+    /**
+     * 가장 비슷한 얼굴 검색
+     * @param description 인식할 얼굴 설명
+     * @return 최고 점수 회원 (등록된 얼굴이 없거나 설명이 비어 있거나 일치하는 단어가 없으면 null)
+     */
+    public Match findBest(String description) {
+        Set<String> query = tokenize(description);
+        Snapshot current = snapshot;
+        if (query.isEmpty() || current.size() == 0) {
+            return null;
+        }
+        int bestRow = -1;
+        double best = 0.0;
+        for (int row = 0, n = current.size(); row < n; row++) {
+            Set<String> saved = current.tokens[row];
+            int larger = Math.max(saved.size(), query.size());
+            // 상한(작은 쪽 단어 수 / 큰 쪽 단어 수)이 현재 최고 점수 이하이면 비교하지 않음
+            if ((double) Math.min(saved.size(), query.size()) / larger <= best) {
+                continue;
+            }
+            double score = (double) intersection(saved, query) / larger;
+            if (score > best) {
+                best = score;
+                bestRow = row;
+            }
+        }
+        return bestRow < 0 ? null : current.match(bestRow, best);
+    }
+
+    /**
+     * 특정 회원 얼굴과의 점수
+     * @return 점수 결과 (등록된 얼굴이 없으면 null)
+     */
+    public Match similarity(String email, String description) {
+        Snapshot current = snapshot;
+        Integer row = current.rowByEmail.get(email);
+        if (row == null) {
+            return null;
+        }
+        return current.match(row, score(tokenize(description), current.tokens[row]));
+    }
+
+    /**
+     * 등록된 얼굴 수
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * 두 단어 집합의 일치 점수 (Python compare_faces와 동일, 저장된 쪽이 비어 있으면 0)
+     */
+    static double score(Set<String> query, Set<String> saved) {
+        if (saved.isEmpty()) {
+            return 0.0;
+        }
+        return (double) intersection(query, saved) / Math.max(query.size(), saved.size());
+    }
+
+    /**
+     * 설명 → 단어 집합 (Python의 description.lower().split()과 같은 규칙)
+     */
+    static Set<String> tokenize(String description) {
+        if (description == null || description.isBlank()) {
+            return Set.of();
+        }
+        Set<String> words = new HashSet<>();
+        for (String word : description.toLowerCase(Locale.ROOT).strip().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return Set.copyOf(words);
+    }
+
+    private static int intersection(Set<String> a, Set<String> b) {
+        Set<String> small = a.size() <= b.size() ? a : b;
+        Set<String> large = small == a ? b : a;
+        int count = 0;
+        for (String word : small) {
+            if (large.contains(word)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 불변 스냅샷
+     */
+    private static final class Snapshot {
+        @SuppressWarnings("unchecked")
+        static final Snapshot EMPTY = new Snapshot(new Long[0], new String[0], new String[0], new Set[0]);
+
+        final Long[] memberIds;
+        final String[] emails;
+        final String[] nicknames;
+        final Set<String>[] tokens;
+        final Map<Long, Integer> rowByMember = new HashMap<>();
+        final Map<String, Integer> rowByEmail = new HashMap<>();
+
+        Snapshot(Long[] memberIds, String[] emails, String[] nicknames, Set<String>[] tokens) {
+            this.memberIds = memberIds;
+            this.emails = emails;
+            this.nicknames = nicknames;
+            this.tokens = tokens;
+            for (int i = 0; i < memberIds.length; i++) {
+                rowByMember.put(memberIds[i], i);
+                rowByEmail.put(emails[i], i);
+            }
+        }
+
+        int size() {
+            return memberIds.length;
+        }
+
+        Match match(int row, double score) {
+            return new Match(memberIds[row], emails[row], nicknames[row], score);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullStc.ai.service;
+
+import com.fullStc.ai.dto.PythonFaceAnalyzeResponseDTO;
+import com.fullStc.ai.exception.FaceAnalysisException;
+import com.fullStc.ai.dto.PythonFaceRecognitionRequestDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Python FastAPI 서버(/face/analyze)로 얼굴 분석 (등록된 얼굴과의 비교는 하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PythonFaceAnalyzer implements FaceAnalyzer {
+
+    private final RestTemplate restTemplate;
+
+    /** Python FastAPI 서버 URL */
+    @Value("${ai.python.server.url:http://localhost:8000}")
+    private String pythonServerUrl;
+
+    @Override
+    public Analysis analyze(String imageBase64) {
+        PythonFaceRecognitionRequestDTO request = PythonFaceRecognitionRequestDTO.builder()
+                .imageBase64(imageBase64)
+                .build();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String url = pythonServerUrl + "/face/analyze";
+        log.debug("Python 서버 얼굴 분석 요청 URL: {}", url);
+
+        PythonFaceAnalyzeResponseDTO response = restTemplate.postForObject(
+                url,
+                new HttpEntity<>(request, headers),
+                PythonFaceAnalyzeResponseDTO.class);
+
+        if (response == null) {
+            throw new FaceAnalysisException("얼굴 분석 응답을 받지 못했습니다.");
+        }
+        if (!response.isSuccess()) {
+            throw new FaceAnalysisException(response.getError() != null ? response.getError() : "얼굴 분석에 실패했습니다.");
+        }
+        return new Analysis(response.isFaceDetected(), response.getFaceCount(), response.getDescription());
+    }
+}
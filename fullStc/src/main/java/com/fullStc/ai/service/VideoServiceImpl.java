@@ -7,6 +7,7 @@ import com.fullStc.member.domain.Member;
 import com.fullStc.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,11 @@ public class VideoServiceImpl implements VideoService {
 
     private final VideoTaskRepository videoTaskRepository;
     private final MemberRepository memberRepository;
+    private final RestTemplate restTemplate;
+
+    /** Python FastAPI 서버 URL */
+    @Value("${ai.python.server.url:http://localhost:8000}")
+    private String pythonServerUrl;
 
     /**
      * 영상 파일이 저장되는 디렉터리.
@@ -103,9 +109,8 @@ public class VideoServiceImpl implements VideoService {
 
         // 파이썬 연동
         try {
-            RestTemplate restTemplate = new RestTemplate();
             Map<String, Object> body = Map.of("vno", vno, "rawText", dto.getRawText(), "videoMode", dto.getVideoMode());
-            restTemplate.postForEntity("http://localhost:8000/generate_video", body, String.class);
+            restTemplate.postForEntity(pythonServerUrl + "/generate_video", body, String.class);
         } catch (Exception e) {
             log.error("파이썬 호출 실패: " + e.getMessage());
         }
@@ -20,7 +20,11 @@ public class BoardController {
     @GetMapping
     public ResponseEntity<BoardPageResponseDTO> getBoards(
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null && !cursor.isBlank()) {
+            return ResponseEntity.ok(boardService.getBoardsByCursor(null, cursor, limit));
+        }
         return ResponseEntity.ok(boardService.getBoards(offset, limit));
     }
 
@@ -28,7 +32,11 @@ public class BoardController {
     public ResponseEntity<BoardPageResponseDTO> getBoardsByType(
             @PathVariable String boardType,
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null && !cursor.isBlank()) {
+            return ResponseEntity.ok(boardService.getBoardsByCursor(boardType, cursor, limit));
+        }
         return ResponseEntity.ok(boardService.getBoardsByType(boardType, offset, limit));
     }
 
@@ -1,18 +1,15 @@
 package com.fullStc.board.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.fullStc.board.service.FileStorageService;
-
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import com.fullStc.board.service.ThumbnailService.ThumbnailSize;
+import com.fullStc.util.StaticMediaService;
+import com.fullStc.util.StaticMediaService.MediaFile;
 
 @RestController
 @RequestMapping("/api/files")
@@ -20,69 +17,53 @@ import java.nio.file.Paths;
 @CrossOrigin(origins = "http://localhost:5173")
 public class FileController {
     private final FileStorageService fileStorageService;
+    private final StaticMediaService staticMediaService;
 
     @GetMapping("/{fileName}")
-    public ResponseEntity<Resource> downloadFile(@PathVariable String fileName) {
+    public ResponseEntity<?> downloadFile(@PathVariable String fileName, @RequestHeader HttpHeaders headers) {
         try {
-            File file = fileStorageService.loadFile(fileName);
-            if (file == null || !file.exists()) {
+            MediaFile file = fileStorageService.loadFile(fileName);
+            if (file == null) {
                 return ResponseEntity.notFound().build();
             }
 
-            Resource resource = new FileSystemResource(file);
-            String contentType = Files.probeContentType(Paths.get(file.getAbsolutePath()));
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-
             // 이미지 파일인 경우 inline으로, 그 외에는 attachment로 제공
-            String disposition = contentType.startsWith("image/")
-                ? "inline; filename=\"" + file.getName() + "\""
-                : "attachment; filename=\"" + file.getName() + "\"";
+            String name = file.path().getFileName().toString();
+            String disposition = "image".equals(file.mediaType().getType())
+                ? "inline; filename=\"" + name + "\""
+                : "attachment; filename=\"" + name + "\"";
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition)
-                    .body(resource);
+            // 업로드 파일은 UUID 이름이라 내용이 바뀌지 않음 → 장기 캐시
+            return staticMediaService.serve(file, headers, StaticMediaService.IMMUTABLE, disposition);
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * 썸네일 다운로드
+     * @param size s(목록용, 기본) 또는 m(상세용)
+     */
     @GetMapping("/thumbnails/{fileName}")
-    public ResponseEntity<Resource> downloadThumbnail(@PathVariable String fileName) {
+    public ResponseEntity<?> downloadThumbnail(@PathVariable String fileName,
+                                               @RequestParam(defaultValue = "s") String size,
+                                               @RequestHeader HttpHeaders headers) {
         try {
-            File thumbnail = fileStorageService.loadThumbnail(fileName);
-            if (thumbnail == null || !thumbnail.exists()) {
-                // 썸네일이 없으면 원본 파일 반환
-                File originalFile = fileStorageService.loadFile(fileName);
-                if (originalFile == null || !originalFile.exists()) {
+            MediaFile thumbnail = fileStorageService.loadThumbnail(fileName, ThumbnailSize.of(size));
+            if (thumbnail == null) {
+                // 썸네일이 아직 생성 중이면 원본 파일 반환 (생성 후 썸네일을 받도록 캐시 금지)
+                MediaFile originalFile = fileStorageService.loadFile(fileName);
+                if (originalFile == null) {
                     return ResponseEntity.notFound().build();
                 }
-                Resource resource = new FileSystemResource(originalFile);
-                String contentType = Files.probeContentType(Paths.get(originalFile.getAbsolutePath()));
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
-                }
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + originalFile.getName() + "\"")
-                        .body(resource);
+                return staticMediaService.serve(originalFile, headers, CacheControl.noStore(),
+                        "inline; filename=\"" + originalFile.path().getFileName() + "\"");
             }
 
-            Resource resource = new FileSystemResource(thumbnail);
-            String contentType = Files.probeContentType(Paths.get(thumbnail.getAbsolutePath()));
-            if (contentType == null) {
-                contentType = "image/jpeg";
-            }
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + thumbnail.getName() + "\"")
-                    .body(resource);
+            return staticMediaService.serve(thumbnail, headers, StaticMediaService.IMMUTABLE,
+                    "inline; filename=\"" + thumbnail.path().getFileName() + "\"");
         } catch (Exception e) {
             return ResponseEntity.internalServerError().build();
         }
     }
 }
-
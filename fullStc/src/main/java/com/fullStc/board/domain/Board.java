@@ -16,9 +16,14 @@ import java.util.List;
 /**
  * 게시판 엔티티
  * 일반 게시판과 토론 게시판을 모두 지원하는 게시글 정보를 담는 엔티티
+ * 조회수·좋아요·댓글 수·찬반 수는 BoardCounterService가 증감 UPDATE로만 바꾸므로,
+ * 게시글 수정·삭제 시 읽어 둔 오래된 값으로 덮어쓰지 않도록 updatable = false로 둡니다.
  */
 @Entity
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_list", columnList = "is_deleted, created_at, id"),
+        @Index(name = "idx_board_type_list", columnList = "board_type, is_deleted, created_at, id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -45,23 +50,23 @@ public class Board {
     @Column(name = "debate_topic", length = 255)
     private String debateTopic; // 토론 주제 (토론 게시판일 경우 사용)
 
-    @Column(name = "agree_count")
+    @Column(name = "agree_count", updatable = false)
     @Builder.Default
     private Integer agreeCount = 0; // 찬성 수 (토론 게시판)
 
-    @Column(name = "disagree_count")
+    @Column(name = "disagree_count", updatable = false)
     @Builder.Default
     private Integer disagreeCount = 0; // 반대 수 (토론 게시판)
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private Integer viewCount = 0; // 조회수
 
-    @Column(name = "comment_count")
+    @Column(name = "comment_count", updatable = false)
     @Builder.Default
     private Integer commentCount = 0; // 댓글 수
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     @Builder.Default
     private Integer likeCount = 0; // 좋아요 수
 
@@ -108,69 +113,6 @@ public class Board {
         this.isDeleted = true;
     }
 
-    /**
-     * 조회수 증가
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
-    /**
-     * 댓글 수 증가
-     */
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    /**
-     * 댓글 수 감소
-     */
-    public void decreaseCommentCount() {
-        this.commentCount = Math.max(0, this.commentCount - 1);
-    }
-
-    /**
-     * 좋아요 수 증가
-     */
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    /**
-     * 좋아요 수 감소
-     */
-    public void decreaseLikeCount() {
-        this.likeCount = Math.max(0, this.likeCount - 1);
-    }
-
-    /**
-     * 찬성 수 증가
-     */
-    public void increaseAgreeCount() {
-        this.agreeCount++;
-    }
-
-    /**
-     * 찬성 수 감소
-     */
-    public void decreaseAgreeCount() {
-        this.agreeCount = Math.max(0, this.agreeCount - 1);
-    }
-
-    /**
-     * 반대 수 증가
-     */
-    public void increaseDisagreeCount() {
-        this.disagreeCount++;
-    }
-
-    /**
-     * 반대 수 감소
-     */
-    public void decreaseDisagreeCount() {
-        this.disagreeCount = Math.max(0, this.disagreeCount - 1);
-    }
-
     /**
      * 게시판 타입 열거형
      */
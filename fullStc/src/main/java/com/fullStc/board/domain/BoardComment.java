@@ -47,9 +47,9 @@ public class BoardComment {
     @Builder.Default
     private List<BoardComment> replies = new ArrayList<>(); // 대댓글 목록
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     @Builder.Default
-    private Integer likeCount = 0; // 좋아요 수
+    private Integer likeCount = 0; // 좋아요 수 (BoardCounterService가 증감 UPDATE로만 변경)
 
     @Column(name = "is_deleted")
     @Builder.Default
@@ -85,20 +85,6 @@ public class BoardComment {
         this.isDeleted = true;
     }
 
-    /**
-     * 좋아요 수 증가
-     */
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    /**
-     * 좋아요 수 감소
-     */
-    public void decreaseLikeCount() {
-        this.likeCount = Math.max(0, this.likeCount - 1);
-    }
-
     /**
      * 대댓글 여부 확인
      */
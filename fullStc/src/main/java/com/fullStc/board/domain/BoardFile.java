@@ -43,6 +43,9 @@ public class BoardFile {
     @Column(name = "file_type", length = 100)
     private String fileType; // 파일 타입 (MIME type)
 
+    @Column(name = "thumbnail_ready")
+    private Boolean thumbnailReady; // 썸네일 생성 완료 여부 (이미지가 아니면 null)
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -14,7 +14,7 @@ import com.fullStc.board.domain.Board;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BoardDetailResponseDTO {
     private Long id;
     private String boardType;
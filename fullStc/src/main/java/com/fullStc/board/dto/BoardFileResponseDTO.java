@@ -21,6 +21,7 @@ public class BoardFileResponseDTO {
     private Long fileSize;
     private String fileType;
     private LocalDateTime createdAt;
+    private Boolean thumbnailReady; // 썸네일 준비 여부 (false면 원본으로 대체 표시)
 
     public static BoardFileResponseDTO from(BoardFile file) {
         return BoardFileResponseDTO.builder()
@@ -30,6 +31,7 @@ public class BoardFileResponseDTO {
                 .filePath(file.getFilePath())
                 .fileSize(file.getFileSize())
                 .fileType(file.getFileType())
+                .thumbnailReady(file.getThumbnailReady())
                 .createdAt(file.getCreatedAt())
                 .build();
     }
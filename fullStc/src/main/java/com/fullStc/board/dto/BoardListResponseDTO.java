@@ -6,8 +6,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import com.fullStc.board.domain.Board;
+import com.fullStc.board.domain.BoardFile;
 
 @Getter
 @NoArgsConstructor
@@ -27,15 +30,24 @@ public class BoardListResponseDTO {
     private Integer disagreeCount;
     private String thumbnailUrl;
 
+    private static final Pattern IMAGE_FILE = Pattern.compile(".*\\.(jpg|jpeg|png|gif|bmp|webp)$");
+
     public static BoardListResponseDTO from(Board board) {
+        return from(board, board.getUser().getNickname(), board.getFiles());
+    }
+
+    /**
+     * 작성자 닉네임과 첨부 파일을 미리 조회해 둔 경우 (목록 일괄 조회용, 지연 로딩 없음)
+     * @param board 게시글
+     * @param writerNickname 작성자 닉네임
+     * @param files 게시글 첨부 파일 목록
+     */
+    public static BoardListResponseDTO from(Board board, String writerNickname, List<BoardFile> files) {
         String thumbnailUrl = null;
-        if (board.getFiles() != null && !board.getFiles().isEmpty()) {
+        if (files != null && !files.isEmpty()) {
             // 첫 번째 이미지 파일의 썸네일 찾기
-            thumbnailUrl = board.getFiles().stream()
-                    .filter(file -> {
-                        String fileName = file.getOriginalFileName().toLowerCase();
-                        return fileName.matches(".*\\.(jpg|jpeg|png|gif|bmp|webp)$");
-                    })
+            thumbnailUrl = files.stream()
+                    .filter(file -> IMAGE_FILE.matcher(file.getOriginalFileName().toLowerCase()).matches())
                     .map(file -> "/api/files/thumbnails/" + file.getStoredFileName())
                     .findFirst()
                     .orElse(null);
@@ -45,7 +57,7 @@ public class BoardListResponseDTO {
                 .id(board.getId())
                 .boardType(board.getBoardType().name())
                 .title(board.getTitle())
-                .writerNickname(board.getUser().getNickname())
+                .writerNickname(writerNickname)
                 .viewCount(board.getViewCount())
                 .likeCount(board.getLikeCount())
                 .commentCount(board.getCommentCount())
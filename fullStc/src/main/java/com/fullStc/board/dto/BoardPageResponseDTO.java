@@ -22,6 +22,11 @@ public class BoardPageResponseDTO {
     private int limit;
     private boolean hasNext;
     private boolean hasPrevious;
+    /**
+     * 다음 페이지 커서 (다음 페이지가 없으면 null). cursor 파라미터로 넘기면 OFFSET 없이 이어서 조회
+     * 커서로 조회한 응답은 currentPage/totalPages 대신 totalCount만 의미가 있음
+     */
+    private String nextCursor;
 }
 
 
@@ -17,6 +17,7 @@ public class CommentFileResponseDTO {
     private String storedFileName;
     private Long fileSize;
     private String fileType;
+    private Boolean thumbnailReady; // 썸네일 준비 여부 (false면 원본으로 대체 표시)
 
     public static CommentFileResponseDTO from(CommentFile file) {
         return CommentFileResponseDTO.builder()
@@ -25,6 +26,7 @@ public class CommentFileResponseDTO {
                 .storedFileName(file.getStoredFileName())
                 .fileSize(file.getFileSize())
                 .fileType(file.getFileType())
+                .thumbnailReady(file.getThumbnailReady())
                 .build();
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fullStc.board.domain.BoardComment;
+import com.fullStc.board.domain.CommentFile;
 
 /**
  * 댓글 응답 DTO
@@ -46,7 +47,20 @@ public class CommentResponseDTO {
                 .filter(reply -> !reply.getIsDeleted())
                 .map(reply -> CommentResponseDTO.from(reply, false))
                 .collect(Collectors.toList());
+        return from(comment, isLiked, replies, comment.getFiles());
+    }
 
+    /**
+     * 대댓글과 첨부 파일을 미리 조립해 둔 경우 (댓글 트리 일괄 조회용, 지연 로딩 없음)
+     * 작성자(user)는 fetch join으로 함께 조회되어 있어야 합니다.
+     * @param comment 댓글 엔티티
+     * @param isLiked 현재 사용자가 좋아요를 눌렀는지 여부
+     * @param replies 대댓글 응답 목록
+     * @param files 댓글 첨부 파일 목록
+     * @return CommentResponse DTO
+     */
+    public static CommentResponseDTO from(BoardComment comment, Boolean isLiked,
+                                          List<CommentResponseDTO> replies, List<CommentFile> files) {
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .boardId(comment.getBoard().getId())
@@ -60,11 +74,11 @@ public class CommentResponseDTO {
                 .isDeleted(comment.getIsDeleted())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
-                .files(comment.getFiles() != null 
-    ? comment.getFiles().stream()
-        .map(CommentFileResponseDTO::from)
-        .collect(Collectors.toList())
-    : List.of())
+                .files(files != null
+                        ? files.stream()
+                            .map(CommentFileResponseDTO::from)
+                            .collect(Collectors.toList())
+                        : List.of())
                 .build();
     }
 }
@@ -1,6 +1,8 @@
 package com.fullStc.board.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fullStc.board.domain.Board;
@@ -20,5 +22,16 @@ public interface BoardCommentRepository extends JpaRepository<BoardComment, Long
      * @return 댓글 목록
      */
     List<BoardComment> findByBoardAndParentCommentIsNullAndIsDeletedFalseOrderByCreatedAtAsc(Board board);
+
+    /**
+     * 게시글의 삭제되지 않은 댓글·대댓글 전체를 작성자와 함께 한 번에 조회 (생성일 오름차순)
+     * 댓글 트리는 서비스에서 메모리로 조립합니다.
+     * @param boardId 게시글 ID
+     * @return 댓글 목록
+     */
+    @Query("SELECT c FROM BoardComment c JOIN FETCH c.user " +
+           "WHERE c.board.id = :boardId AND c.isDeleted = false " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<BoardComment> findAllWithUserByBoardId(@Param("boardId") Long boardId);
 }
 
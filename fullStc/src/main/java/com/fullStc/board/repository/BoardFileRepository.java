@@ -1,11 +1,16 @@
 package com.fullStc.board.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fullStc.board.domain.Board;
 import com.fullStc.board.domain.BoardFile;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,8 +25,22 @@ public interface BoardFileRepository extends JpaRepository<BoardFile, Long> {
      * @return 첨부 파일 목록
      */
     List<BoardFile> findByBoard(Board board);
-    
-}
-
 
+    /**
+     * 여러 게시글의 첨부 파일 일괄 조회 (목록 화면 썸네일용)
+     * @param boardIds 게시글 ID 목록
+     * @return 첨부 파일 목록 (파일 ID 오름차순)
+     */
+    @Query("SELECT f FROM BoardFile f WHERE f.board.id IN :boardIds ORDER BY f.id ASC")
+    List<BoardFile> findByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
 
+    /**
+     * 썸네일 생성 완료 표시 (백그라운드 썸네일 작업에서 호출)
+     * @param storedFileName 저장된 파일명
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BoardFile f SET f.thumbnailReady = true WHERE f.storedFileName = :storedFileName")
+    int markThumbnailReady(@Param("storedFileName") String storedFileName);
+}
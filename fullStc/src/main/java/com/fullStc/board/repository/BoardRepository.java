@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import com.fullStc.board.domain.Board;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -21,7 +22,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * @param limit 조회할 개수
      * @return 게시글 목록
      */
-    @Query(value = "SELECT * FROM board WHERE is_deleted = false ORDER BY created_at DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    @Query(value = "SELECT * FROM board WHERE is_deleted = false ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
     List<Board> findByIsDeletedFalseOrderByCreatedAtDesc(@Param("offset") int offset, @Param("limit") int limit);
 
     /**
@@ -31,12 +32,44 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      * @param limit 조회할 개수
      * @return 게시글 목록
      */
-    @Query(value = "SELECT * FROM board WHERE board_type = :boardType AND is_deleted = false ORDER BY created_at DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    @Query(value = "SELECT * FROM board WHERE board_type = :boardType AND is_deleted = false ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
     List<Board> findByBoardTypeAndIsDeletedFalseOrderByCreatedAtDesc(
             @Param("boardType") String boardType, 
             @Param("offset") int offset, 
             @Param("limit") int limit);
 
+    /**
+     * 삭제되지 않은 게시글 목록 조회 (키셋 커서: 마지막으로 받은 게시글 다음부터, 최신순)
+     * @param createdAt 마지막 게시글 작성일
+     * @param id 마지막 게시글 ID
+     * @param limit 조회할 개수
+     * @return 게시글 목록
+     */
+    @Query(value = "SELECT * FROM board WHERE is_deleted = false " +
+           "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) " +
+           "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Board> findByIsDeletedFalseBeforeCursor(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("limit") int limit);
+
+    /**
+     * 타입별 삭제되지 않은 게시글 목록 조회 (키셋 커서: 마지막으로 받은 게시글 다음부터, 최신순)
+     * @param boardType 게시판 타입
+     * @param createdAt 마지막 게시글 작성일
+     * @param id 마지막 게시글 ID
+     * @param limit 조회할 개수
+     * @return 게시글 목록
+     */
+    @Query(value = "SELECT * FROM board WHERE board_type = :boardType AND is_deleted = false " +
+           "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) " +
+           "ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Board> findByBoardTypeAndIsDeletedFalseBeforeCursor(
+            @Param("boardType") String boardType,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("limit") int limit);
+
     /**
      * 키워드로 게시글 검색 (제목만)
      * @param keyword 검색 키워드
@@ -127,5 +160,16 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
            "WHERE b.is_deleted = false " +
            "AND LOWER(m.nickname) LIKE LOWER(CONCAT('%', :keyword, '%'))", nativeQuery = true)
     long countByWriter(@Param("keyword") String keyword);
-}
 
+    /**
+     * 검색 색인 재구축용 게시글 조회 (ID 오름차순, 키셋 방식으로 나눠 읽기)
+     * @param afterId 이 ID보다 큰 게시글부터
+     * @param limit 조회할 개수
+     * @return [id, user_id, nickname, title, content, created_at] 배열 목록
+     */
+    @Query(value = "SELECT b.id, b.user_id, m.nickname, b.title, b.content, b.created_at FROM board b " +
+           "INNER JOIN members m ON b.user_id = m.id " +
+           "WHERE b.is_deleted = false AND b.id > :afterId " +
+           "ORDER BY b.id ASC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findSearchRowsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+}
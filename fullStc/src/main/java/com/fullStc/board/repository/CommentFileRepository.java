@@ -1,10 +1,34 @@
 package com.fullStc.board.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.fullStc.board.domain.CommentFile;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CommentFileRepository extends JpaRepository<CommentFile, Long> {
-}
\ No newline at end of file
+    /**
+     * 여러 댓글의 첨부 파일 일괄 조회
+     * @param commentIds 댓글 ID 목록
+     * @return 첨부 파일 목록 (파일 ID 오름차순)
+     */
+    @Query("SELECT f FROM CommentFile f WHERE f.comment.id IN :commentIds ORDER BY f.id ASC")
+    List<CommentFile> findByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * 썸네일 생성 완료 표시 (백그라운드 썸네일 작업에서 호출)
+     * @param storedFileName 저장된 파일명
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CommentFile f SET f.thumbnailReady = true WHERE f.storedFileName = :storedFileName")
+    int markThumbnailReady(@Param("storedFileName") String storedFileName);
+}
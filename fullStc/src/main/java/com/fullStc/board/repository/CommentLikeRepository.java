@@ -1,12 +1,16 @@
 package com.fullStc.board.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fullStc.board.domain.BoardComment;
 import com.fullStc.board.domain.CommentLike;
 import com.fullStc.member.domain.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,5 +34,14 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
      * @return 좋아요가 존재하면 true, 아니면 false
      */
     boolean existsByCommentAndUser(BoardComment comment, Member user);
+
+    /**
+     * 댓글 목록 중 사용자가 좋아요를 누른 댓글 ID 일괄 조회
+     * @param userId 사용자 ID
+     * @param commentIds 댓글 ID 목록
+     * @return 좋아요를 누른 댓글 ID 목록
+     */
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
 }
 
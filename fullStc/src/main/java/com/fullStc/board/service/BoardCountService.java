@@ -0,0 +1,113 @@
+package com.fullStc.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fullStc.board.domain.Board;
+import com.fullStc.board.repository.BoardRepository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 수 캐시 서비스
+ * 목록 페이지마다 COUNT(*)를 실행하지 않도록 전체/타입별 게시글 수를 메모리에 유지합니다.
+ * 생성·삭제 시 커밋 후 증감하고, TTL이 지나면 DB에서 다시 읽어 오차를 보정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCountService {
+    private static final String ALL = "ALL";
+
+    private final BoardRepository boardRepository;
+
+    // DB에서 다시 읽는 주기
+    @Value("${board.count.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 삭제되지 않은 전체 게시글 수
+     */
+    public long countAll() {
+        return count(ALL);
+    }
+
+    /**
+     * 삭제되지 않은 타입별 게시글 수
+     * @param boardType 게시판 타입 (NORMAL 또는 DEBATE)
+     */
+    public long countByType(String boardType) {
+        return count(boardType);
+    }
+
+    /**
+     * 게시글 생성 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void increment(Board.BoardType boardType) {
+        afterCommit(boardType, 1);
+    }
+
+    /**
+     * 게시글 삭제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void decrement(Board.BoardType boardType) {
+        afterCommit(boardType, -1);
+    }
+
+    private long count(String key) {
+        long now = System.currentTimeMillis();
+        Counter counter = counters.get(key);
+        if (counter != null && now - counter.loadedAt < ttlSeconds * 1000) {
+            return Math.max(0, counter.value.get());
+        }
+        long value = ALL.equals(key)
+                ? boardRepository.countByIsDeletedFalse()
+                : boardRepository.countByBoardTypeAndIsDeletedFalse(key);
+        counters.put(key, new Counter(value, now));
+        return value;
+    }
+
+    private void afterCommit(Board.BoardType boardType, long delta) {
+        Runnable apply = () -> {
+            adjust(ALL, delta);
+            if (boardType != null) {
+                adjust(boardType.name(), delta);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private void adjust(String key, long delta) {
+        // 아직 읽지 않은 키는 다음 조회 때 DB에서 읽으므로 증감 불필요
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.value.addAndGet(delta);
+        }
+    }
+
+    private static final class Counter {
+        private final AtomicLong value;
+        private final long loadedAt;
+
+        private Counter(long value, long loadedAt) {
+            this.value = new AtomicLong(value);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
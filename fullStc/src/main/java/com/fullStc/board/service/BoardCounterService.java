@@ -0,0 +1,244 @@
+package com.fullStc.board.service;
+
+import com.fullStc.config.SchedulingConfig;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글·댓글 카운터 서비스
+ * 조회수/좋아요/댓글 수/찬반 수를 엔티티를 읽고 다시 저장하는 대신 메모리 누산기(LongAdder)에 증감만 모아 두고,
+ * 주기적으로 "col = col + 증감" UPDATE를 배치로 실행합니다.
+ * 동시에 같은 게시글에 좋아요가 몰려도 잃어버리는 갱신이 없고 게시글 행 잠금 경합도 줄어듭니다.
+ * 반영 후 증감이 0인 항목은 맵에서 지우므로, 맵 크기는 최근 증감이 있었던 게시글·댓글 수로 유지됩니다.
+ * (증감과 제거를 같은 키의 compute 안에서 처리해 제거된 누산기에 증감이 들어가지 않게 함)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardCounterService {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글 카운터 종류 (board 테이블 컬럼)
+     */
+    public enum BoardCounter {
+        VIEW, LIKE, COMMENT, AGREE, DISAGREE
+    }
+
+    private static final String BOARD_UPDATE_SQL = "UPDATE board SET " +
+            "view_count = GREATEST(0, COALESCE(view_count, 0) + ?), " +
+            "like_count = GREATEST(0, COALESCE(like_count, 0) + ?), " +
+            "comment_count = GREATEST(0, COALESCE(comment_count, 0) + ?), " +
+            "agree_count = GREATEST(0, COALESCE(agree_count, 0) + ?), " +
+            "disagree_count = GREATEST(0, COALESCE(disagree_count, 0) + ?) " +
+            "WHERE id = ?";
+
+    private static final String COMMENT_UPDATE_SQL =
+            "UPDATE board_comment SET like_count = GREATEST(0, COALESCE(like_count, 0) + ?) WHERE id = ?";
+
+    // 게시글 ID → 카운터별 누적 증감 (BoardCounter 순서)
+    private final ConcurrentHashMap<Long, LongAdder[]> boardDeltas = new ConcurrentHashMap<>();
+    // 댓글 ID → 좋아요 누적 증감
+    private final ConcurrentHashMap<Long, LongAdder> commentLikeDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글 카운터 증감 (즉시 누산, 조회수처럼 DB 행 변경과 무관한 경우)
+     * @param boardId 게시글 ID
+     * @param counter 카운터 종류
+     * @param delta 증감량
+     */
+    public void add(Long boardId, BoardCounter counter, long delta) {
+        addBoard(boardId, counter.ordinal(), delta);
+    }
+
+    /**
+     * 게시글 카운터 증감 (트랜잭션 안이면 커밋 후 누산, 좋아요·투표 행 저장과 함께 쓰는 경우)
+     * @param boardId 게시글 ID
+     * @param counter 카운터 종류
+     * @param delta 증감량
+     */
+    public void addAfterCommit(Long boardId, BoardCounter counter, long delta) {
+        afterCommit(() -> add(boardId, counter, delta));
+    }
+
+    /**
+     * 댓글 좋아요 수 증감 (트랜잭션 안이면 커밋 후 반영)
+     * @param commentId 댓글 ID
+     * @param delta 증감량
+     */
+    public void addCommentLike(Long commentId, long delta) {
+        afterCommit(() -> addComment(commentId, delta));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글 카운터 증감 (화면 표시 보정용)
+     */
+    public long pending(Long boardId, BoardCounter counter) {
+        LongAdder[] adders = boardDeltas.get(boardId);
+        return adders != null ? adders[counter.ordinal()].sum() : 0L;
+    }
+
+    /**
+     * 누적된 증감을 DB에 배치로 반영 (기본 1초 간격)
+     * 읽은 만큼만 누산기에서 빼므로 반영 중에 들어온 증감은 다음 주기로 넘어갑니다.
+     */
+    @Scheduled(fixedDelayString = "${board.counter.flush-interval-ms:1000}", scheduler = SchedulingConfig.MAINTENANCE)
+    public void flush() {
+        flushBoards();
+        flushCommentLikes();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushBoards() {
+        List<Long> ids = new ArrayList<>();
+        List<long[]> deltas = new ArrayList<>();
+        List<Long> idle = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder[]> entry : boardDeltas.entrySet()) {
+            LongAdder[] adders = entry.getValue();
+            long[] taken = new long[adders.length];
+            boolean dirty = false;
+            for (int i = 0; i < adders.length; i++) {
+                taken[i] = adders[i].sum();
+                if (taken[i] != 0) {
+                    adders[i].add(-taken[i]);
+                    dirty = true;
+                }
+            }
+            if (dirty) {
+                ids.add(entry.getKey());
+                deltas.add(taken);
+            } else {
+                idle.add(entry.getKey());
+            }
+        }
+        idle.forEach(this::removeBoardIfDrained);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            long[] d = deltas.get(i);
+            args.add(new Object[]{d[0], d[1], d[2], d[3], d[4], ids.get(i)});
+        }
+        try {
+            jdbcTemplate.batchUpdate(BOARD_UPDATE_SQL, args);
+            log.debug("게시글 카운터 반영: {}건", ids.size());
+            ids.forEach(this::removeBoardIfDrained);
+        } catch (Exception e) {
+            // 실패한 증감은 누산기에 되돌려 다음 주기에 다시 시도
+            log.warn("게시글 카운터 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            for (int i = 0; i < ids.size(); i++) {
+                long[] d = deltas.get(i);
+                for (int j = 0; j < d.length; j++) {
+                    if (d[j] != 0) {
+                        addBoard(ids.get(i), j, d[j]);
+                    }
+                }
+            }
+        }
+    }
+
+    private void flushCommentLikes() {
+        List<Object[]> args = new ArrayList<>();
+        List<Long> idle = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : commentLikeDeltas.entrySet()) {
+            long taken = entry.getValue().sum();
+            if (taken != 0) {
+                entry.getValue().add(-taken);
+                args.add(new Object[]{taken, entry.getKey()});
+            } else {
+                idle.add(entry.getKey());
+            }
+        }
+        idle.forEach(this::removeCommentIfDrained);
+        if (args.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(COMMENT_UPDATE_SQL, args);
+            for (Object[] arg : args) {
+                removeCommentIfDrained((Long) arg[1]);
+            }
+        } catch (Exception e) {
+            log.warn("댓글 좋아요 수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            for (Object[] arg : args) {
+                addComment((Long) arg[1], (Long) arg[0]);
+            }
+        }
+    }
+
+    /**
+     * 게시글 카운터 누산 (누산기 생성·증감을 키 단위로 묶어 제거와 겹치지 않게 함)
+     */
+    private void addBoard(Long boardId, int index, long delta) {
+        boardDeltas.compute(boardId, (k, adders) -> {
+            if (adders == null) {
+                adders = new LongAdder[BoardCounter.values().length];
+                for (int i = 0; i < adders.length; i++) {
+                    adders[i] = new LongAdder();
+                }
+            }
+            adders[index].add(delta);
+            return adders;
+        });
+    }
+
+    private void addComment(Long commentId, long delta) {
+        commentLikeDeltas.compute(commentId, (k, adder) -> {
+            if (adder == null) {
+                adder = new LongAdder();
+            }
+            adder.add(delta);
+            return adder;
+        });
+    }
+
+    /**
+     * 모두 반영되어 증감이 0인 게시글 항목 제거
+     */
+    private void removeBoardIfDrained(Long boardId) {
+        boardDeltas.computeIfPresent(boardId, (k, adders) -> {
+            for (LongAdder adder : adders) {
+                if (adder.sum() != 0) {
+                    return adders;
+                }
+            }
+            return null;
+        });
+    }
+
+    private void removeCommentIfDrained(Long commentId) {
+        commentLikeDeltas.computeIfPresent(commentId, (k, adder) -> adder.sum() == 0 ? null : adder);
+    }
+
+    private void afterCommit(Runnable apply) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
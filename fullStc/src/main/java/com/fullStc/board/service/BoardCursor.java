@@ -0,0 +1,38 @@
+package com.fullStc.board.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 키셋 커서 (created_at, id)
+ * 클라이언트에는 Base64 URL 문자열로만 전달되어 내부 형식에 의존하지 않도록 합니다.
+ * @param createdAt 마지막으로 받은 게시글의 작성일
+ * @param id 마지막으로 받은 게시글 ID
+ */
+public record BoardCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * 커서 문자열로 변환
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new BoardCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
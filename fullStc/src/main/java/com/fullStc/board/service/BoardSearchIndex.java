@@ -0,0 +1,328 @@
+package com.fullStc.board.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 게시글 검색용 역색인
+ *
+ * 제목·내용을 2글자 단위(bigram)로 잘라 위치와 함께 색인합니다.
+ * 검색어의 bigram 위치가 연속으로 이어지는 문서만 찾으므로 기존 LIKE '%검색어%'와 같은 문서를 찾고
+ * (형태소 분석 없이 한글 부분 일치 지원), 적중 문서는 BM25 점수와 최신성으로 정렬합니다.
+ * 스레드 안전하지 않으므로 호출 측(BoardSearchService)에서 잠금을 관리합니다.
+ */
+public class BoardSearchIndex {
+
+    // 필드 끝 표시 (마지막 글자도 bigram 첫 글자가 되도록)
+    private static final char END = '\u0000';
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 제목 적중 가중치 (제목+내용 검색 시)
+    private static final double TITLE_WEIGHT = 2.0;
+
+    // 최신성 가산점: 최대 1.0점, 14일마다 절반
+    private static final double RECENCY_WEIGHT = 1.0;
+    private static final double RECENCY_HALF_LIFE_DAYS = 14.0;
+
+    private final FieldIndex title = new FieldIndex();
+    private final FieldIndex content = new FieldIndex();
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    // 작성자 ID → 닉네임(소문자), 작성자 ID → 게시글 ID
+    private final Map<Long, String> writerNicknames = new HashMap<>();
+    private final Map<Long, Set<Long>> boardsByWriter = new HashMap<>();
+
+    /**
+     * 게시글 추가 또는 갱신
+     */
+    public void upsert(Long boardId, Long userId, String nickname, String titleText, String contentText,
+                       LocalDateTime createdAt) {
+        remove(boardId);
+        title.add(boardId, normalize(titleText));
+        content.add(boardId, normalize(contentText));
+        docs.put(boardId, new Doc(userId, createdAt != null ? createdAt : LocalDateTime.now()));
+        if (userId != null) {
+            if (nickname != null) {
+                writerNicknames.put(userId, normalize(nickname));
+            }
+            boardsByWriter.computeIfAbsent(userId, k -> new HashSet<>()).add(boardId);
+        }
+    }
+
+    /**
+     * 게시글 제거 (삭제 시)
+     */
+    public void remove(Long boardId) {
+        Doc doc = docs.remove(boardId);
+        if (doc == null) {
+            return;
+        }
+        title.remove(boardId);
+        content.remove(boardId);
+        Set<Long> boards = boardsByWriter.get(doc.userId());
+        if (boards != null) {
+            boards.remove(boardId);
+            if (boards.isEmpty()) {
+                boardsByWriter.remove(doc.userId());
+                writerNicknames.remove(doc.userId());
+            }
+        }
+    }
+
+    /**
+     * 작성자 닉네임 변경 반영 (작성한 게시글이 없으면 무시)
+     */
+    public void renameWriter(Long userId, String nickname) {
+        if (userId != null && nickname != null && boardsByWriter.containsKey(userId)) {
+            writerNicknames.put(userId, normalize(nickname));
+        }
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /**
+     * 검색
+     * @param keyword 검색어 (공백으로 구분된 단어는 모두 포함해야 함)
+     * @param searchType TITLE, TITLE_CONTENT, WRITER
+     * @param now 최신성 계산 기준 시각
+     * @return 점수순 게시글 ID 전체 목록 (적중 건수 = size)
+     */
+    public List<Long> search(String keyword, String searchType, LocalDateTime now) {
+        List<String> terms = terms(keyword);
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if ("WRITER".equals(searchType)) {
+            return searchWriter(String.join(" ", terms));
+        }
+        boolean titleOnly = "TITLE".equals(searchType);
+
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Double> termScores = new HashMap<>();
+            title.score(term, docs.size(), titleOnly ? 1.0 : TITLE_WEIGHT, termScores);
+            if (!titleOnly) {
+                content.score(term, docs.size(), 1.0, termScores);
+            }
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // 모든 단어를 포함한 문서만 남김
+                Map<Long, Double> merged = new HashMap<>();
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    Double other = termScores.get(entry.getKey());
+                    if (other != null) {
+                        merged.put(entry.getKey(), entry.getValue() + other);
+                    }
+                }
+                scores = merged;
+            }
+            if (scores.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+
+        Map<Long, Double> finalScores = new HashMap<>(scores.size() * 2);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            finalScores.put(entry.getKey(), entry.getValue() + recencyBoost(docs.get(entry.getKey()), now));
+        }
+        List<Long> result = new ArrayList<>(finalScores.keySet());
+        result.sort(Comparator.<Long>comparingDouble(finalScores::get).reversed().thenComparing(byRecency()));
+        return result;
+    }
+
+    /**
+     * 작성자 검색: 닉네임에 검색어가 포함된 작성자의 글을 최신순으로
+     */
+    private List<Long> searchWriter(String keyword) {
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : writerNicknames.entrySet()) {
+            if (entry.getValue().contains(keyword)) {
+                result.addAll(boardsByWriter.getOrDefault(entry.getKey(), Set.of()));
+            }
+        }
+        result.sort(byRecency());
+        return result;
+    }
+
+    private Comparator<Long> byRecency() {
+        return Comparator.<Long, LocalDateTime>comparing(id -> docs.get(id).createdAt()).reversed()
+                .thenComparing(Comparator.<Long>reverseOrder());
+    }
+
+    private static double recencyBoost(Doc doc, LocalDateTime now) {
+        double ageDays = Math.max(0, Duration.between(doc.createdAt(), now).toHours() / 24.0);
+        return RECENCY_WEIGHT * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+    }
+
+    private static List<String> terms(String keyword) {
+        List<String> terms = new ArrayList<>();
+        if (keyword == null) {
+            return terms;
+        }
+        for (String term : normalize(keyword).split(" ")) {
+            if (!term.isEmpty() && !terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 소문자 변환 + 공백 정리 (LIKE LOWER(...)와 같은 대소문자 무시)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+
+    private record Doc(Long userId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 필드 하나(제목 또는 내용)의 위치 포함 bigram 역색인
+     */
+    private static final class FieldIndex {
+        // bigram → (게시글 ID → 등장 위치 오름차순). 1글자 검색을 위해 정렬된 맵 사용
+        private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+        // 게시글 ID → 색인된 bigram 목록 (제거용), 필드 길이
+        private final Map<Long, String[]> termsByDoc = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength;
+
+        void add(Long docId, String text) {
+            Map<String, List<Integer>> positions = new LinkedHashMap<>();
+            String padded = text + END;
+            for (int i = 0; i + 1 < padded.length(); i++) {
+                positions.computeIfAbsent(padded.substring(i, i + 2), k -> new ArrayList<>()).add(i);
+            }
+            for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+                int[] array = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(docId, array);
+            }
+            termsByDoc.put(docId, positions.keySet().toArray(new String[0]));
+            lengths.put(docId, text.length());
+            totalLength += text.length();
+        }
+
+        void remove(Long docId) {
+            String[] terms = termsByDoc.remove(docId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, int[]> docsForTerm = postings.get(term);
+                if (docsForTerm != null) {
+                    docsForTerm.remove(docId);
+                    if (docsForTerm.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            Integer length = lengths.remove(docId);
+            if (length != null) {
+                totalLength -= length;
+            }
+        }
+
+        /**
+         * 검색어 등장 횟수로 BM25 점수를 계산해 scores에 더함
+         */
+        void score(String term, int docCount, double weight, Map<Long, Double> scores) {
+            Map<Long, Integer> frequencies = match(term);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            double avgLength = lengths.isEmpty() ? 1.0 : Math.max(1.0, (double) totalLength / lengths.size());
+            int df = frequencies.size();
+            double idf = Math.log(1.0 + (docCount - df + 0.5) / (df + 0.5));
+            for (Map.Entry<Long, Integer> entry : frequencies.entrySet()) {
+                double tf = entry.getValue();
+                double norm = K1 * (1 - B + B * lengths.getOrDefault(entry.getKey(), 0) / avgLength);
+                double score = weight * idf * tf * (K1 + 1) / (tf + norm);
+                scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+
+        /**
+         * 검색어가 부분 문자열로 등장하는 문서와 등장 횟수
+         */
+        private Map<Long, Integer> match(String term) {
+            Map<Long, Integer> result = new HashMap<>();
+            if (term.length() == 1) {
+                // 1글자: 해당 글자로 시작하는 모든 bigram의 등장 위치 합
+                char c = term.charAt(0);
+                for (Map<Long, int[]> docsForTerm : postings.subMap(c + "\u0000", true, c + "\uffff", true).values()) {
+                    for (Map.Entry<Long, int[]> entry : docsForTerm.entrySet()) {
+                        result.merge(entry.getKey(), entry.getValue().length, Integer::sum);
+                    }
+                }
+                return result;
+            }
+
+            int grams = term.length() - 1;
+            List<Map<Long, int[]>> lists = new ArrayList<>(grams);
+            for (int i = 0; i < grams; i++) {
+                Map<Long, int[]> docsForTerm = postings.get(term.substring(i, i + 2));
+                if (docsForTerm == null) {
+                    return result;
+                }
+                lists.add(docsForTerm);
+            }
+
+            // 가장 적은 문서를 가진 bigram부터 후보 축소
+            Map<Long, int[]> rarest = lists.get(0);
+            for (Map<Long, int[]> list : lists) {
+                if (list.size() < rarest.size()) {
+                    rarest = list;
+                }
+            }
+            for (Long docId : rarest.keySet()) {
+                int[][] docPositions = new int[grams][];
+                boolean all = true;
+                for (int i = 0; i < grams && all; i++) {
+                    docPositions[i] = lists.get(i).get(docId);
+                    all = docPositions[i] != null;
+                }
+                if (!all) {
+                    continue;
+                }
+                // 첫 bigram 위치 p에 대해 i번째 bigram이 p+i에 있어야 연속
+                int count = 0;
+                for (int start : docPositions[0]) {
+                    boolean contiguous = true;
+                    for (int i = 1; i < grams && contiguous; i++) {
+                        contiguous = Arrays.binarySearch(docPositions[i], start + i) >= 0;
+                    }
+                    if (contiguous) {
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    result.put(docId, count);
+                }
+            }
+            return result;
+        }
+    }
+}
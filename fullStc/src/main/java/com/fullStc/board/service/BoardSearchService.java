@@ -0,0 +1,234 @@
+package com.fullStc.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fullStc.board.repository.BoardRepository;
+import com.fullStc.config.SchedulingConfig;
+import com.fullStc.util.SharedVersionStamp;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색 서비스
+ * 메모리 역색인(BoardSearchIndex)으로 게시글을 검색합니다.
+ * 기동 시 DB에서 색인을 만들고, 게시글 생성·수정·삭제와 작성자 닉네임 변경은 트랜잭션 커밋 후 색인에 바로 반영합니다.
+ * 반영할 때 공유 버전을 올리고, 다른 인스턴스는 주기적으로 버전을 확인해 바뀌었으면 백그라운드에서 색인을 다시 만듭니다.
+ * 색인이 준비되기 전에는 isReady()가 false이며, 호출 측은 기존 DB 검색을 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSearchService {
+    private final BoardRepository boardRepository;
+    private final SharedVersionStamp versionStamp;
+
+    // 인스턴스 간 색인 변경 감지용 Redis 키
+    static final String VERSION_KEY = "board-index:version";
+
+    // 재구축 시 한 번에 읽을 게시글 수
+    @Value("${board.search.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private BoardSearchIndex index = new BoardSearchIndex(); // lock으로 보호
+    private volatile boolean ready = false;
+
+    // 재구축 중 들어온 변경 (새 색인에 다시 적용), lock으로 보호
+    private List<Consumer<BoardSearchIndex>> pendingDuringRebuild;
+
+    /**
+     * 검색 결과 (현재 페이지 게시글 ID와 전체 적중 건수)
+     */
+    public record SearchResult(List<Long> boardIds, long totalCount) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시글 검색
+     * @param keyword 검색 키워드
+     * @param searchType 검색 타입 (TITLE, TITLE_CONTENT, WRITER)
+     * @param offset 시작 위치
+     * @param limit 조회할 개수
+     * @return 점수순 게시글 ID(페이지)와 전체 적중 건수
+     */
+    public SearchResult search(String keyword, String searchType, int offset, int limit) {
+        List<Long> all;
+        lock.readLock().lock();
+        try {
+            all = index.search(keyword, searchType, LocalDateTime.now());
+        } finally {
+            lock.readLock().unlock();
+        }
+        int from = Math.min(Math.max(offset, 0), all.size());
+        int to = Math.min(from + Math.max(limit, 0), all.size());
+        return new SearchResult(new ArrayList<>(all.subList(from, to)), all.size());
+    }
+
+    /**
+     * 게시글 추가·수정 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void indexBoard(Long boardId, Long userId, String nickname, String title, String content,
+                           LocalDateTime createdAt) {
+        afterCommit(idx -> idx.upsert(boardId, userId, nickname, title, content, createdAt));
+    }
+
+    /**
+     * 게시글 삭제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void removeBoard(Long boardId) {
+        afterCommit(idx -> idx.remove(boardId));
+    }
+
+    /**
+     * 작성자 닉네임 변경 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void renameWriter(Long userId, String nickname) {
+        afterCommit(idx -> idx.renameWriter(userId, nickname));
+    }
+
+    /**
+     * 기동 후 백그라운드에서 색인 구축
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 매일 새벽 색인 재구축 (Redis 장애 등으로 누락된 변경 보정)
+     */
+    @Scheduled(cron = "${board.search.rebuild-cron:0 30 4 * * *}", scheduler = SchedulingConfig.MAINTENANCE)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스의 게시글 변경 확인 (버전이 바뀌었으면 이 스레드에서 재구축, 검색 요청은 기존 색인 사용)
+     */
+    @Scheduled(fixedDelayString = "${board.search.sync-check-ms:5000}", scheduler = SchedulingConfig.MAINTENANCE)
+    public void syncFromOtherInstances() {
+        if (ready && versionStamp.changedElsewhere(VERSION_KEY)) {
+            log.info("다른 인스턴스의 게시글 변경 감지, 검색 색인 재구축");
+            rebuild();
+        }
+    }
+
+    /**
+     * DB에서 삭제되지 않은 게시글을 읽어 새 색인을 만든 뒤 교체
+     * 재구축 중 들어온 변경은 새 색인에 다시 적용한 뒤 교체합니다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                log.info("게시글 검색 색인 재구축이 이미 진행 중입니다");
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        // 읽기 전에 버전을 기록해 두어, 읽는 도중 다른 인스턴스가 바꾼 내용은 다음 확인 때 반영
+        versionStamp.observe(VERSION_KEY);
+        BoardSearchIndex fresh = new BoardSearchIndex();
+        try {
+            long afterId = 0;
+            while (true) {
+                List<Object[]> rows = boardRepository.findSearchRowsAfter(afterId, rebuildBatchSize);
+                for (Object[] row : rows) {
+                    long id = ((Number) row[0]).longValue();
+                    fresh.upsert(id,
+                            row[1] != null ? ((Number) row[1]).longValue() : null,
+                            (String) row[2],
+                            (String) row[3],
+                            (String) row[4],
+                            toLocalDateTime(row[5]));
+                    afterId = id;
+                }
+                if (rows.size() < rebuildBatchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 재구축 실패: {}", e.getMessage(), e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Consumer<BoardSearchIndex> change : pendingDuringRebuild) {
+                change.accept(fresh);
+            }
+            pendingDuringRebuild = null;
+            index = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 구축 완료: {}건, {}ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    private void afterCommit(Consumer<BoardSearchIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                    versionStamp.bump(VERSION_KEY);
+                }
+            });
+        } else {
+            apply(change);
+            versionStamp.bump(VERSION_KEY);
+        }
+    }
+
+    private void apply(Consumer<BoardSearchIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return null;
+    }
+}
@@ -10,13 +10,19 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fullStc.board.domain.*;
 import com.fullStc.board.dto.*;
 import com.fullStc.board.repository.*;
+import com.fullStc.board.service.BoardCounterService.BoardCounter;
 import com.fullStc.board.service.FileStorageService.FileInfo;
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.dto.MemberDTO;
 import com.fullStc.member.repository.MemberRepository;
+import com.fullStc.member.service.MemberContextService;
+import com.fullStc.member.service.MemberContextService.MemberSummary;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -34,15 +40,28 @@ public class BoardService {
     private final DebateVoteRepository debateVoteRepository;
     private final BoardFileRepository boardFileRepository;
     private final FileStorageService fileStorageService;
-    private final BoardViewRepository boardViewRepository;
+    private final BoardCounterService boardCounterService;
+    private final BoardViewDedupService boardViewDedupService;
+    private final BoardSearchService boardSearchService;
+    private final BoardCountService boardCountService;
+    private final MemberContextService memberContextService;
 
     /**
      * 현재 로그인한 사용자 정보 가져오기
-     * SecurityContext에서 인증된 사용자의 Member 엔티티를 조회합니다.
-     * @return 현재 로그인한 사용자의 Member 엔티티
+     * 회원 존재 여부는 회원 컨텍스트 캐시로 확인하고, 연관관계 설정용 참조(프록시)만 반환합니다.
+     * @return 현재 로그인한 사용자의 Member 참조 (ID 외 필드 접근 시 지연 로딩)
      * @throws RuntimeException 인증되지 않은 사용자이거나 사용자를 찾을 수 없는 경우
      */
     private Member getCurrentUser() {
+        return memberRepository.getReferenceById(getCurrentUserSummary().id());
+    }
+
+    /**
+     * 현재 로그인한 사용자 요약 정보 (닉네임 등이 필요한 경우)
+     * @return 캐시된 회원 요약 정보
+     * @throws RuntimeException 인증되지 않은 사용자이거나 사용자를 찾을 수 없는 경우
+     */
+    private MemberSummary getCurrentUserSummary() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -53,13 +72,44 @@ public class BoardService {
         
         if (principal instanceof MemberDTO) {
             MemberDTO memberDTO = (MemberDTO) principal;
-            return memberRepository.findById(memberDTO.getId())
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + memberDTO.getId()));
+            MemberSummary summary = memberContextService.getSummary(memberDTO.getId());
+            if (summary == null) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다: " + memberDTO.getId());
+            }
+            return summary;
         }
         
         throw new RuntimeException("인증 정보가 올바르지 않습니다");
     }
 
+    /**
+     * 게시글 목록을 응답 DTO로 변환
+     * 작성자와 첨부 파일을 IN 쿼리로 한 번씩만 조회해 게시글 수와 무관하게 쿼리 수를 일정하게 유지합니다.
+     * @param boards 게시글 목록
+     * @return 게시글 목록 응답 DTO
+     */
+    private List<BoardListResponseDTO> toListResponses(List<Board> boards) {
+        if (boards.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> boardIds = boards.stream().map(Board::getId).collect(Collectors.toSet());
+        // 지연 로딩 프록시의 ID는 초기화 없이 읽힘
+        Set<Long> userIds = boards.stream().map(board -> board.getUser().getId()).collect(Collectors.toSet());
+
+        Map<Long, String> nicknames = memberRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(Member::getId, Member::getNickname));
+        Map<Long, List<BoardFile>> filesByBoard = boardFileRepository.findByBoardIdIn(boardIds).stream()
+                .collect(Collectors.groupingBy(file -> file.getBoard().getId()));
+
+        return boards.stream()
+                .map(board -> BoardListResponseDTO.from(
+                        board,
+                        nicknames.get(board.getUser().getId()),
+                        filesByBoard.getOrDefault(board.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 게시글 목록 조회 (전체)
      * @param offset 시작 위치
@@ -68,13 +118,11 @@ public class BoardService {
      */
     public BoardPageResponseDTO getBoards(int offset, int limit) {
         List<Board> boards = boardRepository.findByIsDeletedFalseOrderByCreatedAtDesc(offset, limit);
-        long totalCount = boardRepository.countByIsDeletedFalse();
+        long totalCount = boardCountService.countAll();
         int currentPage = (offset / limit) + 1;
         int totalPages = (int) Math.ceil((double) totalCount / limit);
         
-        List<BoardListResponseDTO> boardDTOs = boards.stream()
-                .map(BoardListResponseDTO::from)
-                .collect(Collectors.toList());
+        List<BoardListResponseDTO> boardDTOs = toListResponses(boards);
         
         return BoardPageResponseDTO.builder()
                 .boards(boardDTOs)
@@ -84,6 +132,7 @@ public class BoardService {
                 .limit(limit)
                 .hasNext(currentPage < totalPages)
                 .hasPrevious(currentPage > 1)
+                .nextCursor(currentPage < totalPages ? nextCursorOf(boards) : null)
                 .build();
     }
 
@@ -96,13 +145,11 @@ public class BoardService {
      */
     public BoardPageResponseDTO getBoardsByType(String boardType, int offset, int limit) {
         List<Board> boards = boardRepository.findByBoardTypeAndIsDeletedFalseOrderByCreatedAtDesc(boardType, offset, limit);
-        long totalCount = boardRepository.countByBoardTypeAndIsDeletedFalse(boardType);
+        long totalCount = boardCountService.countByType(boardType);
         int currentPage = (offset / limit) + 1;
         int totalPages = (int) Math.ceil((double) totalCount / limit);
         
-        List<BoardListResponseDTO> boardDTOs = boards.stream()
-                .map(BoardListResponseDTO::from)
-                .collect(Collectors.toList());
+        List<BoardListResponseDTO> boardDTOs = toListResponses(boards);
         
         return BoardPageResponseDTO.builder()
                 .boards(boardDTOs)
@@ -112,9 +159,56 @@ public class BoardService {
                 .limit(limit)
                 .hasNext(currentPage < totalPages)
                 .hasPrevious(currentPage > 1)
+                .nextCursor(currentPage < totalPages ? nextCursorOf(boards) : null)
+                .build();
+    }
+
+    /**
+     * 게시글 목록 조회 (키셋 커서, 무한 스크롤용)
+     * OFFSET 없이 (created_at, id) 인덱스 범위로 읽어 몇 번째 페이지든 같은 비용으로 조회합니다.
+     * @param boardType 게시판 타입 (null이면 전체)
+     * @param cursor 이전 응답의 nextCursor
+     * @param limit 조회할 개수
+     * @return 게시글 목록과 다음 커서 (currentPage/totalPages는 0)
+     */
+    public BoardPageResponseDTO getBoardsByCursor(String boardType, String cursor, int limit) {
+        BoardCursor after = BoardCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Board> boards = boardType == null
+                ? boardRepository.findByIsDeletedFalseBeforeCursor(after.createdAt(), after.id(), limit + 1)
+                : boardRepository.findByBoardTypeAndIsDeletedFalseBeforeCursor(boardType, after.createdAt(), after.id(), limit + 1);
+        boolean hasNext = boards.size() > limit;
+        if (hasNext) {
+            boards = boards.subList(0, limit);
+        }
+        long totalCount = boardType == null
+                ? boardCountService.countAll()
+                : boardCountService.countByType(boardType);
+
+        return BoardPageResponseDTO.builder()
+                .boards(toListResponses(boards))
+                .totalCount(totalCount)
+                .currentPage(0)
+                .totalPages(0)
+                .limit(limit)
+                .hasNext(hasNext)
+                .hasPrevious(true)
+                .nextCursor(hasNext ? nextCursorOf(boards) : null)
                 .build();
     }
 
+    /**
+     * 목록의 마지막 게시글 기준 다음 커서
+     */
+    private String nextCursorOf(List<Board> boards) {
+        if (boards.isEmpty()) {
+            return null;
+        }
+        Board last = boards.get(boards.size() - 1);
+        return new BoardCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+
     /**
      * 게시글 검색
      * @param keyword 검색 키워드
@@ -127,7 +221,19 @@ public class BoardService {
         List<Board> boards;
         long totalCount;
         
-        if (searchType == null || searchType.isEmpty() || "TITLE_CONTENT".equals(searchType)) {
+        if (boardSearchService.isReady()) {
+            // 메모리 역색인 검색 (점수순), 현재 페이지 게시글만 DB에서 조회
+            BoardSearchService.SearchResult result = boardSearchService.search(
+                    keyword, searchType == null || searchType.isEmpty() ? "TITLE_CONTENT" : searchType, offset, limit);
+            Map<Long, Board> byId = boardRepository.findAllById(result.boardIds()).stream()
+                    .filter(board -> !board.getIsDeleted())
+                    .collect(Collectors.toMap(Board::getId, board -> board));
+            boards = result.boardIds().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            totalCount = result.totalCount();
+        } else if (searchType == null || searchType.isEmpty() || "TITLE_CONTENT".equals(searchType)) {
             // 기본값: 제목 + 내용
             boards = boardRepository.searchByTitleAndContent(keyword, offset, limit);
             totalCount = boardRepository.countByTitleAndContent(keyword);
@@ -148,9 +254,7 @@ public class BoardService {
         int currentPage = (offset / limit) + 1;
         int totalPages = (int) Math.ceil((double) totalCount / limit);
         
-        List<BoardListResponseDTO> boardDTOs = boards.stream()
-                .map(BoardListResponseDTO::from)
-                .collect(Collectors.toList());
+        List<BoardListResponseDTO> boardDTOs = toListResponses(boards);
         
         return BoardPageResponseDTO.builder()
                 .boards(boardDTOs)
@@ -181,22 +285,9 @@ public class BoardService {
         // 현재 로그인한 사용자 가져오기
         Member user = getCurrentUser();
 
-        // 1일 1회 조회수 증가 체크
-        LocalDate today = LocalDate.now();
-        boolean alreadyViewed = boardViewRepository.existsByBoardAndUserAndViewDate(board, user, today);
-        
-        if (!alreadyViewed) {
-            // 오늘 처음 조회한 경우에만 조회수 증가
-            board.increaseViewCount();
-            boardRepository.save(board);
-            
-            // 조회 기록 저장
-            BoardView boardView = BoardView.builder()
-                    .board(board)
-                    .user(user)
-                    .viewDate(today)
-                    .build();
-            boardViewRepository.save(boardView);
+        // 1일 1회 조회수 증가 체크 (게시글·날짜별 비트맵, 조회수는 누산 후 배치 반영)
+        if (boardViewDedupService.markViewedToday(board.getId(), user.getId())) {
+            boardCounterService.add(board.getId(), BoardCounter.VIEW, 1);
         }
 
         // 좋아요 여부 확인
@@ -210,7 +301,20 @@ public class BoardService {
                     .orElse(null);
         }
 
-        return BoardDetailResponseDTO.from(board, isLiked, myVoteType);
+        // 아직 DB에 반영되지 않은 카운터 증감을 더해 응답
+        BoardDetailResponseDTO detail = BoardDetailResponseDTO.from(board, isLiked, myVoteType);
+        return detail.toBuilder()
+                .viewCount(withPending(detail.getViewCount(), board.getId(), BoardCounter.VIEW))
+                .likeCount(withPending(detail.getLikeCount(), board.getId(), BoardCounter.LIKE))
+                .commentCount(withPending(detail.getCommentCount(), board.getId(), BoardCounter.COMMENT))
+                .agreeCount(withPending(detail.getAgreeCount(), board.getId(), BoardCounter.AGREE))
+                .disagreeCount(withPending(detail.getDisagreeCount(), board.getId(), BoardCounter.DISAGREE))
+                .build();
+    }
+
+    private int withPending(Integer base, Long boardId, BoardCounter counter) {
+        long value = (base != null ? base : 0) + boardCounterService.pending(boardId, counter);
+        return (int) Math.max(0, value);
     }
 
     /**
@@ -223,7 +327,8 @@ public class BoardService {
     @Transactional
     public BoardCreateResponseDTO createBoard(BoardCreateRequestDTO request, MultipartFile[] files) {
         // 현재 로그인한 사용자 가져오기
-        Member user = getCurrentUser();
+        MemberSummary writer = getCurrentUserSummary();
+        Member user = memberRepository.getReferenceById(writer.id());
 
         Board board = Board.builder()
                 .user(user)
@@ -234,6 +339,9 @@ public class BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
+        boardCountService.increment(savedBoard.getBoardType());
+        boardSearchService.indexBoard(savedBoard.getId(), writer.id(), writer.nickname(),
+                savedBoard.getTitle(), savedBoard.getContent(), savedBoard.getCreatedAt());
 
         // 파일 업로드 처리
         if (files != null && files.length > 0) {
@@ -246,6 +354,7 @@ public class BoardService {
                         .filePath(fileInfo.getFilePath())
                         .fileSize(fileInfo.getFileSize())
                         .fileType(fileInfo.getFileType())
+                        .thumbnailReady(fileInfo.getThumbnailReady())
                         .build();
                 boardFileRepository.save(boardFile);
             }
@@ -270,15 +379,17 @@ public class BoardService {
         }
 
         // 현재 로그인한 사용자 가져오기
-        Member currentUser = getCurrentUser();
+        MemberSummary currentUser = getCurrentUserSummary();
 
         // 작성자 본인만 수정 가능
-        if (!board.getUser().getId().equals(currentUser.getId())) {
+        if (!board.getUser().getId().equals(currentUser.id())) {
             throw new RuntimeException("게시글 수정 권한이 없습니다");
         }
 
         // 게시글 내용 수정
         board.update(request.getTitle(), request.getContent());
+        boardSearchService.indexBoard(board.getId(), currentUser.id(), currentUser.nickname(),
+                board.getTitle(), board.getContent(), board.getCreatedAt());
 
         // 파일 삭제 처리
         if (request.getDeleteFileIds() != null && !request.getDeleteFileIds().isEmpty()) {
@@ -302,6 +413,7 @@ public class BoardService {
                         .filePath(fileInfo.getFilePath())
                         .fileSize(fileInfo.getFileSize())
                         .fileType(fileInfo.getFileType())
+                        .thumbnailReady(fileInfo.getThumbnailReady())
                         .build();
                 boardFileRepository.save(boardFile);
             }
@@ -327,8 +439,13 @@ public class BoardService {
             throw new RuntimeException("게시글 삭제 권한이 없습니다");
         }
 
+        boolean wasDeleted = board.getIsDeleted();
         board.delete();
         boardRepository.save(board);
+        if (!wasDeleted) {
+            boardCountService.decrement(board.getBoardType());
+        }
+        boardSearchService.removeBoard(board.getId());
     }
 
     /**
@@ -351,7 +468,7 @@ public class BoardService {
             // 좋아요 취소
             boardLikeRepository.findByBoardAndUser(board, user)
                     .ifPresent(boardLikeRepository::delete);
-            board.decreaseLikeCount();
+            boardCounterService.addAfterCommit(board.getId(), BoardCounter.LIKE, -1);
         } else {
             // 좋아요 추가
             BoardLike like = BoardLike.builder()
@@ -359,10 +476,9 @@ public class BoardService {
                     .user(user)
                     .build();
             boardLikeRepository.save(like);
-            board.increaseLikeCount();
+            boardCounterService.addAfterCommit(board.getId(), BoardCounter.LIKE, 1);
         }
 
-        boardRepository.save(board);
         return new LikeResponseDTO(!isLiked);
     }
 
@@ -393,12 +509,7 @@ public class BoardService {
             if (existingVote.getVoteType() == voteType) {
                 // 같은 투표 다시 누르면 취소
                 debateVoteRepository.delete(existingVote);
-                if (voteType == DebateVote.VoteType.AGREE) {
-                    board.decreaseAgreeCount();
-                } else {
-                    board.decreaseDisagreeCount();
-                }
-                boardRepository.save(board);
+                boardCounterService.addAfterCommit(board.getId(), voteCounter(voteType), -1);
                 return new VoteResponseDTO(false, null);
             } else {
                 // 다른 투표로 변경
@@ -412,16 +523,8 @@ public class BoardService {
                         .build();
                 debateVoteRepository.save(existingVote);
 
-                if (oldType == DebateVote.VoteType.AGREE) {
-                    board.decreaseAgreeCount();
-                } else {
-                    board.decreaseDisagreeCount();
-                }
-                if (voteType == DebateVote.VoteType.AGREE) {
-                    board.increaseAgreeCount();
-                } else {
-                    board.increaseDisagreeCount();
-                }
+                boardCounterService.addAfterCommit(board.getId(), voteCounter(oldType), -1);
+                boardCounterService.addAfterCommit(board.getId(), voteCounter(voteType), 1);
             }
         } else {
             // 새 투표
@@ -432,14 +535,13 @@ public class BoardService {
                     .build();
             debateVoteRepository.save(vote);
 
-            if (voteType == DebateVote.VoteType.AGREE) {
-                board.increaseAgreeCount();
-            } else {
-                board.increaseDisagreeCount();
-            }
+            boardCounterService.addAfterCommit(board.getId(), voteCounter(voteType), 1);
         }
 
-        boardRepository.save(board);
         return new VoteResponseDTO(true, voteType.name());
     }
-}
\ No newline at end of file
+
+    private static BoardCounter voteCounter(DebateVote.VoteType voteType) {
+        return voteType == DebateVote.VoteType.AGREE ? BoardCounter.AGREE : BoardCounter.DISAGREE;
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullStc.board.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 일일 조회 중복 판별 서비스
+ * 사용자당 하루 1회만 조회수를 올리기 위해, 게시글·날짜별 비트맵에 사용자 ID 위치의 비트를 켭니다.
+ * (조회마다 board_view 행을 쓰지 않음) Redis SETBIT을 우선 사용하고, Redis를 쓸 수 없으면 메모리 비트맵을 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardViewDedupService {
+    private static final String KEY_PREFIX = "board-view:";
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Redis 장애 시 사용: "yyyyMMdd:boardId" → 사용자 비트맵 (오늘 것만 유지)
+    private final ConcurrentHashMap<String, BitSet> localBitmaps = new ConcurrentHashMap<>();
+    private volatile String localDay = "";
+
+    /**
+     * 오늘 처음 조회한 것인지 확인하고 조회 기록
+     * @param boardId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 오늘 처음 조회면 true
+     */
+    public boolean markViewedToday(Long boardId, Long userId) {
+        String day = LocalDate.now().format(DAY);
+        String key = KEY_PREFIX + day + ":" + boardId;
+        try {
+            Boolean previous = redisTemplate.opsForValue().setBit(key, userId, true);
+            if (!Boolean.TRUE.equals(previous)) {
+                redisTemplate.expire(key, KEY_TTL);
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            log.debug("Redis 조회 기록 실패 - 메모리 비트맵 사용: {}", e.getMessage());
+            return markLocally(day, boardId, userId);
+        }
+    }
+
+    private boolean markLocally(String day, Long boardId, Long userId) {
+        if (!day.equals(localDay)) {
+            // 날짜가 바뀌면 어제 비트맵 정리
+            localBitmaps.clear();
+            localDay = day;
+        }
+        if (userId > Integer.MAX_VALUE) {
+            return true;
+        }
+        BitSet bitmap = localBitmaps.computeIfAbsent(day + ":" + boardId, k -> new BitSet());
+        synchronized (bitmap) {
+            int bit = userId.intValue();
+            if (bitmap.get(bit)) {
+                return false;
+            }
+            bitmap.set(bit);
+            return true;
+        }
+    }
+}
@@ -14,11 +14,17 @@ import com.fullStc.board.repository.*;
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.dto.MemberDTO;
 import com.fullStc.member.repository.MemberRepository;
+import com.fullStc.member.service.MemberContextService;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +44,8 @@ public class CommentService {
     private final CommentLikeRepository commentLikeRepository;
     private final CommentFileRepository commentFileRepository;
     private final FileStorageService fileStorageService;
+    private final BoardCounterService boardCounterService;
+    private final MemberContextService memberContextService;
 
     /**
      * 현재 로그인한 사용자 정보 가져오기
@@ -46,8 +54,8 @@ public class CommentService {
      */
     /**
      * 현재 로그인한 사용자 정보 가져오기
-     * SecurityContext에서 인증된 사용자의 Member 엔티티를 조회합니다.
-     * @return 현재 로그인한 사용자의 Member 엔티티 (인증되지 않았거나 Member를 찾을 수 없는 경우 null)
+     * SecurityContext의 사용자 ID로 회원 컨텍스트 캐시를 확인해 Member 참조를 반환합니다.
+     * @return 현재 로그인한 사용자의 Member 참조 (인증되지 않았거나 Member를 찾을 수 없는 경우 null)
      */
     private Member getCurrentUser() {
         try {
@@ -65,15 +73,13 @@ public class CommentService {
                 Long memberId = memberDTO.getId();
                 log.debug("사용자 ID 조회 시도: {}", memberId);
                 
-                Member member = memberRepository.findById(memberId)
-                        .orElse(null);
-                
-                if (member == null) {
+                // 존재 여부는 회원 컨텍스트 캐시로 확인하고, 연관관계 설정용 참조만 반환 (DB 조회 없음)
+                if (memberContextService.getSummary(memberId) == null) {
                     log.warn("Member를 찾을 수 없습니다: memberId={}. JWT에는 존재하지만 데이터베이스에 없습니다.", memberId);
                     return null; // 예외를 던지지 않고 null 반환
                 }
                 
-                return member;
+                return memberRepository.getReferenceById(memberId);
             } else {
                 log.debug("Principal이 MemberDTO가 아닙니다: {}", principal.getClass().getName());
             }
@@ -110,22 +116,46 @@ public class CommentService {
         // 현재 로그인한 사용자 가져오기 (없으면 null)
         final Member user = getCurrentUserOrNull();
 
-        List<BoardComment> comments = commentRepository.findByBoardAndParentCommentIsNullAndIsDeletedFalseOrderByCreatedAtAsc(board);
-
-        return comments.stream()
-                .map(comment -> {
-                    // user가 null이면 isLiked는 false
-                    // user가 null이 아니더라도 안전하게 처리
-                    boolean isLiked = false;
-                    if (user != null) {
-                        try {
-                            isLiked = commentLikeRepository.existsByCommentAndUser(comment, user);
-                        } catch (Exception e) {
-                            log.debug("댓글 좋아요 여부 확인 중 오류 발생 (무시): {}", e.getMessage());
-                            isLiked = false;
-                        }
-                    }
-                    return CommentResponseDTO.from(comment, isLiked);
+        // 댓글·대댓글, 첨부 파일, 좋아요 여부를 각각 한 번씩 조회한 뒤 메모리에서 트리 조립
+        List<BoardComment> comments = commentRepository.findAllWithUserByBoardId(board.getId());
+        if (comments.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> commentIds = comments.stream().map(BoardComment::getId).collect(Collectors.toSet());
+
+        Map<Long, List<CommentFile>> filesByComment = commentFileRepository.findByCommentIdIn(commentIds).stream()
+                .collect(Collectors.groupingBy(file -> file.getComment().getId()));
+
+        // user가 null이면 isLiked는 모두 false
+        Set<Long> likedIds = new HashSet<>();
+        if (user != null) {
+            try {
+                likedIds.addAll(commentLikeRepository.findLikedCommentIds(user.getId(), commentIds));
+            } catch (Exception e) {
+                log.debug("댓글 좋아요 여부 확인 중 오류 발생 (무시): {}", e.getMessage());
+            }
+        }
+
+        // 부모 댓글 ID → 대댓글 목록 (대댓글의 대댓글은 없음)
+        Map<Long, List<BoardComment>> repliesByParent = new HashMap<>();
+        List<BoardComment> roots = new ArrayList<>();
+        for (BoardComment comment : comments) {
+            if (comment.getParentComment() == null) {
+                roots.add(comment);
+            } else {
+                repliesByParent.computeIfAbsent(comment.getParentComment().getId(), k -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        return roots.stream()
+                .map(root -> {
+                    List<CommentResponseDTO> replies = repliesByParent.getOrDefault(root.getId(), List.of()).stream()
+                            .map(reply -> CommentResponseDTO.from(reply, likedIds.contains(reply.getId()),
+                                    new ArrayList<>(), filesByComment.get(reply.getId())))
+                            .collect(Collectors.toList());
+                    return CommentResponseDTO.from(root, likedIds.contains(root.getId()),
+                            replies, filesByComment.get(root.getId()));
                 })
                 .collect(Collectors.toList());
     }
@@ -176,13 +206,13 @@ public CommentCreateResponseDTO createComment(CommentCreateRequestDTO request, M
                     .filePath(fileInfo.getFilePath())
                     .fileSize(fileInfo.getFileSize())
                     .fileType(fileInfo.getFileType())
+                    .thumbnailReady(fileInfo.getThumbnailReady())
                     .build();
             commentFileRepository.save(commentFile);
         }
     }
 
-    board.increaseCommentCount();
-    boardRepository.save(board);
+    boardCounterService.addAfterCommit(board.getId(), BoardCounterService.BoardCounter.COMMENT, 1);
 
     return new CommentCreateResponseDTO(savedComment.getId());
 }
@@ -243,9 +273,7 @@ public CommentCreateResponseDTO createComment(CommentCreateRequestDTO request, M
         commentRepository.save(comment);
 
         // 게시글 댓글 수 감소
-        Board board = comment.getBoard();
-        board.decreaseCommentCount();
-        boardRepository.save(board);
+        boardCounterService.addAfterCommit(comment.getBoard().getId(), BoardCounterService.BoardCounter.COMMENT, -1);
     }
 
     /**
@@ -270,7 +298,7 @@ public CommentCreateResponseDTO createComment(CommentCreateRequestDTO request, M
             // 좋아요 취소
             commentLikeRepository.findByCommentAndUser(comment, user)
                     .ifPresent(commentLikeRepository::delete);
-            comment.decreaseLikeCount();
+            boardCounterService.addCommentLike(comment.getId(), -1);
         } else {
             // 좋아요 추가
             CommentLike like = CommentLike.builder()
@@ -278,10 +306,9 @@ public CommentCreateResponseDTO createComment(CommentCreateRequestDTO request, M
                     .user(user)
                     .build();
             commentLikeRepository.save(like);
-            comment.increaseLikeCount();
+            boardCounterService.addCommentLike(comment.getId(), 1);
         }
 
-        commentRepository.save(comment);
         return new LikeResponseDTO(!isLiked);
     }
 }
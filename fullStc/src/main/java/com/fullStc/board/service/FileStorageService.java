@@ -1,28 +1,33 @@
 package com.fullStc.board.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import com.fullStc.util.StaticMediaService;
+import com.fullStc.util.StaticMediaService.MediaFile;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * 파일 저장 서비스
- * 파일 업로드, 썸네일 생성, 파일 로드 및 삭제 기능을 제공하는 서비스
+ * 파일 업로드, 썸네일 생성 요청, 파일 로드 및 삭제 기능을 제공하는 서비스
+ * 썸네일은 ThumbnailService가 백그라운드에서 생성하므로 업로드 응답을 지연시키지 않습니다.
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class FileStorageService {
+    private final ThumbnailService thumbnailService;
+    private final StaticMediaService staticMediaService;
 
     @Value("${file.upload-dir}")
     private String uploadDir; // 파일 업로드 디렉토리 경로
@@ -30,12 +35,6 @@ public class FileStorageService {
     @Value("${file.thumbnail-dir}")
     private String thumbnailDir; // 썸네일 저장 디렉토리 경로
 
-    @Value("${file.thumbnail-width}")
-    private int thumbnailWidth; // 썸네일 가로 크기
-
-    @Value("${file.thumbnail-height}")
-    private int thumbnailHeight; // 썸네일 세로 크기
-
     /**
      * 파일 저장 디렉토리 초기화
      * 업로드 디렉토리와 썸네일 디렉토리를 생성합니다.
@@ -69,12 +68,14 @@ public class FileStorageService {
             }
 
             String storedFileName = UUID.randomUUID().toString() + extension;
-            Path targetLocation = Paths.get(uploadDir).resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-            String thumbnailPath = null;
-            if (isImageFile(extension)) {
-                thumbnailPath = createThumbnail(storedFileName, extension);
+            Path targetLocation = Paths.get(uploadDir).resolve(storedFileName).toAbsolutePath();
+            // 메모리에 올리지 않고 디스크로 바로 전송 (임시 파일이면 이동만 발생)
+            file.transferTo(targetLocation);
+
+            // 이미지면 썸네일 생성 예약 (준비되기 전까지는 원본으로 대체 표시)
+            boolean image = isImageFile(extension);
+            if (image) {
+                thumbnailService.enqueue(storedFileName);
             }
 
             return FileInfo.builder()
@@ -83,7 +84,7 @@ public class FileStorageService {
                     .filePath(targetLocation.toString())
                     .fileSize(file.getSize())
                     .fileType(file.getContentType())
-                    .thumbnailPath(thumbnailPath)
+                    .thumbnailReady(image ? Boolean.FALSE : null)
                     .build();
         } catch (IOException e) {
             log.error("파일 저장 실패: {}", e.getMessage());
@@ -130,64 +131,39 @@ public class FileStorageService {
     }
 
     /**
-     * 썸네일 생성
-     * @param storedFileName 저장된 파일명
-     * @param extension 파일 확장자
-     * @return 생성된 썸네일 파일 경로
+     * 파일 로드 (메타데이터는 메모리 캐시에서 조회)
+     * @param fileName 파일명
+     * @return 파일 메타데이터 (존재하지 않으면 null)
      */
-    private String createThumbnail(String storedFileName, String extension) {
-        try {
-            String thumbnailFileName = "s_" + storedFileName;
-            Path thumbnailPath = Paths.get(thumbnailDir).resolve(thumbnailFileName);
-            Path originalPath = Paths.get(uploadDir).resolve(storedFileName);
-
-            Thumbnails.of(originalPath.toFile())
-                    .size(thumbnailWidth, thumbnailHeight)
-                    .outputFormat(extension.substring(1))
-                    .toFile(thumbnailPath.toFile());
-
-            return thumbnailPath.toString();
-        } catch (IOException e) {
-            log.error("썸네일 생성 실패: {}", e.getMessage());
-            return null;
-        }
+    public MediaFile loadFile(String fileName) {
+        return load(Paths.get(uploadDir), fileName, Paths.get(uploadDir).resolve(fileName));
     }
 
     /**
-     * 파일 로드
-     * @param fileName 파일명
-     * @return 파일 객체 (존재하지 않으면 null)
+     * 썸네일 파일 로드
+     * @param fileName 원본 파일명
+     * @param size 썸네일 크기
+     * @return 썸네일 메타데이터 (아직 생성되지 않았으면 null)
      */
-    public File loadFile(String fileName) {
-        try {
-            Path filePath = Paths.get(uploadDir).resolve(fileName).normalize();
-            File file = filePath.toFile();
-            if (file.exists()) {
-                return file;
-            }
-            return null;
-        } catch (Exception e) {
-            log.error("파일 로드 실패: {}", e.getMessage());
-            return null;
-        }
+    public MediaFile loadThumbnail(String fileName, ThumbnailService.ThumbnailSize size) {
+        return load(Paths.get(thumbnailDir), fileName, thumbnailService.thumbnailPath(fileName, size));
     }
 
     /**
-     * 썸네일 파일 로드
-     * @param fileName 원본 파일명
-     * @return 썸네일 파일 객체 (존재하지 않으면 null)
+     * 디렉토리 밖을 가리키는 파일명(../ 등)은 거부하고 메타데이터 조회
+     * UUID 파일명은 내용이 바뀌지 않으므로 한 번 확인한 메타데이터를 계속 사용
      */
-    public File loadThumbnail(String fileName) {
+    private MediaFile load(Path root, String fileName, Path path) {
         try {
-            String thumbnailFileName = "s_" + fileName;
-            Path thumbnailPath = Paths.get(thumbnailDir).resolve(thumbnailFileName).normalize();
-            File thumbnail = thumbnailPath.toFile();
-            if (thumbnail.exists()) {
-                return thumbnail;
+            Path normalizedRoot = root.toAbsolutePath().normalize();
+            Path normalized = path.toAbsolutePath().normalize();
+            if (!normalized.startsWith(normalizedRoot)) {
+                log.warn("허용되지 않은 파일 경로 요청: {}", fileName);
+                return null;
             }
-            return null;
+            return staticMediaService.find(normalized, true);
         } catch (Exception e) {
-            log.error("썸네일 로드 실패: {}", e.getMessage());
+            log.error("파일 로드 실패: {}", e.getMessage());
             return null;
         }
     }
@@ -201,10 +177,12 @@ public class FileStorageService {
         try {
             Path filePath = Paths.get(uploadDir).resolve(fileName);
             Files.deleteIfExists(filePath);
+            staticMediaService.evict(filePath.toAbsolutePath().normalize());
 
-            String thumbnailFileName = "s_" + fileName;
-            Path thumbnailPath = Paths.get(thumbnailDir).resolve(thumbnailFileName);
-            Files.deleteIfExists(thumbnailPath);
+            thumbnailService.delete(fileName);
+            for (ThumbnailService.ThumbnailSize size : ThumbnailService.ThumbnailSize.values()) {
+                staticMediaService.evict(thumbnailService.thumbnailPath(fileName, size).toAbsolutePath().normalize());
+            }
         } catch (IOException e) {
             log.error("파일 삭제 실패: {}", e.getMessage());
         }
@@ -223,7 +201,7 @@ public class FileStorageService {
         private String filePath; // 파일 저장 경로
         private Long fileSize; // 파일 크기
         private String fileType; // 파일 타입 (MIME type)
-        private String thumbnailPath; // 썸네일 파일 경로
+        private Boolean thumbnailReady; // 썸네일 준비 여부 (이미지가 아니면 null)
     }
 }
 
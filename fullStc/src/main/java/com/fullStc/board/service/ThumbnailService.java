@@ -0,0 +1,205 @@
+package com.fullStc.board.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fullStc.board.repository.BoardFileRepository;
+import com.fullStc.board.repository.CommentFileRepository;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일 생성 서비스
+ * 업로드 요청 스레드에서 이미지를 줄이지 않고, 코어 수만큼의 작업 스레드에서 백그라운드로 생성합니다.
+ * 원본을 한 번만 디코딩해 여러 크기(s_, m_)를 만들고, 완료되면 BoardFile/CommentFile을 준비 완료로 표시합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailService {
+    private final BoardFileRepository boardFileRepository;
+    private final CommentFileRepository commentFileRepository;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir; // 파일 업로드 디렉토리 경로
+
+    @Value("${file.thumbnail-dir}")
+    private String thumbnailDir; // 썸네일 저장 디렉토리 경로
+
+    @Value("${file.thumbnail-width}")
+    private int thumbnailWidth; // 작은 썸네일 가로 크기 (목록용)
+
+    @Value("${file.thumbnail-height}")
+    private int thumbnailHeight; // 작은 썸네일 세로 크기
+
+    @Value("${file.thumbnail-medium-width:640}")
+    private int mediumWidth; // 중간 썸네일 가로 크기 (상세 화면용)
+
+    @Value("${file.thumbnail-medium-height:640}")
+    private int mediumHeight; // 중간 썸네일 세로 크기
+
+    @Value("${file.thumbnail-workers:0}")
+    private int workers; // 작업 스레드 수 (0이면 CPU 코어 수)
+
+    private ThreadPoolExecutor pool;
+
+    /**
+     * 썸네일 크기
+     */
+    public enum ThumbnailSize {
+        SMALL("s_"), MEDIUM("m_");
+
+        private final String prefix;
+
+        ThumbnailSize(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * 요청 파라미터(s, m) → 크기 (알 수 없으면 SMALL)
+         */
+        public static ThumbnailSize of(String value) {
+            return "m".equalsIgnoreCase(value) ? MEDIUM : SMALL;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        int size = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(500),
+                r -> {
+                    Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                // 대기열이 가득 차면 거절 (업로드 요청 스레드에서 디코딩하지 않음, 썸네일 없이 원본을 응답)
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 썸네일 생성 예약 (트랜잭션 안이면 파일 행이 커밋된 뒤 시작)
+     * @param storedFileName 저장된 원본 파일명
+     */
+    public void enqueue(String storedFileName) {
+        Runnable submit = () -> {
+            try {
+                pool.execute(() -> generate(storedFileName));
+            } catch (RejectedExecutionException e) {
+                // thumbnail_ready가 false로 남아 목록·상세는 원본 파일을 사용
+                log.warn("썸네일 대기열이 가득 차 생성 건너뜀 (원본 사용): {}", storedFileName);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    /**
+     * 썸네일 파일 경로 (생성 전이면 파일이 없을 수 있음)
+     */
+    public Path thumbnailPath(String storedFileName, ThumbnailSize size) {
+        return Paths.get(thumbnailDir).resolve(size.prefix + storedFileName).normalize();
+    }
+
+    /**
+     * 모든 크기의 썸네일 삭제
+     */
+    public void delete(String storedFileName) {
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            try {
+                Files.deleteIfExists(thumbnailPath(storedFileName, size));
+            } catch (IOException e) {
+                log.error("썸네일 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 원본을 한 번 디코딩해 모든 크기의 썸네일 생성 후 준비 완료 표시
+     * (파일로 읽어야 EXIF 회전 정보가 적용되므로 ImageIO.read 대신 Thumbnailator로 디코딩)
+     */
+    private void generate(String storedFileName) {
+        long start = System.currentTimeMillis();
+        try {
+            Files.createDirectories(Paths.get(thumbnailDir));
+            Path originalPath = Paths.get(uploadDir).resolve(storedFileName);
+            BufferedImage image;
+            try {
+                image = Thumbnails.of(originalPath.toFile()).scale(1.0).asBufferedImage();
+            } catch (UnsupportedFormatException e) {
+                log.warn("썸네일 생성 불가 (지원하지 않는 이미지 형식): {}", storedFileName);
+                return;
+            }
+
+            String format = storedFileName.substring(storedFileName.lastIndexOf('.') + 1).toLowerCase();
+            write(image, format, storedFileName, ThumbnailSize.SMALL, thumbnailWidth, thumbnailHeight);
+            write(image, format, storedFileName, ThumbnailSize.MEDIUM, mediumWidth, mediumHeight);
+
+            int updated = boardFileRepository.markThumbnailReady(storedFileName)
+                    + commentFileRepository.markThumbnailReady(storedFileName);
+            log.debug("썸네일 생성 완료: {}, {}ms, 갱신 행={}", storedFileName, System.currentTimeMillis() - start, updated);
+        } catch (Exception e) {
+            log.error("썸네일 생성 실패: {}, {}", storedFileName, e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 이동 (생성 중인 썸네일이 응답되지 않도록)
+     */
+    private void write(BufferedImage image, String format, String storedFileName, ThumbnailSize size,
+                       int width, int height) throws IOException {
+        Path target = thumbnailPath(storedFileName, size);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                Thumbnails.of(image)
+                        .size(width, height)
+                        .outputFormat("jpg".equals(format) ? "jpeg" : format)
+                        .toOutputStream(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullStc.briefdelivery.controller;
+
+import com.fullStc.briefdelivery.service.BriefDeliveryWorker;
+import com.fullStc.briefdelivery.service.BriefEditionService;
+import com.fullStc.briefdelivery.service.SmtpTransportPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 브리핑 배송 처리 현황 (관리자)
+ */
+@RestController
+@RequestMapping("/api/admin/brief-delivery")
+@RequiredArgsConstructor
+public class BriefDeliveryAdminController {
+
+    private final BriefDeliveryWorker deliveryWorker;
+    private final SmtpTransportPool transportPool;
+    private final BriefEditionService editionService;
+
+    /**
+     * 처리 건수, 단계별(PDF 준비·메일 발송) 소요 시간 분포, 판 생성·공유 현황, SMTP 연결 재사용 현황
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> data = new HashMap<>(deliveryWorker.getStats());
+        data.put("smtpOpened", transportPool.getOpenedCount());
+        data.put("smtpReused", transportPool.getReusedCount());
+        data.put("editions", editionService.getStats());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+
+        return ResponseEntity.ok(response);
+    }
+}
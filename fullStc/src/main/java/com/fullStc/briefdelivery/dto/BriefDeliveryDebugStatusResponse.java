@@ -19,5 +19,8 @@ public class BriefDeliveryDebugStatusResponse {
     private Instant lastAttemptAt;
     private Instant completedAt;
     private String errorMessage;
+    private int attemptCount;
+    private Long pdfMs;
+    private Long mailMs;
 }
 
@@ -46,6 +46,19 @@ public class BriefDeliverySchedule {
     @Column(name = "error_message", length = 1000)
     private String errorMessage;
 
+    /** 발송 시도 횟수 (처리 중 인스턴스가 죽어 되돌릴 때 재시도 한도 확인용) */
+    @Column(name = "attempt_count", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private int attemptCount = 0;
+
+    /** PDF 생성 소요 시간(ms) */
+    @Column(name = "pdf_ms")
+    private Long pdfMs;
+
+    /** 메일 발송 소요 시간(ms) */
+    @Column(name = "mail_ms")
+    private Long mailMs;
+
     @PrePersist
     void prePersist() {
         if (createdAt == null) {
@@ -2,8 +2,12 @@ package com.fullStc.briefdelivery.repository;
 
 import com.fullStc.briefdelivery.entity.BriefDeliverySchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,12 +15,68 @@ import java.util.List;
  */
 public interface BriefDeliveryScheduleRepository extends JpaRepository<BriefDeliverySchedule, Long> {
 
+    List<BriefDeliverySchedule> findByUserIdOrderByScheduledAtDesc(Long userId);
+
+    BriefDeliverySchedule findTopByUserIdOrderByCreatedAtDesc(Long userId);
+
     /**
-     * 실행 시각이 지났고 상태가 PENDING인 예약 목록 조회
+     * 실행할 예약 잠금 (다른 인스턴스가 잠근 행은 건너뜀, 같은 트랜잭션에서 PROCESSING으로 바꿔야 함)
+     * @return [id, attempt_count(증가 전)] 목록
      */
-    List<BriefDeliverySchedule> findByStatusAndScheduledAtBeforeOrderByScheduledAtAsc(String status, Instant now);
+    @Query(value = """
+            SELECT id, attempt_count FROM brief_delivery_schedule
+            WHERE status = 'PENDING'
+              AND scheduled_at <= :now
+            ORDER BY scheduled_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Object[]> lockDue(@Param("now") Instant now, @Param("limit") int limit);
 
-    List<BriefDeliverySchedule> findByUserIdOrderByScheduledAtDesc(Long userId);
+    /**
+     * 잠근 예약을 처리 중으로 변경 (시도 횟수 증가)
+     */
+    @Modifying
+    @Query("""
+            UPDATE BriefDeliverySchedule s
+            SET s.status = 'PROCESSING', s.lastAttemptAt = :now, s.attemptCount = s.attemptCount + 1, s.errorMessage = null
+            WHERE s.id IN :ids
+            """)
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
 
-    BriefDeliverySchedule findTopByUserIdOrderByCreatedAtDesc(Long userId);
+    /**
+     * 발송 완료 (이 시도가 가져간 처리 중인 예약만, 되돌려진 뒤 다시 가져간 경우 등 다른 시도면 0)
+     */
+    @Modifying
+    @Query("""
+            UPDATE BriefDeliverySchedule s
+            SET s.status = 'COMPLETED', s.completedAt = :now, s.pdfMs = :pdfMs, s.mailMs = :mailMs, s.errorMessage = null
+            WHERE s.id = :id AND s.status = 'PROCESSING' AND s.attemptCount = :attempt
+            """)
+    int markCompleted(@Param("id") Long id, @Param("attempt") int attempt, @Param("now") Instant now,
+                      @Param("pdfMs") Long pdfMs, @Param("mailMs") Long mailMs);
+
+    /**
+     * 발송 실패 (이 시도가 가져간 처리 중인 예약만)
+     */
+    @Modifying
+    @Query("""
+            UPDATE BriefDeliverySchedule s
+            SET s.status = 'FAILED', s.errorMessage = :message, s.pdfMs = :pdfMs, s.mailMs = :mailMs
+            WHERE s.id = :id AND s.status = 'PROCESSING' AND s.attemptCount = :attempt
+            """)
+    int markFailed(@Param("id") Long id, @Param("attempt") int attempt, @Param("message") String message,
+                   @Param("pdfMs") Long pdfMs, @Param("mailMs") Long mailMs);
+
+    /**
+     * 오래 처리 중인 예약(처리하던 인스턴스 중단) 되돌리기: 시도 횟수가 남았으면 PENDING, 아니면 FAILED
+     */
+    @Modifying
+    @Query("""
+            UPDATE BriefDeliverySchedule s
+            SET s.status = CASE WHEN s.attemptCount < :maxAttempts THEN 'PENDING' ELSE 'FAILED' END,
+                s.errorMessage = 'Processing timed out'
+            WHERE s.status = 'PROCESSING' AND s.lastAttemptAt < :cutoff
+            """)
+    int releaseStale(@Param("cutoff") Instant cutoff, @Param("maxAttempts") int maxAttempts);
 }
@@ -1,6 +1,7 @@
 package com.fullStc.briefdelivery.scheduler;
 
-import com.fullStc.briefdelivery.service.BriefDeliveryScheduleService;
+import com.fullStc.briefdelivery.service.BriefDeliveryWorker;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,13 +15,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BriefDeliveryScheduler {
 
-    private final BriefDeliveryScheduleService scheduleService;
+    private final BriefDeliveryWorker deliveryWorker;
 
-    /** 매 분 0초에 실행 시각이 지난 PENDING 예약 처리 */
-    @Scheduled(cron = "0 * * * * ?")
+    /** 매 분 0초에 실행 시각이 지난 PENDING 예약을 실행기에 넘김 (PDF 생성·메일 발송은 실행기 풀에서) */
+    @Scheduled(cron = "0 * * * * ?", scheduler = SchedulingConfig.DELIVERY)
     public void processDueSchedules() {
         try {
-            scheduleService.processDueSchedules();
+            deliveryWorker.dispatchDue();
         } catch (Exception e) {
             log.error("Brief delivery scheduler error: {}", e.getMessage(), e);
         }
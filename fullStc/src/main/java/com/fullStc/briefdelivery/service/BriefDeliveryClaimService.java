@@ -0,0 +1,77 @@
+package com.fullStc.briefdelivery.service;
+
+import com.fullStc.briefdelivery.repository.BriefDeliveryScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 브리핑 배송 예약 상태 전이 (짧은 트랜잭션만 사용)
+ *
+ * 여러 인스턴스가 같은 예약을 나눠 처리할 수 있도록 FOR UPDATE SKIP LOCKED로 잠그고 바로 PROCESSING으로 바꾼 뒤
+ * 트랜잭션을 끝냅니다. PDF 생성·메일 발송은 트랜잭션 밖에서 하고, 완료·실패는 PROCESSING이면서
+ * 가져갈 때의 시도 번호가 그대로인 경우에만 반영합니다(시간 초과로 되돌려져 다른 인스턴스가 다시 가져간 예약을 덮어쓰지 않음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BriefDeliveryClaimService {
+
+    private final BriefDeliveryScheduleRepository scheduleRepository;
+
+    /**
+     * 가져온 예약
+     * @param attempt 이번 시도 번호 (PROCESSING으로 바꾼 뒤의 attemptCount, 완료·실패 반영 시 확인)
+     */
+    public record Claim(Long scheduleId, int attempt) {
+    }
+
+    /**
+     * 실행 시각이 지난 예약을 최대 limit건 가져와 PROCESSING으로 변경
+     * @return 이번에 가져온 예약 (실행 시각순)
+     */
+    @Transactional
+    public List<Claim> claimDue(int limit) {
+        Instant now = Instant.now();
+        List<Object[]> rows = scheduleRepository.lockDue(now, limit);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Claim> claims = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            claims.add(new Claim(((Number) row[0]).longValue(), ((Number) row[1]).intValue() + 1));
+        }
+        scheduleRepository.markProcessing(claims.stream().map(Claim::scheduleId).toList(), now);
+        return claims;
+    }
+
+    @Transactional
+    public boolean complete(Claim claim, Long pdfMs, Long mailMs) {
+        return scheduleRepository.markCompleted(claim.scheduleId(), claim.attempt(), Instant.now(), pdfMs, mailMs) > 0;
+    }
+
+    @Transactional
+    public boolean fail(Claim claim, String message, Long pdfMs, Long mailMs) {
+        String trimmed = message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+        return scheduleRepository.markFailed(claim.scheduleId(), claim.attempt(), trimmed, pdfMs, mailMs) > 0;
+    }
+
+    /**
+     * staleAfter 이상 처리 중인 예약 되돌리기
+     * @return 되돌린 건수
+     */
+    @Transactional
+    public int releaseStale(Duration staleAfter, int maxAttempts) {
+        int released = scheduleRepository.releaseStale(Instant.now().minus(staleAfter), maxAttempts);
+        if (released > 0) {
+            log.warn("Brief delivery stale schedules released: count={}", released);
+        }
+        return released;
+    }
+}
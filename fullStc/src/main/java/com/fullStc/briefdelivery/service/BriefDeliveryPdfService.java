@@ -11,4 +11,10 @@ public interface BriefDeliveryPdfService {
      * Python 서버에 PDF 생성 요청 후 PDF 바이트 반환
      */
     byte[] generatePdf(BriefDeliveryPdfRequestDto request);
+
+    /**
+     * 공유 판 PDF 1면에 수신자 이름을 덧입힘 (기사 내용은 다시 생성하지 않음)
+     * @return 이름을 넣은 PDF, 실패 시 원본 PDF (이름 없이라도 발송)
+     */
+    byte[] personalize(byte[] pdf, String userName);
 }
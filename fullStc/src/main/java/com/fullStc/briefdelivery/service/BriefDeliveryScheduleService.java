@@ -17,11 +17,6 @@ public interface BriefDeliveryScheduleService {
      */
     BriefDeliveryScheduleResponse register(Long userId, BriefDeliveryScheduleRequest request);
 
-    /**
-     * 실행 시각이 지난 PENDING 예약 처리 (PDF 생성 후 메일 발송)
-     */
-    void processDueSchedules();
-
     List<BriefDeliveryScheduleResponse> findByUserId(Long userId);
 
     /**
@@ -0,0 +1,307 @@
+package com.fullStc.briefdelivery.service;
+
+import com.fullStc.briefdelivery.entity.BriefDeliverySchedule;
+import com.fullStc.briefdelivery.service.BriefDeliveryClaimService.Claim;
+import com.fullStc.briefdelivery.repository.BriefDeliveryScheduleRepository;
+import com.fullStc.member.service.MemberContextService;
+import com.fullStc.member.service.MemberContextService.MemberSummary;
+import com.fullStc.util.LatencyHistogram;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 브리핑 배송 실행기
+ *
+ * 실행 시각이 지난 예약을 SKIP LOCKED로 묶어서 가져오고(인스턴스끼리 겹치지 않음),
+ * PDF 준비와 메일 발송을 각각 크기가 정해진 스레드 풀에서 실행합니다.
+ * PDF는 카테고리 조합별 판(BriefEditionService)을 공유하므로 같은 판은 한 번만 생성됩니다.
+ * 동시에 처리 중인 예약 수는 세마포어로 제한하며, 여유가 생기는 만큼만 더 가져오므로
+ * 가져간 예약이 이 인스턴스 큐에서 오래 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BriefDeliveryWorker {
+
+    private static final String MAIL_SUBJECT = "[NewsPulse] 뉴스펄스 맞춤 브리핑";
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmm").withZone(ZoneId.of("Asia/Seoul"));
+
+    private final BriefDeliveryClaimService claimService;
+    private final BriefDeliveryScheduleRepository scheduleRepository;
+    private final MemberContextService memberContextService;
+    private final BriefEditionService editionService;
+    private final BriefDeliveryMailService mailService;
+
+    // PDF 준비(판 조회, 없으면 파이썬 서버 호출) 동시 실행 수
+    @Value("${brief.delivery.render-threads:4}")
+    private int renderThreads;
+
+    // 메일 발송 동시 실행 수
+    @Value("${brief.delivery.mail-threads:4}")
+    private int mailThreads;
+
+    // 이 인스턴스가 동시에 들고 있는 예약 최대 수 (PDF 대기 + 메일 대기 포함)
+    @Value("${brief.delivery.max-in-flight:16}")
+    private int maxInFlight;
+
+    // 한 번에 가져올 최대 예약 수
+    @Value("${brief.delivery.claim-batch:20}")
+    private int claimBatch;
+
+    // 처리 중(PROCESSING)으로 이 시간이 지나면 처리하던 인스턴스가 중단된 것으로 보고 되돌림
+    @Value("${brief.delivery.stale-minutes:15}")
+    private int staleMinutes;
+
+    // 되돌릴 때 재시도 한도 (넘으면 FAILED)
+    @Value("${brief.delivery.max-attempts:3}")
+    private int maxAttempts;
+
+    private ExecutorService renderPool;
+    private ExecutorService mailPool;
+    private Semaphore capacity;
+
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    // 이 실행기에서 새로 생성한 판 수 (나머지는 공유한 판)
+    private final LongAdder renderedHere = new LongAdder();
+    private final LatencyHistogram waitMs = new LatencyHistogram();
+    private final LatencyHistogram pdfMs = new LatencyHistogram();
+    private final LatencyHistogram mailMs = new LatencyHistogram();
+    private final LatencyHistogram totalMs = new LatencyHistogram();
+
+    /**
+     * PDF 생성이 끝난 예약
+     * @param claimedAt 가져온 시각 (전체 소요 시간 계산용)
+     */
+    private record Rendered(Claim claim, String email, String userName, byte[] pdf, long pdfMs, long claimedAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        this.capacity = new Semaphore(Math.max(1, maxInFlight));
+        // 세마포어가 전체 건수를 막으므로 큐는 maxInFlight를 넘지 않음
+        this.renderPool = newPool("brief-render-", renderThreads);
+        this.mailPool = newPool("brief-mail-", mailThreads);
+    }
+
+    private ExecutorService newPool(String prefix, int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        int size = Math.max(1, threads);
+        return new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, maxInFlight)), r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 진행 중인 건은 마무리할 시간을 주고, 못 끝낸 건은 PROCESSING으로 남아 나중에 되돌려짐
+        for (ExecutorService pool : List.of(renderPool, mailPool)) {
+            pool.shutdown();
+        }
+        for (ExecutorService pool : List.of(renderPool, mailPool)) {
+            try {
+                if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+                    pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 실행 시각이 지난 예약을 처리 풀에 넘김
+     * 가져온 건수가 요청한 만큼이면 더 남은 것으로 보고 여유가 생길 때까지 기다렸다가 계속 가져옵니다.
+     * @return 이번에 넘긴 예약 수
+     */
+    public int dispatchDue() {
+        claimService.releaseStale(Duration.ofMinutes(staleMinutes), maxAttempts);
+
+        int dispatched = 0;
+        while (!renderPool.isShutdown()) {
+            int permits;
+            try {
+                permits = acquireCapacity();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            List<Claim> claims;
+            try {
+                claims = claimService.claimDue(permits);
+            } catch (RuntimeException e) {
+                capacity.release(permits);
+                throw e;
+            }
+            if (claims.size() < permits) {
+                capacity.release(permits - claims.size());
+            }
+            for (Claim claim : claims) {
+                dispatch(claim);
+            }
+            dispatched += claims.size();
+            if (claims.size() < permits) {
+                break;
+            }
+        }
+        if (dispatched > 0) {
+            log.info("Brief delivery dispatched: count={}", dispatched);
+        }
+        return dispatched;
+    }
+
+    /**
+     * 여유 슬롯 확보 (최소 1개는 기다리고, 나머지는 바로 얻을 수 있는 만큼 claimBatch까지)
+     */
+    private int acquireCapacity() throws InterruptedException {
+        capacity.acquire();
+        int permits = 1;
+        while (permits < claimBatch && capacity.tryAcquire()) {
+            permits++;
+        }
+        return permits;
+    }
+
+    private void dispatch(Claim claim) {
+        Long scheduleId = claim.scheduleId();
+        claimed.increment();
+        long claimedAt = System.currentTimeMillis();
+        try {
+            CompletableFuture.supplyAsync(() -> render(claim, claimedAt), renderPool)
+                    .thenAcceptAsync(this::send, mailPool)
+                    .whenComplete((v, e) -> {
+                        capacity.release();
+                        if (e != null) {
+                            log.error("Brief delivery pipeline error: scheduleId={}", scheduleId, e);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // 종료 중이라 풀이 받지 않음: PROCESSING으로 남아 나중에 되돌려짐
+            capacity.release();
+            log.warn("Brief delivery rejected: scheduleId={}, error={}", scheduleId, e.getMessage());
+        }
+    }
+
+    private Rendered render(Claim claim, long claimedAt) {
+        Long scheduleId = claim.scheduleId();
+        waitMs.record(System.currentTimeMillis() - claimedAt);
+        try {
+            BriefDeliverySchedule schedule = scheduleRepository.findById(scheduleId)
+                    .orElseThrow(() -> new IllegalStateException("Schedule not found"));
+            MemberSummary member = memberContextService.getSummary(schedule.getUserId());
+            if (member == null) {
+                log.warn("Member not found: userId={}", schedule.getUserId());
+                throw new IllegalStateException("Member not found");
+            }
+            if (!member.enabled()) {
+                // 탈퇴(비활성) 회원에게는 발송하지 않음
+                log.warn("Member disabled: userId={}", schedule.getUserId());
+                throw new IllegalStateException("Member disabled");
+            }
+
+            long start = System.currentTimeMillis();
+            BriefEditionService.Issue issue = editionService.getEdition(memberContextService.getCategories(member.id()));
+            if (issue.rendered()) {
+                renderedHere.increment();
+            }
+            // 공유 판에 수신자 이름만 덧입힘
+            byte[] pdf = editionService.personalize(issue.edition(), member.nickname());
+            long elapsed = System.currentTimeMillis() - start;
+            pdfMs.record(elapsed);
+            return new Rendered(claim, member.email(), member.nickname(), pdf, elapsed, claimedAt);
+        } catch (Exception e) {
+            log.error("Brief delivery render failed: scheduleId={}", scheduleId, e);
+            fail(claim, rootMessage(e), null, null);
+            return null;
+        }
+    }
+
+    private void send(Rendered rendered) {
+        if (rendered == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            String fileName = "NewsPulse_Brief_" + FILE_NAME_FORMAT.format(Instant.now()) + ".pdf";
+            mailService.sendPdfMail(rendered.email(), rendered.userName(), MAIL_SUBJECT, rendered.pdf(), fileName);
+        } catch (Exception e) {
+            long elapsed = System.currentTimeMillis() - start;
+            log.error("Brief delivery mail failed: scheduleId={}", rendered.claim().scheduleId(), e);
+            fail(rendered.claim(), rootMessage(e), rendered.pdfMs(), elapsed);
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        mailMs.record(elapsed);
+        totalMs.record(System.currentTimeMillis() - rendered.claimedAt());
+        completed.increment();
+        if (!claimService.complete(rendered.claim(), rendered.pdfMs(), elapsed)) {
+            // 처리 시간 초과로 되돌려진 뒤 완료된 경우 (메일은 이미 나감, 다시 가져간 시도의 상태는 그대로 둠)
+            log.warn("Brief delivery completed after release: scheduleId={}, attempt={}",
+                    rendered.claim().scheduleId(), rendered.claim().attempt());
+        }
+        log.info("Brief delivery completed: scheduleId={}, pdfMs={}, mailMs={}", rendered.claim().scheduleId(), rendered.pdfMs(), elapsed);
+    }
+
+    private void fail(Claim claim, String message, Long pdfElapsed, Long mailElapsed) {
+        failed.increment();
+        try {
+            claimService.fail(claim, message, pdfElapsed, mailElapsed);
+        } catch (Exception e) {
+            log.error("Brief delivery status update failed: scheduleId={}, error={}", claim.scheduleId(), e.getMessage());
+        }
+    }
+
+    private static String rootMessage(Throwable t) {
+        if (t == null) return null;
+        Throwable cur = t;
+        while (cur.getCause() != null && cur.getCause() != cur) {
+            cur = cur.getCause();
+        }
+        String msg = cur.getMessage();
+        return (msg == null || msg.isBlank()) ? t.toString() : msg;
+    }
+
+    /**
+     * 처리 현황 (건수, 단계별 소요 시간 분포)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inFlight", Math.max(1, maxInFlight) - capacity.availablePermits());
+        stats.put("maxInFlight", Math.max(1, maxInFlight));
+        stats.put("claimed", claimed.sum());
+        stats.put("completed", completed.sum());
+        stats.put("failed", failed.sum());
+        stats.put("editionsRendered", renderedHere.sum());
+        stats.put("queueWaitMs", waitMs.snapshot());
+        stats.put("pdfMs", pdfMs.snapshot());
+        stats.put("mailMs", mailMs.snapshot());
+        stats.put("totalMs", totalMs.snapshot());
+        return stats;
+    }
+}
@@ -0,0 +1,317 @@
+package com.fullStc.briefdelivery.service;
+
+import com.fullStc.briefdelivery.dto.BriefDeliveryPdfArticleDto;
+import com.fullStc.briefdelivery.dto.BriefDeliveryPdfRequestDto;
+import com.fullStc.news.domain.NewsCluster;
+import com.fullStc.news.repository.NewsClusterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 브리핑 판(edition) 서비스
+ *
+ * 같은 카테고리 조합을 구독하는 사용자는 같은 기사 묶음을 받으므로, 기사 선정과 PDF 생성을 판 단위로 한 번만 합니다.
+ * - 기사 선정: (정렬된 카테고리 조합)마다 잠깐 재사용 (같은 시간대 예약이 DB를 반복 조회하지 않도록)
+ * - PDF: (카테고리 조합, 발행일, 선정된 기사 ID·수정 시각 지문)마다 한 번 생성해 캐시
+ *   같은 판을 동시에 요청하면 먼저 온 요청만 생성하고 나머지는 그 결과를 기다립니다.
+ * 판 PDF에는 개인 정보(이름·이메일)를 넣지 않고, 수신자 이름은 발송할 때 판 1면에 덧입힙니다(personalize).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BriefEditionService {
+
+    private static final int NEWS_LIMIT = 50;
+    /** PDF 1~2장용: 그리드 기사 최대 개수 (리드 1 + 그리드 6 = 7건, 요약은 핵심만 사용) */
+    private static final int GRID_MAX_ARTICLES = 6;
+    /** 카테고리당 그리드 기사 최대 개수 (정치만 10개 오는 것 방지) */
+    private static final int MAX_GRID_PER_CATEGORY = 3;
+    /** 0개 선택 시 사용할 기본 카테고리 (news_cluster는 영어 저장: economy, it, politics) */
+    private static final List<String> DEFAULT_BRIEF_CATEGORIES = List.of("economy", "it", "politics");
+    /** 메인(리드) 기사 선정 시 카테고리 중요도 순서 (앞일수록 우선, news_cluster.category 영어 기준) */
+    private static final List<String> LEAD_CATEGORY_PRIORITY = List.of("politics", "economy", "it", "world", "society", "culture");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy. MM. dd").withZone(ZoneId.of("Asia/Seoul"));
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("a hh:mm").withZone(ZoneId.of("Asia/Seoul"));
+
+    private final NewsClusterRepository newsClusterRepository;
+    private final BriefDeliveryPdfService pdfService;
+
+    // 같은 카테고리 조합의 기사 선정을 재사용하는 시간 (이 안에 바뀐 기사는 다음 선정 때 반영)
+    @Value("${brief.edition.selection-ttl-seconds:60}")
+    private long selectionTtlSeconds;
+
+    // 생성한 PDF 보관 시간
+    @Value("${brief.edition.ttl-minutes:60}")
+    private long editionTtlMinutes;
+
+    // PDF 캐시 최대 크기 (MB)
+    @Value("${brief.edition.cache-max-mb:256}")
+    private long cacheMaxMb;
+
+    private Cache<String, Selection> selections;
+    private Cache<String, Edition> editions;
+
+    // 생성 중인 판 (같은 판 요청 합치기)
+    private final ConcurrentMap<String, CompletableFuture<Edition>> rendering = new ConcurrentHashMap<>();
+
+    private final LongAdder rendered = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+
+    /**
+     * 기사 선정 결과
+     * @param version 선정된 기사 ID·수정 시각 지문 (기사가 바뀌면 다른 판)
+     */
+    record Selection(BriefDeliveryPdfArticleDto lead, List<BriefDeliveryPdfArticleDto> grid, String version) {
+    }
+
+    /**
+     * 생성된 판
+     * @param key 카테고리 조합|발행일|기사 지문
+     * @param renderMs PDF 생성 소요 시간
+     */
+    public record Edition(String key, byte[] pdf, long renderMs, Instant renderedAt) {
+    }
+
+    /**
+     * 판 조회 결과
+     * @param rendered 이번 호출에서 PDF를 새로 생성했는지
+     */
+    public record Issue(Edition edition, boolean rendered) {
+    }
+
+    @PostConstruct
+    void init() {
+        this.selections = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(selectionTtlSeconds))
+                .maximumSize(1_000)
+                .build();
+        this.editions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(editionTtlMinutes))
+                .maximumWeight(cacheMaxMb * 1024 * 1024)
+                .weigher((String key, Edition edition) -> edition.pdf().length)
+                .build();
+    }
+
+    /**
+     * 카테고리 조합에 맞는 판 조회 (없으면 생성)
+     * @throws IllegalStateException 보낼 뉴스가 없거나 PDF 생성에 실패했을 때 (실패는 캐시하지 않음)
+     */
+    public Issue getEdition(List<String> categories) {
+        String categoryKey = categoryKey(categories);
+        Selection selection = selections.get(categoryKey, this::select);
+        String publishDate = DATE_FORMAT.format(Instant.now());
+        String key = categoryKey + "|" + publishDate + "|" + selection.version();
+
+        Edition cached = editions.getIfPresent(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return new Issue(cached, false);
+        }
+
+        CompletableFuture<Edition> mine = new CompletableFuture<>();
+        CompletableFuture<Edition> existing = rendering.putIfAbsent(key, mine);
+        if (existing != null) {
+            joined.increment();
+            try {
+                return new Issue(existing.join(), false);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            // 확인과 등록 사이에 다른 요청이 생성을 끝냈을 수 있음
+            Edition edition = editions.getIfPresent(key);
+            boolean fresh = edition == null;
+            if (fresh) {
+                edition = render(key, selection, publishDate);
+                editions.put(key, edition);
+            }
+            mine.complete(edition);
+            return new Issue(edition, fresh);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            rendering.remove(key, mine);
+        }
+    }
+
+    /**
+     * 판 PDF에 수신자 이름을 덧입힘 (제호 줄에 이름만 추가, 판 캐시는 그대로 공유)
+     * @return 이름을 넣은 PDF, 덧입히기에 실패하면 판 PDF 그대로
+     */
+    public byte[] personalize(Edition edition, String userName) {
+        return pdfService.personalize(edition.pdf(), userName);
+    }
+
+    private Edition render(String key, Selection selection, String publishDate) {
+        BriefDeliveryPdfRequestDto request = BriefDeliveryPdfRequestDto.builder()
+                .publishDate(publishDate)
+                .scheduledTimeLog("Edition rendered at: " + TIME_FORMAT.format(Instant.now()))
+                .leadArticle(selection.lead())
+                .gridArticles(selection.grid())
+                .build();
+
+        long start = System.currentTimeMillis();
+        byte[] pdf = pdfService.generatePdf(request);
+        long elapsed = System.currentTimeMillis() - start;
+        if (pdf == null || pdf.length == 0) {
+            throw new IllegalStateException("PDF generation returned empty bytes");
+        }
+        rendered.increment();
+        log.info("Brief edition rendered: key={}, bytes={}, ms={}", key, pdf.length, elapsed);
+        return new Edition(key, pdf, elapsed, Instant.now());
+    }
+
+    /**
+     * 카테고리 조합 키 (소문자, 중복 제거, 정렬, 비어 있으면 기본 카테고리)
+     */
+    static String categoryKey(List<String> categories) {
+        SortedSet<String> normalized = new TreeSet<>();
+        if (categories != null) {
+            for (String category : categories) {
+                if (category != null && !category.isBlank()) {
+                    normalized.add(category.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        if (normalized.isEmpty()) {
+            normalized.addAll(DEFAULT_BRIEF_CATEGORIES);
+        }
+        return String.join(",", normalized);
+    }
+
+    /**
+     * 리드 1건 + 그리드 기사 선정
+     */
+    private Selection select(String categoryKey) {
+        List<String> categories = List.of(categoryKey.split(","));
+        List<NewsCluster> clusters = newsClusterRepository.findByCategoriesOrderByUpdatedAtDesc(categories, NEWS_LIMIT);
+        if (clusters.isEmpty()) {
+            log.warn("No news clusters available: categories={}", categoryKey);
+            throw new IllegalStateException("No news clusters available");
+        }
+        // 리드 1건: 카테고리 중요도 순 → 해당 카테고리 내 최신순(updated_at DESC)
+        Map<String, List<NewsCluster>> byCategory = clusters.stream()
+                .collect(Collectors.groupingBy(c -> c.getCategory() != null && !c.getCategory().isBlank() ? c.getCategory() : "culture"));
+        NewsCluster leadCluster = null;
+        for (String cat : LEAD_CATEGORY_PRIORITY) {
+            List<NewsCluster> list = byCategory.get(cat);
+            if (list != null && !list.isEmpty()) {
+                leadCluster = list.stream()
+                        .max(Comparator.comparing(NewsCluster::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                        .orElse(list.get(0));
+                break;
+            }
+        }
+        if (leadCluster == null) {
+            leadCluster = clusters.stream()
+                    .max(Comparator.comparing(NewsCluster::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .orElse(clusters.get(0));
+        }
+        final NewsCluster lead = leadCluster;
+        List<NewsCluster> sortedGrid = clusters.stream()
+                .filter(c -> !c.getId().equals(lead.getId()))
+                .sorted(Comparator
+                        .comparingInt((NewsCluster c) -> {
+                            String cat = c.getCategory() != null ? c.getCategory() : "";
+                            int idx = LEAD_CATEGORY_PRIORITY.indexOf(cat);
+                            return idx < 0 ? LEAD_CATEGORY_PRIORITY.size() : idx;
+                        })
+                        .thenComparing(NewsCluster::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .collect(Collectors.toList());
+
+        Map<String, List<NewsCluster>> gridByCat = sortedGrid.stream()
+                .collect(Collectors.groupingBy(c -> c.getCategory() != null && !c.getCategory().isBlank() ? c.getCategory() : "culture"));
+        List<NewsCluster> gridClusters = new ArrayList<>();
+        Set<Long> addedIds = new HashSet<>();
+        for (String cat : LEAD_CATEGORY_PRIORITY) {
+            List<NewsCluster> list = gridByCat.get(cat);
+            if (list != null && !list.isEmpty() && gridClusters.size() < GRID_MAX_ARTICLES) {
+                int take = Math.min(MAX_GRID_PER_CATEGORY, GRID_MAX_ARTICLES - gridClusters.size());
+                for (NewsCluster c : list) {
+                    if (take <= 0 || gridClusters.size() >= GRID_MAX_ARTICLES) break;
+                    if (addedIds.add(c.getId())) {
+                        gridClusters.add(c);
+                        take--;
+                    }
+                }
+            }
+        }
+        for (NewsCluster c : sortedGrid) {
+            if (gridClusters.size() >= GRID_MAX_ARTICLES) break;
+            if (addedIds.add(c.getId())) gridClusters.add(c);
+        }
+
+        List<NewsCluster> picked = new ArrayList<>();
+        picked.add(leadCluster);
+        picked.addAll(gridClusters);
+        return new Selection(
+                toPdfArticle(leadCluster),
+                gridClusters.stream().map(BriefEditionService::toPdfArticle).collect(Collectors.toList()),
+                fingerprint(picked));
+    }
+
+    /**
+     * 선정된 기사 ID·수정 시각 지문 (요약·이미지가 갱신되면 updated_at이 바뀌어 다른 판이 됨)
+     */
+    private static String fingerprint(List<NewsCluster> clusters) {
+        StringBuilder sb = new StringBuilder();
+        for (NewsCluster c : clusters) {
+            sb.append(c.getId()).append(':')
+                    .append(c.getUpdatedAt() != null ? c.getUpdatedAt().toEpochMilli() : 0).append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BriefDeliveryPdfArticleDto toPdfArticle(NewsCluster c) {
+        return BriefDeliveryPdfArticleDto.builder()
+                .id(c.getId())
+                .title(c.getClusterTitle())
+                .summary(c.getClusterSummary())
+                .originalUrl(c.getRepresentativeUrl())
+                .category(c.getCategory())
+                .image(c.getImageUrl())
+                .date(c.getCreatedAt() != null ? c.getCreatedAt().toString() : "")
+                .build();
+    }
+
+    /**
+     * 판 생성 현황 (생성 횟수, 캐시 적중, 생성 중인 판 대기)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rendered", rendered.sum());
+        stats.put("cacheHits", cacheHits.sum());
+        stats.put("joined", joined.sum());
+        stats.put("cachedEditions", editions.estimatedSize());
+        return stats;
+    }
+}
@@ -0,0 +1,147 @@
+package com.fullStc.briefdelivery.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SMTP 연결 풀
+ *
+ * JavaMailSender.send()는 메일마다 SMTP 연결·TLS·로그인을 새로 하므로, 연결된 Transport를 재사용합니다.
+ * 오래 쉰 연결이나 보낸 건수가 많은 연결은 닫고 새로 열며, 발송 중 오류가 난 연결은 돌려놓지 않습니다.
+ * JavaMailSenderImpl이 아니면(테스트용 목 등) 그대로 JavaMailSender로 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpTransportPool {
+
+    private final JavaMailSender javaMailSender;
+
+    // 보관할 유휴 연결 수 (메일 발송 스레드 수와 같게)
+    @Value("${brief.delivery.mail-threads:4}")
+    private int maxIdle;
+
+    // 이 시간보다 오래 쉰 연결은 서버가 끊었을 수 있으므로 닫고 새로 연결
+    @Value("${brief.delivery.smtp.max-idle-ms:30000}")
+    private long maxIdleMs;
+
+    // 연결 하나로 보낼 최대 메일 수 (서버의 연결당 발송 제한 대비)
+    @Value("${brief.delivery.smtp.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    private static final class PooledTransport {
+        private final Transport transport;
+        private long releasedAt;
+        private int sent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+
+    /**
+     * 메일 발송 (연결 재사용)
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        if (!(javaMailSender instanceof JavaMailSenderImpl sender)) {
+            javaMailSender.send(message);
+            return;
+        }
+
+        PooledTransport pooled = borrow(sender);
+        try {
+            // JavaMailSenderImpl.doSend와 같은 준비 (발송 시각, Message-ID 유지)
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            String messageId = message.getMessageID();
+            message.saveChanges();
+            if (messageId != null) {
+                message.setHeader("Message-ID", messageId);
+            }
+            Address[] recipients = message.getAllRecipients();
+            pooled.transport.sendMessage(message, recipients != null ? recipients : new Address[0]);
+            pooled.sent++;
+        } catch (MessagingException | RuntimeException e) {
+            close(pooled);
+            throw e;
+        }
+        release(pooled);
+    }
+
+    private PooledTransport borrow(JavaMailSenderImpl sender) throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - pooled.releasedAt <= maxIdleMs && pooled.transport.isConnected()) {
+                reused.increment();
+                return pooled;
+            }
+            close(pooled);
+        }
+
+        String protocol = sender.getProtocol() != null ? sender.getProtocol() : "smtp";
+        Transport transport = sender.getSession().getTransport(protocol);
+        String username = sender.getUsername();
+        String password = sender.getPassword();
+        transport.connect(sender.getHost(), sender.getPort(),
+                username == null || username.isEmpty() ? null : username,
+                password == null || password.isEmpty() ? null : password);
+        opened.increment();
+        return new PooledTransport(transport);
+    }
+
+    private void release(PooledTransport pooled) {
+        if (pooled.sent >= maxMessagesPerConnection || idle.size() >= Math.max(1, maxIdle)) {
+            close(pooled);
+            return;
+        }
+        pooled.releasedAt = System.currentTimeMillis();
+        // 최근에 쓴 연결을 먼저 다시 쓰도록 앞에 넣음
+        idle.offerFirst(pooled);
+    }
+
+    private static void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새로 연 연결 수 / 재사용한 횟수
+     */
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullStc.briefdelivery.service.impl;
 
 import com.fullStc.briefdelivery.service.BriefDeliveryMailService;
+import com.fullStc.briefdelivery.service.SmtpTransportPool;
 import jakarta.mail.util.ByteArrayDataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +15,7 @@ import jakarta.mail.internet.MimeMessage;
 import java.nio.charset.StandardCharsets;
 
 /**
- * 브리핑 PDF 이메일 발송 서비스 구현 (Spring Mail + 네이버 SMTP)
+ * 브리핑 PDF 이메일 발송 서비스 구현 (Spring Mail + 네이버 SMTP, 연결은 SmtpTransportPool로 재사용)
  */
 @Slf4j
 @Service
@@ -22,6 +23,7 @@ import java.nio.charset.StandardCharsets;
 public class BriefDeliveryMailServiceImpl implements BriefDeliveryMailService {
 
     private final JavaMailSender javaMailSender;
+    private final SmtpTransportPool transportPool;
 
     @Value("${spring.mail.username:}")
     private String fromEmail;
@@ -49,7 +51,7 @@ public class BriefDeliveryMailServiceImpl implements BriefDeliveryMailService {
             );
             helper.addAttachment(safeFileName, new ByteArrayDataSource(pdfBytes, "application/pdf"));
 
-            javaMailSender.send(message);
+            transportPool.send(message);
             log.info("브리핑 메일 발송 완료: to={}, fileName={}", toEmail, safeFileName);
         } catch (MessagingException e) {
             log.error("브리핑 메일 발송 실패: to={}, error={}", toEmail, e.getMessage());
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Python PDF 생성 API 호출 구현
@@ -46,4 +47,40 @@ public class BriefDeliveryPdfServiceImpl implements BriefDeliveryPdfService {
         }
         return new byte[0];
     }
+
+    /**
+     * 수신자 이름 덧입히기 (Java에 PDF 라이브러리가 없어 Python 서버 사용)
+     * 수신자마다 판 전체를 보내고 받으므로 전송량은 수신자 수 × 판 크기 × 2 입니다.
+     * 판을 다시 그리지 않고 1면에 이름만 합치므로 Python 쪽 처리는 판 크기에 비례하며,
+     * 호출별 크기와 소요 시간은 debug 로그로 확인합니다.
+     */
+    @Override
+    public byte[] personalize(byte[] pdf, String userName) {
+        if (pdf == null || pdf.length == 0 || userName == null || userName.isBlank()) {
+            return pdf;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            String url = UriComponentsBuilder.fromUriString(pythonServerUrl + "/api/brief-delivery/personalize-pdf")
+                    .queryParam("userName", userName)
+                    .encode()
+                    .toUriString();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_PDF);
+            ResponseEntity<byte[]> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    new HttpEntity<>(pdf, headers),
+                    byte[].class
+            );
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null && response.getBody().length > 0) {
+                log.debug("Brief delivery PDF personalized: sent={} bytes, received={} bytes, {}ms",
+                        pdf.length, response.getBody().length, System.currentTimeMillis() - start);
+                return response.getBody();
+            }
+        } catch (Exception e) {
+            log.warn("Brief delivery PDF personalization failed, sending shared edition: {}", e.getMessage());
+        }
+        return pdf;
+    }
 }
@@ -1,27 +1,68 @@
 package com.fullStc.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
+import com.fullStc.outbound.service.OutboundHttpClientFactory;
+import com.fullStc.outbound.service.OutboundHttpClientFactory.Limits;
+import com.fullStc.outbound.service.OutboundHttpMetrics;
+
 /**
  * RestTemplate 설정
- * Python FastAPI 서버와 통신에 사용
+ * 대상별로 커넥션 풀을 분리합니다.
+ * - restTemplate: Python FastAPI 서버의 빠른 엔드포인트 (채팅, 얼굴 인식, Q&A, 영상 요청)
+ * - driveRestTemplate: Python FastAPI 서버의 느린 엔드포인트 (TTS, PDF 등, drive 패키지 설정)
+ * - openAiRestTemplate: OpenAI API
+ * - externalRestTemplate: 그 밖의 외부 API (Unsplash 등)
  */
 @Configuration
 public class RestTemplateConfig {
-    
+
+    public static final String OPENAI = "openAiRestTemplate";
+    public static final String EXTERNAL = "externalRestTemplate";
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(OutboundHttpClientFactory factory,
+                                     @Value("${http.client.python.max-connections:50}") int maxConnections,
+                                     @Value("${http.client.python.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                     @Value("${http.client.python.read-timeout-ms:120000}") long readTimeoutMs) {
+        // Python 서버는 한 호스트이므로 호스트별 최대값 = 전체 최대값
+        return factory.restTemplate("python", new Limits(maxConnections, maxConnections,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs)));
+    }
+
+    @Bean(OPENAI)
+    public RestTemplate openAiRestTemplate(OutboundHttpClientFactory factory,
+                                           @Value("${http.client.openai.max-connections:20}") int maxConnections,
+                                           @Value("${http.client.openai.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                           @Value("${http.client.openai.read-timeout-ms:60000}") long readTimeoutMs) {
+        return factory.restTemplate("openai", new Limits(maxConnections, maxConnections,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs)));
+    }
+
+    @Bean(EXTERNAL)
+    public RestTemplate externalRestTemplate(OutboundHttpClientFactory factory,
+                                             @Value("${http.client.external.max-connections:50}") int maxConnections,
+                                             @Value("${http.client.external.max-per-host:10}") int maxPerHost,
+                                             @Value("${http.client.external.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                             @Value("${http.client.external.read-timeout-ms:10000}") long readTimeoutMs) {
+        return factory.restTemplate("external", new Limits(maxConnections, maxPerHost,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs)));
+    }
+
+    /**
+     * Spring이 제공하는 WebClient.Builder로 만든 WebClient(네이버 뉴스, 환율·주가 크롤러, OpenAI 요약)에도 지표 기록
+     * (Reactor Netty 기본 커넥션 풀을 공유하므로 keep-alive는 이미 적용됨)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        
-        // 연결 타임아웃: 10초
-        factory.setConnectTimeout(10000);
-        
-        // 읽기 타임아웃: 30초 (AI 응답 대기)
-        factory.setReadTimeout(600000);
-        
-        return new RestTemplate(factory);
+    public WebClientCustomizer outboundMetricsWebClientCustomizer(OutboundHttpMetrics metrics) {
+        return builder -> builder.filter(metrics.webClientFilter("webclient"));
     }
 }
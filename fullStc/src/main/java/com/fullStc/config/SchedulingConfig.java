@@ -0,0 +1,89 @@
+package com.fullStc.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄러 스레드 풀 설정
+ *
+ * 기본 설정은 모든 @Scheduled 작업이 스레드 하나를 공유해 느린 뉴스 파이프라인이 5초 환율 갱신을 밀어내므로,
+ * 작업 계열별로 이름 있는 풀을 나눕니다. 각 작업은 @Scheduled(scheduler = ...)로 풀을 지정하고,
+ * 지정하지 않은 작업은 유지보수 풀에서 실행됩니다. @Async 작업용 실행기도 함께 정의합니다.
+ */
+@Slf4j
+@Configuration
+public class SchedulingConfig {
+
+    /** 실시간 시세 (환율, 주가지수, 경제 지표) */
+    public static final String MARKET_DATA = "marketDataScheduler";
+
+    /** 뉴스 수집·가공 (파이프라인, 이미지 재시도, 영상, 메인페이지 동기화) */
+    public static final String INGEST = "ingestScheduler";
+
+    /** 사용자 배송 (브리핑 예약 발송) */
+    public static final String DELIVERY = "deliveryScheduler";
+
+    /** 유지보수 (정리, 색인 재구축, 카운터 반영 등) */
+    public static final String MAINTENANCE = "maintenanceScheduler";
+
+    @Bean(name = MARKET_DATA)
+    public ThreadPoolTaskScheduler marketDataScheduler(@Value("${scheduling.pool.market-data:2}") int poolSize) {
+        return scheduler("sched-market-", poolSize);
+    }
+
+    @Bean(name = INGEST)
+    public ThreadPoolTaskScheduler ingestScheduler(@Value("${scheduling.pool.ingest:3}") int poolSize) {
+        return scheduler("sched-ingest-", poolSize);
+    }
+
+    @Bean(name = DELIVERY)
+    public ThreadPoolTaskScheduler deliveryScheduler(@Value("${scheduling.pool.delivery:2}") int poolSize) {
+        return scheduler("sched-delivery-", poolSize);
+    }
+
+    /**
+     * scheduler를 지정하지 않은 @Scheduled 작업은 taskScheduler 이름의 빈에서 실행되므로 유지보수 풀이 기본값
+     */
+    @Bean(name = {MAINTENANCE, "taskScheduler"})
+    public ThreadPoolTaskScheduler maintenanceScheduler(@Value("${scheduling.pool.maintenance:2}") int poolSize) {
+        return scheduler("sched-maintenance-", poolSize);
+    }
+
+    /**
+     * @Async 작업 실행기 (스케줄러 빈이 Executor이기도 해서 Spring Boot 기본 실행기가 만들어지지 않으므로 직접 정의)
+     * 대기열이 가득 차면 호출 스레드에서 실행합니다.
+     */
+    @Primary
+    @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+    public ThreadPoolTaskExecutor taskExecutor(@Value("${scheduling.async.core-size:4}") int coreSize,
+                                               @Value("${scheduling.async.max-size:16}") int maxSize,
+                                               @Value("${scheduling.async.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setErrorHandler(t -> log.error("[스케줄러] {} 작업 실패: {}", threadNamePrefix, t.getMessage(), t));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -1,28 +1,34 @@
 package com.fullStc.drive.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import com.fullStc.outbound.service.OutboundHttpClientFactory;
+import com.fullStc.outbound.service.OutboundHttpClientFactory.Limits;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 @Configuration("driveRestTemplateConfig")
 public class RestTemplateConfig {
     
+    /**
+     * Python 서버의 느린 엔드포인트(TTS, PDF, 음성 처리)용 (빠른 엔드포인트와 커넥션 풀 분리)
+     */
     @Bean("driveRestTemplate")
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        // 연결 타임아웃: 30초 (Python 서버 연결 대기)
-        factory.setConnectTimeout(30000);
-        // 읽기 타임아웃: 3분 (플레이리스트 TTS 생성 시 긴 텍스트/다건 기사로 시간 소요)
-        factory.setReadTimeout(600000);
-        
-        RestTemplate restTemplate = new RestTemplate(factory);
+    public RestTemplate restTemplate(OutboundHttpClientFactory factory,
+                                     @Value("${http.client.python-slow.max-connections:16}") int maxConnections,
+                                     @Value("${http.client.python-slow.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                     @Value("${http.client.python-slow.read-timeout-ms:600000}") long readTimeoutMs) {
+        // 읽기 타임아웃: 10분 (플레이리스트 TTS 생성 시 긴 텍스트/다건 기사로 시간 소요)
+        RestTemplate restTemplate = factory.restTemplate("python-slow", new Limits(maxConnections, maxConnections,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs)));
         
         // 기존 컨버터들을 가져와서 수정
         List<HttpMessageConverter<?>> messageConverters = new ArrayList<>(restTemplate.getMessageConverters());
@@ -3,14 +3,20 @@ package com.fullStc.drive.controller;
 import com.fullStc.drive.dto.*;
 import com.fullStc.drive.enums.HistoryStatus;
 import com.fullStc.drive.service.DriveModeService;
+import com.fullStc.drive.service.PlaylistStreamService;
 import com.fullStc.drive.service.VoiceProcessingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import jakarta.validation.Valid;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +29,7 @@ public class DriveController {
 
     private final DriveModeService driveModeService;
     private final VoiceProcessingService voiceProcessingService;
+    private final PlaylistStreamService playlistStreamService;
 
     /**
      * 드라이브 모드 진입 (플레이리스트 선택 화면)
@@ -202,6 +209,10 @@ public class DriveController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 플레이리스트 TTS 재생
+     * 오디오는 로컬 캐시 파일로 응답 (Range 요청 지원, 힙에 전체 오디오를 올리지 않음)
+     */
     @GetMapping(value = "/tts/playlist")
     public ResponseEntity<?> generatePlaylistTTS(
             @RequestParam String playlistId,
@@ -210,14 +221,6 @@ public class DriveController {
             @RequestParam(required = false, defaultValue = "1.0") Float speed) {
         
         try {
-            byte[] cached = voiceProcessingService.getHistoryTTS(historyId);
-            if (cached != null && cached.length > 0) {
-                log.info("플레이리스트 TTS 캐시 사용: historyId={}, 크기={} bytes", historyId, cached.length);
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType("audio/mpeg"))
-                        .header("Content-Disposition", String.format("inline; filename=playlist_%d.mp3", historyId))
-                        .body(cached);
-            }
             List<NewsItemDto> newsList = driveModeService.getNewsListForTTS(historyId);
             if (newsList == null) {
                 Map<String, String> errorResponse = new HashMap<>();
@@ -227,9 +230,9 @@ public class DriveController {
                         .contentType(MediaType.APPLICATION_JSON)
                         .body(errorResponse);
             }
-            byte[] audioData = voiceProcessingService.generatePlaylistTTS(newsList, historyId, voiceType, speed);
+            Path audioFile = voiceProcessingService.generatePlaylistTTS(newsList, historyId, voiceType, speed);
             
-            if (audioData == null || audioData.length == 0) {
+            if (audioFile == null) {
                 log.error("플레이리스트 TTS 생성 실패: 빈 오디오 데이터 반환 (historyId={}, voiceType={}, speed={})", 
                         historyId, voiceType, speed);
                 Map<String, String> errorResponse = new HashMap<>();
@@ -240,10 +243,7 @@ public class DriveController {
                         .body(errorResponse);
             }
             
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType("audio/mpeg"))
-                    .header("Content-Disposition", String.format("inline; filename=playlist_%d.mp3", historyId))
-                    .body(audioData);
+            return audioResponse(audioFile, String.format("playlist_%d.mp3", historyId));
         } catch (Exception e) {
             log.error("플레이리스트 TTS 생성 중 오류: {}", e.getMessage(), e);
             Map<String, String> errorResponse = new HashMap<>();
@@ -255,6 +255,68 @@ public class DriveController {
         }
     }
 
+    /**
+     * 플레이리스트 세그먼트 매니페스트 (점진적 재생)
+     * 세그먼트 합성을 백그라운드로 시작하고 즉시 반환 → 첫 세그먼트부터 바로 재생 가능
+     */
+    @GetMapping(value = "/tts/playlist/manifest")
+    public ResponseEntity<?> getPlaylistManifest(
+            @RequestParam Long historyId,
+            @RequestParam(required = false, defaultValue = "nova") String voiceType,
+            @RequestParam(required = false, defaultValue = "1.0") Float speed) {
+        List<NewsItemDto> newsList = driveModeService.getNewsListForTTS(historyId);
+        if (newsList == null) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "히스토리를 찾을 수 없습니다.");
+            errorResponse.put("code", "HISTORY_NOT_FOUND");
+            return ResponseEntity.status(404)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponse);
+        }
+        return ResponseEntity.ok(playlistStreamService.prepare(historyId, newsList, voiceType, speed));
+    }
+
+    /**
+     * 플레이리스트 청크 스트림 (세그먼트를 순서대로 이어붙인 MP3, Transfer-Encoding: chunked)
+     */
+    @GetMapping(value = "/tts/playlist/stream")
+    public ResponseEntity<?> streamPlaylistTTS(
+            @RequestParam Long historyId,
+            @RequestParam(required = false, defaultValue = "nova") String voiceType,
+            @RequestParam(required = false, defaultValue = "1.0") Float speed) {
+        List<NewsItemDto> newsList = driveModeService.getNewsListForTTS(historyId);
+        if (newsList == null) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "히스토리를 찾을 수 없습니다.");
+            errorResponse.put("code", "HISTORY_NOT_FOUND");
+            return ResponseEntity.status(404)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponse);
+        }
+        StreamingResponseBody body = out -> playlistStreamService.streamPlaylist(newsList, voiceType, speed, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("audio/mpeg"))
+                .header("Content-Disposition", String.format("inline; filename=playlist_%d.mp3", historyId))
+                .body(body);
+    }
+
+    /**
+     * 플레이리스트 세그먼트 오디오 (합성 중이면 완료까지 대기)
+     */
+    @GetMapping(value = "/tts/segment/{key}")
+    public ResponseEntity<?> getPlaylistSegment(@PathVariable String key) {
+        Path audioFile = playlistStreamService.awaitSegment(key);
+        if (audioFile == null) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "세그먼트 오디오를 찾을 수 없습니다.");
+            errorResponse.put("code", "TTS_SEGMENT_NOT_FOUND");
+            return ResponseEntity.status(404)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorResponse);
+        }
+        return audioResponse(audioFile, "segment_" + key.substring(0, 12) + ".mp3");
+    }
+
     /**
      * TTS: 텍스트를 음성으로 변환 (newsId 기반)
      * 이어듣기 지원: startSentenceIdx 파라미터로 문장 단위 재생 시작
@@ -267,9 +329,9 @@ public class DriveController {
             @RequestParam(required = false, defaultValue = "0") Integer startSentenceIdx) {
         
         String text = driveModeService.getNewsText(newsId, startSentenceIdx);
-        byte[] audioData = driveModeService.generateTTS(text, voiceType, speed, newsId);
+        Path audioFile = driveModeService.generateTTS(text, voiceType, speed, newsId);
         
-        if (audioData == null || audioData.length == 0) {
+        if (audioFile == null) {
             log.error("TTS 생성 실패: 빈 오디오 데이터 반환 (newsId={}, voiceType={}, speed={})", 
                     newsId, voiceType, speed);
             Map<String, String> errorResponse = new HashMap<>();
@@ -280,10 +342,7 @@ public class DriveController {
                     .body(errorResponse);
         }
         
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("audio/mpeg"))
-                .header("Content-Disposition", "inline; filename=speech.mp3")
-                .body(audioData);
+        return audioResponse(audioFile, "speech.mp3");
     }
 
     /**
@@ -295,9 +354,9 @@ public class DriveController {
             @RequestParam(required = false, defaultValue = "nova") String voiceType,
             @RequestParam(required = false, defaultValue = "1.0") Float speed) {
         
-        byte[] audioData = driveModeService.generateTTS(text, voiceType, speed, null);
+        Path audioFile = driveModeService.generateTTS(text, voiceType, speed, null);
         
-        if (audioData == null || audioData.length == 0) {
+        if (audioFile == null) {
             log.error("TTS 생성 실패: 빈 오디오 데이터 반환 (text={}, voiceType={}, speed={})", 
                     text, voiceType, speed);
             Map<String, String> errorResponse = new HashMap<>();
@@ -308,9 +367,18 @@ public class DriveController {
                     .body(errorResponse);
         }
         
+        return audioResponse(audioFile, "briefing.mp3");
+    }
+
+    /**
+     * 캐시된 오디오 파일 응답
+     * Resource 본문은 Spring이 Range 헤더를 ResourceRegion(206)으로 처리하므로 탐색(seek) 시 필요한 구간만 전송
+     */
+    private ResponseEntity<Resource> audioResponse(Path audioFile, String filename) {
         return ResponseEntity.ok()
                 .contentType(MediaType.parseMediaType("audio/mpeg"))
-                .header("Content-Disposition", "inline; filename=briefing.mp3")
-                .body(audioData);
+                .header("Content-Disposition", "inline; filename=" + filename)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(new FileSystemResource(audioFile));
     }
 }
\ No newline at end of file
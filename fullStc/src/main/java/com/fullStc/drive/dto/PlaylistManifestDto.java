@@ -0,0 +1,45 @@
+package com.fullStc.drive.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 플레이리스트 세그먼트 매니페스트 DTO
+ * 클라이언트는 segments를 순서대로 재생하며, 뒤 세그먼트는 백그라운드에서 합성됨
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaylistManifestDto {
+    private Long historyId;
+    private Integer segmentCount;
+    /**
+     * 세그먼트를 순서대로 이어붙인 청크 스트림 URL (단일 오디오 태그용)
+     */
+    private String streamUrl;
+    private List<Segment> segments;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Segment {
+        private Integer index;
+        /**
+         * OPENING, ARTICLE, CLOSING
+         */
+        private String kind;
+        private String newsId;
+        private String title;
+        private String url;
+        /**
+         * 매니페스트 생성 시점에 이미 합성되어 있는지 여부
+         */
+        private Boolean ready;
+    }
+}
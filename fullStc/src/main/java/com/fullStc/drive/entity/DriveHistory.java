@@ -7,7 +7,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "drive_history")
+@Table(name = "drive_history", indexes = {
+        @Index(name = "idx_drive_history_fingerprint", columnList = "user_id, playlist_id, cluster_fingerprint")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class DriveHistory {
     @Id
@@ -32,6 +34,10 @@ public class DriveHistory {
     @Column(nullable = true, length = 255)
     private String ttsFilePath;
 
+    /** 플레이리스트 clusterKey 집합 지문 (같은 기사 목록 재사용 판별용, ClusterFingerprintUtil 참고) */
+    @Column(name = "cluster_fingerprint", nullable = true, length = 64)
+    private String clusterFingerprint;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private HistoryStatus status;
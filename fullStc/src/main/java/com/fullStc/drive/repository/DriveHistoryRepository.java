@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DriveHistoryRepository extends JpaRepository<DriveHistory, Long> {
@@ -31,5 +32,11 @@ public interface DriveHistoryRepository extends JpaRepository<DriveHistory, Long
      */
     List<DriveHistory> findByUserIdAndPlaylistIdAndCreatedAtAfter(
             Long userId, String playlistId, LocalDateTime createdAt);
+
+    /**
+     * 최근 같은 기사 목록(clusterKey 집합 지문)으로 생성된 플레이리스트 히스토리 조회
+     */
+    Optional<DriveHistory> findFirstByUserIdAndPlaylistIdAndClusterFingerprintAndCreatedAtAfterOrderByCreatedAtDesc(
+            Long userId, String playlistId, String clusterFingerprint, LocalDateTime createdAt);
 }
 
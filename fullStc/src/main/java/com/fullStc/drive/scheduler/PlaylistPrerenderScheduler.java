@@ -0,0 +1,47 @@
+package com.fullStc.drive.scheduler;
+
+import com.fullStc.drive.service.SharedPlaylistService;
+import com.fullStc.config.SchedulingConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공용 플레이리스트 미리 합성 스케줄러
+ *
+ * - 주기적으로 뉴스 클러스터 변경 여부(워터마크)를 확인
+ * - 바뀌었으면 공용 플레이리스트를 다시 계산하고, 기사 목록이 바뀐 플레이리스트의 오디오를 미리 합성
+ *   → 사용자가 플레이리스트를 선택할 때 이미 캐시에 오디오가 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaylistPrerenderScheduler {
+
+    private final SharedPlaylistService sharedPlaylistService;
+
+    @Value("${drive.prerender.enabled:true}")
+    private boolean prerenderEnabled;
+
+    /**
+     * 뉴스 클러스터 변경 확인 (기본 2분 간격, 기동 1분 후 시작)
+     */
+    @Scheduled(fixedDelayString = "${drive.prerender.interval-ms:120000}", initialDelayString = "${drive.prerender.initial-delay-ms:60000}", scheduler = SchedulingConfig.INGEST)
+    public void prerenderSharedPlaylists() {
+        if (!prerenderEnabled) {
+            log.debug("플레이리스트 미리 합성 스케줄러가 비활성화되어 있습니다.");
+            return;
+        }
+
+        try {
+            int started = sharedPlaylistService.refreshIfChanged();
+            if (started > 0) {
+                log.info("플레이리스트 미리 합성 시작: 플레이리스트 개수={}", started);
+            }
+        } catch (Exception e) {
+            log.error("플레이리스트 미리 합성 스케줄러 실패", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullStc.drive.scheduler;
 
 import com.fullStc.drive.service.TTSFileService;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,7 +28,7 @@ public class TTSFileCleanupScheduler {
      * 고아 TTS 파일 정리 (매일 새벽 3시)
      * 히스토리가 없는 TTS 파일 삭제
      */
-    @Scheduled(cron = "0 0 3 * * *")
+    @Scheduled(cron = "0 0 3 * * *", scheduler = SchedulingConfig.MAINTENANCE)
     public void cleanupOrphanTTSFiles() {
         if (!cleanupEnabled) {
             log.debug("TTS 파일 정리 스케줄러가 비활성화되어 있습니다.");
@@ -47,7 +48,7 @@ public class TTSFileCleanupScheduler {
      * 오래된 TTS 파일 정리 (매주 일요일 새벽 4시)
      * 14일 이상 된 히스토리의 TTS 파일 삭제
      */
-    @Scheduled(cron = "0 0 4 * * 0")
+    @Scheduled(cron = "0 0 4 * * 0", scheduler = SchedulingConfig.MAINTENANCE)
     public void cleanupOldTTSFiles() {
         if (!cleanupEnabled) {
             log.debug("TTS 파일 정리 스케줄러가 비활성화되어 있습니다.");
@@ -3,6 +3,7 @@ package com.fullStc.drive.service;
 import com.fullStc.drive.dto.*;
 import com.fullStc.drive.enums.HistoryStatus;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public interface DriveModeService {
@@ -93,8 +94,9 @@ public interface DriveModeService {
      * @param voiceType 목소리 타입
      * @param speed 재생 속도
      * @param newsId 뉴스 ID (이어듣기 시 기존 파일 조회용, 선택적)
+     * @return 캐시된 오디오 파일 경로, 실패 시 null
      */
-    byte[] generateTTS(String text, String voiceType, Float speed, String newsId);
+    Path generateTTS(String text, String voiceType, Float speed, String newsId);
     
     /**
      * 뉴스 텍스트 조회 (이어듣기 지원)
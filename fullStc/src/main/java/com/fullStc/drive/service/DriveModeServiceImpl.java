@@ -6,21 +6,19 @@ import com.fullStc.drive.dto.*;
 import com.fullStc.drive.entity.*;
 import com.fullStc.drive.enums.HistoryStatus;
 import com.fullStc.drive.repository.*;
+import com.fullStc.drive.util.ClusterFingerprintUtil;
 import com.fullStc.drive.util.FuzzyMatchingUtil;
 import com.fullStc.member.domain.enums.NewsCategory;
 import com.fullStc.member.service.CategoryService;
 import com.fullStc.news.domain.NewsCluster;
-import com.fullStc.news.repository.NewsClusterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -41,8 +39,8 @@ public class DriveModeServiceImpl implements DriveModeService {
     
     // 플레이리스트 관련
     private final CategoryService categoryService;
-    private final NewsClusterRepository newsClusterRepository;
     private final DriveHistoryRepository driveHistoryRepository;
+    private final SharedPlaylistService sharedPlaylistService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
@@ -63,15 +61,18 @@ public class DriveModeServiceImpl implements DriveModeService {
     @Override
     public CommandIntentResponse analyzeCommand(String rawText, Long userId) {
         // 로컬 필터링만 수행 (Python 호출은 VoiceProcessingService에서)
-        String intent = FuzzyMatchingUtil.matchCommand(rawText);
+        FuzzyMatchingUtil.CommandMatch match = FuzzyMatchingUtil.match(rawText);
         
-        if (intent != null) {
+        if (match != null) {
             // 로컬에서 처리 가능한 단답형 명령
-            logCommand(userId, rawText, intent, 0.9f, true, null);
+            String intent = match.intent();
+            log.debug("로컬 명령 인식: rawText={}, intent={}, type={}, phrase={}, confidence={}",
+                    rawText, intent, match.type(), match.phrase(), match.confidence());
+            logCommand(userId, rawText, intent, match.confidence(), true, null);
             
             return CommandIntentResponse.builder()
                     .intent(intent)
-                    .confidence(0.9f)
+                    .confidence(match.confidence())
                     .processedLocally(true)
                     .message("명령이 로컬에서 처리되었습니다: " + intent)
                     .build();
@@ -192,7 +193,7 @@ public class DriveModeServiceImpl implements DriveModeService {
     }
 
     @Override
-    public byte[] generateTTS(String text, String voiceType, Float speed, String newsId) {
+    public Path generateTTS(String text, String voiceType, Float speed, String newsId) {
         return voiceProcessingService.generateSpeech(text, voiceType, speed, newsId);
     }
 
@@ -326,89 +327,43 @@ public class DriveModeServiceImpl implements DriveModeService {
     public PlaylistSelectionResponse selectPlaylist(Long userId, String playlistId) {
         log.info("[selectPlaylist] userId={}, playlistId={}", userId, playlistId);
         
-        List<NewsCluster> clusters;
+        List<NewsItemDto> newsList;
         String playlistTitle;
-        int limit;
         String interestEmptyMessage = null;
         List<String> interestAllowedCrawlCategories = null;
         
-        switch (playlistId) {
-            case "interest":
-                List<String> userCategories = categoryService.getUserCategories(userId);
-                log.info("[selectPlaylist] interest - userCategories(from DB)={}", userCategories);
-                if (userCategories.isEmpty()) {
+        if ("interest".equals(playlistId)) {
+            List<NewsCluster> clusters;
+            List<String> userCategories = categoryService.getUserCategories(userId);
+            log.info("[selectPlaylist] interest - userCategories(from DB)={}", userCategories);
+            if (userCategories.isEmpty()) {
+                clusters = new ArrayList<>();
+                interestEmptyMessage = "관심 카테고리를 설정해주세요.";
+            } else {
+                List<String> categoriesForQuery = toCrawlCategories(userCategories);
+                log.info("[selectPlaylist] interest - categoriesForQuery(크롤용)={}", categoriesForQuery);
+                interestAllowedCrawlCategories = new ArrayList<>(categoriesForQuery);
+                if (categoriesForQuery.isEmpty()) {
                     clusters = new ArrayList<>();
                     interestEmptyMessage = "관심 카테고리를 설정해주세요.";
                 } else {
-                    List<String> categoriesForQuery = toCrawlCategories(userCategories);
-                    log.info("[selectPlaylist] interest - categoriesForQuery(크롤용)={}", categoriesForQuery);
-                    interestAllowedCrawlCategories = new ArrayList<>(categoriesForQuery);
-                    if (categoriesForQuery.isEmpty()) {
-                        clusters = new ArrayList<>();
-                        interestEmptyMessage = "관심 카테고리를 설정해주세요.";
-                    } else {
-                        clusters = getInterestClustersBalanced(categoriesForQuery, 3);
-                        clusters = filterClustersByRequestedCategories(clusters, categoriesForQuery);
-                        if (clusters.isEmpty()) {
-                            interestEmptyMessage = "해당 카테고리의 뉴스가 없습니다.";
-                        }
+                    clusters = sharedPlaylistService.findBalancedClusters(categoriesForQuery, 3);
+                    clusters = filterClustersByRequestedCategories(clusters, categoriesForQuery);
+                    if (clusters.isEmpty()) {
+                        interestEmptyMessage = "해당 카테고리의 뉴스가 없습니다.";
                     }
                 }
-                playlistTitle = "오늘의 관심 뉴스";
-                limit = 3;
-                break;
-                
-            case "latest":
-                clusters = newsClusterRepository.findTop20ByClusterSummaryIsNotNullOrderByIdDesc()
-                        .stream().limit(3).collect(Collectors.toList());
-                playlistTitle = "오늘의 주요 뉴스";
-                limit = 3;
-                break;
-                
-            case "economy":
-                clusters = getInterestClustersBalanced(Arrays.asList("economy", "business"), 3);
-                playlistTitle = "경제·비즈니스 뉴스";
-                limit = 3;
-                break;
-                
-            case "politics_society":
-                clusters = getInterestClustersBalanced(Arrays.asList("politics", "society"), 3);
-                playlistTitle = "정치·사회 뉴스";
-                limit = 3;
-                break;
-                
-            case "it":
-                clusters = getInterestClustersBalanced(Collections.singletonList("it"), 3);
-                playlistTitle = "IT·과학 뉴스";
-                limit = 3;
-                break;
-                
-            case "hot":
-                clusters = newsClusterRepository.findTop20ByClusterSummaryIsNotNullOrderByIdDesc()
-                        .stream().limit(3).collect(Collectors.toList());
-                playlistTitle = "긴급 속보";
-                limit = 3;
-                break;
-                
-            default:
-                throw new IllegalArgumentException("알 수 없는 플레이리스트 ID: " + playlistId);
+            }
+            newsList = sharedPlaylistService.toNewsItems(clusters);
+            playlistTitle = "오늘의 관심 뉴스";
+        } else if (sharedPlaylistService.isShared(playlistId)) {
+            // 사용자와 무관한 플레이리스트 → 미리 계산(및 미리 합성)된 목록 사용
+            newsList = sharedPlaylistService.getPlaylist(playlistId);
+            playlistTitle = sharedPlaylistService.titleOf(playlistId);
+        } else {
+            throw new IllegalArgumentException("알 수 없는 플레이리스트 ID: " + playlistId);
         }
         
-        List<NewsItemDto> newsList = clusters.stream()
-                .map(cluster -> {
-                    String summary = (cluster.getClusterSummary() != null && !cluster.getClusterSummary().trim().isEmpty())
-                            ? cluster.getClusterSummary()
-                            : (cluster.getClusterTitle() != null ? cluster.getClusterTitle() : "");
-                    return NewsItemDto.builder()
-                            .newsId(String.valueOf(cluster.getId()))
-                            .clusterKey(cluster.getClusterKey())
-                            .title(cluster.getClusterTitle() != null ? cluster.getClusterTitle() : "제목 없음")
-                            .category(cluster.getCategory() != null ? cluster.getCategory() : "일반")
-                            .summary(summary)
-                            .build();
-                })
-                .collect(Collectors.toList());
-        
         final List<String> allowedForInterestFilter = interestAllowedCrawlCategories;
         if ("interest".equals(playlistId) && allowedForInterestFilter != null && !allowedForInterestFilter.isEmpty()) {
             newsList = newsList.stream()
@@ -440,35 +395,15 @@ public class DriveModeServiceImpl implements DriveModeService {
                     .build();
         }
         
-        // 기사가 업데이트됐는지 구분: 현재 목록의 clusterKey 집합이 최근 히스토리와 같으면 "같은 기사" → 캐시 재사용
-        List<String> currentClusterKeys = newsList.stream()
-                .map(NewsItemDto::getClusterKey)
-                .filter(key -> key != null && !key.isEmpty())
-                .sorted()
-                .collect(Collectors.toList());
-        
+        // 기사가 업데이트됐는지 구분: 현재 목록의 clusterKey 집합 지문이 최근 히스토리와 같으면 "같은 기사" → 캐시 재사용
+        // 지문이 없는 경우(clusterKey 없는 목록, 지문 컬럼 추가 전 히스토리)는 같은 기사로 보지 않고 새로 생성함
+        // (지문 컬럼 추가 전 히스토리는 조회 기간 1시간이 지나면 비교 대상에서 빠지므로 값을 채우지 않음)
+        String fingerprint = ClusterFingerprintUtil.fingerprint(newsList);
         LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-        List<DriveHistory> recentHistories = driveHistoryRepository.findByUserIdAndPlaylistIdAndCreatedAtAfter(
-                userId, playlistId, oneHourAgo);
-        
-        Optional<DriveHistory> duplicateHistory = recentHistories.stream()
-                .filter(h -> {
-                    if (h.getNewsList() == null || h.getNewsList().isEmpty()) return false;
-                    try {
-                        List<NewsItemDto> historyNewsList = objectMapper.readValue(
-                                h.getNewsList(), new TypeReference<List<NewsItemDto>>() {});
-                        List<String> historyClusterKeys = historyNewsList.stream()
-                                .map(NewsItemDto::getClusterKey)
-                                .filter(key -> key != null && !key.isEmpty())
-                                .sorted()
-                                .collect(Collectors.toList());
-                        return currentClusterKeys.equals(historyClusterKeys);
-                    } catch (Exception e) {
-                        log.warn("히스토리 newsList 파싱 실패: historyId={}, error={}", h.getHistoryId(), e.getMessage());
-                        return false;
-                    }
-                })
-                .findFirst();
+        Optional<DriveHistory> duplicateHistory = fingerprint == null
+                ? Optional.empty()
+                : driveHistoryRepository.findFirstByUserIdAndPlaylistIdAndClusterFingerprintAndCreatedAtAfterOrderByCreatedAtDesc(
+                        userId, playlistId, fingerprint, oneHourAgo);
         
         Long historyId;
         boolean isDuplicate = false;
@@ -495,7 +430,8 @@ public class DriveModeServiceImpl implements DriveModeService {
             log.info("[selectPlaylist] 기사 갱신으로 새 히스토리 생성: userId={}, playlistId={}, historyId={}", userId, playlistId, historyId);
         }
         
-        String audioUrl = String.format("/api/drive/tts/playlist?playlistId=%s&historyId=%d", playlistId, historyId);
+        // 세그먼트 단위 청크 스트림 (공용 플레이리스트는 미리 합성된 오디오를 바로 받음)
+        String audioUrl = String.format("/api/drive/tts/playlist/stream?historyId=%d", historyId);
         
         return PlaylistSelectionResponse.builder()
                 .historyId(historyId)
@@ -508,29 +444,6 @@ public class DriveModeServiceImpl implements DriveModeService {
                 .build();
     }
 
-    /** Category-first, then summary-required. Balanced count per category, then take top by updatedAt. No fallback to other categories. */
-    private List<NewsCluster> getInterestClustersBalanced(List<String> categoriesForQuery, int totalLimit) {
-        if (categoriesForQuery == null || categoriesForQuery.isEmpty()) {
-            return new ArrayList<>();
-        }
-        if (categoriesForQuery.size() == 1) {
-            return newsClusterRepository.findByCategoriesOrderByUpdatedAtDesc(categoriesForQuery, totalLimit);
-        }
-        int perCategory = (int) Math.ceil((double) totalLimit / categoriesForQuery.size());
-        List<NewsCluster> merged = new ArrayList<>();
-        for (String category : categoriesForQuery) {
-            List<String> one = Collections.singletonList(category);
-            merged.addAll(newsClusterRepository.findByCategoriesOrderByUpdatedAtDesc(one, perCategory));
-        }
-        // ID 기준 중복 제거 후 updatedAt 최신순 정렬, 상위 totalLimit건
-        return merged.stream()
-                .collect(Collectors.toMap(NewsCluster::getId, c -> c, (a, b) -> a))
-                .values().stream()
-                .sorted(Comparator.comparing(NewsCluster::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(totalLimit)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 관심 플레이리스트 전용: DB에서 잘못 반환된 다른 카테고리(e.g. economy)를 제거하고,
      * 요청한 카테고리(categoriesForQuery)에 해당하는 클러스터만 반환
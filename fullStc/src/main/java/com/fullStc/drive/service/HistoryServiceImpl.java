@@ -8,6 +8,7 @@ import com.fullStc.drive.dto.NewsItemDto;
 import com.fullStc.drive.enums.HistoryStatus;
 import com.fullStc.drive.entity.DriveHistory;
 import com.fullStc.drive.repository.DriveHistoryRepository;
+import com.fullStc.drive.util.ClusterFingerprintUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -183,6 +184,7 @@ public class HistoryServiceImpl implements HistoryService {
                 .playlistTitle(playlistTitle)
                 .category(firstCategory)
                 .newsList(newsListJson)
+                .clusterFingerprint(ClusterFingerprintUtil.fingerprint(newsList))
                 .status(HistoryStatus.PLAY)
                 .listenDuration(0)
                 .currentTime(0)
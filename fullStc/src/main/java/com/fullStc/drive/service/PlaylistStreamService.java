@@ -0,0 +1,47 @@
+package com.fullStc.drive.service;
+
+import com.fullStc.drive.dto.NewsItemDto;
+import com.fullStc.drive.dto.PlaylistManifestDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 플레이리스트 점진적 TTS 서비스 인터페이스
+ * 플레이리스트를 세그먼트로 나눠 병렬(제한) 합성하고, 첫 세그먼트부터 바로 재생할 수 있게 함
+ */
+public interface PlaylistStreamService {
+
+    /**
+     * 세그먼트 합성을 백그라운드로 시작하고 매니페스트 반환
+     * @param historyId 히스토리 ID
+     * @param newsList 뉴스 목록
+     * @param voiceType 목소리 타입
+     * @param speed 재생 속도
+     */
+    PlaylistManifestDto prepare(Long historyId, List<NewsItemDto> newsList, String voiceType, Float speed);
+
+    /**
+     * 세그먼트 오디오 조회 (합성 중이면 완료까지 대기)
+     * @param key 세그먼트 키
+     * @return 오디오 파일 경로, 알 수 없는 키이거나 실패 시 null
+     */
+    Path awaitSegment(String key);
+
+    /**
+     * 세그먼트를 재생 순서대로 출력 스트림에 이어 씀 (각 세그먼트가 준비되는 즉시 전송)
+     * 미리 합성된 전체 오디오가 있으면 그대로 전송
+     */
+    void streamPlaylist(List<NewsItemDto> newsList, String voiceType, Float speed, OutputStream out) throws IOException;
+
+    /**
+     * 플레이리스트 전체 오디오를 미리 합성해 캐시에 저장 (요청 스레드를 막지 않음)
+     * 세그먼트 합성 후 이어붙인 결과를 scriptKeyOf 키로 저장 → 스트리밍 재생 요청이 즉시 캐시 적중
+     * (/tts/playlist의 LLM 대본 오디오와 대본이 다르므로 그 캐시 키에는 저장하지 않음)
+     * @return 완료 시 전체 오디오 경로, 세그먼트가 하나라도 실패하면 null
+     */
+    CompletableFuture<Path> prerenderPlaylist(List<NewsItemDto> newsList, String voiceType, Float speed);
+}
@@ -0,0 +1,289 @@
+package com.fullStc.drive.service;
+
+import com.fullStc.drive.dto.NewsItemDto;
+import com.fullStc.drive.dto.PlaylistManifestDto;
+import com.fullStc.drive.util.PlaylistScriptUtil;
+import com.fullStc.drive.util.PlaylistScriptUtil.ScriptSegment;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaylistStreamServiceImpl implements PlaylistStreamService {
+
+    private static final Pattern SEGMENT_KEY = Pattern.compile("[0-9a-f]{64}");
+
+    private final VoiceProcessingService voiceProcessingService;
+    private final TTSAudioStore ttsAudioStore;
+
+    // 동시에 합성할 세그먼트 수 (Python/OpenAI 부하 제한)
+    @Value("${drive.tts.segment.parallelism:3}")
+    private int parallelism;
+
+    // 세그먼트 최대 글자 수 (문장 경계 기준)
+    @Value("${drive.tts.segment.max-chars:400}")
+    private int maxChars;
+
+    // 세그먼트 1개 합성 대기 최대 시간
+    @Value("${drive.tts.segment.timeout-seconds:60}")
+    private long segmentTimeoutSeconds;
+
+    private ThreadPoolExecutor pool;
+
+    // 세그먼트 키 → 합성 작업 (매니페스트 발급 후 세그먼트 요청 시 조회)
+    private Cache<String, CompletableFuture<Path>> jobs;
+
+    // 세그먼트 키 → 합성할 내용 (대기열이 가득 차 제출하지 못한 세그먼트를 요청 시 합성하기 위함)
+    private Cache<String, SegmentSpec> specs;
+
+    private record SegmentSpec(String text, String voiceType, Float speed) {
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "tts-segment-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                // 대기열이 가득 차면 거절 (캐시 계산 중인 요청 스레드에서 합성하지 않도록)
+                new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .maximumSize(2000)
+                .build();
+        this.specs = Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .maximumSize(2000)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            try {
+                if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                    pool.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public PlaylistManifestDto prepare(Long historyId, List<NewsItemDto> newsList, String voiceType, Float speed) {
+        List<ScriptSegment> script = PlaylistScriptUtil.split(newsList, maxChars);
+        List<PlaylistManifestDto.Segment> segments = new ArrayList<>(script.size());
+
+        // 재생 순서대로 제출 → 앞 세그먼트가 먼저 합성됨
+        for (int i = 0; i < script.size(); i++) {
+            ScriptSegment seg = script.get(i);
+            String key = ttsAudioStore.keyOf(seg.text(), voiceType, speed);
+            boolean ready = ttsAudioStore.find(key) != null;
+            if (!ready) {
+                // 대기열이 가득 차면 제출하지 않고 보류 (세그먼트 요청 시 합성)
+                specs.put(key, new SegmentSpec(seg.text(), voiceType, speed));
+                submit(key, seg.text(), voiceType, speed);
+            }
+            segments.add(PlaylistManifestDto.Segment.builder()
+                    .index(i)
+                    .kind(seg.kind())
+                    .newsId(seg.newsId())
+                    .title(seg.title())
+                    .url("/api/drive/tts/segment/" + key)
+                    .ready(ready)
+                    .build());
+        }
+
+        log.info("[PlaylistStream] 매니페스트 생성: historyId={}, segments={}, 즉시 재생 가능={}",
+                historyId, segments.size(), segments.stream().filter(PlaylistManifestDto.Segment::getReady).count());
+
+        return PlaylistManifestDto.builder()
+                .historyId(historyId)
+                .segmentCount(segments.size())
+                .streamUrl(String.format("/api/drive/tts/playlist/stream?historyId=%d&voiceType=%s&speed=%s",
+                        historyId, URLEncoder.encode(voiceType != null ? voiceType : "", StandardCharsets.UTF_8), speed))
+                .segments(segments)
+                .build();
+    }
+
+    @Override
+    public Path awaitSegment(String key) {
+        if (key == null || !SEGMENT_KEY.matcher(key).matches()) {
+            return null;
+        }
+        Path cached = ttsAudioStore.find(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Path> job = jobs.getIfPresent(key);
+        if (job != null) {
+            return await(key, job);
+        }
+        // 매니페스트 발급 시 보류된 세그먼트: 다시 제출하고, 여전히 가득 차 있으면 이 요청에서 합성
+        SegmentSpec spec = specs.getIfPresent(key);
+        if (spec == null) {
+            return null;
+        }
+        job = submit(key, spec.text(), spec.voiceType(), spec.speed());
+        return job != null ? await(key, job) : synthesize(spec.text(), spec.voiceType(), spec.speed());
+    }
+
+    @Override
+    public void streamPlaylist(List<NewsItemDto> newsList, String voiceType, Float speed, OutputStream out)
+            throws IOException {
+        List<ScriptSegment> script = PlaylistScriptUtil.split(newsList, maxChars);
+
+        List<String> keys = new ArrayList<>(script.size());
+        for (ScriptSegment seg : script) {
+            keys.add(ttsAudioStore.keyOf(seg.text(), voiceType, speed));
+        }
+
+        // 미리 합성된 전체 오디오가 있으면 그대로 전송
+        Path prerendered = ttsAudioStore.find(ttsAudioStore.scriptKeyOf(keys));
+        if (prerendered != null) {
+            Files.copy(prerendered, out);
+            out.flush();
+            return;
+        }
+
+        // 전체 세그먼트를 먼저 제출해 백그라운드 합성을 시작 (대기열이 가득 차 거절된 세그먼트는 차례가 오면 이 스레드에서 합성)
+        List<CompletableFuture<Path>> futures = new ArrayList<>(script.size());
+        for (int i = 0; i < script.size(); i++) {
+            String key = keys.get(i);
+            Path cached = ttsAudioStore.find(key);
+            futures.add(cached != null
+                    ? CompletableFuture.completedFuture(cached)
+                    : submit(key, script.get(i).text(), voiceType, speed));
+        }
+
+        // MP3 프레임은 그대로 이어붙여도 재생 가능 → 준비된 순서대로 바로 전송
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<Path> future = futures.get(i);
+            Path file = future != null
+                    ? await(keys.get(i), future)
+                    : synthesize(script.get(i).text(), voiceType, speed);
+            if (file == null) {
+                log.warn("[PlaylistStream] 세그먼트 합성 실패, 건너뜀: index={}", i);
+                continue;
+            }
+            Files.copy(file, out);
+            out.flush();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Path> prerenderPlaylist(List<NewsItemDto> newsList, String voiceType, Float speed) {
+        List<ScriptSegment> script = PlaylistScriptUtil.split(newsList, maxChars);
+        List<String> keys = new ArrayList<>(script.size());
+        for (ScriptSegment seg : script) {
+            keys.add(ttsAudioStore.keyOf(seg.text(), voiceType, speed));
+        }
+        String playlistKey = ttsAudioStore.scriptKeyOf(keys);
+        Path cached = ttsAudioStore.find(playlistKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        List<CompletableFuture<Path>> futures = new ArrayList<>(script.size());
+        for (int i = 0; i < script.size(); i++) {
+            String key = keys.get(i);
+            Path segment = ttsAudioStore.find(key);
+            CompletableFuture<Path> future = segment != null
+                    ? CompletableFuture.completedFuture(segment)
+                    : submit(key, script.get(i).text(), voiceType, speed);
+            if (future == null) {
+                // 대기열이 가득 참: 이번에는 건너뛰고 다음 미리 합성 주기에 다시 시도
+                return CompletableFuture.failedFuture(new RejectedExecutionException("TTS 세그먼트 대기열이 가득 찼습니다."));
+            }
+            futures.add(future);
+        }
+
+        // 모든 세그먼트가 끝난 뒤에만 이어붙임 (풀 스레드가 다른 작업을 기다리며 막히지 않도록)
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((v, e) -> null)
+                .thenApplyAsync(v -> ttsAudioStore.getOrCreate(playlistKey, target -> {
+                    try (OutputStream out = Files.newOutputStream(target)) {
+                        for (int i = 0; i < futures.size(); i++) {
+                            CompletableFuture<Path> future = futures.get(i);
+                            Path file = future.isCompletedExceptionally() ? null : future.getNow(null);
+                            if (file == null || !Files.isRegularFile(file)) {
+                                // 일부만 합성된 오디오는 캐시에 남기지 않음
+                                jobs.invalidate(keys.get(i));
+                                log.warn("[PlaylistStream] 미리 합성 실패, 전체 오디오 저장 안 함: index={}", i);
+                                return false;
+                            }
+                            Files.copy(file, out);
+                        }
+                    }
+                    return true;
+                }), pool);
+    }
+
+    /**
+     * 세그먼트 합성 작업 제출 (같은 키가 진행 중이면 기존 작업 공유)
+     * 풀에는 작업을 넣기만 하므로 캐시 계산 안에서 합성이 실행되지 않음
+     * @return 합성 작업, 대기열이 가득 차 거절되면 null (캐시에 남기지 않음)
+     */
+    private CompletableFuture<Path> submit(String key, String text, String voiceType, Float speed) {
+        try {
+            return jobs.get(key, k -> CompletableFuture.supplyAsync(() -> synthesize(text, voiceType, speed), pool));
+        } catch (RejectedExecutionException e) {
+            log.warn("[PlaylistStream] 합성 대기열이 가득 차 세그먼트 보류: key={}", key);
+            return null;
+        }
+    }
+
+    private Path synthesize(String text, String voiceType, Float speed) {
+        return voiceProcessingService.generateSpeech(text, voiceType, speed, null);
+    }
+
+    private Path await(String key, CompletableFuture<Path> job) {
+        try {
+            Path file = job.get(segmentTimeoutSeconds, TimeUnit.SECONDS);
+            if (file == null) {
+                // 실패한 작업은 다음 요청에서 다시 시도하도록 제거
+                jobs.invalidate(key);
+            }
+            return file;
+        } catch (TimeoutException e) {
+            log.warn("[PlaylistStream] 세그먼트 합성 대기 시간 초과: key={}", key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("[PlaylistStream] 세그먼트 합성 실패: key={}, error={}", key, e.getCause().getMessage());
+            jobs.invalidate(key);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullStc.drive.service;
+
+import com.fullStc.drive.dto.NewsItemDto;
+import com.fullStc.news.domain.NewsCluster;
+
+import java.util.List;
+
+/**
+ * 공용 플레이리스트 서비스 인터페이스
+ * 사용자와 무관하게 같은 기사 목록이 나오는 플레이리스트(latest, economy, politics_society, it, hot)를
+ * 미리 계산해 두고, 기사 목록이 바뀌면 오디오를 미리 합성함
+ */
+public interface SharedPlaylistService {
+
+    /**
+     * 공용 플레이리스트 여부 (interest는 사용자별이므로 제외)
+     */
+    boolean isShared(String playlistId);
+
+    /**
+     * 공용 플레이리스트 제목
+     */
+    String titleOf(String playlistId);
+
+    /**
+     * 공용 플레이리스트 뉴스 목록 (미리 계산된 목록이 충분히 최신이면 재사용)
+     */
+    List<NewsItemDto> getPlaylist(String playlistId);
+
+    /**
+     * 카테고리별로 균등하게 요약 완료 클러스터 조회 후 updatedAt 최신순 상위 totalLimit건
+     */
+    List<NewsCluster> findBalancedClusters(List<String> categories, int totalLimit);
+
+    /**
+     * 클러스터 → 플레이리스트 뉴스 아이템 변환
+     */
+    List<NewsItemDto> toNewsItems(List<NewsCluster> clusters);
+
+    /**
+     * 뉴스 클러스터가 바뀌었으면 공용 플레이리스트를 다시 계산하고, 기사 목록이 바뀐 플레이리스트의 오디오를 미리 합성
+     * @return 미리 합성을 시작한 플레이리스트 개수
+     */
+    int refreshIfChanged();
+}
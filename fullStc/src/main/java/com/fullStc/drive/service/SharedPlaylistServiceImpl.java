@@ -0,0 +1,195 @@
+package com.fullStc.drive.service;
+
+import com.fullStc.drive.dto.NewsItemDto;
+import com.fullStc.drive.util.ClusterFingerprintUtil;
+import com.fullStc.news.domain.NewsCluster;
+import com.fullStc.news.repository.NewsClusterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SharedPlaylistServiceImpl implements SharedPlaylistService {
+
+    private static final int PLAYLIST_SIZE = 3;
+
+    // 공용 플레이리스트 ID → 제목 (getAvailablePlaylists 순서)
+    private static final Map<String, String> SHARED_TITLES = new LinkedHashMap<>();
+
+    static {
+        SHARED_TITLES.put("latest", "오늘의 주요 뉴스");
+        SHARED_TITLES.put("economy", "경제·비즈니스 뉴스");
+        SHARED_TITLES.put("politics_society", "정치·사회 뉴스");
+        SHARED_TITLES.put("it", "IT·과학 뉴스");
+        SHARED_TITLES.put("hot", "긴급 속보");
+    }
+
+    private final NewsClusterRepository newsClusterRepository;
+    private final PlaylistStreamService playlistStreamService;
+
+    // 미리 합성할 목소리/속도 (클라이언트 기본값)
+    @Value("${drive.prerender.voice:nova}")
+    private String prerenderVoice;
+
+    @Value("${drive.prerender.speed:1.0}")
+    private float prerenderSpeed;
+
+    // 미리 계산된 목록을 그대로 쓸 수 있는 최대 시간 (스케줄러가 멈춰도 오래된 목록을 주지 않도록)
+    @Value("${drive.prerender.max-stale-seconds:300}")
+    private long maxStaleSeconds;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Override
+    public boolean isShared(String playlistId) {
+        return playlistId != null && SHARED_TITLES.containsKey(playlistId);
+    }
+
+    @Override
+    public String titleOf(String playlistId) {
+        return SHARED_TITLES.get(playlistId);
+    }
+
+    @Override
+    public List<NewsItemDto> getPlaylist(String playlistId) {
+        Snapshot current = snapshot.get();
+        if (current != null
+                && Duration.between(current.loadedAt(), Instant.now()).getSeconds() < maxStaleSeconds
+                && current.playlists().containsKey(playlistId)) {
+            return new ArrayList<>(current.playlists().get(playlistId));
+        }
+        return build(playlistId);
+    }
+
+    @Override
+    public synchronized int refreshIfChanged() {
+        String watermark = newsClusterRepository.findSummarizedWatermark();
+        Snapshot previous = snapshot.get();
+        if (previous != null && Objects.equals(previous.watermark(), watermark)) {
+            // 클러스터 변경 없음 → 목록만 유효 시간 연장
+            snapshot.set(new Snapshot(watermark, previous.playlists(), previous.fingerprints(), Instant.now()));
+            return 0;
+        }
+
+        Map<String, List<NewsItemDto>> playlists = new LinkedHashMap<>();
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        // 같은 쿼리를 쓰는 플레이리스트(latest/hot)는 한 번만 조회하고, 같은 기사 목록은 한 번만 합성
+        Map<String, List<NewsItemDto>> bySource = new HashMap<>();
+        Set<String> prerendered = new HashSet<>();
+        int started = 0;
+        for (String playlistId : SHARED_TITLES.keySet()) {
+            List<NewsItemDto> newsList = bySource.computeIfAbsent(sourceOf(playlistId), this::build);
+            String fingerprint = ClusterFingerprintUtil.fingerprint(newsList);
+            playlists.put(playlistId, Collections.unmodifiableList(newsList));
+            if (fingerprint == null) {
+                continue;
+            }
+            fingerprints.put(playlistId, fingerprint);
+
+            if ((previous == null || !fingerprint.equals(previous.fingerprints().get(playlistId)))
+                    && prerendered.add(fingerprint)) {
+                // 기사 목록이 바뀐 플레이리스트만 미리 합성 (세그먼트 풀에서 비동기 진행)
+                playlistStreamService.prerenderPlaylist(newsList, prerenderVoice, prerenderSpeed)
+                        .whenComplete((path, e) -> {
+                            if (e != null || path == null) {
+                                log.warn("[SharedPlaylist] 미리 합성 실패: playlistId={}, error={}",
+                                        playlistId, e != null ? e.getMessage() : "세그먼트 합성 실패");
+                            } else {
+                                log.info("[SharedPlaylist] 미리 합성 완료: playlistId={}, file={}", playlistId, path.getFileName());
+                            }
+                        });
+                started++;
+            }
+        }
+
+        snapshot.set(new Snapshot(watermark, playlists, fingerprints, Instant.now()));
+        log.info("[SharedPlaylist] 공용 플레이리스트 갱신: watermark={}, 미리 합성 시작={}", watermark, started);
+        return started;
+    }
+
+    @Override
+    public List<NewsCluster> findBalancedClusters(List<String> categories, int totalLimit) {
+        if (categories == null || categories.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (categories.size() == 1) {
+            return newsClusterRepository.findByCategoriesOrderByUpdatedAtDesc(categories, totalLimit);
+        }
+        int perCategory = (int) Math.ceil((double) totalLimit / categories.size());
+        List<NewsCluster> merged = new ArrayList<>();
+        for (String category : categories) {
+            List<String> one = Collections.singletonList(category);
+            merged.addAll(newsClusterRepository.findByCategoriesOrderByUpdatedAtDesc(one, perCategory));
+        }
+        // ID 기준 중복 제거 후 updatedAt 최신순 정렬, 상위 totalLimit건
+        return merged.stream()
+                .collect(Collectors.toMap(NewsCluster::getId, c -> c, (a, b) -> a))
+                .values().stream()
+                .sorted(Comparator.comparing(NewsCluster::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(totalLimit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<NewsItemDto> toNewsItems(List<NewsCluster> clusters) {
+        return clusters.stream()
+                .map(cluster -> {
+                    String summary = (cluster.getClusterSummary() != null && !cluster.getClusterSummary().trim().isEmpty())
+                            ? cluster.getClusterSummary()
+                            : (cluster.getClusterTitle() != null ? cluster.getClusterTitle() : "");
+                    return NewsItemDto.builder()
+                            .newsId(String.valueOf(cluster.getId()))
+                            .clusterKey(cluster.getClusterKey())
+                            .title(cluster.getClusterTitle() != null ? cluster.getClusterTitle() : "제목 없음")
+                            .category(cluster.getCategory() != null ? cluster.getCategory() : "일반")
+                            .summary(summary)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // "hot"은 "latest"와 같은 목록을 씀
+    private static String sourceOf(String playlistId) {
+        return "hot".equals(playlistId) ? "latest" : playlistId;
+    }
+
+    private List<NewsItemDto> build(String playlistId) {
+        List<NewsCluster> clusters = switch (sourceOf(playlistId)) {
+            case "latest" -> newsClusterRepository.findTop20ByClusterSummaryIsNotNullOrderByIdDesc()
+                    .stream().limit(PLAYLIST_SIZE).collect(Collectors.toList());
+            case "economy" -> findBalancedClusters(Arrays.asList("economy", "business"), PLAYLIST_SIZE);
+            case "politics_society" -> findBalancedClusters(Arrays.asList("politics", "society"), PLAYLIST_SIZE);
+            case "it" -> findBalancedClusters(Collections.singletonList("it"), PLAYLIST_SIZE);
+            default -> throw new IllegalArgumentException("알 수 없는 플레이리스트 ID: " + playlistId);
+        };
+        return toNewsItems(clusters);
+    }
+
+    /**
+     * 공용 플레이리스트 스냅샷 (워터마크가 같으면 목록도 같음)
+     */
+    private record Snapshot(String watermark,
+                            Map<String, List<NewsItemDto>> playlists,
+                            Map<String, String> fingerprints,
+                            Instant loadedAt) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullStc.drive.service;
+
+import com.fullStc.drive.dto.NewsItemDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * TTS 오디오 파일 저장소 인터페이스
+ * (정규화 텍스트, 목소리, 속도, 모델) 해시를 키로 하는 로컬 디스크 캐시 (LRU + 용량 제한)
+ */
+public interface TTSAudioStore {
+
+    /**
+     * 단건 텍스트 TTS 캐시 키 생성
+     */
+    String keyOf(String text, String voiceType, Float speed);
+
+    /**
+     * 플레이리스트 TTS 캐시 키 생성 (기사 목록 내용 기준)
+     */
+    String playlistKeyOf(List<NewsItemDto> newsList, String voiceType, Float speed);
+
+    /**
+     * 세그먼트를 이어붙인 스트리밍 대본 전체 오디오 캐시 키 생성 (세그먼트 키 목록 기준)
+     * /tts/playlist의 LLM 대본 오디오(playlistKeyOf)와 내용이 다르므로 키 공간을 분리함
+     */
+    String scriptKeyOf(List<String> segmentKeys);
+
+    /**
+     * 캐시된 오디오 파일 조회
+     * 돌려준 경로는 임대 기간(drive.tts.cache.read-lease-ms) 동안 용량 초과로 지워지지 않음
+     * @return 파일 경로, 없으면 null
+     */
+    Path find(String key);
+
+    /**
+     * 캐시된 오디오 파일 조회, 없으면 writer로 생성 후 저장
+     * 같은 키에 대한 동시 요청은 한 번의 생성 결과를 공유함
+     * @return 파일 경로, 생성 실패 시 null
+     */
+    Path getOrCreate(String key, AudioWriter writer);
+
+    /**
+     * 현재 캐시 사용량 (bytes)
+     */
+    long totalBytes();
+
+    /**
+     * 오디오를 대상 파일에 기록하는 함수 (Python 서버 응답을 디스크로 스트리밍)
+     */
+    @FunctionalInterface
+    interface AudioWriter {
+        /**
+         * @param target 기록할 임시 파일
+         * @return 기록 성공 여부
+         */
+        boolean write(Path target) throws IOException;
+    }
+}
@@ -0,0 +1,315 @@
+package com.fullStc.drive.service;
+
+import com.fullStc.drive.dto.NewsItemDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class TTSAudioStoreImpl implements TTSAudioStore {
+
+    private static final String EXTENSION = ".mp3";
+
+    @Value("${drive.tts.cache.dir:tts-cache}")
+    private String cacheDir;
+
+    // 기본 512MB
+    @Value("${drive.tts.cache.max-bytes:536870912}")
+    private long maxBytes;
+
+    // Python 서버에서 사용하는 TTS 모델 (모델 변경 시 캐시 키가 달라지도록 포함)
+    @Value("${drive.tts.model:tts-1-hd}")
+    private String model;
+
+    // 조회·생성으로 경로를 돌려준 뒤 이 시간 동안은 LRU 제거 대상에서 제외
+    // (호출 측이 파일을 열기 전에 지워지지 않도록 하는 임대 기간, 연 뒤에는 삭제되어도 읽기가 계속됨)
+    @Value("${drive.tts.cache.read-lease-ms:60000}")
+    private long readLeaseMs;
+
+    private Path root;
+
+    // key -> 파일 크기·임대 만료 시각, 접근 순서(LRU) 유지. this로 동기화
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * 캐시 항목
+     * @param leasedUntil 이 시각(ms)까지는 제거하지 않음
+     */
+    private record Entry(long size, long leasedUntil) {
+    }
+
+    // 생성 중인 키 (동일 키 동시 요청 병합)
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(cacheDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        // 재시작 시 기존 파일을 수정 시각 순으로 다시 등록 (오래된 것부터 → LRU 순서 복원)
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(EXTENSION)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort((a, b) -> lastModified(a).compareTo(lastModified(b)));
+
+        synchronized (this) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                register(name.substring(0, name.length() - EXTENSION.length()), sizeOf(file), false);
+            }
+            evictIfNeeded(null);
+        }
+        log.info("TTS 오디오 캐시 초기화: dir={}, entries={}, size={} bytes, max={} bytes",
+                root, entries.size(), totalBytes, maxBytes);
+    }
+
+    @Override
+    public String keyOf(String text, String voiceType, Float speed) {
+        return sha256("text", normalizeText(text), normalizeVoice(voiceType), normalizeSpeed(speed), model);
+    }
+
+    @Override
+    public String playlistKeyOf(List<NewsItemDto> newsList, String voiceType, Float speed) {
+        StringBuilder sb = new StringBuilder();
+        if (newsList != null) {
+            for (NewsItemDto news : newsList) {
+                sb.append(normalizeText(news.getNewsId())).append('\u001F')
+                        .append(normalizeText(news.getTitle())).append('\u001F')
+                        .append(normalizeText(news.getCategory())).append('\u001F')
+                        .append(normalizeText(news.getSummary())).append('\u001E');
+            }
+        }
+        return sha256("playlist", sb.toString(), normalizeVoice(voiceType), normalizeSpeed(speed), model);
+    }
+
+    @Override
+    public String scriptKeyOf(List<String> segmentKeys) {
+        // 세그먼트 키에 목소리·속도·모델이 이미 포함됨
+        return sha256("script", segmentKeys != null ? String.join(",", segmentKeys) : "", model);
+    }
+
+    @Override
+    public Path find(String key) {
+        Path file = pathOf(key);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entries.put(key, new Entry(entry.size(), System.currentTimeMillis() + readLeaseMs));
+        }
+        if (!Files.isRegularFile(file)) {
+            synchronized (this) {
+                unregister(key);
+            }
+            return null;
+        }
+        touch(file);
+        return file;
+    }
+
+    @Override
+    public Path getOrCreate(String key, AudioWriter writer) {
+        Path cached = find(key);
+        if (cached != null) {
+            log.debug("TTS 캐시 적중: key={}", key);
+            return cached;
+        }
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            // 다른 요청이 같은 오디오를 생성 중 → 결과 공유
+            return existing.join();
+        }
+
+        try {
+            Path result = create(key, writer);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.complete(null);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Override
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 임시 파일에 기록 후 원자적으로 이동해 캐시에 등록
+     */
+    private Path create(String key, AudioWriter writer) {
+        Path tmp = root.resolve(key + "." + UUID.randomUUID() + ".tmp");
+        try {
+            boolean written = writer.write(tmp);
+            if (!written || !Files.isRegularFile(tmp) || Files.size(tmp) == 0) {
+                log.warn("TTS 오디오 생성 실패 또는 빈 파일: key={}", key);
+                return null;
+            }
+            Path target = pathOf(key);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(target);
+            synchronized (this) {
+                register(key, size, true);
+                evictIfNeeded(key);
+            }
+            log.info("TTS 오디오 캐시 저장: key={}, size={} bytes, total={} bytes", key, size, totalBytes());
+            return target;
+        } catch (IOException e) {
+            log.error("TTS 오디오 캐시 저장 실패: key={}, error={}", key, e.getMessage(), e);
+            return null;
+        } finally {
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException e) {
+                log.debug("임시 파일 삭제 실패: {}", tmp);
+            }
+        }
+    }
+
+    // 호출 측에서 this 동기화 필요 (leased: 등록 직후 경로를 돌려주는 경우 임대 설정)
+    private void register(String key, long size, boolean leased) {
+        Entry previous = entries.put(key, new Entry(size, leased ? System.currentTimeMillis() + readLeaseMs : 0L));
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+        totalBytes += size;
+    }
+
+    // 호출 측에서 this 동기화 필요
+    private void unregister(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+    }
+
+    /**
+     * 용량 초과 시 가장 오래 사용되지 않은 파일부터 삭제 (방금 저장한 키와 임대 중인 항목은 제외)
+     * 남은 항목이 모두 임대 중이면 임대가 끝난 뒤 다음 저장 때 정리되므로 잠시 용량을 넘을 수 있음
+     * 호출 측에서 this 동기화 필요
+     */
+    private void evictIfNeeded(String protectedKey) {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            if (eldest.getKey().equals(protectedKey) || eldest.getValue().leasedUntil() > now) {
+                continue;
+            }
+            it.remove();
+            totalBytes -= eldest.getValue().size();
+            try {
+                Files.deleteIfExists(pathOf(eldest.getKey()));
+                log.debug("TTS 오디오 캐시 제거(LRU): key={}", eldest.getKey());
+            } catch (IOException e) {
+                log.warn("TTS 오디오 캐시 파일 삭제 실패: key={}, error={}", eldest.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key + EXTENSION);
+    }
+
+    /**
+     * 재시작 후에도 LRU 순서가 유지되도록 수정 시각 갱신 (실패해도 무시)
+     */
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("TTS 캐시 파일 시각 갱신 실패: {}", file);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 공백/유니코드 정규화 (같은 문장이 다른 공백·조합형으로 들어와도 같은 키)
+     */
+    private static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.replaceAll("\\s+", " ").trim();
+    }
+
+    private static String normalizeVoice(String voiceType) {
+        if (voiceType == null || voiceType.trim().isEmpty() || "DEFAULT".equalsIgnoreCase(voiceType)) {
+            return "nova";
+        }
+        return voiceType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeSpeed(Float speed) {
+        float value = speed != null ? speed : 1.0f;
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String sha256(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
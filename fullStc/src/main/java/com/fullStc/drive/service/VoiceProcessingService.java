@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -19,6 +20,11 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +41,8 @@ public class VoiceProcessingService {
     @Qualifier("driveRestTemplate")
     private final RestTemplate restTemplate;
 
+    private final TTSAudioStore ttsAudioStore;
+
     /**
      * Python 서버로 복잡한 명령어 분석 요청
      */
@@ -86,80 +94,73 @@ public class VoiceProcessingService {
 
     /**
      * TTS: 텍스트를 오디오로 변환
+     * 동일한 (텍스트, 목소리, 속도) 조합은 로컬 오디오 캐시에서 바로 반환하고,
+     * 없을 때만 Python 서버 응답을 디스크로 스트리밍해 저장 (힙에 전체 오디오를 올리지 않음)
      * @param text 변환할 텍스트
      * @param voiceType 목소리 타입
      * @param speed 재생 속도
      * @param newsId 뉴스 ID (이어듣기 시 기존 파일 조회용, 선택적)
+     * @return 캐시된 오디오 파일 경로, 실패 시 null
      */
-    public byte[] generateSpeech(String text, String voiceType, Float speed, String newsId) {
-        try {
-            // "DEFAULT"를 "nova"로 변환 (안전장치)
-            String validVoiceType = normalizeVoiceType(voiceType);
-            
+    public Path generateSpeech(String text, String voiceType, Float speed, String newsId) {
+        // "DEFAULT"를 "nova"로 변환 (안전장치)
+        String validVoiceType = normalizeVoiceType(voiceType);
+        String key = ttsAudioStore.keyOf(text, validVoiceType, speed);
+
+        return ttsAudioStore.getOrCreate(key, target -> {
             // UriComponentsBuilder를 사용하여 자동 인코딩 처리 (이중 인코딩 방지)
             UriComponentsBuilder urlBuilder = UriComponentsBuilder.fromUriString(pythonServerUrl + "/api/drive/tts")
                     .queryParam("text", text)  // 자동으로 UTF-8 인코딩
                     .queryParam("voice_type", validVoiceType)
                     .queryParam("speed", speed);
-            
+
             // newsId가 있으면 파라미터 추가
             if (newsId != null && !newsId.trim().isEmpty()) {
                 urlBuilder.queryParam("news_id", newsId);
             }
-            
+
             String url = urlBuilder.toUriString();
-            
-            log.info("TTS 요청 URL: {}", url);
-            log.info("TTS 요청 텍스트: {}", text);
-            log.info("TTS 요청 파라미터: voiceType={}, speed={}, newsId={}", validVoiceType, speed, newsId);
-            
-            ResponseEntity<byte[]> response = restTemplate.getForEntity(url, byte[].class);
-            
-            log.info("TTS 응답 상태 코드: {}", response.getStatusCode());
-            log.info("TTS 응답 Body null 여부: {}", response.getBody() == null);
-            if (response.getBody() != null) {
-                log.info("TTS 응답 Body 크기: {} bytes", response.getBody().length);
-            } else {
-                log.error("TTS 응답 Body가 null입니다! 상태 코드: {}", response.getStatusCode());
-            }
-            
-            // 응답 헤더 확인 (디버깅용)
-            HttpHeaders headers = response.getHeaders();
-            log.info("TTS 응답 Content-Type: {}", headers.getContentType());
-            log.info("TTS 응답 Content-Length: {}", headers.getContentLength());
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                if (response.getBody().length == 0) {
-                    log.error("TTS 응답 Body가 비어있습니다! (0 bytes)");
-                } else {
-                    log.info("TTS 생성 성공: {} bytes", response.getBody().length);
-                    return response.getBody();
+            log.info("TTS 요청: voiceType={}, speed={}, newsId={}, 텍스트 길이={}",
+                    validVoiceType, speed, newsId, text != null ? text.length() : 0);
+
+            try {
+                Boolean written = restTemplate.execute(url, HttpMethod.GET,
+                        restTemplate.acceptHeaderRequestCallback(byte[].class),
+                        response -> copyBody(response, target));
+                return Boolean.TRUE.equals(written);
+            } catch (org.springframework.web.client.ResourceAccessException e) {
+                log.error("TTS 생성 실패 (Python 서버 연결 실패): {}", e.getMessage(), e);
+            } catch (org.springframework.web.client.HttpClientErrorException e) {
+                log.error("TTS 생성 실패 (HTTP 4xx 에러): status={}, body={}",
+                        e.getStatusCode(), e.getResponseBodyAsString(), e);
+            } catch (org.springframework.web.client.HttpServerErrorException e) {
+                String errorBody = e.getResponseBodyAsString();
+                log.error("TTS 생성 실패 (HTTP 5xx 에러): status={}, body={}",
+                        e.getStatusCode(), errorBody, e);
+                // Python 서버 에러 메시지에서 상세 정보 추출
+                if (errorBody != null && errorBody.contains("OpenAI")) {
+                    log.error("OpenAI API 관련 오류로 추정됩니다. Python 서버 로그를 확인해주세요.");
                 }
-            } else {
-                log.warn("TTS 응답 실패: status={}, bodyNull={}, bodySize={}", 
-                        response.getStatusCode(), 
-                        response.getBody() == null,
-                        response.getBody() != null ? response.getBody().length : 0);
-            }
-        } catch (org.springframework.web.client.ResourceAccessException e) {
-            log.error("TTS 생성 실패 (Python 서버 연결 실패): {}", e.getMessage(), e);
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            log.error("TTS 생성 실패 (HTTP 4xx 에러): status={}, body={}", 
-                    e.getStatusCode(), e.getResponseBodyAsString(), e);
-        } catch (org.springframework.web.client.HttpServerErrorException e) {
-            String errorBody = e.getResponseBodyAsString();
-            log.error("TTS 생성 실패 (HTTP 5xx 에러): status={}, body={}", 
-                    e.getStatusCode(), errorBody, e);
-            // Python 서버 에러 메시지에서 상세 정보 추출
-            if (errorBody != null && errorBody.contains("OpenAI")) {
-                log.error("OpenAI API 관련 오류로 추정됩니다. Python 서버 로그를 확인해주세요.");
+            } catch (Exception e) {
+                log.error("TTS 생성 실패 (예상치 못한 오류): {}", e.getMessage(), e);
             }
-        } catch (Exception e) {
-            log.error("TTS 생성 실패 (예상치 못한 오류): {}", e.getMessage(), e);
+            return false;
+        });
+    }
+
+    /**
+     * Python 응답 본문을 파일로 스트리밍 복사
+     */
+    private Boolean copyBody(ClientHttpResponse response, Path target) throws IOException {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            log.warn("TTS 응답 실패: status={}", response.getStatusCode());
+            return false;
+        }
+        try (InputStream body = response.getBody()) {
+            long copied = Files.copy(body, target, StandardCopyOption.REPLACE_EXISTING);
+            log.info("TTS 응답 저장: {} bytes, Content-Type={}", copied, response.getHeaders().getContentType());
+            return copied > 0;
         }
-        
-        log.warn("TTS 생성 실패로 빈 바이트 배열 반환");
-        return new byte[0];
     }
     
     /**
@@ -366,58 +367,98 @@ public class VoiceProcessingService {
 
     /**
      * 플레이리스트 전체 TTS 생성
+     * 같은 기사 목록(내용 기준)은 히스토리가 달라도 로컬 오디오 캐시를 재사용하고,
+     * 캐시가 없으면 Python 히스토리 캐시 → 신규 생성 순으로 디스크에 스트리밍 저장
      * @param newsList 뉴스 목록
      * @param historyId 히스토리 ID
      * @param voiceType 목소리 타입
      * @param speed 재생 속도
-     * @return 오디오 바이너리 데이터
+     * @return 캐시된 오디오 파일 경로, 실패 시 null
      */
-    public byte[] generatePlaylistTTS(
+    public Path generatePlaylistTTS(
             List<NewsItemDto> newsList,
             Long historyId,
             String voiceType,
             Float speed
     ) {
-        try {
-            String validVoiceType = normalizeVoiceType(voiceType);
-            String url = pythonServerUrl + "/api/drive/tts/playlist";
-            
-            // NewsItemDto를 Map으로 변환
-            List<Map<String, Object>> newsListMap = new ArrayList<>();
-            if (newsList != null) {
-                for (NewsItemDto news : newsList) {
-                    Map<String, Object> newsMap = new HashMap<>();
-                    newsMap.put("news_id", news.getNewsId());
-                    newsMap.put("title", news.getTitle());
-                    newsMap.put("category", news.getCategory());
-                    newsMap.put("summary", news.getSummary());
-                    newsListMap.add(newsMap);
+        String validVoiceType = normalizeVoiceType(voiceType);
+        String key = ttsAudioStore.playlistKeyOf(newsList, validVoiceType, speed);
+
+        return ttsAudioStore.getOrCreate(key, target -> {
+            // 1. Python 서버에 이미 생성된 히스토리 파일이 있으면 재사용
+            if (copyHistoryTTS(historyId, target)) {
+                log.info("플레이리스트 TTS: Python 히스토리 캐시 사용 (historyId={})", historyId);
+                return true;
+            }
+
+            // 2. 신규 생성
+            try {
+                String url = pythonServerUrl + "/api/drive/tts/playlist";
+
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                HttpEntity<Map<String, Object>> request = new HttpEntity<>(
+                        buildPlaylistRequestBody(newsList, historyId, validVoiceType, speed), headers);
+
+                Boolean written = restTemplate.execute(url, HttpMethod.POST,
+                        restTemplate.httpEntityCallback(request, byte[].class),
+                        response -> copyBody(response, target));
+                if (Boolean.TRUE.equals(written)) {
+                    log.info("플레이리스트 TTS 생성 성공: historyId={}, 크기={} bytes", historyId, Files.size(target));
+                    return true;
                 }
+            } catch (Exception e) {
+                log.error("플레이리스트 TTS 생성 실패: {}", e.getMessage(), e);
             }
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("news_list", newsListMap);
-            requestBody.put("history_id", historyId);
-            requestBody.put("voice_type", validVoiceType);
-            requestBody.put("speed", speed);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<byte[]> response = restTemplate.postForEntity(url, request, byte[].class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                log.info("플레이리스트 TTS 생성 성공: historyId={}, 크기={} bytes", historyId, response.getBody().length);
-                return response.getBody();
-            } else {
-                log.warn("플레이리스트 TTS 생성 실패: status={}", response.getStatusCode());
+            return false;
+        });
+    }
+
+    /**
+     * Python 서버 플레이리스트 TTS 요청 본문 생성
+     */
+    private Map<String, Object> buildPlaylistRequestBody(
+            List<NewsItemDto> newsList, Long historyId, String voiceType, Float speed) {
+        // NewsItemDto를 Map으로 변환
+        List<Map<String, Object>> newsListMap = new ArrayList<>();
+        if (newsList != null) {
+            for (NewsItemDto news : newsList) {
+                Map<String, Object> newsMap = new HashMap<>();
+                newsMap.put("news_id", news.getNewsId());
+                newsMap.put("title", news.getTitle());
+                newsMap.put("category", news.getCategory());
+                newsMap.put("summary", news.getSummary());
+                newsListMap.add(newsMap);
             }
+        }
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("news_list", newsListMap);
+        requestBody.put("history_id", historyId);
+        requestBody.put("voice_type", voiceType);
+        requestBody.put("speed", speed);
+        return requestBody;
+    }
+
+    /**
+     * Python 서버의 히스토리 TTS 파일을 대상 파일로 스트리밍 (없으면 false)
+     */
+    private boolean copyHistoryTTS(Long historyId, Path target) {
+        if (historyId == null) {
+            return false;
+        }
+        try {
+            String url = pythonServerUrl + "/api/drive/tts/history/" + historyId;
+            Boolean written = restTemplate.execute(url, HttpMethod.GET,
+                    restTemplate.acceptHeaderRequestCallback(byte[].class),
+                    response -> copyBody(response, target));
+            return Boolean.TRUE.equals(written);
+        } catch (HttpClientErrorException e) {
+            log.debug("히스토리 TTS 캐시 없음(정상): historyId={}, status={}", historyId, e.getStatusCode());
         } catch (Exception e) {
-            log.error("플레이리스트 TTS 생성 실패: {}", e.getMessage(), e);
+            log.warn("히스토리 TTS 조회 실패: historyId={}, error={}", historyId, e.getMessage());
         }
-        
-        return new byte[0];
+        return false;
     }
 
     /**
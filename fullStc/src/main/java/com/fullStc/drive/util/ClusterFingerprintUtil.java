@@ -0,0 +1,52 @@
+package com.fullStc.drive.util;
+
+import com.fullStc.drive.dto.NewsItemDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 플레이리스트 clusterKey 집합 지문(fingerprint) 유틸리티
+ *
+ * 기사 순서와 무관하게 같은 clusterKey 집합이면 같은 값을 반환합니다.
+ * drive_history.cluster_fingerprint 컬럼에 저장해 "같은 기사 목록" 여부를 JSON 파싱 없이 인덱스로 조회합니다.
+ */
+public class ClusterFingerprintUtil {
+
+    private ClusterFingerprintUtil() {
+    }
+
+    /**
+     * 뉴스 목록의 clusterKey 집합 지문 (SHA-256 hex)
+     * @return clusterKey가 하나도 없으면 null
+     */
+    public static String fingerprint(List<NewsItemDto> newsList) {
+        if (newsList == null) {
+            return null;
+        }
+        List<String> keys = newsList.stream()
+                .map(NewsItemDto::getClusterKey)
+                .filter(Objects::nonNull)
+                .filter(key -> !key.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+        if (keys.isEmpty()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String key : keys) {
+                digest.update(key.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
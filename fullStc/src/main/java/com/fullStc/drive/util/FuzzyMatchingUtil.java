@@ -1,155 +1,360 @@
 package com.fullStc.drive.util;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 
+/**
+ * 단답형 음성 명령 로컬 인식기
+ *
+ * 명령어 사전을 자모 단위로 분해해 트라이(+ Aho-Corasick 실패 링크)로 구성합니다.
+ * 1) 정확 매칭: 트라이 탐색
+ * 2) 포함 매칭: 문장 안의 명령어를 Aho-Corasick으로 찾고, 명령어가 문장 대부분을 차지할 때만 인정
+ * 3) 오타 매칭: 트라이를 따라가며 레벤슈타인 거리를 계산하고 허용 거리를 넘는 가지는 잘라냄
+ * 같은 문구가 여러 의도에 걸리면 INTENT_PRIORITY 순서가 앞선 의도를 사용합니다.
+ */
 public class FuzzyMatchingUtil {
-    
-    // 단답형 명령어 사전
-    private static final Map<String, String> COMMAND_MAP = new HashMap<>();
-    
+
+    // 문구가 여러 의도에 등록된 경우 우선순위 (앞쪽이 우선)
+    private static final List<String> INTENT_PRIORITY = List.of(
+            "RESUME_CHOICE", "NEW_BRIEFING_CHOICE", "STOP", "PAUSE", "REPEAT",
+            "NEXT", "PREV", "RESUME", "HISTORY_OPEN", "HELP");
+
+    // 포함 매칭 시 명령어가 문장(자모 기준)에서 차지해야 하는 최소 비율
+    private static final double MIN_COVERAGE = 0.6;
+
+    // 오타 매칭 최소 신뢰도
+    private static final float MIN_FUZZY_CONFIDENCE = 0.6f;
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+
+    // 단답형 명령어 사전 (문구 → 의도 목록)
+    private static final Map<String, List<String>> COMMANDS = new LinkedHashMap<>();
+
+    private static final Node ROOT = new Node();
+
     static {
-        // 단답형 명령어 패턴 정의
         // 다음 기사
-        COMMAND_MAP.put("다음", "NEXT");
-        COMMAND_MAP.put("넥스트", "NEXT");
-        COMMAND_MAP.put("다음거", "NEXT");
-        COMMAND_MAP.put("다음 기사", "NEXT");
-        COMMAND_MAP.put("다음 뉴스", "NEXT");
-        COMMAND_MAP.put("스킵", "NEXT");
-        COMMAND_MAP.put("건너뛰기", "NEXT");
-        COMMAND_MAP.put("건너뛰어", "NEXT");
-        
+        register("NEXT", "다음", "넥스트", "다음거", "다음 기사", "다음 뉴스", "스킵", "건너뛰기", "건너뛰어");
+
         // 이전 기사
-        COMMAND_MAP.put("이전", "PREV");
-        COMMAND_MAP.put("이전거", "PREV");
-        COMMAND_MAP.put("뒤로", "PREV");
-        COMMAND_MAP.put("이전 뉴스", "PREV");
-        COMMAND_MAP.put("이전 기사", "PREV");
-        
+        register("PREV", "이전", "이전거", "뒤로", "이전 뉴스", "이전 기사");
+
         // 일시정지
-        COMMAND_MAP.put("일시정지", "PAUSE");
-        COMMAND_MAP.put("정지", "PAUSE");
-        COMMAND_MAP.put("멈춰", "PAUSE");
-        COMMAND_MAP.put("잠깐", "PAUSE");
-        COMMAND_MAP.put("멈춤", "PAUSE");
-        COMMAND_MAP.put("일시 정지", "PAUSE");
-        
+        register("PAUSE", "일시정지", "정지", "멈춰", "잠깐", "멈춤", "일시 정지");
+
         // 재생
-        COMMAND_MAP.put("재생", "RESUME");
-        COMMAND_MAP.put("계속", "RESUME");
-        COMMAND_MAP.put("다시", "RESUME");
-        COMMAND_MAP.put("이어서", "RESUME");
-        COMMAND_MAP.put("계속해", "RESUME");
-        COMMAND_MAP.put("재개", "RESUME");
-        
+        register("RESUME", "재생", "계속", "다시", "이어서", "계속해", "재개");
+
         // 중지
-        COMMAND_MAP.put("중지", "STOP");
-        COMMAND_MAP.put("그만", "STOP");
-        COMMAND_MAP.put("끝", "STOP");
-        COMMAND_MAP.put("종료", "STOP");
-        COMMAND_MAP.put("그만해", "STOP");
-        
+        register("STOP", "중지", "그만", "끝", "종료", "그만해");
+
         // 반복
-        COMMAND_MAP.put("반복", "REPEAT");
-        COMMAND_MAP.put("다시 들려줘", "REPEAT");
-        COMMAND_MAP.put("다시 말해줘", "REPEAT");
-        COMMAND_MAP.put("뭐라고", "REPEAT");
-        COMMAND_MAP.put("뭐라고 했어", "REPEAT");
-        
+        register("REPEAT", "반복", "다시 들려줘", "다시 말해줘", "뭐라고", "뭐라고 했어");
+
         // 이어듣기 선택
-        COMMAND_MAP.put("이어듣기", "RESUME_CHOICE");
-        COMMAND_MAP.put("이어서", "RESUME_CHOICE");
-        COMMAND_MAP.put("계속 듣기", "RESUME_CHOICE");
-        COMMAND_MAP.put("이전 뉴스", "RESUME_CHOICE");
-        COMMAND_MAP.put("이어서 듣기", "RESUME_CHOICE");
-        
+        register("RESUME_CHOICE", "이어듣기", "이어서", "계속 듣기", "이전 뉴스", "이어서 듣기");
+
         // 새 브리핑 선택
-        COMMAND_MAP.put("새 브리핑", "NEW_BRIEFING_CHOICE");
-        COMMAND_MAP.put("새로운", "NEW_BRIEFING_CHOICE");
-        COMMAND_MAP.put("새로", "NEW_BRIEFING_CHOICE");
-        COMMAND_MAP.put("처음부터", "NEW_BRIEFING_CHOICE");
-        COMMAND_MAP.put("새로운 브리핑", "NEW_BRIEFING_CHOICE");
-        
+        register("NEW_BRIEFING_CHOICE", "새 브리핑", "새로운", "새로", "처음부터", "새로운 브리핑");
+
         // 히스토리
-        COMMAND_MAP.put("히스토리", "HISTORY_OPEN");
-        COMMAND_MAP.put("기록", "HISTORY_OPEN");
-        COMMAND_MAP.put("들었던 뉴스", "HISTORY_OPEN");
-        COMMAND_MAP.put("저장된 뉴스", "HISTORY_OPEN");
-        
+        register("HISTORY_OPEN", "히스토리", "기록", "들었던 뉴스", "저장된 뉴스");
+
         // 도움말
-        COMMAND_MAP.put("도움말", "HELP");
-        COMMAND_MAP.put("명령어", "HELP");
-        COMMAND_MAP.put("어떻게", "HELP");
-        COMMAND_MAP.put("사용법", "HELP");
+        register("HELP", "도움말", "명령어", "어떻게", "사용법");
+
+        for (Map.Entry<String, List<String>> entry : COMMANDS.entrySet()) {
+            insert(entry.getKey(), resolveIntent(entry.getValue()));
+        }
+        buildFailureLinks();
+    }
+
+    private FuzzyMatchingUtil() {
     }
-    
+
     /**
-     * 레벤슈타인 거리 계산
+     * 명령 매칭 결과
+     * @param intent 의도
+     * @param confidence 신뢰도 (0.0 ~ 1.0)
+     * @param phrase 매칭된 사전 문구
+     * @param type EXACT, CONTAINS, FUZZY
      */
-    public static int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
+    public record CommandMatch(String intent, float confidence, String phrase, String type) {
+    }
+
+    /**
+     * 단답형 명령어 인식
+     * @param input 사용자 입력 텍스트
+     * @param threshold 오타 매칭 최대 허용 거리 (자모 기준, 문구 길이에 따라 더 줄어듦)
+     * @return 매칭 결과 또는 null
+     */
+    public static CommandMatch match(String input, int threshold) {
+        String normalized = normalize(input);
+        if (normalized.isEmpty()) {
+            return null;
         }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
+        String jamo = toJamo(normalized);
+
+        // 1) 정확 매칭
+        Node node = ROOT;
+        for (int i = 0; i < jamo.length() && node != null; i++) {
+            node = node.children.get(jamo.charAt(i));
         }
-        
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = Math.min(
-                        Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1),
-                        dp[i - 1][j - 1] + 1
-                    );
+        if (node != null && node.intent != null) {
+            return new CommandMatch(node.intent, 1.0f, node.phrase, "EXACT");
+        }
+
+        // 2) 포함 매칭: 가장 긴 명령어 문구
+        Node best = null;
+        Node state = ROOT;
+        for (int i = 0; i < jamo.length(); i++) {
+            char c = jamo.charAt(i);
+            while (state != ROOT && !state.children.containsKey(c)) {
+                state = state.fail;
+            }
+            state = state.children.getOrDefault(c, ROOT);
+            for (Node out = state.intent != null ? state : state.output; out != null; out = out.output) {
+                if (best == null || out.depth > best.depth) {
+                    best = out;
                 }
             }
         }
-        
-        return dp[s1.length()][s2.length()];
+        if (best != null) {
+            double coverage = (double) best.depth / jamo.length();
+            if (coverage >= MIN_COVERAGE) {
+                return new CommandMatch(best.intent, (float) (0.6 + 0.3 * coverage), best.phrase, "CONTAINS");
+            }
+        }
+
+        // 3) 오타 매칭
+        if (threshold <= 0) {
+            return null;
+        }
+        FuzzyResult fuzzy = new FuzzyResult();
+        int[] firstRow = new int[jamo.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        for (Map.Entry<Character, Node> child : ROOT.children.entrySet()) {
+            searchFuzzy(child.getValue(), child.getKey(), jamo, firstRow, threshold, fuzzy);
+        }
+        if (fuzzy.node == null) {
+            return null;
+        }
+        int length = Math.max(fuzzy.node.depth, jamo.length());
+        float confidence = Math.min(0.85f, 1.0f - (float) fuzzy.distance / length);
+        if (confidence < MIN_FUZZY_CONFIDENCE) {
+            return null;
+        }
+        return new CommandMatch(fuzzy.node.intent, confidence, fuzzy.node.phrase, "FUZZY");
+    }
+
+    /**
+     * 기본 threshold(2)로 명령어 인식
+     */
+    public static CommandMatch match(String input) {
+        return match(input, 2);
     }
-    
+
     /**
-     * 단답형 명령어 매칭 (레벤슈타인 거리 기반)
+     * 단답형 명령어 매칭
      * @param input 사용자 입력 텍스트
      * @param threshold 최대 허용 거리 (기본값: 2)
      * @return 매칭된 Intent 또는 null
      */
     public static String matchCommand(String input, int threshold) {
-        if (input == null || input.trim().isEmpty()) {
-            return null;
-        }
-        
-        input = input.trim().toLowerCase();
-        
-        // 정확한 매칭 먼저 시도
-        if (COMMAND_MAP.containsKey(input)) {
-            return COMMAND_MAP.get(input);
-        }
-        
-        // 유사도 기반 매칭
-        String bestMatch = null;
-        int minDistance = Integer.MAX_VALUE;
-        
-        for (Map.Entry<String, String> entry : COMMAND_MAP.entrySet()) {
-            int distance = levenshteinDistance(input, entry.getKey());
-            if (distance < minDistance && distance <= threshold) {
-                minDistance = distance;
-                bestMatch = entry.getValue();
-            }
-        }
-        
-        return bestMatch;
+        CommandMatch result = match(input, threshold);
+        return result != null ? result.intent() : null;
     }
-    
+
     /**
      * 기본 threshold(2)로 명령어 매칭
      */
     public static String matchCommand(String input) {
         return matchCommand(input, 2);
     }
+
+    /**
+     * 레벤슈타인 거리 계산
+     */
+    public static int levenshteinDistance(String s1, String s2) {
+        int[] prev = new int[s2.length() + 1];
+        int[] curr = new int[s2.length() + 1];
+        for (int j = 0; j <= s2.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= s1.length(); i++) {
+            curr[0] = i;
+            for (int j = 1; j <= s2.length(); j++) {
+                int cost = s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[s2.length()];
+    }
+
+    /**
+     * 한글 음절을 초성·중성·종성 자모로 분해 ("다음" → ㄷㅏㅇㅡㅁ)
+     * 음절 단위보다 촘촘하게 거리를 재서 "다움"처럼 받침·모음 하나 틀린 인식 결과도 가깝게 계산됨
+     */
+    static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int index = c - HANGUL_BASE;
+                sb.append((char) (0x1100 + index / 588));
+                sb.append((char) (0x1161 + (index % 588) / 28));
+                int jong = index % 28;
+                if (jong > 0) {
+                    sb.append((char) (0x11A7 + jong));
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 소문자화 후 공백·문장부호 제거 ("다음 기사!" → "다음기사")
+     */
+    static String normalize(String input) {
+        if (input == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(input.length());
+        String lower = input.trim().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void register(String intent, String... phrases) {
+        for (String phrase : phrases) {
+            List<String> intents = COMMANDS.computeIfAbsent(normalize(phrase), k -> new ArrayList<>());
+            if (!intents.contains(intent)) {
+                intents.add(intent);
+            }
+        }
+    }
+
+    private static String resolveIntent(List<String> intents) {
+        String best = intents.get(0);
+        for (String intent : intents) {
+            if (priorityOf(intent) < priorityOf(best)) {
+                best = intent;
+            }
+        }
+        return best;
+    }
+
+    private static int priorityOf(String intent) {
+        int index = INTENT_PRIORITY.indexOf(intent);
+        return index >= 0 ? index : INTENT_PRIORITY.size();
+    }
+
+    private static void insert(String phrase, String intent) {
+        String jamo = toJamo(phrase);
+        Node node = ROOT;
+        for (int i = 0; i < jamo.length(); i++) {
+            Node parent = node;
+            node = node.children.computeIfAbsent(jamo.charAt(i), k -> new Node());
+            node.depth = parent.depth + 1;
+        }
+        node.intent = intent;
+        node.phrase = phrase;
+    }
+
+    /**
+     * Aho-Corasick 실패 링크와 출력 링크(실패 경로상 가장 가까운 명령어 노드) 구성
+     */
+    private static void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : ROOT.children.values()) {
+            child.fail = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+                Node f = node.fail;
+                while (f != ROOT && !f.children.containsKey(c)) {
+                    f = f.fail;
+                }
+                Node target = f.children.get(c);
+                child.fail = target != null && target != child ? target : ROOT;
+                child.output = child.fail.intent != null ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 트라이를 따라 레벤슈타인 DP 행을 이어 계산 (행 최솟값이 허용 거리를 넘으면 가지치기)
+     */
+    private static void searchFuzzy(Node node, char c, String input, int[] prevRow, int threshold, FuzzyResult result) {
+        int[] row = new int[prevRow.length];
+        row[0] = prevRow[0] + 1;
+        int rowMin = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int cost = input.charAt(i - 1) == c ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, prevRow[i] + 1), prevRow[i - 1] + cost);
+            rowMin = Math.min(rowMin, row[i]);
+        }
+
+        if (node.intent != null) {
+            int distance = row[row.length - 1];
+            // 짧은 문구일수록 허용 거리 축소 (자모 3개당 1개, 예: "끝"은 1개까지)
+            int allowed = Math.min(threshold, node.depth / 3);
+            if (distance <= allowed && result.isBetter(node, distance)) {
+                result.node = node;
+                result.distance = distance;
+            }
+        }
+
+        if (rowMin <= threshold) {
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                searchFuzzy(child.getValue(), child.getKey(), input, row, threshold, result);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        private Node output;
+        private int depth;
+        private String intent;
+        private String phrase;
+    }
+
+    private static final class FuzzyResult {
+        private Node node;
+        private int distance = Integer.MAX_VALUE;
+
+        // 거리가 짧은 쪽, 같으면 우선순위가 높은 의도
+        private boolean isBetter(Node candidate, int candidateDistance) {
+            if (candidateDistance != distance) {
+                return candidateDistance < distance;
+            }
+            return node == null || priorityOf(candidate.intent) < priorityOf(node.intent);
+        }
+    }
 }
@@ -0,0 +1,157 @@
+package com.fullStc.drive.util;
+
+import com.fullStc.drive.dto.NewsItemDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플레이리스트 TTS 스크립트 분할 유틸리티
+ *
+ * Python playlist_service의 기사 멘트 형식("다음은 OO 기사입니다. 제목. 요약")을 따르되,
+ * 전체를 한 번에 합성하지 않고 재생 순서대로 짧은 구간(세그먼트)으로 나눕니다.
+ * 첫 구간(오프닝)을 짧게 두어 첫 오디오가 빨리 재생되도록 합니다.
+ */
+public class PlaylistScriptUtil {
+
+    public static final String OPENING = "안녕하세요, 드라이브 모드 뉴스 브리핑을 시작합니다.";
+    public static final String CLOSING = "이상으로 뉴스 브리핑을 마칩니다. 안전 운전하세요.";
+
+    private static final Map<String, String> CATEGORY_KR = Map.of(
+            "economy", "경제",
+            "politics", "정치",
+            "society", "사회",
+            "it", "IT",
+            "world", "글로벌",
+            "sports", "스포츠",
+            "entertainment", "연예",
+            "science", "과학");
+
+    // 평서형 종결어미 → 존댓말 (구체적인 패턴 먼저)
+    private static final String[][] POLITE_ENDINGS = {
+            {"나타났다", "나타났습니다"},
+            {"밝혔다", "밝혔습니다"},
+            {"있다", "있습니다"},
+            {"없다", "없습니다"},
+            {"했다", "했습니다"},
+            {"하다", "합니다"},
+            {"한다", "합니다"},
+            {"이다", "입니다"},
+            {"었다", "었습니다"},
+            {"였다", "였습니다"},
+            {"된다", "됩니다"},
+            {"않다", "않습니다"},
+    };
+
+    private static final Pattern[] POLITE_PATTERNS = new Pattern[POLITE_ENDINGS.length];
+
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
+
+    static {
+        for (int i = 0; i < POLITE_ENDINGS.length; i++) {
+            POLITE_PATTERNS[i] = Pattern.compile(Pattern.quote(POLITE_ENDINGS[i][0]) + "(\\.|\\s|$)");
+        }
+    }
+
+    private PlaylistScriptUtil() {
+    }
+
+    /**
+     * 플레이리스트를 재생 순서대로 세그먼트 텍스트로 분할
+     * @param newsList 뉴스 목록
+     * @param maxChars 세그먼트 최대 글자 수 (문장 경계 기준으로 자름)
+     * @return 세그먼트 목록 (오프닝, 기사 구간들, 마무리 순)
+     */
+    public static List<ScriptSegment> split(List<NewsItemDto> newsList, int maxChars) {
+        List<ScriptSegment> segments = new ArrayList<>();
+        segments.add(new ScriptSegment("OPENING", null, null, OPENING));
+
+        if (newsList != null) {
+            for (NewsItemDto news : newsList) {
+                String title = news.getTitle() != null ? news.getTitle() : "";
+                String summary = toPolite(summaryForTts(news.getSummary()));
+                String text = "다음은 " + toKoreanCategory(news.getCategory()) + " 기사입니다. " + title + ". " + summary;
+                for (String chunk : chunkBySentence(text.trim(), maxChars)) {
+                    segments.add(new ScriptSegment("ARTICLE", news.getNewsId(), title, chunk));
+                }
+            }
+        }
+
+        segments.add(new ScriptSegment("CLOSING", null, null, CLOSING));
+        return segments;
+    }
+
+    /**
+     * 문장 경계 기준으로 maxChars 이하 덩어리로 묶음 (한 문장이 더 길면 그대로 한 덩어리)
+     */
+    static List<String> chunkBySentence(String text, int maxChars) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String sentence : SENTENCE_END.split(text)) {
+            if (sentence.isBlank()) {
+                continue;
+            }
+            if (current.length() > 0 && current.length() + 1 + sentence.length() > maxChars) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) {
+                current.append(' ');
+            }
+            current.append(sentence.trim());
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    /**
+     * TTS용 요약: [서론][본론][결론] 표식 제거 후 공백 정리
+     */
+    static String summaryForTts(String summary) {
+        if (summary == null || summary.isBlank()) {
+            return "";
+        }
+        String s = summary.replace("[서론]", " ").replace("[본론]", " ").replace("[결론]", " ");
+        return s.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * TTS용: 평서형(~했다/~이다 등) → 존댓말(~했습니다/~입니다)
+     */
+    static String toPolite(String text) {
+        String s = text;
+        for (int i = 0; i < POLITE_PATTERNS.length; i++) {
+            String polite = POLITE_ENDINGS[i][1];
+            Matcher m = POLITE_PATTERNS[i].matcher(s);
+            StringBuilder sb = new StringBuilder();
+            while (m.find()) {
+                String tail = m.group(1);
+                String replacement = tail.isEmpty() ? polite : (".".equals(tail) ? polite + "." : polite + ". ");
+                m.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+            }
+            m.appendTail(sb);
+            s = sb.toString();
+        }
+        return s;
+    }
+
+    private static String toKoreanCategory(String category) {
+        if (category == null) {
+            return "일반";
+        }
+        return CATEGORY_KR.getOrDefault(category.toLowerCase(Locale.ROOT), "일반");
+    }
+
+    /**
+     * 세그먼트 텍스트
+     * @param kind OPENING, ARTICLE, CLOSING
+     */
+    public record ScriptSegment(String kind, String newsId, String title, String text) {
+    }
+}
@@ -4,18 +4,25 @@ import com.fullStc.exchange.client.ExchangeRateCrawler;
 import com.fullStc.exchange.dto.ExchangeRateDTO;
 import com.fullStc.exchange.dto.ExchangeRateResponseDTO;
 import com.fullStc.exchange.dto.KoreaEximApiResponseDTO;
+import com.fullStc.exchange.service.ExchangeRateHub;
 import com.fullStc.exchange.service.ExchangeRateService;
 import com.fullStc.exchange.service.impl.ExchangeRateServiceImpl;
+import com.fullStc.marketdata.dto.MarketBarDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,14 +40,33 @@ public class ExchangeRateController {
     private final ExchangeRateService exchangeRateService;
     private final ExchangeRateCrawler exchangeRateCrawler;
     private final ExchangeRateServiceImpl exchangeRateServiceImpl;
+    private final ExchangeRateHub exchangeRateHub;
 
     @Operation(summary = "모든 환율 조회", description = "당일 환율 정보를 조회합니다. (캐시 우선)")
     @GetMapping
-    public ResponseEntity<ExchangeRateResponseDTO> getAllExchangeRates() {
+    public ResponseEntity<?> getAllExchangeRates(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 실시간 스냅샷이 있으면 미리 직렬화된 JSON을 그대로 응답 (바뀌지 않았으면 304)
+        ExchangeRateHub.Snapshot snapshot = exchangeRateHub.current();
+        if (snapshot != null) {
+            if (snapshot.etag().equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(snapshot.etag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(snapshot.json());
+        }
         ExchangeRateResponseDTO response = exchangeRateService.getAllExchangeRates();
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "실시간 환율 구독 (SSE)", description = "연결 직후 전체 환율(snapshot), 이후 환율이 바뀔 때마다 바뀐 통화만(rates) 전송합니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamExchangeRates() {
+        return exchangeRateHub.subscribe();
+    }
+
     @Operation(summary = "특정 날짜 환율 조회", description = "지정한 날짜의 환율 정보를 조회합니다.")
     @GetMapping("/date/{searchDate}")
     public ResponseEntity<ExchangeRateResponseDTO> getExchangeRatesByDate(
@@ -57,6 +83,18 @@ public class ExchangeRateController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "환율 이력 조회 (차트용)", description = "기간 안의 시세 봉을 조회합니다. resolution: 1m(최대 7일), 1h, 1d (생략하면 기간에 따라 자동 선택)")
+    @GetMapping("/history/{curUnit}")
+    public ResponseEntity<List<MarketBarDTO>> getExchangeRateHistory(
+            @PathVariable String curUnit,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String resolution) {
+        List<MarketBarDTO> response = exchangeRateService.getExchangeRateHistory(curUnit, from,
+                to != null ? to : LocalDateTime.now(), resolution);
+        return ResponseEntity.ok(response);
+    }
+
     // 환율 데이터 수동 갱신
     @Operation(summary = "환율 데이터 수동 갱신", description = "한국수출입은행 API를 호출하여 당일 환율 데이터를 강제로 갱신하고 DB에 저장합니다.")
     @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "갱신할 날짜 (선택, yyyyMMdd 형식, 없으면 당일)", required = false)
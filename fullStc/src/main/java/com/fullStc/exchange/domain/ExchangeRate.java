@@ -11,7 +11,9 @@ import java.time.LocalDate;
 
 // 환율 정보 엔티티
 @Entity
-@Table(name = "exchange_rate")
+@Table(name = "exchange_rate", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_exchange_rate_cur_date", columnNames = { "cur_unit", "search_date" })
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -16,4 +16,7 @@ public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long
 
     // 통화 코드와 조회 날짜로 환율 조회
     Optional<ExchangeRate> findByCurUnitAndSearchDate(String curUnit, LocalDate searchDate);
+
+    // 통화 코드와 기간으로 일별 환율 조회 (날짜순)
+    List<ExchangeRate> findByCurUnitAndSearchDateBetweenOrderBySearchDateAsc(String curUnit, LocalDate from, LocalDate to);
 }
@@ -1,6 +1,7 @@
 package com.fullStc.exchange.scheduler;
 
 import com.fullStc.exchange.service.ExchangeRateService;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,7 +11,7 @@ import java.time.LocalDate;
 
 // 환율 데이터 자동 수집 스케줄러
 // - 일일 기본 데이터: 매일 오전 9시에 API로 수집 (DB 저장)
-// - 실시간 데이터: 5초마다 크롤링으로 수집 (Redis에만 저장)
+// - 실시간 데이터: 5초마다 크롤링으로 수집 (메모리 스냅샷 + Redis, 바뀌면 SSE 전송)
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -20,7 +21,7 @@ public class ExchangeRateScheduler {
     private LocalDate lastApiCallDate = null;
 
     // 하루에 한 번만 API로 기본 데이터 수집 (매일 오전 9시)
-    @Scheduled(cron = "0 0 9 * * ?") // 매일 오전 9시
+    @Scheduled(cron = "0 0 9 * * ?", scheduler = SchedulingConfig.MARKET_DATA) // 매일 오전 9시
     public void fetchDailyBaseData() {
         try {
             LocalDate today = LocalDate.now();
@@ -37,7 +38,7 @@ public class ExchangeRateScheduler {
     }
 
     // 실시간 크롤링 (5초마다 실행)
-    @Scheduled(fixedDelay = 5000) // 5초마다 실행
+    @Scheduled(fixedDelay = 5000, scheduler = SchedulingConfig.MARKET_DATA) // 5초마다 실행
     public void fetchRealtimeData() {
         try {
             LocalDate today = LocalDate.now();
@@ -50,7 +51,7 @@ public class ExchangeRateScheduler {
                 lastApiCallDate = today;
             }
 
-            // 크롤링으로 실시간 데이터 수집 (Redis에만 저장)
+            // 크롤링으로 실시간 데이터 수집 (메모리 스냅샷 + Redis)
             exchangeRateService.fetchRealtimeDataFromCrawler(today);
 
         } catch (Exception e) {
@@ -0,0 +1,201 @@
+package com.fullStc.exchange.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStc.exchange.dto.ExchangeRateDTO;
+import com.fullStc.exchange.dto.ExchangeRateResponseDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 실시간 환율 허브
+// - 크롤링할 때마다 최신 환율을 불변 스냅샷(목록, 통화별 맵, 직렬화된 JSON)으로 교체
+// - 조회는 스냅샷만 읽으므로 Redis/DB를 거치지 않음
+// - 환율이 바뀐 경우에만 SSE 구독자에게 바뀐 통화만 전송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateHub {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ObjectMapper objectMapper;
+
+    // 크롤링이 멈췄을 때 오래된 스냅샷을 계속 주지 않도록 하는 최대 수명 (지나면 Redis/DB로 조회)
+    @Value("${exchange.snapshot.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    // SSE 연결 유지 시간 (끊기면 브라우저 EventSource가 자동 재연결)
+    @Value("${exchange.sse.timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    // 재시작 후 같은 버전 번호로 ETag가 겹치지 않도록 구분
+    private final String bootId = Long.toHexString(System.currentTimeMillis());
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    // 느린 구독자가 크롤링 스케줄러를 막지 않도록 전송은 별도 스레드에서
+    private final ExecutorService pushPool = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "fx-push");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 환율 스냅샷 (교체만 하고 수정하지 않음)
+     * @param byCurrency 통화 코드(대문자) → 환율
+     * @param json 응답 본문으로 그대로 쓰는 직렬화 결과
+     * @param publishedAt 마지막으로 크롤링 결과를 반영한 시각 (내용이 같아도 갱신)
+     */
+    public record Snapshot(ExchangeRateResponseDTO response, Map<String, ExchangeRateDTO> byCurrency, byte[] json,
+                           String etag, long publishedAt) {
+    }
+
+    /**
+     * 오늘 날짜의 최신 스냅샷 (없거나 오래됐으면 null)
+     */
+    public Snapshot current() {
+        return current(LocalDate.now().format(DATE_FORMAT));
+    }
+
+    /**
+     * 지정한 날짜(yyyyMMdd)의 최신 스냅샷 (없거나 오래됐으면 null)
+     */
+    public Snapshot current(String searchDate) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || !searchDate.equals(snapshot.response().getSearchDate())
+                || System.currentTimeMillis() - snapshot.publishedAt() > maxAgeMs) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * 크롤링 결과 반영
+     * @return 환율이 바뀌었으면 true
+     */
+    public synchronized boolean publish(ExchangeRateResponseDTO response) {
+        long now = System.currentTimeMillis();
+        Snapshot prev = current.get();
+
+        Map<String, ExchangeRateDTO> byCurrency = new LinkedHashMap<>();
+        for (ExchangeRateDTO rate : response.getExchangeRates()) {
+            byCurrency.putIfAbsent(rate.getCurUnit().trim().toUpperCase(), rate);
+        }
+
+        boolean sameDate = prev != null && prev.response().getSearchDate().equals(response.getSearchDate());
+        List<ExchangeRateDTO> changed = new ArrayList<>();
+        for (Map.Entry<String, ExchangeRateDTO> e : byCurrency.entrySet()) {
+            if (!sameDate || !e.getValue().equals(prev.byCurrency().get(e.getKey()))) {
+                changed.add(e.getValue());
+            }
+        }
+        boolean removed = sameDate && !byCurrency.keySet().containsAll(prev.byCurrency().keySet());
+
+        if (sameDate && changed.isEmpty() && !removed) {
+            // 내용은 같으므로 시각만 갱신
+            current.set(new Snapshot(prev.response(), prev.byCurrency(), prev.json(), prev.etag(), now));
+            return false;
+        }
+
+        ExchangeRateResponseDTO copy = ExchangeRateResponseDTO.builder()
+                .exchangeRates(List.copyOf(byCurrency.values()))
+                .searchDate(response.getSearchDate())
+                .result(response.getResult())
+                .message(response.getMessage())
+                .build();
+        long version = versions.incrementAndGet();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(copy);
+            current.set(new Snapshot(copy, Map.copyOf(byCurrency), json, "\"fx-" + bootId + "-" + version + "\"", now));
+
+            // 구독 등록도 전송 스레드에서 처리되므로 구독자 수와 관계없이 전송을 예약 (등록 직전 변경 누락 방지)
+            if (!sameDate || removed) {
+                broadcast("snapshot", json);
+            } else {
+                broadcast("rates", objectMapper.writeValueAsBytes(Map.of(
+                        "searchDate", copy.getSearchDate(),
+                        "changed", changed)));
+            }
+        } catch (JsonProcessingException e) {
+            log.error("[환율 허브] 직렬화 실패", e);
+            return false;
+        }
+        log.debug("[환율 허브] 스냅샷 갱신 - 날짜: {}, 변경: {}건, 구독자: {}", copy.getSearchDate(), changed.size(), emitters.size());
+        return true;
+    }
+
+    /**
+     * SSE 구독 (연결 직후 전체 스냅샷, 이후 바뀐 통화만 전송)
+     * - snapshot 이벤트: ExchangeRateResponseDTO 전체
+     * - rates 이벤트: {"searchDate": ..., "changed": [ExchangeRateDTO, ...]}
+     * 첫 스냅샷 전송과 구독자 등록을 브로드캐스트와 같은 전송 스레드에서 차례로 처리해,
+     * rates 이벤트가 첫 스냅샷보다 먼저 가거나 그 사이의 변경이 빠지지 않도록 합니다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        try {
+            pushPool.execute(() -> {
+                Snapshot snapshot = current.get();
+                if (snapshot != null) {
+                    try {
+                        emitter.send(SseEmitter.event().name("snapshot").data(snapshot.json(), MediaType.APPLICATION_JSON));
+                    } catch (Exception e) {
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                }
+                emitters.add(emitter);
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    private void broadcast(String event, byte[] data) {
+        pushPool.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+                } catch (Exception e) {
+                    // 연결이 끊긴 구독자
+                    emitters.remove(emitter);
+                    log.debug("[환율 허브] 구독자 전송 실패: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pushPool.shutdownNow();
+        for (SseEmitter emitter : emitters) {
+            emitter.complete();
+        }
+        emitters.clear();
+    }
+}
@@ -2,8 +2,11 @@ package com.fullStc.exchange.service;
 
 import com.fullStc.exchange.dto.ExchangeRateDTO;
 import com.fullStc.exchange.dto.ExchangeRateResponseDTO;
+import com.fullStc.marketdata.dto.MarketBarDTO;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 // 환율 서비스 인터페이스
 public interface ExchangeRateService {
@@ -16,9 +19,12 @@ public interface ExchangeRateService {
     // 특정 통화의 환율 조회
     ExchangeRateDTO getExchangeRateByCurrency(String curUnit);
 
+    // 환율 이력 조회 (차트용, resolution: 1m/1h/1d, null이면 기간에 따라 자동 선택)
+    List<MarketBarDTO> getExchangeRateHistory(String curUnit, LocalDateTime from, LocalDateTime to, String resolution);
+
     // 일일 기본 데이터 수집 (API 사용, DB 저장)
     void fetchDailyBaseDataFromApi(LocalDate searchDate);
 
-    // 실시간 데이터 수집 (크롤링만 사용, Redis에만 저장)
+    // 실시간 데이터 수집 (크롤링만 사용, 메모리 스냅샷 + Redis에 저장)
     void fetchRealtimeDataFromCrawler(LocalDate searchDate);
 }
@@ -0,0 +1,46 @@
+package com.fullStc.exchange.service;
+
+import com.fullStc.exchange.dto.ExchangeRateDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+// 일별 환율 일괄 저장 (통화·날짜가 같으면 덮어씀, 조회 없이 한 번의 배치로 처리)
+@Service
+@RequiredArgsConstructor
+public class ExchangeRateStoreService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO exchange_rate
+            (cur_unit, cur_nm, deal_bas_r, ttb, tts, bkpr, search_date, result)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 1)
+            ON DUPLICATE KEY UPDATE
+                cur_nm     = VALUES(cur_nm),
+                deal_bas_r = VALUES(deal_bas_r),
+                ttb        = VALUES(ttb),
+                tts        = VALUES(tts),
+                bkpr       = VALUES(bkpr),
+                result     = VALUES(result)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchUpsert(List<ExchangeRateDTO> rates, LocalDate searchDate) {
+        if (rates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rates, 500, (ps, r) -> {
+            ps.setString(1, r.getCurUnit());
+            ps.setString(2, r.getCurNm());
+            ps.setBigDecimal(3, r.getDealBasR());
+            ps.setBigDecimal(4, r.getTtb());
+            ps.setBigDecimal(5, r.getTts());
+            ps.setBigDecimal(6, r.getBkpr());
+            ps.setDate(7, Date.valueOf(searchDate));
+        });
+    }
+}
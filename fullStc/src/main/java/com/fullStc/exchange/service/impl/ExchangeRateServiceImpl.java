@@ -10,7 +10,12 @@ import com.fullStc.exchange.dto.ExchangeRateResponseDTO;
 import com.fullStc.exchange.dto.KoreaEximApiResponseDTO;
 import com.fullStc.exchange.exception.ExchangeRateException;
 import com.fullStc.exchange.repository.ExchangeRateRepository;
+import com.fullStc.exchange.service.ExchangeRateHub;
 import com.fullStc.exchange.service.ExchangeRateService;
+import com.fullStc.exchange.service.ExchangeRateStoreService;
+import com.fullStc.marketdata.domain.MarketBar;
+import com.fullStc.marketdata.dto.MarketBarDTO;
+import com.fullStc.marketdata.service.MarketTickStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -21,9 +26,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 // 환율 서비스 구현체
@@ -37,9 +44,14 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
     private final ExchangeRateRepository repository;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final ExchangeRateHub exchangeRateHub;
+    private final ExchangeRateStoreService storeService;
+    private final MarketTickStore tickStore;
 
     private static final String CACHE_KEY_PREFIX = "exchange-rate:";
     private static final Duration CACHE_TTL = Duration.ofSeconds(5); // 5초 TTL
+    private static final String SERIES_PREFIX = "FX:"; // 장중 시세 시리즈 이름 (FX:USD)
+    private static final int MAX_MINUTE_HISTORY_DAYS = 7; // 1분 봉 최대 조회 기간
 
     @Override
     @Transactional(readOnly = true)
@@ -49,6 +61,12 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
         String dateStr = finalSearchDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String cacheKey = CACHE_KEY_PREFIX + dateStr;
 
+        // 0. 메모리 스냅샷 (실시간 크롤링 결과, I/O 없음)
+        ExchangeRateHub.Snapshot snapshot = exchangeRateHub.current(dateStr);
+        if (snapshot != null) {
+            return snapshot.response();
+        }
+
         // 1. Redis 캐시에서 조회 (실시간 데이터 우선)
         try {
             String cachedData = redisTemplate.opsForValue().get(cacheKey);
@@ -96,8 +114,17 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public ExchangeRateDTO getExchangeRateByCurrency(String curUnit) {
+        // 스냅샷이 있으면 통화별 맵에서 바로 조회
+        ExchangeRateHub.Snapshot snapshot = exchangeRateHub.current();
+        if (snapshot != null) {
+            ExchangeRateDTO rate = snapshot.byCurrency().get(curUnit.trim().toUpperCase());
+            if (rate == null) {
+                throw new ExchangeRateException("해당 통화의 환율 정보를 찾을 수 없습니다: " + curUnit);
+            }
+            return rate;
+        }
+
         ExchangeRateResponseDTO response = getAllExchangeRates();
         return response.getExchangeRates().stream()
                 .filter(rate -> curUnit.equalsIgnoreCase(rate.getCurUnit()))
@@ -105,6 +132,42 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
                 .orElseThrow(() -> new ExchangeRateException("해당 통화의 환율 정보를 찾을 수 없습니다: " + curUnit));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MarketBarDTO> getExchangeRateHistory(String curUnit, LocalDateTime from, LocalDateTime to,
+                                                     String resolution) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작 시각이 종료 시각보다 늦습니다.");
+        }
+        String unit = curUnit.trim().toUpperCase();
+        long days = Duration.between(from, to).toDays();
+        String res = resolution != null ? resolution.toLowerCase()
+                : days < 2 ? "1m" : days <= 60 ? "1h" : "1d";
+
+        return switch (res) {
+            case "1m" -> {
+                if (days > MAX_MINUTE_HISTORY_DAYS) {
+                    throw new IllegalArgumentException("1분 봉은 최대 " + MAX_MINUTE_HISTORY_DAYS + "일까지 조회할 수 있습니다.");
+                }
+                yield tickStore.getBars(SERIES_PREFIX + unit, MarketBar.Resolution.M1, from, to);
+            }
+            case "1h" -> tickStore.getBars(SERIES_PREFIX + unit, MarketBar.Resolution.H1, from, to);
+            case "1d" -> repository
+                    .findByCurUnitAndSearchDateBetweenOrderBySearchDateAsc(unit, from.toLocalDate(), to.toLocalDate())
+                    .stream()
+                    .map(rate -> MarketBarDTO.builder()
+                            .time(rate.getSearchDate().atStartOfDay())
+                            .open(rate.getDealBasR())
+                            .high(rate.getDealBasR())
+                            .low(rate.getDealBasR())
+                            .close(rate.getDealBasR())
+                            .samples(1)
+                            .build())
+                    .toList();
+            default -> throw new IllegalArgumentException("지원하지 않는 해상도입니다 (1m, 1h, 1d): " + resolution);
+        };
+    }
+
     // API 응답 DTO를 ExchangeRateDTO로 변환
     private ExchangeRateDTO convertToDTO(KoreaEximApiResponseDTO apiResponse, LocalDate searchDate) {
         return ExchangeRateDTO.builder()
@@ -153,57 +216,13 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
         }
     }
 
-    // DB에 환율 데이터 저장 (새로운 트랜잭션으로 실행)
+    // DB에 환율 데이터 저장 (새로운 트랜잭션으로 실행, 통화별 조회 없이 일괄 upsert)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveToDatabaseWithNewTransaction(List<ExchangeRateDTO> exchangeRates, LocalDate searchDate) {
-        log.info("DB에 환율 데이터 저장 시작 - 날짜: {}, 개수: {}", searchDate, exchangeRates.size());
-        AtomicInteger savedCount = new AtomicInteger(0);
-        AtomicInteger updatedCount = new AtomicInteger(0);
-
-        for (ExchangeRateDTO dto : exchangeRates) {
-            try {
-                // 기존 데이터 확인
-                repository.findByCurUnitAndSearchDate(dto.getCurUnit(), searchDate)
-                        .ifPresentOrElse(
-                                existing -> {
-                                    // 업데이트
-                                    ExchangeRate updated = ExchangeRate.builder()
-                                            .id(existing.getId())
-                                            .curUnit(dto.getCurUnit())
-                                            .curNm(dto.getCurNm())
-                                            .dealBasR(dto.getDealBasR())
-                                            .ttb(dto.getTtb())
-                                            .tts(dto.getTts())
-                                            .bkpr(dto.getBkpr())
-                                            .searchDate(searchDate)
-                                            .result(1)
-                                            .build();
-                                    repository.save(updated);
-                                    updatedCount.incrementAndGet();
-                                    log.debug("환율 업데이트: {} - {}", dto.getCurUnit(), dto.getDealBasR());
-                                },
-                                () -> {
-                                    // 신규 저장
-                                    ExchangeRate newRate = ExchangeRate.builder()
-                                            .curUnit(dto.getCurUnit())
-                                            .curNm(dto.getCurNm())
-                                            .dealBasR(dto.getDealBasR())
-                                            .ttb(dto.getTtb())
-                                            .tts(dto.getTts())
-                                            .bkpr(dto.getBkpr())
-                                            .searchDate(searchDate)
-                                            .result(1)
-                                            .build();
-                                    repository.save(newRate);
-                                    savedCount.incrementAndGet();
-                                    log.debug("새 환율 저장: {} - {}", dto.getCurUnit(), dto.getDealBasR());
-                                });
-            } catch (Exception e) {
-                log.error("환율 데이터 저장 실패 - 통화: {}, 날짜: {}", dto.getCurUnit(), searchDate, e);
-            }
-        }
-
-        log.info("DB에 환율 데이터 저장 완료 - 날짜: {}, 신규: {}, 업데이트: {}", searchDate, savedCount.get(), updatedCount.get());
+        long start = System.currentTimeMillis();
+        storeService.batchUpsert(exchangeRates, searchDate);
+        log.info("DB에 환율 데이터 저장 완료 - 날짜: {}, 개수: {}, {}ms", searchDate, exchangeRates.size(),
+                System.currentTimeMillis() - start);
     }
 
     // 일일 기본 데이터 수집 (API 사용, DB 저장)
@@ -241,7 +260,7 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
         }
     }
 
-    // 실시간 데이터 수집 (크롤링만 사용, Redis에만 저장)
+    // 실시간 데이터 수집 (크롤링만 사용, 메모리 스냅샷 + Redis에 저장)
     @Override
     public void fetchRealtimeDataFromCrawler(LocalDate searchDate) {
         LocalDate finalDate = (searchDate != null) ? searchDate : LocalDate.now();
@@ -268,7 +287,17 @@ public class ExchangeRateServiceImpl implements ExchangeRateService {
                         .message("실시간 크롤링 데이터")
                         .build();
 
-                // Redis 캐시에만 저장 (TTL: 5초)
+                // 메모리 스냅샷 교체 (바뀐 환율이 있으면 SSE 구독자에게 전송)
+                exchangeRateHub.publish(response);
+
+                // 장중 시세 기록 (메모리에서 1분·1시간 봉으로 합친 뒤 주기적으로 저장)
+                Map<String, BigDecimal> ticks = new HashMap<>();
+                for (ExchangeRateDTO rate : exchangeRates) {
+                    ticks.put(SERIES_PREFIX + rate.getCurUnit().trim().toUpperCase(), rate.getDealBasR());
+                }
+                tickStore.record(ticks, LocalDateTime.now());
+
+                // Redis 캐시에도 저장 (TTL: 5초, 스냅샷이 없을 때의 대비용)
                 try {
                     String json = objectMapper.writeValueAsString(response);
                     redisTemplate.opsForValue().set(cacheKey, json, CACHE_TTL);
@@ -40,6 +40,29 @@ public interface MainPageNewsRepository extends JpaRepository<MainPageNews, Long
     """)
     List<MainPageNews> findByCategoriesOrderByViewCount(@Param("categories") List<String> categories, Pageable pageable);
 
+    /**
+     * 카테고리별 인기 뉴스 상위 N개를 한 번의 쿼리로 조회 (ROW_NUMBER 윈도우 함수)
+     * 결과는 카테고리, 순위 순으로 정렬됨
+     */
+    @Query(value = """
+        SELECT id, news_id, title, summary, category, url, source_name,
+               published_at, view_count, created_at, updated_at
+        FROM (
+            SELECT m.*,
+                   ROW_NUMBER() OVER (
+                       PARTITION BY m.category
+                       ORDER BY m.view_count DESC, m.published_at DESC
+                   ) AS rn
+            FROM main_page_news m
+            WHERE m.category IS NOT NULL
+              AND m.title IS NOT NULL
+              AND m.summary IS NOT NULL
+        ) ranked
+        WHERE ranked.rn <= :perCategory
+        ORDER BY ranked.category, ranked.rn
+    """, nativeQuery = true)
+    List<MainPageNews> findTopPerCategoryOrderByViewCount(@Param("perCategory") int perCategory);
+
     /**
      * 모든 카테고리 목록 조회 (중복 제거)
      */
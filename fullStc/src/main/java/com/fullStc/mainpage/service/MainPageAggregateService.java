@@ -0,0 +1,206 @@
+package com.fullStc.mainpage.service;
+
+import com.fullStc.mainpage.domain.MainPageNews;
+import com.fullStc.mainpage.dto.MainPageNewsDTO;
+import com.fullStc.mainpage.dto.MainPageResponseDTO;
+import com.fullStc.mainpage.repository.MainPageNewsRepository;
+import com.fullStc.member.service.MemberContextService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메인페이지 집계 서비스
+ * - 모든 사용자에게 공통인 카테고리별 인기 뉴스는 윈도우 함수 쿼리 1회로 계산해 스냅샷으로 캐싱
+ *   (만료 시 한 요청만 다시 계산하고, 나머지는 이전 스냅샷을 쓰거나 처음이면 계산 결과를 기다림)
+ * - 요청마다 사용자별 영역(관심 카테고리, 관심 카테고리 뉴스)만 스냅샷 위에 덧씌움
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MainPageAggregateService {
+
+    // 카테고리별로 보관할 상위 뉴스 개수 (관심 카테고리 뉴스 목록 최대 개수와 동일)
+    static final int NEWS_PER_CATEGORY = 10;
+
+    private final MainPageNewsRepository mainPageNewsRepository;
+    private final MemberContextService memberContextService;
+
+    @Value("${mainpage.cacheTtlSeconds:60}")
+    private long ttlSeconds;
+
+    // 불변 스냅샷을 원자적으로 교체 (동시 요청 간 공유)
+    private final AtomicReference<Snapshot> snapshotRef = new AtomicReference<>();
+
+    // 계산 중인 스냅샷 (동시 만료 시 한 번만 계산)
+    private final AtomicReference<CompletableFuture<Snapshot>> loading = new AtomicReference<>();
+
+    // 무효화 세대 (계산 도중 무효화되면 그 결과는 저장하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 메인페이지 데이터 조회
+     */
+    public MainPageResponseDTO getMainPageData(Long userId) {
+        Snapshot snapshot = currentSnapshot();
+
+        // 사용자 관심 카테고리 조회 (회원 컨텍스트 캐시, 비로그인 시 빈 목록)
+        List<String> userCategories = memberContextService.getCategories(userId);
+
+        MainPageNewsDTO topNewsForSelectedCategory = null;
+        if (!userCategories.isEmpty()) {
+            List<MainPageNewsDTO> top = snapshot.topByCategory().getOrDefault(userCategories.get(0), List.of());
+            topNewsForSelectedCategory = top.isEmpty() ? null : top.get(0);
+        }
+
+        return MainPageResponseDTO.builder()
+                .popularNewsByCategory(snapshot.popularNewsByCategory())
+                .userCategories(userCategories)
+                .topNewsForSelectedCategory(topNewsForSelectedCategory)
+                .newsByUserCategories(mergeUserCategoryNews(snapshot, userCategories, NEWS_PER_CATEGORY))
+                .build();
+    }
+
+    /**
+     * 캐시된 스냅샷 무효화 (뉴스 동기화 후 호출)
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshotRef.set(null);
+    }
+
+    /**
+     * 유효한 스냅샷 반환, 만료되었으면 다시 계산
+     * 동시에 여러 요청이 만료를 보면 먼저 온 요청만 계산하고,
+     * 나머지는 이전 스냅샷이 있으면 그대로 쓰고 없으면(처음·무효화 직후) 계산 결과를 기다림
+     */
+    private Snapshot currentSnapshot() {
+        Snapshot snapshot = snapshotRef.get();
+        if (isFresh(snapshot)) {
+            return snapshot;
+        }
+
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> existing = loading.compareAndExchange(null, mine);
+        if (existing != null) {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            // 확인과 등록 사이에 다른 요청이 계산을 끝냈을 수 있음
+            Snapshot current = snapshotRef.get();
+            if (!isFresh(current)) {
+                long startedGeneration = generation.get();
+                current = loadSnapshot();
+                if (generation.get() == startedGeneration) {
+                    snapshotRef.set(current);
+                }
+            }
+            mine.complete(current);
+            return current;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.set(null);
+        }
+    }
+
+    private boolean isFresh(Snapshot snapshot) {
+        return snapshot != null && snapshot.loadedAt().plusSeconds(ttlSeconds).isAfter(Instant.now());
+    }
+
+    /**
+     * 카테고리별 상위 뉴스 조회 (윈도우 함수 쿼리 1회 + 카테고리 목록 조회 1회)
+     */
+    private Snapshot loadSnapshot() {
+        List<MainPageNews> ranked = mainPageNewsRepository.findTopPerCategoryOrderByViewCount(NEWS_PER_CATEGORY);
+
+        Map<String, List<MainPageNewsDTO>> topByCategory = new LinkedHashMap<>();
+        for (MainPageNews news : ranked) {
+            topByCategory.computeIfAbsent(news.getCategory(), k -> new ArrayList<>()).add(convertToDTO(news));
+        }
+
+        // 카테고리별 인기 뉴스는 기존과 같이 카테고리 목록 조회 순서를 따름 (윈도우 쿼리는 카테고리 이름순)
+        List<MainPageNewsDTO> popular = new ArrayList<>(topByCategory.size());
+        for (String category : mainPageNewsRepository.findAllDistinctCategories()) {
+            List<MainPageNewsDTO> list = topByCategory.get(category);
+            if (list != null) {
+                popular.add(list.get(0));
+            }
+        }
+        Map<String, List<MainPageNewsDTO>> frozen = new LinkedHashMap<>();
+        topByCategory.forEach((category, list) -> frozen.put(category, List.copyOf(list)));
+
+        log.debug("메인페이지 스냅샷 갱신: categories={}, rows={}", frozen.size(), ranked.size());
+        return new Snapshot(List.copyOf(popular), Map.copyOf(frozen), Instant.now());
+    }
+
+    /**
+     * 사용자 관심 카테고리들의 상위 뉴스를 병합
+     * 카테고리별 상위 N개의 합집합에 전체 상위 N개가 반드시 포함되므로 DB 조회 결과와 동일
+     */
+    private List<MainPageNewsDTO> mergeUserCategoryNews(Snapshot snapshot, List<String> userCategories, int limit) {
+        if (userCategories.isEmpty()) {
+            return List.of();
+        }
+        List<MainPageNewsDTO> merged = new ArrayList<>();
+        for (String category : userCategories) {
+            merged.addAll(snapshot.topByCategory().getOrDefault(category, List.of()));
+        }
+        return merged.stream()
+                .distinct()
+                .sorted(Comparator.comparing(MainPageNewsDTO::getViewCount, Comparator.reverseOrder())
+                        .thenComparing(MainPageNewsDTO::getPublishedAt,
+                                Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * MainPageNews 엔티티를 MainPageNewsDTO로 변환
+     */
+    private MainPageNewsDTO convertToDTO(MainPageNews news) {
+        return MainPageNewsDTO.builder()
+                .id(news.getId())
+                .newsId(news.getNewsId())
+                .title(news.getTitle())
+                .summary(news.getSummary())
+                .category(news.getCategory())
+                .url(news.getUrl())
+                .sourceName(news.getSourceName())
+                .publishedAt(news.getPublishedAt())
+                .viewCount(news.getViewCount() != null ? news.getViewCount() : 0L)
+                .build();
+    }
+
+    /**
+     * 모든 사용자 공통 영역의 불변 스냅샷
+     */
+    private record Snapshot(
+            List<MainPageNewsDTO> popularNewsByCategory,
+            Map<String, List<MainPageNewsDTO>> topByCategory,
+            Instant loadedAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.fullStc.mainpage.service;
 import com.fullStc.mainpage.domain.MainPageEconomicData;
 import com.fullStc.mainpage.dto.MainPageEconomicDataDTO;
 import com.fullStc.mainpage.repository.MainPageEconomicDataRepository;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 메인페이지 경제 데이터 서비스 (외부 API 연동, 10분 간격 업데이트)
@@ -23,9 +25,8 @@ public class MainPageEconomicDataService {
     private final RestTemplate restTemplate;
     private final MainPageEconomicDataRepository mainPageEconomicDataRepository;
     
-    // 캐시된 경제 데이터
-    private MainPageEconomicDataDTO cachedEconomicData;
-    private Instant lastUpdated;
+    // 캐시된 경제 데이터 (데이터와 갱신 시각을 하나의 불변 객체로 원자적 교체)
+    private final AtomicReference<CachedEconomicData> cache = new AtomicReference<>();
 
     /**
      * 경제 데이터 조회
@@ -33,19 +34,20 @@ public class MainPageEconomicDataService {
      */
     public MainPageEconomicDataDTO getEconomicData() {
         // 캐시가 있고 10분 이내에 업데이트된 경우 캐시 반환
-        if (cachedEconomicData != null && lastUpdated != null) {
-            long minutesSinceUpdate = (Instant.now().toEpochMilli() - lastUpdated.toEpochMilli()) / (1000 * 60);
+        CachedEconomicData cached = cache.get();
+        if (cached != null && cached.lastUpdated() != null) {
+            long minutesSinceUpdate = (Instant.now().toEpochMilli() - cached.lastUpdated().toEpochMilli()) / (1000 * 60);
             if (minutesSinceUpdate < 10) {
-                return cachedEconomicData;
+                return cached.data();
             }
         }
 
         // DB에서 최신 데이터 조회
         MainPageEconomicData latestData = mainPageEconomicDataRepository.findFirstByOrderByUpdatedAtDesc();
         if (latestData != null) {
-            cachedEconomicData = convertToDTO(latestData);
-            lastUpdated = latestData.getUpdatedAt();
-            return cachedEconomicData;
+            MainPageEconomicDataDTO data = convertToDTO(latestData);
+            cache.set(new CachedEconomicData(data, latestData.getUpdatedAt()));
+            return data;
         }
 
         // DB에도 없으면 API 호출
@@ -83,15 +85,15 @@ public class MainPageEconomicDataService {
             mainPageEconomicDataRepository.save(entity);
 
             // 캐시 업데이트
-            cachedEconomicData = data;
-            lastUpdated = Instant.now();
+            cache.set(new CachedEconomicData(data, Instant.now()));
 
             return data;
         } catch (Exception e) {
             log.error("경제 데이터 조회 실패", e);
             // 실패 시 캐시된 데이터가 있으면 반환
-            if (cachedEconomicData != null) {
-                return cachedEconomicData;
+            CachedEconomicData cached = cache.get();
+            if (cached != null) {
+                return cached.data();
             }
             // 캐시도 없으면 기본값 반환
             return MainPageEconomicDataDTO.builder()
@@ -105,7 +107,7 @@ public class MainPageEconomicDataService {
     /**
      * 10분마다 경제 데이터 자동 업데이트
      */
-    @Scheduled(fixedRate = 600000) // 10분 = 600,000ms
+    @Scheduled(fixedRate = 600000, scheduler = SchedulingConfig.MARKET_DATA) // 10분 = 600,000ms
     @Transactional
     public void updateEconomicData() {
         log.info("경제 데이터 자동 업데이트 시작");
@@ -127,4 +129,10 @@ public class MainPageEconomicDataService {
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 캐시된 경제 데이터와 갱신 시각
+     */
+    private record CachedEconomicData(MainPageEconomicDataDTO data, Instant lastUpdated) {
+    }
 }
@@ -4,6 +4,7 @@ import com.fullStc.mainpage.domain.MainPageNews;
 import com.fullStc.mainpage.repository.MainPageNewsRepository;
 import com.fullStc.news.domain.News;
 import com.fullStc.news.repository.NewsRepository;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +26,7 @@ public class MainPageNewsSyncService {
 
     private final NewsRepository newsRepository;
     private final MainPageNewsRepository mainPageNewsRepository;
+    private final MainPageAggregateService mainPageAggregateService;
 
     /**
      * News 엔티티의 데이터를 MainPageNews로 동기화
@@ -81,12 +83,15 @@ public class MainPageNewsSyncService {
         }
 
         log.info("News -> MainPageNews 동기화 완료: 신규 {}개, 업데이트 {}개", syncedCount, updatedCount);
+
+        // 메인페이지 공통 스냅샷 무효화 (다음 요청에서 재계산)
+        mainPageAggregateService.invalidate();
     }
 
     /**
      * 1시간마다 자동 동기화
      */
-    @Scheduled(fixedRate = 3600000) // 1시간 = 3,600,000ms
+    @Scheduled(fixedRate = 3600000, scheduler = SchedulingConfig.INGEST) // 1시간 = 3,600,000ms
     public void autoSync() {
         log.info("자동 동기화 시작");
         syncNewsToMainPage();
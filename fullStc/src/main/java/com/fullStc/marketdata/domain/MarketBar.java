@@ -0,0 +1,80 @@
+package com.fullStc.marketdata.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 장중 시세 봉(OHLC) 엔티티
+ * 실시간 수집값을 시리즈(예: FX:USD)·해상도별 구간으로 묶어 저장합니다.
+ * 쓰기는 MarketTickStore의 일괄 upsert로만 하고, 이 엔티티는 테이블 정의와 조회용입니다.
+ */
+@Entity
+@Table(name = "market_bar", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_market_bar", columnNames = { "series", "resolution", "bucket_start" })
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketBar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 시리즈 (예: FX:USD)
+    @Column(name = "series", nullable = false, length = 32)
+    private String series;
+
+    // 해상도 (M1: 1분, H1: 1시간)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false, length = 4)
+    private Resolution resolution;
+
+    // 구간 시작 시각
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "open_value", precision = 20, scale = 4)
+    private BigDecimal open;
+
+    @Column(name = "high_value", precision = 20, scale = 4)
+    private BigDecimal high;
+
+    @Column(name = "low_value", precision = 20, scale = 4)
+    private BigDecimal low;
+
+    @Column(name = "close_value", precision = 20, scale = 4)
+    private BigDecimal close;
+
+    // 구간 안의 수집 횟수
+    @Column(name = "samples", nullable = false)
+    private int samples;
+
+    /**
+     * 봉 해상도
+     */
+    public enum Resolution {
+        M1(ChronoUnit.MINUTES), H1(ChronoUnit.HOURS);
+
+        private final ChronoUnit unit;
+
+        Resolution(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * 시각이 속한 구간의 시작 시각
+         */
+        public LocalDateTime bucketOf(LocalDateTime at) {
+            return at.truncatedTo(unit);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fullStc.marketdata.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 차트용 시세 봉 DTO (일별 데이터는 시가=고가=저가=종가)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketBarDTO {
+    // 구간 시작 시각
+    private LocalDateTime time;
+
+    private BigDecimal open;
+
+    private BigDecimal high;
+
+    private BigDecimal low;
+
+    private BigDecimal close;
+
+    // 구간 안의 수집 횟수
+    private int samples;
+}
@@ -0,0 +1,28 @@
+package com.fullStc.marketdata.repository;
+
+import com.fullStc.marketdata.domain.MarketBar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장중 시세 봉 Repository
+ */
+@Repository
+public interface MarketBarRepository extends JpaRepository<MarketBar, Long> {
+    // 시리즈·해상도별 기간 조회 (차트용, 시간순)
+    List<MarketBar> findBySeriesAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+            String series, MarketBar.Resolution resolution, LocalDateTime from, LocalDateTime to);
+
+    // 보관 기간이 지난 봉 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MarketBar b WHERE b.resolution = :resolution AND b.bucketStart < :before")
+    int deleteOlderThan(@Param("resolution") MarketBar.Resolution resolution, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,218 @@
+package com.fullStc.marketdata.service;
+
+import com.fullStc.config.SchedulingConfig;
+import com.fullStc.marketdata.domain.MarketBar;
+import com.fullStc.marketdata.domain.MarketBar.Resolution;
+import com.fullStc.marketdata.dto.MarketBarDTO;
+import com.fullStc.marketdata.repository.MarketBarRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장중 시세 저장소
+ *
+ * 실시간 수집값(5초 간격)을 행으로 쌓지 않고 메모리에서 1분·1시간 봉(OHLC)으로 합친 뒤,
+ * 주기적으로 market_bar 테이블에 일괄 upsert합니다. 1분 봉은 보관 기간이 지나면 삭제하고 1시간 봉은 유지합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketTickStore {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO market_bar
+            (series, resolution, bucket_start, open_value, high_value, low_value, close_value, samples)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                high_value  = GREATEST(high_value, VALUES(high_value)),
+                low_value   = LEAST(low_value, VALUES(low_value)),
+                close_value = VALUES(close_value),
+                samples     = samples + VALUES(samples)
+            """;
+
+    // 저장 실패로 쌓아 둘 수 있는 최대 봉 수
+    private static final int MAX_PENDING_ROWS = 20_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MarketBarRepository repository;
+
+    // 1분 봉 보관 기간
+    @Value("${market.tick.m1-retention-days:7}")
+    private int m1RetentionDays;
+
+    // (시리즈, 해상도) → 진행 중인 봉
+    private final Map<BarKey, Bar> openBars = new HashMap<>();
+    // 구간이 끝났지만 아직 저장하지 않은 봉
+    private final List<Row> closedRows = new ArrayList<>();
+
+    private record BarKey(String series, Resolution resolution) {
+    }
+
+    /**
+     * 저장할 봉 한 줄 (samples는 마지막 저장 이후 늘어난 수집 횟수)
+     */
+    record Row(String series, Resolution resolution, LocalDateTime bucketStart, BigDecimal open, BigDecimal high,
+               BigDecimal low, BigDecimal close, int samples) {
+    }
+
+    private static final class Bar {
+        private final LocalDateTime bucketStart;
+        private final BigDecimal open;
+        private BigDecimal high;
+        private BigDecimal low;
+        private BigDecimal close;
+        private int unflushed;
+
+        private Bar(LocalDateTime bucketStart, BigDecimal value) {
+            this.bucketStart = bucketStart;
+            this.open = value;
+            this.high = value;
+            this.low = value;
+            this.close = value;
+            this.unflushed = 1;
+        }
+
+        private void add(BigDecimal value) {
+            if (value.compareTo(high) > 0) {
+                high = value;
+            }
+            if (value.compareTo(low) < 0) {
+                low = value;
+            }
+            close = value;
+            unflushed++;
+        }
+
+        private Row toRow(BarKey key) {
+            Row row = new Row(key.series(), key.resolution(), bucketStart, open, high, low, close, unflushed);
+            unflushed = 0;
+            return row;
+        }
+    }
+
+    /**
+     * 수집값 기록 (메모리에서만 합침)
+     * @param values 시리즈 → 값 (null 값은 무시)
+     * @param at 수집 시각
+     */
+    public synchronized void record(Map<String, BigDecimal> values, LocalDateTime at) {
+        for (Map.Entry<String, BigDecimal> e : values.entrySet()) {
+            if (e.getValue() == null) {
+                continue;
+            }
+            for (Resolution resolution : Resolution.values()) {
+                BarKey key = new BarKey(e.getKey(), resolution);
+                LocalDateTime bucketStart = resolution.bucketOf(at);
+                Bar bar = openBars.get(key);
+                if (bar != null && bar.bucketStart.equals(bucketStart)) {
+                    bar.add(e.getValue());
+                    continue;
+                }
+                if (bar != null && bar.unflushed > 0) {
+                    closedRows.add(bar.toRow(key));
+                }
+                openBars.put(key, new Bar(bucketStart, e.getValue()));
+            }
+        }
+    }
+
+    /**
+     * 메모리의 봉을 일괄 upsert (고가·저가는 기존 값과 비교, 수집 횟수는 누적)
+     */
+    @Scheduled(fixedDelayString = "${market.tick.flush-ms:60000}", scheduler = SchedulingConfig.MARKET_DATA)
+    public void flush() {
+        List<Row> rows = drain();
+        if (rows.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows, 500, (ps, r) -> {
+                ps.setString(1, r.series());
+                ps.setString(2, r.resolution().name());
+                ps.setTimestamp(3, Timestamp.valueOf(r.bucketStart()));
+                ps.setBigDecimal(4, r.open());
+                ps.setBigDecimal(5, r.high());
+                ps.setBigDecimal(6, r.low());
+                ps.setBigDecimal(7, r.close());
+                ps.setInt(8, r.samples());
+            });
+            log.debug("[시세 저장] 봉 {}건 저장 {}ms", rows.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("[시세 저장] 봉 저장 실패 ({}건), 다음 주기에 재시도: {}", rows.size(), e.getMessage());
+            requeue(rows);
+        }
+    }
+
+    /**
+     * 저장 실패한 봉을 다음 주기 앞쪽에 다시 넣음
+     * (고가·저가는 비교 갱신이고 수집 횟수는 이미 메모리에서 비웠으므로 중복 반영되지 않음, DB 장애가 길면 오래된 것부터 버림)
+     */
+    private synchronized void requeue(List<Row> rows) {
+        List<Row> merged = new ArrayList<>(rows);
+        merged.addAll(closedRows);
+        int overflow = merged.size() - MAX_PENDING_ROWS;
+        closedRows.clear();
+        closedRows.addAll(overflow > 0 ? merged.subList(overflow, merged.size()) : merged);
+    }
+
+    synchronized List<Row> drain() {
+        List<Row> rows = new ArrayList<>(closedRows);
+        closedRows.clear();
+        openBars.forEach((key, bar) -> {
+            if (bar.unflushed > 0) {
+                rows.add(bar.toRow(key));
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * 보관 기간이 지난 1분 봉 삭제 (매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "0 30 4 * * *", scheduler = SchedulingConfig.MAINTENANCE)
+    public void pruneMinuteBars() {
+        int deleted = repository.deleteOlderThan(Resolution.M1, LocalDateTime.now().minusDays(m1RetentionDays));
+        log.info("[시세 저장] 보관 기간이 지난 1분 봉 삭제: {}건", deleted);
+    }
+
+    /**
+     * 기간 조회 (차트용, 시간순)
+     */
+    public List<MarketBarDTO> getBars(String series, Resolution resolution, LocalDateTime from, LocalDateTime to) {
+        return repository.findBySeriesAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+                        series, resolution, resolution.bucketOf(from), to)
+                .stream()
+                .map(MarketTickStore::toDTO)
+                .toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private static MarketBarDTO toDTO(MarketBar bar) {
+        return MarketBarDTO.builder()
+                .time(bar.getBucketStart())
+                .open(bar.getOpen())
+                .high(bar.getHigh())
+                .low(bar.getLow())
+                .close(bar.getClose())
+                .samples(bar.getSamples())
+                .build();
+    }
+}
@@ -20,6 +20,10 @@ public interface MemberCategoryRepository extends JpaRepository<MemberCategory,
     @Query("SELECT mc FROM MemberCategory mc WHERE mc.member.id = :memberId")
     List<MemberCategory> findByMemberId(@Param("memberId") Long memberId);
     
+    // 회원 ID로 관심 카테고리명만 조회 (Member 로딩 없이 단일 쿼리)
+    @Query("SELECT mc.category FROM MemberCategory mc WHERE mc.member.id = :memberId ORDER BY mc.id")
+    List<String> findCategoryNamesByMemberId(@Param("memberId") Long memberId);
+    
     // 회원으로 관심 카테고리 목록 조회
     List<MemberCategory> findByMember(Member member);
     
@@ -23,6 +23,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.email = :email")
     Member getWithRoles(@Param("email") String email);
 
+    // ID로 회원 조회 (권한 포함)
+    @EntityGraph(attributePaths = { "memberRoleList" })
+    @Query("SELECT m FROM Member m WHERE m.id = :id")
+    Optional<Member> findWithRolesById(@Param("id") Long id);
+
     // 이메일 존재 여부 확인
     boolean existsByEmail(String email);
 
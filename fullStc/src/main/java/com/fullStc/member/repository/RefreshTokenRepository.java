@@ -1,5 +1,6 @@
 package com.fullStc.member.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,12 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("DELETE FROM RefreshToken rt WHERE rt.member.id = :memberId")
     void deleteByMemberId(@Param("memberId") Long memberId);
     
+    // 만료된 RefreshToken 일괄 삭제 (Redis 장애 시 DB에 저장된 토큰 정리용)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now")
+    int deleteByExpiryDateBefore(@Param("now") LocalDateTime now);
+    
     // 회원으로 RefreshToken 조회
     List<RefreshToken> findByMember(Member member);
     
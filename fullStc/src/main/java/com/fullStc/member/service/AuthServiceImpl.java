@@ -1,6 +1,6 @@
 package com.fullStc.member.service;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -11,7 +11,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.domain.MemberCategory;
-import com.fullStc.member.domain.RefreshToken;
 import com.fullStc.member.domain.enums.MemberRole;
 import com.fullStc.member.domain.enums.NewsCategory;
 import com.fullStc.member.dto.FaceLoginDTO;
@@ -23,7 +22,6 @@ import com.fullStc.member.dto.SignUpDTO;
 import com.fullStc.member.dto.TokenDTO;
 import com.fullStc.member.repository.MemberCategoryRepository;
 import com.fullStc.member.repository.MemberRepository;
-import com.fullStc.member.repository.RefreshTokenRepository;
 import com.fullStc.util.JwtUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -38,9 +36,10 @@ public class AuthServiceImpl implements AuthService {
 
     private final MemberRepository memberRepository;
     private final MemberCategoryRepository memberCategoryRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final MemberContextService memberContextService;
+    private final RefreshTokenStore refreshTokenStore;
 
     // 회원가입
     @Override
@@ -231,13 +230,9 @@ public class AuthServiceImpl implements AuthService {
         String accessToken = jwtUtil.generateToken(claims, 60); // 60분
         String refreshToken = jwtUtil.generateToken(claims, 60 * 24); // 1일
 
-        // Refresh Token 저장
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .member(member)
-                .token(refreshToken)
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
-        refreshTokenRepository.save(refreshTokenEntity);
+        // Refresh Token 저장 (토큰 자체의 만료 시각까지 유지)
+        refreshTokenStore.save(member.getId(), refreshToken, claims,
+                jwtUtil.getExpirationDate(refreshToken).toInstant());
 
         return TokenDTO.builder()
                 .accessToken(accessToken)
@@ -269,17 +264,14 @@ public class AuthServiceImpl implements AuthService {
     public TokenDTO refreshToken(RefreshTokenRequestDTO refreshTokenRequestDTO) {
         log.info("토큰 갱신 요청");
 
-        // Refresh Token 검증 및 회원 조회
-        Member member = validateAndGetMemberFromRefreshToken(refreshTokenRequestDTO.getRefreshToken());
-
-        // MemberDTO 생성
-        MemberDTO memberDTO = createMemberDTO(member);
+        // Refresh Token 검증 및 저장된 클레임 조회
+        RefreshTokenStore.StoredToken stored = validateAndGetStoredToken(refreshTokenRequestDTO.getRefreshToken());
 
         // 새로운 Access Token 생성
-        Map<String, Object> claims = memberDTO.getClaims();
+        Map<String, Object> claims = claimsForRefresh(stored);
         String newAccessToken = jwtUtil.generateToken(claims, 60); // 60분
 
-        log.info("토큰 갱신 완료: userId={}", member.getId());
+        log.info("토큰 갱신 완료: userId={}", stored.userId());
 
         return TokenDTO.builder()
                 .accessToken(newAccessToken)
@@ -287,29 +279,53 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
 
-    // Refresh Token 검증 및 회원 조회
-    private Member validateAndGetMemberFromRefreshToken(String refreshTokenValue) {
-        // Refresh Token 검증
+    // Refresh Token 검증 및 저장소 조회
+    private RefreshTokenStore.StoredToken validateAndGetStoredToken(String refreshTokenValue) {
+        // Refresh Token 검증 (서명 및 만료)
         if (!jwtUtil.validateToken(refreshTokenValue)) {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다");
         }
 
-        // Refresh Token에서 사용자 ID 추출
-        Long userId = jwtUtil.extractUserId(refreshTokenValue);
-
-        // DB에서 Refresh Token 확인
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 Refresh Token입니다"));
+        // 저장소에서 Refresh Token 확인 (로그아웃·탈퇴로 삭제된 경우 없음)
+        RefreshTokenStore.StoredToken stored = refreshTokenStore.find(refreshTokenValue);
+        if (stored == null) {
+            throw new IllegalArgumentException("존재하지 않는 Refresh Token입니다");
+        }
 
-        // Refresh Token 만료 확인
-        if (refreshToken.isExpired()) {
-            refreshTokenRepository.delete(refreshToken);
+        // Refresh Token 만료 확인 (저장소가 이미 삭제함)
+        if (stored.isExpired()) {
             throw new IllegalArgumentException("만료된 Refresh Token입니다");
         }
+        return stored;
+    }
+
+    // 새 Access Token에 넣을 클레임
+    // 저장된 클레임이 있으면 회원 컨텍스트 캐시의 최신 회원 정보·권한으로 덮어쓰고, 없으면(DB 대체 저장분) 회원을 조회
+    // (권한은 로그인 시점 값이 아니라 갱신 시점 값을 사용해 권한 회수가 다음 갱신부터 반영되도록 함)
+    private Map<String, Object> claimsForRefresh(RefreshTokenStore.StoredToken stored) {
+        if (stored.claims() == null) {
+            Member member = memberRepository.findById(stored.userId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+            if (!member.isEnabled()) {
+                throw new IllegalArgumentException("비활성화된 계정입니다");
+            }
+            return createMemberDTO(member).getClaims();
+        }
 
-        // 회원 정보 조회
-        return memberRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+        MemberContextService.MemberSummary summary = memberContextService.getSummary(stored.userId());
+        if (summary == null) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다");
+        }
+        if (!summary.enabled()) {
+            throw new IllegalArgumentException("비활성화된 계정입니다");
+        }
+        Map<String, Object> claims = new HashMap<>(stored.claims());
+        claims.put("id", summary.id());
+        claims.put("email", summary.email());
+        claims.put("nickname", summary.nickname());
+        claims.put("enabled", summary.enabled());
+        claims.put("roleNames", summary.roleNames());
+        return claims;
     }
 
     // 로그아웃 (Refresh Token 삭제)
@@ -318,7 +334,10 @@ public class AuthServiceImpl implements AuthService {
         log.info("로그아웃 요청: userId={}", userId);
 
         // 해당 회원의 모든 Refresh Token 삭제
-        refreshTokenRepository.deleteByMemberId(userId);
+        refreshTokenStore.revokeAll(userId);
+
+        // 다음 로그인 시 최신 회원 정보로 다시 조회되도록 캐시 제거
+        memberContextService.evict(userId);
 
         log.info("로그아웃 완료: userId={}", userId);
     }
@@ -1,5 +1,6 @@
 package com.fullStc.member.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,6 +27,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final MemberRepository memberRepository;
     private final MemberCategoryRepository memberCategoryRepository;
+    private final MemberContextService memberContextService;
 
     // 카테고리 목록 조회 (크롤링 카테고리 형식으로 반환)
     @Override
@@ -37,20 +39,17 @@ public class CategoryServiceImpl implements CategoryService {
                 .collect(Collectors.toList());
     }
 
-    // 사용자 관심 카테고리 조회
+    // 사용자 관심 카테고리 조회 (회원 컨텍스트 캐시 사용, 변경 시 무효화)
     @Override
     @Transactional(readOnly = true)
     public List<String> getUserCategories(Long userId) {
-        log.info("사용자 관심 카테고리 조회: userId={}", userId);
-
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다"));
+        if (memberContextService.getSummary(userId) == null) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다");
+        }
 
-        List<String> categories = memberCategoryRepository.findByMemberId(userId).stream()
-                .map(MemberCategory::getCategory)
-                .collect(Collectors.toList());
+        List<String> categories = new ArrayList<>(memberContextService.getCategories(userId));
 
-        log.info("사용자 관심 카테고리 조회 완료: userId={}, categories={}", userId, categories);
+        log.debug("사용자 관심 카테고리 조회: userId={}, categories={}", userId, categories);
         return categories;
     }
 
@@ -122,6 +121,8 @@ public class CategoryServiceImpl implements CategoryService {
             }
         }
 
+        memberContextService.evict(userId);
+
         log.info("관심 카테고리 업데이트 완료: userId={}, categories={}", userId, categoryUpdateDTO.getCategories());
     }
 }
@@ -0,0 +1,23 @@
+package com.fullStc.member.service;
+
+import java.util.List;
+
+// 요청마다 반복되는 회원·관심 카테고리 조회를 캐시하는 서비스 인터페이스
+public interface MemberContextService {
+
+    // 캐시에 보관하는 회원 요약 정보 (엔티티 대신 불변 값만 보관)
+    record MemberSummary(Long id, String email, String nickname, boolean enabled, List<String> roleNames) {
+    }
+
+    // 현재 인증된 사용자 ID (JwtCheckFilter가 설정한 MemberDTO에서 추출, DB 조회 없음, 비로그인 시 null)
+    Long getCurrentUserId();
+
+    // 회원 요약 정보 조회 (존재하지 않는 회원이면 null)
+    MemberSummary getSummary(Long userId);
+
+    // 관심 카테고리 목록 조회 (불변 리스트)
+    List<String> getCategories(Long userId);
+
+    // 회원 정보·관심 카테고리 캐시 무효화 (트랜잭션 안이면 커밋 후에도 한 번 더 제거)
+    void evict(Long userId);
+}
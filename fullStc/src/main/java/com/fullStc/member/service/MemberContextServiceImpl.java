@@ -0,0 +1,107 @@
+package com.fullStc.member.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fullStc.member.dto.MemberDTO;
+import com.fullStc.member.repository.MemberCategoryRepository;
+import com.fullStc.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 회원 컨텍스트 캐시 구현
+// JwtCheckFilter가 이미 만든 MemberDTO로 사용자 ID를 얻고, 회원 요약·관심 카테고리는 프로세스 단위 캐시에서 조회
+@Service
+@Slf4j
+public class MemberContextServiceImpl implements MemberContextService {
+
+    private final MemberRepository memberRepository;
+    private final MemberCategoryRepository memberCategoryRepository;
+
+    // 회원 ID → 요약 정보
+    private final Cache<Long, MemberSummary> summaries;
+
+    // 회원 ID → 관심 카테고리 목록
+    private final Cache<Long, List<String>> categories;
+
+    public MemberContextServiceImpl(
+            MemberRepository memberRepository,
+            MemberCategoryRepository memberCategoryRepository,
+            @Value("${member.context.ttl-seconds:300}") long ttlSeconds,
+            @Value("${member.context.max-size:10000}") long maxSize) {
+        this.memberRepository = memberRepository;
+        this.memberCategoryRepository = memberCategoryRepository;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof MemberDTO memberDTO) {
+            return memberDTO.getId();
+        }
+        return null;
+    }
+
+    @Override
+    public MemberSummary getSummary(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        // 존재하지 않는 회원(null)은 캐시하지 않음
+        return summaries.get(userId, id -> memberRepository.findWithRolesById(id)
+                .map(member -> new MemberSummary(member.getId(), member.getEmail(), member.getNickname(),
+                        member.isEnabled(), member.getMemberRoleList().stream().map(Enum::name).toList()))
+                .orElse(null));
+    }
+
+    @Override
+    public List<String> getCategories(Long userId) {
+        if (userId == null) {
+            return List.of();
+        }
+        return categories.get(userId, id -> List.copyOf(memberCategoryRepository.findCategoryNamesByMemberId(id)));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidate(userId);
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long userId) {
+        summaries.invalidate(userId);
+        categories.invalidate(userId);
+        log.debug("회원 컨텍스트 캐시 제거: userId={}", userId);
+    }
+}
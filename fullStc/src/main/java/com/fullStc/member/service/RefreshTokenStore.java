@@ -0,0 +1,26 @@
+package com.fullStc.member.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Refresh Token 저장소 인터페이스 (Redis 우선, 장애 시 DB)
+public interface RefreshTokenStore {
+
+    // 저장된 토큰 정보 (claims는 DB 대체 저장분이면 null)
+    record StoredToken(Long userId, Map<String, Object> claims, Instant expiresAt) {
+
+        // 만료 여부
+        public boolean isExpired() {
+            return expiresAt.isBefore(Instant.now());
+        }
+    }
+
+    // 토큰 저장 (만료 시각에 자동 삭제)
+    void save(Long userId, String token, Map<String, Object> claims, Instant expiresAt);
+
+    // 토큰 조회 (없으면 null, 만료된 토큰은 저장소에서 지운 뒤 만료 상태 그대로 반환)
+    StoredToken find(String token);
+
+    // 회원의 모든 토큰 삭제 (로그아웃, 탈퇴, 재로그인 시 중복 방지)
+    void revokeAll(Long userId);
+}
@@ -0,0 +1,174 @@
+package com.fullStc.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStc.member.domain.RefreshToken;
+import com.fullStc.member.repository.MemberRepository;
+import com.fullStc.member.repository.RefreshTokenRepository;
+import com.fullStc.config.SchedulingConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Refresh Token 저장소 구현
+// Redis 해시(refresh-token:{토큰 SHA-256} → userId, claims, expiresAt)에 TTL을 걸어 저장하고,
+// 회원별 집합(refresh-tokens:user:{userId})으로 전체 로그아웃을 처리
+// Redis를 쓸 수 없을 때만 refresh_tokens 테이블에 저장하며, 만료된 행은 매일 정리
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenStoreImpl implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    private static final String USER_KEY_PREFIX = "refresh-tokens:user:";
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    // 회원별 토큰 집합 유지 기간 (가장 긴 Refresh Token 유효기간 이상)
+    @Value("${auth.refresh-token.max-days:7}")
+    private long maxDays;
+
+    // 토큰 저장
+    @Override
+    @Transactional
+    public void save(Long userId, String token, Map<String, Object> claims, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        // 보안: password는 저장하지 않음
+        Map<String, Object> storedClaims = new LinkedHashMap<>(claims);
+        storedClaims.remove("password");
+
+        String tokenKey = TOKEN_KEY_PREFIX + hashOf(token);
+        String userKey = USER_KEY_PREFIX + userId;
+        try {
+            Map<String, String> fields = Map.of(
+                    "userId", String.valueOf(userId),
+                    "claims", objectMapper.writeValueAsString(storedClaims),
+                    "expiresAt", String.valueOf(expiresAt.toEpochMilli()));
+            // 한 번의 왕복으로 저장 + TTL + 회원별 집합 등록
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForHash().putAll(tokenKey, fields);
+                    operations.expire(tokenKey, ttl);
+                    operations.opsForSet().add(userKey, tokenKey);
+                    operations.expire(userKey, Duration.ofDays(maxDays).plusHours(1));
+                    return null;
+                }
+            });
+            return;
+        } catch (Exception e) {
+            log.warn("Redis Refresh Token 저장 실패 - DB에 저장: userId={}, error={}", userId, e.getMessage());
+        }
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .member(memberRepository.getReferenceById(userId))
+                .token(token)
+                .expiryDate(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .build());
+    }
+
+    // 토큰 조회 (Redis 해시 1회 조회, 없으면 Redis 장애 중 DB에 저장된 토큰인지 확인)
+    // 만료 여부는 호출한 쪽이 StoredToken.isExpired()로 구분 (없는 토큰과 다른 오류를 돌려주기 위함)
+    @Override
+    @Transactional
+    public StoredToken find(String token) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(TOKEN_KEY_PREFIX + hashOf(token));
+            if (!entries.isEmpty()) {
+                Instant expiresAt = Instant.ofEpochMilli(Long.parseLong((String) entries.get("expiresAt")));
+                return new StoredToken(
+                        Long.valueOf((String) entries.get("userId")),
+                        objectMapper.readValue((String) entries.get("claims"), CLAIMS_TYPE),
+                        expiresAt);
+            }
+        } catch (Exception e) {
+            log.warn("Redis Refresh Token 조회 실패 - DB에서 조회: {}", e.getMessage());
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByToken(token).orElse(null);
+        if (refreshToken == null) {
+            return null;
+        }
+        StoredToken stored = new StoredToken(refreshToken.getMember().getId(), null,
+                refreshToken.getExpiryDate().atZone(ZoneId.systemDefault()).toInstant());
+        if (stored.isExpired()) {
+            refreshTokenRepository.delete(refreshToken);
+        }
+        return stored;
+    }
+
+    // 회원의 모든 토큰 삭제
+    @Override
+    @Transactional
+    public void revokeAll(Long userId) {
+        String userKey = USER_KEY_PREFIX + userId;
+        try {
+            Set<String> tokenKeys = redisTemplate.opsForSet().members(userKey);
+            List<String> keys = new ArrayList<>();
+            if (tokenKeys != null) {
+                keys.addAll(tokenKeys);
+            }
+            keys.add(userKey);
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("Redis Refresh Token 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        refreshTokenRepository.deleteByMemberId(userId);
+    }
+
+    // 만료된 DB 토큰 정리 (Redis 저장분은 TTL로 자동 삭제)
+    @Scheduled(cron = "${auth.refresh-token.cleanup-cron:0 0 5 * * *}", scheduler = SchedulingConfig.MAINTENANCE)
+    public void deleteExpired() {
+        try {
+            int deleted = refreshTokenRepository.deleteByExpiryDateBefore(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 Refresh Token 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("만료된 Refresh Token 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 원본 토큰 대신 해시를 키로 사용
+    private static String hashOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
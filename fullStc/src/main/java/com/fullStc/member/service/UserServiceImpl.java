@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fullStc.ai.service.AiFaceService;
+import com.fullStc.board.service.BoardSearchService;
 import com.fullStc.board.service.FileStorageService;
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.domain.MemberCategory;
@@ -19,7 +20,6 @@ import com.fullStc.member.dto.ProfileUpdateDTO;
 import com.fullStc.member.repository.MemberCategoryRepository;
 import com.fullStc.member.repository.MemberProfileImageRepository;
 import com.fullStc.member.repository.MemberRepository;
-import com.fullStc.member.repository.RefreshTokenRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,10 +33,12 @@ public class UserServiceImpl implements UserService {
 
     private final MemberRepository memberRepository;
     private final MemberCategoryRepository memberCategoryRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
     private final MemberProfileImageRepository memberProfileImageRepository;
     private final FileStorageService fileStorageService;
     private final AiFaceService aiFaceService;
+    private final MemberContextService memberContextService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final BoardSearchService boardSearchService;
 
     // 사용자 정보 조회
     @Override
@@ -103,6 +105,8 @@ public class UserServiceImpl implements UserService {
             }
         }
 
+        memberContextService.evict(userId);
+
         log.info("관심 카테고리 업데이트 완료: userId={}, categories={}", userId, categoryUpdateDTO.getCategories());
     }
 
@@ -123,6 +127,8 @@ public class UserServiceImpl implements UserService {
         }
 
         member.changeNickname(newNickname);
+        memberContextService.evict(userId);
+        boardSearchService.renameWriter(userId, newNickname);
 
         log.info("프로필 업데이트 완료: userId={}, nickname={}", userId, newNickname);
     }
@@ -155,7 +161,8 @@ public class UserServiceImpl implements UserService {
         member.changeEnabled(false);
 
         // 4. 로그인 유지용 토큰 제거
-        refreshTokenRepository.deleteByMemberId(userId);
+        refreshTokenStore.revokeAll(userId);
+        memberContextService.evict(userId);
 
         log.info("계정 비활성 처리 완료: userId={}", userId);
     }
@@ -29,18 +29,10 @@ public class NewsController {
     ) {
         String finalQuery = CategoryKeywords.buildQuery(category, query);
 
-        // 1. 수집 및 저장
-        NewsResponse response = aggregator.fetchAndSave(category, finalQuery, size);
-
-        // 2. 파이프라인 가동 (비동기)
-        // ★ [수정] .insertedIds() -> .getInsertedIds() (Lombok 문법)
-        if (response.getInsertedIds() != null && !response.getInsertedIds().isEmpty()) {
-            CompletableFuture.runAsync(() ->
-                    pipeline.processNewOnly(response.getInsertedIds())
-            );
-        }
-
-        // 3. 반환
-        return response;
+        // 1. 캐시 우선 조회 (캐시가 없거나 오래됐으면 수집 및 저장)
+        // 2. 실제로 수집해서 새로 저장된 뉴스가 있으면 파이프라인 가동 (비동기)
+        return aggregator.getCachedNews(category, finalQuery, size, insertedIds ->
+                CompletableFuture.runAsync(() -> pipeline.processNewOnly(insertedIds))
+        );
     }
-}
\ No newline at end of file
+}
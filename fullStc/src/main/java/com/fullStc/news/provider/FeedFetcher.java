@@ -0,0 +1,240 @@
+package com.fullStc.news.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.fullStc.config.RestTemplateConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RSS 피드 수집기
+ *
+ * - 피드 URL마다 ETag/Last-Modified를 기억해 조건부 요청을 보내고, 304면 다시 받지 않습니다.
+ * - 본문은 StAX로 스트리밍 파싱하며, 이미 본 시각(워터마크) 이전 항목이 연속으로 나오면 파싱을 멈춥니다.
+ * - 새 항목은 최근 항목 목록 앞에 합쳐 두므로 호출자는 항상 최신 목록을 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedFetcher {
+
+    // 외부 API 호출용 도구 (공용 커넥션 풀)
+    @Qualifier(RestTemplateConfig.EXTERNAL)
+    private final RestTemplate restTemplate;
+
+    // 피드별로 보관할 최근 항목 수
+    @Value("${news.rss.max-items:100}")
+    private int maxItems;
+
+    // 워터마크 이전 항목이 이만큼 연속으로 나오면 파싱 중단 (관련도순 피드라 날짜가 조금 섞여 있음)
+    @Value("${news.rss.stop-after-old:5}")
+    private int stopAfterOld;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    // 피드 URL → 수집 상태
+    private final Map<String, FeedState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 피드 항목
+     * @param publishedAt 발행 시각 (없거나 형식이 잘못되면 null)
+     */
+    public record FeedItem(String title, String link, String description, Instant publishedAt) {
+    }
+
+    /**
+     * 피드별 수집 상태 (같은 피드는 한 번에 하나씩 수집하므로 상태 객체로 동기화)
+     */
+    private static final class FeedState {
+        private String etag;
+        private String lastModified;
+        private Instant watermark;
+        private List<FeedItem> recent = List.of();
+    }
+
+    /**
+     * 피드 조회 (최신순으로 최대 maxItems개)
+     * 실패하면 마지막으로 받은 목록을 돌려줍니다.
+     */
+    public List<FeedItem> fetch(String feedUrl) {
+        FeedState state = states.computeIfAbsent(feedUrl, k -> new FeedState());
+        synchronized (state) {
+            long start = System.currentTimeMillis();
+            try {
+                List<FeedItem> fresh = restTemplate.execute(feedUrl, HttpMethod.GET, request -> {
+                    HttpHeaders headers = request.getHeaders();
+                    headers.set(HttpHeaders.USER_AGENT, "Mozilla/5.0");
+                    headers.set(HttpHeaders.ACCEPT_CHARSET, "UTF-8"); // 인코딩 이슈 방지
+                    if (state.etag != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, state.etag);
+                    }
+                    if (state.lastModified != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, state.lastModified);
+                    }
+                }, response -> {
+                    if (response.getStatusCode().value() == 304) {
+                        return null;
+                    }
+                    List<FeedItem> items;
+                    try {
+                        items = parse(response.getBody(), state.watermark, stopAfterOld, maxItems);
+                    } catch (XMLStreamException e) {
+                        throw new IOException("RSS 파싱 실패: " + e.getMessage(), e);
+                    }
+                    state.etag = response.getHeaders().getETag();
+                    state.lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+                    return items;
+                });
+
+                if (fresh == null) {
+                    log.debug("[RSS] 변경 없음 (304) {}ms, URL: {}", System.currentTimeMillis() - start, feedUrl);
+                    return state.recent;
+                }
+                merge(state, fresh);
+                log.debug("[RSS] 새 항목 {}건 {}ms, URL: {}", fresh.size(), System.currentTimeMillis() - start, feedUrl);
+                return state.recent;
+            } catch (Exception e) {
+                log.error("💥 [RSS] 실패 (URL: {}): {}", feedUrl, e.getMessage());
+                return state.recent;
+            }
+        }
+    }
+
+    /**
+     * 새 항목을 최근 목록 앞에 합치고 워터마크 갱신
+     */
+    private void merge(FeedState state, List<FeedItem> fresh) {
+        List<FeedItem> merged = new ArrayList<>(Math.min(maxItems, fresh.size() + state.recent.size()));
+        Set<String> links = new HashSet<>();
+        for (List<FeedItem> source : List.of(fresh, state.recent)) {
+            for (FeedItem item : source) {
+                if (merged.size() >= maxItems) {
+                    break;
+                }
+                if (item.link().isEmpty() || links.add(item.link())) {
+                    merged.add(item);
+                }
+            }
+        }
+        state.recent = List.copyOf(merged);
+
+        for (FeedItem item : fresh) {
+            if (item.publishedAt() != null && (state.watermark == null || item.publishedAt().isAfter(state.watermark))) {
+                state.watermark = item.publishedAt();
+            }
+        }
+    }
+
+    /**
+     * RSS 2.0 스트리밍 파싱
+     * @param watermark 이미 본 가장 최근 발행 시각 (null이면 전부 파싱)
+     * @param stopAfterOld 워터마크 이전 항목이 이만큼 연속으로 나오면 중단
+     * @param limit 최대 항목 수
+     */
+    static List<FeedItem> parse(InputStream in, Instant watermark, int stopAfterOld, int limit)
+            throws XMLStreamException {
+        List<FeedItem> items = new ArrayList<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            int oldInRow = 0;
+            while (reader.hasNext() && items.size() < limit) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"item".equals(reader.getLocalName())) {
+                    continue;
+                }
+                FeedItem item = readItem(reader);
+                if (watermark != null && item.publishedAt() != null && !item.publishedAt().isAfter(watermark)) {
+                    if (++oldInRow >= stopAfterOld) {
+                        break;
+                    }
+                    continue;
+                }
+                oldInRow = 0;
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+
+    /**
+     * <item> 하나 읽기 (필요한 필드만, 나머지 요소는 건너뜀)
+     */
+    private static FeedItem readItem(XMLStreamReader reader) throws XMLStreamException {
+        String title = "";
+        String link = "";
+        String description = "";
+        Instant publishedAt = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title" -> title = reader.getElementText().trim();
+                case "link" -> link = reader.getElementText().trim();
+                case "description" -> description = reader.getElementText().trim();
+                case "pubDate" -> publishedAt = parseDate(reader.getElementText());
+                default -> skipElement(reader);
+            }
+        }
+        return new FeedItem(title, link, description, publishedAt);
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Instant parseDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티·DTD 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
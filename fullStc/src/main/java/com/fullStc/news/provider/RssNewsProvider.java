@@ -1,14 +1,11 @@
 package com.fullStc.news.provider;
 
-import com.rometools.rome.feed.synd.SyndEntry;
-import com.rometools.rome.feed.synd.SyndFeed;
-import com.rometools.rome.io.SyndFeedInput;
-import com.rometools.rome.io.XmlReader;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // 로그 추가
 import org.springframework.stereotype.Component;
 import com.fullStc.news.dto.UnifiedArticle;
+import com.fullStc.news.provider.FeedFetcher.FeedItem;
 
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
@@ -18,10 +15,14 @@ import java.util.UUID;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RssNewsProvider implements NewsProvider {
 
     // Environment 의존성 제거 (직접 URL 매핑함)
 
+    // 조건부 요청 + 스트리밍 파싱 (피드가 바뀌지 않았으면 다시 받지 않음)
+    private final FeedFetcher feedFetcher;
+
     @Override
     public String name() {
         return "rss";
@@ -57,58 +58,41 @@ public class RssNewsProvider implements NewsProvider {
     }
 
     private List<UnifiedArticle> readFeed(String feedUrl, String category, int size) {
-        try {
-            URL url = new URL(feedUrl);
-            var conn = url.openConnection();
-            conn.setRequestProperty("User-Agent", "Mozilla/5.0");
-            conn.setRequestProperty("Accept-Charset", "UTF-8"); // 인코딩 이슈 방지
-
-            try (XmlReader reader = new XmlReader(conn.getInputStream())) { // Rome이 알아서 인코딩 감지함
-                SyndFeed feed = new SyndFeedInput().build(reader);
-
-                List<UnifiedArticle> list = new ArrayList<>();
-                for (SyndEntry e : feed.getEntries()) {
-                    if (list.size() >= size)
-                        break; // 사이즈 제한
-
-                    String title = safe(e.getTitle());
-                    String link = safe(e.getLink());
-                    Instant publishedAt = (e.getPublishedDate() != null)
-                            ? e.getPublishedDate().toInstant()
-                            : Instant.EPOCH;
-
-                    String summary = "";
-                    if (e.getDescription() != null) {
-                        summary = safe(e.getDescription().getValue())
-                                .replaceAll("<[^>]*>", "") // HTML 태그 제거
-                                .trim();
-                    }
-
-                    // 내용이 너무 짧으면 제목을 요약으로 사용
-                    if (summary.length() < 10)
-                        summary = title;
-
-                    String sourceName = "Google News RSS";
-                    // ID 생성
-                    String id = hash(link.isBlank() ? (title + "|" + publishedAt) : link);
-
-                    list.add(new UnifiedArticle(
-                            id,
-                            title,
-                            summary,
-                            link,
-                            null,
-                            publishedAt,
-                            sourceName,
-                            "rss", // provider name
-                            category));
-                }
-                return list;
-            }
-        } catch (Exception ex) {
-            log.error("💥 [RSS] 실패 (URL: {}): {}", feedUrl, ex.getMessage());
-            return List.of();
+        List<UnifiedArticle> list = new ArrayList<>();
+        for (FeedItem e : feedFetcher.fetch(feedUrl)) {
+            if (list.size() >= size)
+                break; // 사이즈 제한
+
+            String title = safe(e.title());
+            String link = safe(e.link());
+            Instant publishedAt = (e.publishedAt() != null)
+                    ? e.publishedAt()
+                    : Instant.EPOCH;
+
+            String summary = safe(e.description())
+                    .replaceAll("<[^>]*>", "") // HTML 태그 제거
+                    .trim();
+
+            // 내용이 너무 짧으면 제목을 요약으로 사용
+            if (summary.length() < 10)
+                summary = title;
+
+            String sourceName = "Google News RSS";
+            // ID 생성
+            String id = hash(link.isBlank() ? (title + "|" + publishedAt) : link);
+
+            list.add(new UnifiedArticle(
+                    id,
+                    title,
+                    summary,
+                    link,
+                    null,
+                    publishedAt,
+                    sourceName,
+                    "rss", // provider name
+                    category));
         }
+        return list;
     }
 
     private static String safe(String s) {
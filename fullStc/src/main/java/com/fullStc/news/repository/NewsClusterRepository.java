@@ -45,6 +45,15 @@ public interface NewsClusterRepository extends JpaRepository<NewsCluster, Long>
                 @Param("categories") List<String> categories,
                 @Param("limit") int limit);
 
+        // 요약 완료 클러스터의 변경 워터마크 (건수:최대ID:최대updated_at) - 드라이브 플레이리스트 미리 합성 판단용
+        @Query(value = """
+                        SELECT CONCAT(COUNT(*), ':', COALESCE(MAX(id), 0), ':', COALESCE(MAX(updated_at), ''))
+                        FROM news_cluster
+                        WHERE cluster_summary IS NOT NULL
+                          AND TRIM(cluster_summary) <> ''
+                    """, nativeQuery = true)
+        String findSummarizedWatermark();
+
         // (기존) 디버깅용
         @Query(value = """
                         SELECT * FROM news_cluster
@@ -2,6 +2,7 @@ package com.fullStc.news.service;
 
 import com.fullStc.news.domain.NewsCluster;
 import com.fullStc.news.repository.NewsClusterRepository;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.*;
@@ -81,7 +82,7 @@ public class ImageRegenerationService {
     }
 
     // 30초마다 “재시도 시간 지난 FAILED” 다시 시도
-    @Scheduled(fixedDelay = 30_000)
+    @Scheduled(fixedDelay = 30_000, scheduler = SchedulingConfig.INGEST)
     public void retryDue() {
         List<NewsCluster> due = newsClusterRepository.findRetryDue(Instant.now());
         for (NewsCluster c : due) {
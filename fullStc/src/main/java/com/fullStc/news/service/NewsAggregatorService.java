@@ -15,11 +15,26 @@ import com.fullStc.news.provider.NewsProvider;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+/**
+ * 뉴스 수집 (모든 NewsProvider 병렬 호출 + 캐시)
+ *
+ * - 모든 제공자를 동시에 호출하고 공통 마감 시간까지 도착한 결과만 병합합니다 (늦은 제공자는 제외).
+ * - 같은 (카테고리, 검색어, 개수) 요청이 동시에 들어오면 한 번만 수집하고 결과를 공유합니다.
+ * - 사용자 조회는 stale-while-revalidate 캐시로 응답하고, 오래된 항목은 백그라운드에서 갱신합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,23 +45,70 @@ public class NewsAggregatorService {
 
     // Orchestrator 제거됨 (순환 참조 해결 완료) ✅
 
+    // 이 시간 안에 수집한 결과는 그대로 응답
     @Value("${news.cacheTtlSeconds:60}")
     private long ttlSeconds;
 
+    // 이 시간까지는 오래된 결과로 먼저 응답하고 백그라운드에서 갱신
+    @Value("${news.cache-stale-seconds:600}")
+    private long staleSeconds;
+
+    // 제공자 공통 마감 시간
+    @Value("${news.fetch-deadline-ms:3000}")
+    private long deadlineMs;
+
+    // 제공자 호출 스레드 수
+    @Value("${news.fetch-threads:8}")
+    private int fetchThreads;
+
+    // 제공자 병합 우선순위 (앞쪽 제공자의 기사를 먼저 채움)
+    @Value("${news.provider-priority:naver,rss}")
+    private List<String> providerPriority;
+
     private ExecutorService pool;
-    private Cache<String, List<UnifiedArticle>> cache;
+    private ThreadPoolExecutor refreshPool;
+    private Cache<String, CachedNews> cache;
+
+    // 진행 중인 수집 (요청 합치기)
+    private final ConcurrentMap<String, CompletableFuture<Fetched>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 항목
+     * @param complete 모든 제공자가 마감 안에 응답했는지 (일부만 받은 결과는 다음 조회 때 갱신)
+     */
+    private record CachedNews(List<UnifiedArticle> items, long fetchedAt, boolean complete) {
+    }
+
+    /**
+     * 수집 결과
+     * @param insertedIds 이번 수집으로 새로 저장된 뉴스 ID (수집을 시작한 호출에만 전달)
+     */
+    private record Fetched(List<UnifiedArticle> items, List<Long> insertedIds, boolean complete) {
+    }
 
     @PostConstruct
     void init() {
-        this.pool = Executors.newFixedThreadPool(Math.max(4, providers.size()));
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(Math.max(fetchThreads, providers.size()), r -> {
+            Thread t = new Thread(r, "news-fetch-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        // 백그라운드 갱신은 밀리면 버려도 됨 (오래된 결과로 이미 응답했고 다음 조회 때 다시 시도)
+        this.refreshPool = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(50), r -> {
+            Thread t = new Thread(r, "news-refresh-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.DiscardPolicy());
         this.cache = Caffeine.newBuilder()
-                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .expireAfterWrite(Math.max(ttlSeconds, staleSeconds), TimeUnit.SECONDS)
                 .maximumSize(500)
                 .build();
     }
 
     @PreDestroy
     void shutdown() {
+        refreshPool.shutdownNow();
         if (pool != null) {
             pool.shutdown();
             try {
@@ -59,46 +121,142 @@ public class NewsAggregatorService {
         }
     }
 
-    public List<UnifiedArticle> getNews(String category, String query, int size) {
-        // ... (기존 로직 유지: 캐시 조회, 병합, 정렬 등) ...
-        String cacheKey = category + "|" + query + "|" + size;
-//        List<UnifiedArticle> cached = cache.getIfPresent(cacheKey);
-//        if (cached != null) return cached;
+    /**
+     * 사용자 조회용 (캐시 우선)
+     * - 신선한 캐시: 그대로 응답
+     * - 오래된 캐시: 먼저 응답하고 백그라운드에서 갱신
+     * - 캐시 없음: 수집 후 응답 (같은 요청은 합쳐서 한 번만 수집)
+     * @param onInserted 실제로 수집이 일어나 새 뉴스가 저장됐을 때 호출 (파이프라인 가동용)
+     */
+    public NewsResponse getCachedNews(String category, String query, int size, Consumer<List<Long>> onInserted) {
+        String cacheKey = cacheKey(category, query, size);
+        CachedNews cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            long ageMs = System.currentTimeMillis() - cached.fetchedAt();
+            if (!cached.complete() || ageMs >= ttlSeconds * 1000) {
+                refreshInBackground(cacheKey, category, query, size, onInserted);
+            }
+            return response(category, query, cached.items(), List.of());
+        }
 
-        Map<String, NewsProvider> map = providers.stream()
-                .collect(Collectors.toMap(NewsProvider::name, p -> p, (a, b) -> a));
+        Fetched fetched = fetchCoalesced(cacheKey, category, query, size);
+        notifyInserted(fetched, onInserted);
+        return response(category, query, fetched.items(), List.of());
+    }
 
-        NewsProvider naver = map.get("naver");
-        NewsProvider rss = map.get("rss");
+    /**
+     * 캐시를 거치지 않고 최신 뉴스 수집·저장 (스케줄러용)
+     * 같은 요청이 이미 진행 중이면 그 결과를 공유하며, 이 경우 새 ID는 먼저 시작한 쪽에서 처리합니다.
+     */
+    public NewsResponse fetchAndSave(String category, String query, int size) {
+        Fetched fetched = fetchCoalesced(cacheKey(category, query, size), category, query, size);
+        return response(category, query, fetched.items(), fetched.insertedIds());
+    }
 
-        List<UnifiedArticle> merged = new ArrayList<>();
+    private void refreshInBackground(String cacheKey, String category, String query, int size,
+                                     Consumer<List<Long>> onInserted) {
+        if (inFlight.containsKey(cacheKey)) {
+            return;
+        }
+        refreshPool.execute(() -> {
+            try {
+                notifyInserted(fetchCoalesced(cacheKey, category, query, size), onInserted);
+            } catch (Exception e) {
+                log.warn("[NEWS] 백그라운드 갱신 실패 key={}: {}", cacheKey, e.getMessage());
+            }
+        });
+    }
 
-        if (naver != null) {
-            merged.addAll(safeFetch(naver, category, query, size));
+    private void notifyInserted(Fetched fetched, Consumer<List<Long>> onInserted) {
+        if (onInserted != null && !fetched.insertedIds().isEmpty()) {
+            onInserted.accept(fetched.insertedIds());
         }
+    }
 
-// ★ [여기 수정] RSS Provider를 부를 때 쿼리를 조작합니다.
-        if (merged.size() < size && rss != null) {
+    /**
+     * 같은 키의 수집이 진행 중이면 그 결과를 기다리고, 아니면 현재 스레드에서 수집
+     */
+    private Fetched fetchCoalesced(String cacheKey, String category, String query, int size) {
+        CompletableFuture<Fetched> created = new CompletableFuture<>();
+        CompletableFuture<Fetched> existing = inFlight.putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            Fetched shared = existing.join();
+            return new Fetched(shared.items(), List.of(), shared.complete());
+        }
 
-            // [수정 전]
-            // merged.addAll(safeFetch(rss, category, query, size - merged.size()));
+        try {
+            Fetched fetched = fetchAndStore(category, query, size);
+            cache.put(cacheKey, new CachedNews(fetched.items(), System.currentTimeMillis(), fetched.complete()));
+            created.complete(fetched);
+            return fetched;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, created);
+        }
+    }
 
-            // [수정 후] 검색어 앞에 'when:1h '를 붙여서 1시간 이내 기사만 강제합니다.
-            String timeBoxedQuery = "when:24h " + query;
+    /**
+     * 모든 제공자 병렬 호출 → 마감 시간까지 도착한 결과 병합 → 저장
+     */
+    private Fetched fetchAndStore(String category, String query, int size) {
+        long start = System.currentTimeMillis();
+        List<NewsProvider> ordered = orderedProviders();
+        List<CompletableFuture<List<UnifiedArticle>>> futures = new ArrayList<>(ordered.size());
+        for (NewsProvider p : ordered) {
+            futures.add(CompletableFuture.supplyAsync(() -> safeFetch(p, category, query, size), pool));
+        }
 
-            // 로그로 확인 (나중에 지우세요)
-            log.info("🔥 [RSS FORCE] Query modified: '{}' -> '{}'", query, timeBoxedQuery);
+        boolean complete = true;
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            complete = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete = false;
+        } catch (ExecutionException e) {
+            // safeFetch가 예외를 삼키므로 발생하지 않음
+            complete = false;
+        }
 
-            merged.addAll(safeFetch(rss, category, timeBoxedQuery, size - merged.size()));
+        // 우선순위 순서대로 남은 자리 채우기 (기존: 네이버로 채우고 모자라면 RSS)
+        List<UnifiedArticle> merged = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            CompletableFuture<List<UnifiedArticle>> f = futures.get(i);
+            if (!f.isDone()) {
+                log.warn("[NEWS] provider={} 마감 시간({}ms) 초과, 제외", ordered.get(i).name(), deadlineMs);
+                continue;
+            }
+            List<UnifiedArticle> items = f.getNow(List.of());
+            int remaining = size - merged.size();
+            if (remaining <= 0) {
+                break;
+            }
+            merged.addAll(items.size() > remaining ? items.subList(0, remaining) : items);
         }
 
         List<UnifiedArticle> result = mergeDedupeSort(merged, size);
-        cache.put(cacheKey, result);
-        return result;
+        List<Long> insertedIds = save(result);
+        log.info("[NEWS] category={} query={} fetched={} inserted={} complete={} {}ms",
+                category, query, result.size(), insertedIds.size(), complete, System.currentTimeMillis() - start);
+        return new Fetched(result, insertedIds, complete);
+    }
+
+    private List<NewsProvider> orderedProviders() {
+        List<NewsProvider> ordered = new ArrayList<>(providers);
+        ordered.sort(Comparator.comparingInt(p -> {
+            int idx = providerPriority.indexOf(p.name());
+            return idx >= 0 ? idx : Integer.MAX_VALUE;
+        }));
+        return ordered;
+    }
+
+    private static String cacheKey(String category, String query, int size) {
+        return category + "|" + query + "|" + size;
     }
 
-    // safeFetch, mergeDedupeSort, dedupeKey, canonicalizeUrl, pickBetter 등은
-    // 기존 코드 그대로 두시면 됩니다. (생략함)
     private List<UnifiedArticle> safeFetch(NewsProvider p, String category, String query, int size) {
         try {
             List<UnifiedArticle> r = p.fetch(category, query, size);
@@ -148,18 +306,13 @@ public class NewsAggregatorService {
 
 
     /**
-     * ★ 수정됨: 리턴 타입을 NewsResponse로 변경
-     * - Controller는 여기서 받은 NewsResponse를 그대로 사용자에게 JSON으로 주고,
-     * - Controller(또는 Scheduler)는 NewsResponse 안에 숨겨진 insertedIds를 꺼내서 파이프라인에 넣음.
+     * 새로 들어온 기사만 저장 (Insert 된 것만 골라내기)
+     * @return 새로 저장된 뉴스 ID
      */
-    public NewsResponse fetchAndSave(String category, String query, int size) {
-        // 1. 뉴스 긁어오기
-        List<UnifiedArticle> all = getNews(category, query, size);
+    private List<Long> save(List<UnifiedArticle> all) {
         Instant now = Instant.now();
-
         List<Long> insertedIds = new ArrayList<>();
 
-        // 2. 저장 (Insert 된 것만 골라내기)
         for (UnifiedArticle it : all) {
             News entity = News.builder()
                     .sourceId(it.getId())
@@ -178,15 +331,21 @@ public class NewsAggregatorService {
                 insertedIds.add(r.id());
             }
         }
+        return insertedIds;
+    }
 
-        log.info("[AGGREGATOR] Saved {} new items (Total fetched: {})", insertedIds.size(), all.size());
-
-        // 3. ★ 리턴값 포장 (뉴스 목록 + 새로 저장된 ID 목록)
+    /**
+     * 응답 포장 (뉴스 목록 + 새로 저장된 ID 목록)
+     * - Controller는 NewsResponse를 그대로 사용자에게 JSON으로 주고,
+     * - Scheduler는 NewsResponse 안에 숨겨진 insertedIds를 꺼내서 파이프라인에 넣음.
+     */
+    private static NewsResponse response(String category, String query, List<UnifiedArticle> items,
+                                         List<Long> insertedIds) {
         return NewsResponse.builder()
                 .category(category)
                 .query(query == null ? "" : query)
-                .items(all)
+                .items(items)
                 .insertedIds(insertedIds) // DTO에 @JsonIgnore 된 필드에 넣음
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.fullStc.news.service;
 
+import com.fullStc.config.SchedulingConfig;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -21,7 +23,7 @@ public class NewsIngestScheduler {
     private int index = 0;
 
     // 2분마다 실행
-    @Scheduled(fixedDelay = 120000)
+    @Scheduled(fixedDelay = 120000, scheduler = SchedulingConfig.INGEST)
     public void ingest() {
         String category = categories.get(index);
 
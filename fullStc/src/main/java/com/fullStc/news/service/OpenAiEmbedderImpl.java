@@ -3,6 +3,7 @@ package com.fullStc.news.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -10,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import com.fullStc.config.RestTemplateConfig;
 import com.fullStc.news.provider.OpenAiEmbedder;
 
 import java.util.Map;
@@ -18,7 +20,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OpenAiEmbedderImpl implements OpenAiEmbedder {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Qualifier(RestTemplateConfig.OPENAI)
+    private final RestTemplate restTemplate;
     private final ObjectMapper om = new ObjectMapper();
 
     @Value("${openai.api.key}")
@@ -18,8 +18,8 @@ public class OpenAiSummarizer {
     @Value("${openai.model:gpt-4o-mini}")
     private String model;
 
-    public OpenAiSummarizer(@Value("${openai.apiKey}") String apiKey) {
-        this.client = WebClient.builder()
+    public OpenAiSummarizer(WebClient.Builder builder, @Value("${openai.apiKey}") String apiKey) {
+        this.client = builder
                 .baseUrl("https://api.openai.com/v1")
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .build();
@@ -1,10 +1,12 @@
 package com.fullStc.news.service;
 
+import com.fullStc.config.RestTemplateConfig;
 import com.fullStc.news.domain.NewsCluster;
 import com.fullStc.news.dto.UnsplashResponse;
 import com.fullStc.news.repository.NewsClusterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -23,8 +25,9 @@ public class PollinationsImageService {
     private final OpenAiSummarizer openAiSummarizer;
     private final NewsClusterRepository newsClusterRepository;
 
-    // 외부 API 호출용 도구
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 외부 API 호출용 도구 (공용 커넥션 풀)
+    @Qualifier(RestTemplateConfig.EXTERNAL)
+    private final RestTemplate restTemplate;
 
     // application.properties(yml)에서 키 가져오기
     @Value("${unsplash.access-key:}")
@@ -1,14 +1,40 @@
 package com.fullStc.news.service;
 
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+import com.fullStc.config.RestTemplateConfig;
 import com.fullStc.news.utils.GoogleRssUrlDecoder;
+import com.fullStc.outbound.service.OutboundHttpClientFactory;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 
 @Service
+@DependsOn(RestTemplateConfig.EXTERNAL)
 public class UrlResolverService {
 
+    // external 클라이언트의 커넥션 풀 사용, 리다이렉트는 한 단계씩 직접 따라감
+    private final RestTemplate restTemplate;
+
+    public UrlResolverService(OutboundHttpClientFactory clientFactory) {
+        this.restTemplate = clientFactory.restTemplateWithoutRedirects("external");
+        // 4xx/5xx도 예외 없이 받아 마지막으로 도달한 URL을 반환
+        this.restTemplate.setErrorHandler(new ResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) {
+                return false;
+            }
+
+            @Override
+            public void handleError(URI url, HttpMethod method, ClientHttpResponse response) {
+            }
+        });
+    }
+
     /**
      * Google News RSS / 중계 링크 등: 리다이렉트를 따라가 최종 URL을 얻는다.
      * 실패하면 원래 url 반환.
@@ -27,21 +53,14 @@ public class UrlResolverService {
 
         try {
             for (int i = 0; i < 8; i++) {
-                HttpURLConnection conn = (HttpURLConnection) new URL(cur).openConnection();
-                conn.setInstanceFollowRedirects(false);
-                conn.setRequestMethod("GET");
-                conn.setConnectTimeout(4000);
-                conn.setReadTimeout(4000);
-                conn.setRequestProperty("User-Agent", "Mozilla/5.0");
-
-                int code = conn.getResponseCode();
-                if (code >= 300 && code < 400) {
-                    String loc = conn.getHeaderField("Location");
-                    if (loc == null || loc.isBlank()) break;
-                    cur = loc;
-                    continue;
-                }
-                break;
+                // 본문은 읽지 않고 상태 코드와 Location만 확인
+                String loc = restTemplate.execute(URI.create(cur), HttpMethod.GET,
+                        request -> request.getHeaders().set(HttpHeaders.USER_AGENT, "Mozilla/5.0"),
+                        response -> response.getStatusCode().is3xxRedirection()
+                                ? response.getHeaders().getFirst(HttpHeaders.LOCATION)
+                                : null);
+                if (loc == null || loc.isBlank()) break;
+                cur = URI.create(cur).resolve(loc.trim()).toString(); // 상대 경로 Location 지원
             }
             return cur;
         } catch (Exception e) {
@@ -0,0 +1,48 @@
+package com.fullStc.outbound.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fullStc.outbound.service.OutboundHttpClientFactory;
+import com.fullStc.outbound.service.OutboundHttpMetrics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 HTTP 호출 지표 컨트롤러 (관리자)
+ */
+@RestController
+@RequestMapping("/api/admin/http-clients")
+@RequiredArgsConstructor
+@Tag(name = "Outbound HTTP", description = "외부 호출 지표 API")
+public class OutboundHttpController {
+
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final OutboundHttpClientFactory outboundHttpClientFactory;
+
+    /**
+     * 엔드포인트별 요청 수·오류·지연 분포와 커넥션 풀 상태 조회
+     */
+    @Operation(summary = "외부 호출 지표", description = "엔드포인트별 요청 수, 오류, 지연 분포와 커넥션 풀 상태를 조회합니다. (관리자 전용)")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("endpoints", outboundHttpMetrics.getStats());
+        data.put("pools", outboundHttpClientFactory.getPoolStats());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+
+        return ResponseEntity.ok(response);
+    }
+}
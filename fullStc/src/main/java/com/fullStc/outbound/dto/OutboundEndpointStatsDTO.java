@@ -0,0 +1,35 @@
+package com.fullStc.outbound.dto;
+
+import com.fullStc.util.LatencyHistogram;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 호출 엔드포인트별 통계 응답 DTO
+ */
+@Getter
+@Builder
+public class OutboundEndpointStatsDTO {
+
+    /** 클라이언트 이름 (python, python-slow, openai, external, webclient) */
+    private String client;
+
+    /** HTTP 메서드 */
+    private String method;
+
+    /** 엔드포인트 (호스트 + 경로, ID 부분은 {id}로 치환) */
+    private String endpoint;
+
+    /** 요청 수 */
+    private long requests;
+
+    /** 4xx/5xx 응답 수 */
+    private long errorResponses;
+
+    /** 연결 실패·타임아웃 등 응답을 받지 못한 수 */
+    private long failures;
+
+    /** 응답 헤더 수신까지의 소요 시간 분포 */
+    private LatencyHistogram.Snapshot latency;
+}
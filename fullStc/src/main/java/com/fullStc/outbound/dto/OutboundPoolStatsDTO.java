@@ -0,0 +1,27 @@
+package com.fullStc.outbound.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커넥션 풀 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class OutboundPoolStatsDTO {
+
+    /** 클라이언트 이름 */
+    private String client;
+
+    /** 사용 중인 커넥션 수 */
+    private int leased;
+
+    /** 재사용 대기 중인(keep-alive) 커넥션 수 */
+    private int available;
+
+    /** 커넥션을 기다리는 요청 수 */
+    private int pending;
+
+    /** 전체 최대 커넥션 수 */
+    private int max;
+}
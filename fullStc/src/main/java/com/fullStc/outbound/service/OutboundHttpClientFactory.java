@@ -0,0 +1,156 @@
+package com.fullStc.outbound.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.fullStc.outbound.dto.OutboundPoolStatsDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 호출용 RestTemplate 생성
+ *
+ * 대상·엔드포인트 부류마다 별도 커넥션 풀(HTTP/1.1 keep-alive)을 두어 느린 호출(TTS, PDF)이
+ * 빠른 호출(채팅, 얼굴 인식, NLU)의 커넥션을 차지하지 않게 하고, 모든 요청을 OutboundHttpMetrics에 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClientFactory implements DisposableBean {
+
+    private final OutboundHttpMetrics metrics;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final List<CloseableHttpClient> clients = new CopyOnWriteArrayList<>();
+
+    /**
+     * 풀 설정
+     * @param maxTotal 전체 최대 커넥션 수
+     * @param maxPerRoute 호스트별 최대 커넥션 수
+     * @param connectTimeout 연결 타임아웃
+     * @param readTimeout 응답 대기 타임아웃
+     */
+    public record Limits(int maxTotal, int maxPerRoute, Duration connectTimeout, Duration readTimeout) {
+    }
+
+    private record Pool(PoolingHttpClientConnectionManager manager, int max, CloseableHttpClient httpClient,
+                        Limits limits) {
+    }
+
+    /**
+     * 풀링 RestTemplate 생성
+     * @param client 클라이언트 이름 (지표·풀 상태 구분용)
+     * @param limits 풀 설정
+     */
+    public RestTemplate restTemplate(String client, Limits limits) {
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(limits.maxTotal())
+                .setMaxConnPerRoute(limits.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(limits.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(limits.readTimeout()))
+                        // 서버가 먼저 끊은 keep-alive 커넥션을 재사용하지 않도록 유휴 후 재검증
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(manager)
+                .setDefaultRequestConfig(requestConfig(limits).build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        pools.put(client, new Pool(manager, limits.maxTotal(), httpClient, limits));
+        clients.add(httpClient);
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(metrics.interceptor(client));
+        log.info("외부 호출 클라이언트 생성: {}, 최대 커넥션={}/{}, 연결={}ms, 응답={}ms", client,
+                limits.maxPerRoute(), limits.maxTotal(), limits.connectTimeout().toMillis(),
+                limits.readTimeout().toMillis());
+        return restTemplate;
+    }
+
+    /**
+     * 이미 만든 클라이언트의 커넥션 풀을 같이 쓰되 리다이렉트를 따라가지 않는 RestTemplate
+     * (리다이렉트 응답의 Location을 직접 다뤄야 할 때, 지표는 같은 클라이언트 이름으로 기록)
+     * @param client restTemplate(String, Limits)로 먼저 만든 클라이언트 이름
+     */
+    public RestTemplate restTemplateWithoutRedirects(String client) {
+        Pool pool = pools.get(client);
+        if (pool == null) {
+            throw new IllegalStateException("생성되지 않은 외부 호출 클라이언트입니다: " + client);
+        }
+        RequestConfig config = requestConfig(pool.limits()).setRedirectsEnabled(false).build();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(pool.httpClient());
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(config);
+            return context;
+        });
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(metrics.interceptor(client));
+        return restTemplate;
+    }
+
+    private static RequestConfig.Builder requestConfig(Limits limits) {
+        return RequestConfig.custom()
+                // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+                .setConnectionRequestTimeout(Timeout.ofSeconds(10))
+                .setResponseTimeout(Timeout.of(limits.readTimeout()));
+    }
+
+    /**
+     * 클라이언트별 커넥션 풀 상태
+     */
+    public List<OutboundPoolStatsDTO> getPoolStats() {
+        List<OutboundPoolStatsDTO> result = new ArrayList<>();
+        pools.forEach((client, pool) -> {
+            PoolStats stats = pool.manager().getTotalStats();
+            result.add(OutboundPoolStatsDTO.builder()
+                    .client(client)
+                    .leased(stats.getLeased())
+                    .available(stats.getAvailable())
+                    .pending(stats.getPending())
+                    .max(pool.max())
+                    .build());
+        });
+        result.sort((a, b) -> a.getClient().compareTo(b.getClient()));
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        for (CloseableHttpClient client : clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.debug("외부 호출 클라이언트 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.fullStc.outbound.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import com.fullStc.outbound.dto.OutboundEndpointStatsDTO;
+import com.fullStc.util.LatencyHistogram;
+
+/**
+ * 외부 HTTP 호출 지표 (클라이언트·메서드·엔드포인트별 요청 수, 오류, 지연 분포)
+ *
+ * 경로의 숫자·UUID·이메일 구간은 {id}로 바꿔 같은 API는 하나의 엔드포인트로 집계합니다.
+ */
+@Component
+public class OutboundHttpMetrics {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "^(\\d+|[0-9a-fA-F-]{16,}|[^/]+@[^/]+)$");
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * RestTemplate용 인터셉터 (응답 헤더 수신까지의 시간 기록)
+     */
+    public ClientHttpRequestInterceptor interceptor(String client) {
+        return (request, body, execution) -> {
+            EndpointStats stats = stats(client, request.getMethod().name(), request.getURI());
+            long start = System.nanoTime();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                stats.record(response.getStatusCode().isError(), elapsedMs(start));
+                return response;
+            } catch (IOException | RuntimeException e) {
+                stats.recordFailure(elapsedMs(start));
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * WebClient용 필터
+     */
+    public ExchangeFilterFunction webClientFilter(String client) {
+        return (request, next) -> {
+            EndpointStats stats = stats(client, request.method().name(), request.url());
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> stats.record(response.statusCode().isError(), elapsedMs(start)))
+                    .doOnError(e -> stats.recordFailure(elapsedMs(start)));
+        };
+    }
+
+    /**
+     * 엔드포인트별 통계 (클라이언트, 엔드포인트 순)
+     */
+    public List<OutboundEndpointStatsDTO> getStats() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparing((EndpointStats s) -> s.client).thenComparing(s -> s.endpoint)
+                        .thenComparing(s -> s.method))
+                .map(EndpointStats::toDTO)
+                .toList();
+    }
+
+    private EndpointStats stats(String client, String method, URI uri) {
+        String endpoint = endpoint(uri);
+        return endpoints.computeIfAbsent(client + " " + method + " " + endpoint,
+                k -> new EndpointStats(client, method, endpoint));
+    }
+
+    /**
+     * 호스트 + 경로 (쿼리 제외, ID 구간 치환)
+     */
+    static String endpoint(URI uri) {
+        StringBuilder sb = new StringBuilder();
+        if (uri.getHost() != null) {
+            sb.append(uri.getHost());
+            if (uri.getPort() > 0) {
+                sb.append(':').append(uri.getPort());
+            }
+        }
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            return sb.append('/').toString();
+        }
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            sb.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        if (path.endsWith("/")) {
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static final class EndpointStats {
+        final String client;
+        final String method;
+        final String endpoint;
+        final LongAdder requests = new LongAdder();
+        final LongAdder errorResponses = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        EndpointStats(String client, String method, String endpoint) {
+            this.client = client;
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        void record(boolean error, long elapsedMs) {
+            requests.increment();
+            if (error) {
+                errorResponses.increment();
+            }
+            latency.record(elapsedMs);
+        }
+
+        void recordFailure(long elapsedMs) {
+            requests.increment();
+            failures.increment();
+            latency.record(elapsedMs);
+        }
+
+        OutboundEndpointStatsDTO toDTO() {
+            return OutboundEndpointStatsDTO.builder()
+                    .client(client)
+                    .method(method)
+                    .endpoint(endpoint)
+                    .requests(requests.sum())
+                    .errorResponses(errorResponses.sum())
+                    .failures(failures.sum())
+                    .latency(latency.snapshot())
+                    .build();
+        }
+    }
+}
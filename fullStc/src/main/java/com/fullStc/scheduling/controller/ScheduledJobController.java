@@ -0,0 +1,46 @@
+package com.fullStc.scheduling.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fullStc.scheduling.dto.ScheduledJobStatusDTO;
+import com.fullStc.scheduling.service.ScheduledJobMonitor;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄 작업 상태 컨트롤러 (관리자)
+ */
+@RestController
+@RequestMapping("/api/admin/scheduler")
+@RequiredArgsConstructor
+@Tag(name = "Scheduler", description = "스케줄 작업 상태 API")
+public class ScheduledJobController {
+
+    private final ScheduledJobMonitor scheduledJobMonitor;
+
+    /**
+     * 작업별 실행 상태와 소요 시간·지연 분포 조회
+     */
+    @Operation(summary = "스케줄 작업 상태", description = "작업별 실행 횟수, 실패, 건너뜀, 소요 시간·지연 분포를 조회합니다. (관리자 전용)")
+    @GetMapping("/jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getJobs() {
+        List<ScheduledJobStatusDTO> jobs = scheduledJobMonitor.getStatuses();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", jobs);
+
+        return ResponseEntity.ok(response);
+    }
+}
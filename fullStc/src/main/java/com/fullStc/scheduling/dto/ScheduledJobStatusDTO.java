@@ -0,0 +1,48 @@
+package com.fullStc.scheduling.dto;
+
+import java.time.Instant;
+
+import com.fullStc.util.LatencyHistogram;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스케줄 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+public class ScheduledJobStatusDTO {
+
+    /** 작업 이름 (클래스.메서드) */
+    private String name;
+
+    /** 실행 풀 이름 */
+    private String pool;
+
+    /** 스케줄 설명 (cron, fixedDelay, fixedRate) */
+    private String schedule;
+
+    /** 현재 실행 중 여부 */
+    private boolean running;
+
+    /** 실행 횟수 */
+    private long runs;
+
+    /** 실패 횟수 */
+    private long failures;
+
+    /** 이전 실행이 끝나지 않아 건너뛴 횟수 */
+    private long skipped;
+
+    private Instant lastStartedAt;
+    private Instant lastFinishedAt;
+    private Long lastDurationMs;
+    private String lastError;
+
+    /** 실행 소요 시간 분포 */
+    private LatencyHistogram.Snapshot duration;
+
+    /** 예정 시각 대비 시작 지연 분포 */
+    private LatencyHistogram.Snapshot lag;
+}
@@ -0,0 +1,220 @@
+package com.fullStc.scheduling.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.EmbeddedValueResolverAware;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.StringValueResolver;
+
+import com.fullStc.config.SchedulingConfig;
+import com.fullStc.scheduling.dto.ScheduledJobStatusDTO;
+import com.fullStc.util.LatencyHistogram;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @Scheduled 작업 실행 감시
+ *
+ * 모든 @Scheduled 메서드 실행을 감싸 작업별 실행 횟수·실패·소요 시간과 예정 시각 대비 시작 지연(lag)을 기록합니다.
+ * 같은 작업이 이미 실행 중이면(수동 호출과 겹치거나 풀 크기가 2 이상일 때) 이번 실행은 건너뜁니다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class ScheduledJobMonitor implements EmbeddedValueResolverAware {
+
+    private final ConcurrentMap<String, JobStats> jobs = new ConcurrentHashMap<>();
+
+    private StringValueResolver valueResolver;
+
+    @Override
+    public void setEmbeddedValueResolver(StringValueResolver resolver) {
+        this.valueResolver = resolver;
+    }
+
+    @Around("@annotation(scheduled)")
+    public Object monitor(ProceedingJoinPoint pjp, Scheduled scheduled) throws Throwable {
+        Class<?> targetClass = AopUtils.getTargetClass(pjp.getTarget());
+        String name = targetClass.getSimpleName() + "." + ((MethodSignature) pjp.getSignature()).getMethod().getName();
+        JobStats stats = jobs.computeIfAbsent(name, k -> new JobStats(k, scheduled, valueResolver));
+
+        if (!stats.running.compareAndSet(false, true)) {
+            stats.skipped.incrementAndGet();
+            log.warn("[스케줄러] {} 이전 실행이 끝나지 않아 이번 실행을 건너뜁니다", name);
+            return null;
+        }
+
+        long start = System.currentTimeMillis();
+        stats.recordStart(start);
+        try {
+            Object result = pjp.proceed();
+            stats.lastError = null;
+            return result;
+        } catch (Throwable t) {
+            stats.failures.incrementAndGet();
+            stats.lastError = t.getClass().getSimpleName() + ": " + t.getMessage();
+            throw t;
+        } finally {
+            long end = System.currentTimeMillis();
+            stats.recordEnd(end, end - start);
+            stats.running.set(false);
+        }
+    }
+
+    /**
+     * 작업별 상태 (이름순)
+     */
+    public List<ScheduledJobStatusDTO> getStatuses() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((JobStats s) -> s.pool).thenComparing(s -> s.name))
+                .map(JobStats::toDTO)
+                .toList();
+    }
+
+    /**
+     * 작업별 통계
+     */
+    private static final class JobStats {
+        final String name;
+        final String pool;
+        final String schedule;
+        final CronExpression cron;
+        final ZoneId zone;
+        final long fixedDelayMs;
+        final long fixedRateMs;
+
+        final AtomicBoolean running = new AtomicBoolean();
+        final AtomicLong runs = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+        final AtomicLong skipped = new AtomicLong();
+        final LatencyHistogram duration = new LatencyHistogram();
+        final LatencyHistogram lag = new LatencyHistogram();
+
+        // running 플래그로 한 번에 한 스레드만 갱신하므로 volatile로 충분
+        volatile long lastStart = -1;
+        volatile long lastEnd = -1;
+        volatile Long lastDuration;
+        volatile String lastError;
+
+        JobStats(String name, Scheduled scheduled, StringValueResolver resolver) {
+            this.name = name;
+            this.pool = StringUtils.hasText(scheduled.scheduler()) ? scheduled.scheduler() : SchedulingConfig.MAINTENANCE;
+
+            String cronValue = resolve(resolver, scheduled.cron());
+            this.cron = StringUtils.hasText(cronValue) && CronExpression.isValidExpression(cronValue)
+                    ? CronExpression.parse(cronValue) : null;
+            String zoneValue = resolve(resolver, scheduled.zone());
+            this.zone = StringUtils.hasText(zoneValue) ? ZoneId.of(zoneValue) : ZoneId.systemDefault();
+            this.fixedDelayMs = scheduled.fixedDelay() >= 0
+                    ? scheduled.timeUnit().toMillis(scheduled.fixedDelay())
+                    : parseInterval(resolve(resolver, scheduled.fixedDelayString()), scheduled);
+            this.fixedRateMs = scheduled.fixedRate() >= 0
+                    ? scheduled.timeUnit().toMillis(scheduled.fixedRate())
+                    : parseInterval(resolve(resolver, scheduled.fixedRateString()), scheduled);
+
+            if (cron != null) {
+                this.schedule = "cron " + cronValue;
+            } else if (fixedDelayMs >= 0) {
+                this.schedule = "fixedDelay " + fixedDelayMs + "ms";
+            } else if (fixedRateMs >= 0) {
+                this.schedule = "fixedRate " + fixedRateMs + "ms";
+            } else {
+                this.schedule = "-";
+            }
+        }
+
+        void recordStart(long start) {
+            runs.incrementAndGet();
+            long expected = expectedStart();
+            if (expected > 0) {
+                lag.record(start - expected);
+            }
+            lastStart = start;
+        }
+
+        void recordEnd(long end, long elapsed) {
+            duration.record(elapsed);
+            lastDuration = elapsed;
+            lastEnd = end;
+        }
+
+        /**
+         * 직전 실행 기준으로 이번 실행이 시작됐어야 할 시각 (첫 실행은 알 수 없으므로 -1)
+         */
+        private long expectedStart() {
+            if (lastStart < 0) {
+                return -1;
+            }
+            if (cron != null) {
+                ZonedDateTime next = cron.next(Instant.ofEpochMilli(lastStart).atZone(zone));
+                return next != null ? next.toInstant().toEpochMilli() : -1;
+            }
+            if (fixedDelayMs >= 0 && lastEnd >= 0) {
+                return lastEnd + fixedDelayMs;
+            }
+            if (fixedRateMs >= 0) {
+                return lastStart + fixedRateMs;
+            }
+            return -1;
+        }
+
+        ScheduledJobStatusDTO toDTO() {
+            long start = lastStart;
+            long end = lastEnd;
+            return ScheduledJobStatusDTO.builder()
+                    .name(name)
+                    .pool(pool)
+                    .schedule(schedule)
+                    .running(running.get())
+                    .runs(runs.get())
+                    .failures(failures.get())
+                    .skipped(skipped.get())
+                    .lastStartedAt(start >= 0 ? Instant.ofEpochMilli(start) : null)
+                    .lastFinishedAt(end >= 0 ? Instant.ofEpochMilli(end) : null)
+                    .lastDurationMs(lastDuration)
+                    .lastError(lastError)
+                    .duration(duration.snapshot())
+                    .lag(lag.snapshot())
+                    .build();
+        }
+
+        private static String resolve(StringValueResolver resolver, String value) {
+            return resolver != null && StringUtils.hasText(value) ? resolver.resolveStringValue(value) : value;
+        }
+
+        /**
+         * "5000" 또는 "PT5S" 형식 (해석할 수 없으면 -1)
+         */
+        private static long parseInterval(String value, Scheduled scheduled) {
+            if (!StringUtils.hasText(value)) {
+                return -1;
+            }
+            try {
+                return scheduled.timeUnit().toMillis(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                try {
+                    return Duration.parse(value.trim()).toMillis();
+                } catch (RuntimeException ignored) {
+                    return -1;
+                }
+            }
+        }
+    }
+}
@@ -4,15 +4,22 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.http.server.PathContainer;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import com.fullStc.member.dto.MemberDTO;
 import com.fullStc.util.JwtUtil;
 import com.google.gson.Gson;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -28,95 +35,58 @@ public class JwtCheckFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
+    // 토큰 검사를 건너뛰는 경로 (요청마다 분기문을 타지 않도록 한 번만 파싱)
+    private static final List<PathPattern> PUBLIC_PATHS = Stream.of(
+            // AI 관련 API (채팅, 얼굴 인식, 마이페이지, 영상 등)
+            "/api/ai/**",
+            // 영상 및 업로드 파일 등 정적 리소스
+            "/upload/**", "/static/**", "/favicon.ico", "/api/products/view/**",
+            // 관리자 관련 API (테스트용)
+            "/admin/**",
+            // 로그인, 회원가입 등 (로그아웃은 아래에서 제외)
+            "/api/auth/**",
+            // OAuth2 인증 플로우 및 에러 리다이렉트
+            "/oauth2/**", "/login/oauth2/**", "/login",
+            // Swagger UI
+            "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs*", "/v3/api-docs/**",
+            // 환율, 주가지수 API
+            "/api/exchange-rate/**", "/api/stock-index/**")
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    // 로그아웃은 인증이 필요하므로 필터링함
+    private static final PathPattern LOGOUT_PATH = PathPatternParser.defaultInstance.parse("/api/auth/logout");
+
+    // 카테고리 목록 조회 API는 GET만 허용 (회원가입 페이지에서 사용)
+    private static final PathPattern CATEGORY_LIST_PATH = PathPatternParser.defaultInstance.parse("/api/category/list");
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         // Preflight 요청은 체크하지 않음
-        if (request.getMethod().equals("OPTIONS")) {
+        if ("OPTIONS".equals(request.getMethod())) {
             return true;
         }
 
-        // 경로 변수 선언을 가장 먼저 수행
         String path = request.getRequestURI();
-        log.info("check uri.......................{}", path);
-
-        // 1. 기존에 추가했던 AI 관련 경로
-        if (path.startsWith("/api/ai/mypage/") || path.startsWith("/api/ai/video/")) {
-            return true;
-        }
-
-        // ★ 2. 추가: 영상 및 업로드 파일 경로 필터 제외
-        if (path.startsWith("/upload/")) {
-            log.info("정적 리소스(/upload/) 경로이므로 JwtCheckFilter를 통과시킵니다.");
-            return true;
-        }
-
-        // 예외 경로 설정 (토큰 검사 건너뛰기)
-
-        // 관리자 관련 API (테스트용)
-        if (path.startsWith("/admin/")) {
-            return true;
-        }
-        if (path.contains("/api/ai/mypage")) { // startsWith 대신 contains 사용
-            log.info("마이페이지 경로이므로 필터를 통과시킵니다!");
-            return true;
-        }
-        if (path.startsWith("/api/ai/video/")) {
-            return true;
-        }
-        // /api/auth/ 경로의 호출은 체크하지 않음 (로그인, 회원가입 등)
-        // 단, 로그아웃(/api/auth/logout)은 인증이 필요하므로 필터링함
-        if (path.startsWith("/api/auth/") && !path.equals("/api/auth/logout")) {
-            return true;
-        }
-
-        // 얼굴 인식 API는 체크하지 않음 (로그인 페이지에서 사용)
-        if (path.equals("/api/ai/face/recognize")) {
-            return true;
-        }
-
-        // 카테고리 목록 조회 API는 체크하지 않음 (회원가입 페이지에서 사용)
-        if (path.equals("/api/category/list") && "GET".equals(request.getMethod())) {
-            return true;
-        }
-
-        // AI 관련 API는 체크하지 않음 (채팅, 얼굴 인식 등)
-        if (path.startsWith("/api/ai/")) {
-            return true;
-        }
-
-        // OAuth2 경로는 체크하지 않음 (OAuth2 인증 플로우)
-        if (path.startsWith("/oauth2/") || path.startsWith("/login/oauth2/")) {
-            return true;
-        }
-
-        // /login 경로는 체크하지 않음 (OAuth2 에러 리다이렉트용)
-        if (path.equals("/login") || path.startsWith("/login?")) {
-            return true;
-        }
+        log.debug("check uri: {}", path);
 
-        // Swagger UI 경로는 체크하지 않음
-        if (path.startsWith("/swagger-ui/")
-                || path.startsWith("/v3/api-docs") // /v3/api-docs 또는 /v3/api-docs/ 모두 포함
-                || path.equals("/swagger-ui.html")
-                || path.equals("/v3/api-docs")) { // 정확히 /v3/api-docs인 경우도 추가
+        // 컨텍스트 경로가 붙은 마이페이지 요청도 통과 (startsWith 대신 contains 사용)
+        if (path.contains("/api/ai/mypage")) {
             return true;
         }
 
-        // 이미지 조회 경로는 체크하지 않음 (필요시 추가)
-        if (path.startsWith("/api/products/view/") || path.startsWith("/static/") || path.startsWith("/favicon.ico")) {
-            return true;
+        PathContainer container = PathContainer.parsePath(path);
+        if (LOGOUT_PATH.matches(container)) {
+            return false;
         }
-
-        // 환율 API는 체크하지 않음
-        if (path.startsWith("/api/exchange-rate/")) {
-            return true;
+        if (CATEGORY_LIST_PATH.matches(container)) {
+            return "GET".equals(request.getMethod());
         }
-
-        // 주가지수 API는 체크하지 않음
-        if (path.startsWith("/api/stock-index/")) {
-            return true;
+        for (PathPattern pattern : PUBLIC_PATHS) {
+            if (pattern.matches(container)) {
+                return true;
+            }
         }
-
         return false;
     }
 
@@ -124,8 +94,6 @@ public class JwtCheckFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        log.info("------------------------JwtCheckFilter------------------");
-
         try {
             // 토큰 추출
             String accessToken = extractAccessToken(request);
@@ -150,7 +118,7 @@ public class JwtCheckFilter extends OncePerRequestFilter {
         // 1. Authorization 헤더에서 토큰 읽기 (우선순위 1)
         if (authHeaderStr != null && authHeaderStr.startsWith("Bearer ")) {
             String token = authHeaderStr.substring(7);
-            log.info("토큰을 Authorization 헤더에서 읽었습니다");
+            log.debug("토큰을 Authorization 헤더에서 읽었습니다");
             return token;
         }
 
@@ -162,7 +130,7 @@ public class JwtCheckFilter extends OncePerRequestFilter {
                 log.debug("쿠키 이름: {}, 값 길이: {}", cookie.getName(),
                         cookie.getValue() != null ? cookie.getValue().length() : 0);
                 if ("accessToken".equals(cookie.getName())) {
-                    log.info("토큰을 쿠키에서 읽었습니다");
+                    log.debug("토큰을 쿠키에서 읽었습니다");
                     return cookie.getValue();
                 }
             }
@@ -181,18 +149,18 @@ public class JwtCheckFilter extends OncePerRequestFilter {
             throw new IllegalArgumentException("Token is empty");
         }
 
-        log.info("토큰 검증 시작: token length={}", accessToken.length());
-
-        // 토큰 만료 여부 먼저 확인
-        if (jwtUtil.isTokenExpired(accessToken)) {
+        // 서명·만료를 한 번에 검증 (같은 토큰의 재요청은 캐시된 클레임 사용)
+        Map<String, Object> claims;
+        try {
+            claims = jwtUtil.verifyAndGetClaims(accessToken);
+        } catch (ExpiredJwtException e) {
             log.warn("토큰이 만료되었습니다");
             throw new IllegalArgumentException("Token expired");
+        } catch (JwtException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            throw new IllegalArgumentException("Token invalid");
         }
 
-        // Claims 추출 및 검증
-        Map<String, Object> claims = jwtUtil.validateTokenAndGetClaims(accessToken);
-        log.info("JWT claims: {}", claims);
-
         // MemberDTO 생성 및 인증 설정
         MemberDTO memberDTO = createMemberDTOFromClaims(claims);
         setAuthentication(memberDTO);
@@ -270,9 +238,7 @@ public class JwtCheckFilter extends OncePerRequestFilter {
 
     // SecurityContext에 인증 정보 설정
     private void setAuthentication(MemberDTO memberDTO) {
-        log.info("-----------------------------------");
-        log.info("memberDTO: {}", memberDTO);
-        log.info("authorities: {}", memberDTO.getAuthorities());
+        log.debug("인증 설정: id={}, authorities={}", memberDTO.getId(), memberDTO.getAuthorities());
 
         // 보안: password 대신 빈 문자열 사용 (JWT에 password 저장하지 않음)
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -2,17 +2,15 @@ package com.fullStc.security.handler;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.time.LocalDateTime;
 import java.util.Map;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 
 import com.fullStc.member.domain.Member;
-import com.fullStc.member.domain.RefreshToken;
 import com.fullStc.member.dto.MemberDTO;
 import com.fullStc.member.repository.MemberRepository;
-import com.fullStc.member.repository.RefreshTokenRepository;
+import com.fullStc.member.service.RefreshTokenStore;
 import com.fullStc.util.JwtUtil;
 import com.google.gson.Gson;
 
@@ -29,7 +27,7 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtUtil jwtUtil;
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -47,16 +45,12 @@ public class APILoginSuccessHandler implements AuthenticationSuccessHandler {
         // Refresh Token 생성 (60 * 24 = 1440분 = 1일)
         String refreshToken = jwtUtil.generateToken(claims, 60 * 24);
 
-        // Refresh Token을 DB에 저장
+        // Refresh Token 저장 (Redis, 장애 시 DB)
         Member member = memberRepository.findByEmail(memberDTO.getEmail())
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다"));
         
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .member(member)
-                .token(refreshToken)
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
-        refreshTokenRepository.save(refreshTokenEntity);
+        refreshTokenStore.save(member.getId(), refreshToken, claims,
+                jwtUtil.getExpirationDate(refreshToken).toInstant());
 
         claims.put("accessToken", accessToken);
         claims.put("refreshToken", refreshToken);
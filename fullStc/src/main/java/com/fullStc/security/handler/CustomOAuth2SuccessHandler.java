@@ -1,7 +1,6 @@
 package com.fullStc.security.handler;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,10 +10,9 @@ import org.springframework.security.web.authentication.SimpleUrlAuthenticationSu
 import org.springframework.stereotype.Component;
 
 import com.fullStc.member.domain.Member;
-import com.fullStc.member.domain.RefreshToken;
 import com.fullStc.member.dto.MemberDTO;
 import com.fullStc.member.repository.MemberRepository;
-import com.fullStc.member.repository.RefreshTokenRepository;
+import com.fullStc.member.service.RefreshTokenStore;
 import com.fullStc.util.JwtUtil;
 
 import jakarta.servlet.ServletException;
@@ -31,7 +29,7 @@ public class CustomOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
 
         private final JwtUtil jwtUtil;
         private final MemberRepository memberRepository;
-        private final RefreshTokenRepository refreshTokenRepository;
+        private final RefreshTokenStore refreshTokenStore;
 
         @Value("${app.frontend.url:http://localhost:5173}")
         private String frontendUrl;
@@ -67,15 +65,11 @@ public class CustomOAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHa
                 // Refresh Token 생성 (7일 = 10080분)
                 String refreshToken = jwtUtil.generateToken(claims, 10080);
                 // 기존 RefreshToken 삭제(중복 방지)
-                refreshTokenRepository.deleteByMemberId(member.getId());
-
-                // Refresh Token을 DB에 저장
-                RefreshToken refreshTokenEntity = RefreshToken.builder()
-                                .member(member)
-                                .token(refreshToken)
-                                .expiryDate(LocalDateTime.now().plusDays(7))
-                                .build();
-                refreshTokenRepository.save(refreshTokenEntity);
+                refreshTokenStore.revokeAll(member.getId());
+
+                // Refresh Token 저장 (Redis, 장애 시 DB)
+                refreshTokenStore.save(member.getId(), refreshToken, claims,
+                                jwtUtil.getExpirationDate(refreshToken).toInstant());
 
                 // Access Token을 HttpOnly 쿠키에 저장
                 Cookie accessTokenCookie = new Cookie("accessToken", accessToken);
@@ -1,5 +1,6 @@
 package com.fullStc.stockindex.controller;
 
+import com.fullStc.marketdata.dto.MarketBarDTO;
 import com.fullStc.stockindex.dto.StockIndexDTO;
 import com.fullStc.stockindex.dto.StockIndexResponseDTO;
 import com.fullStc.stockindex.service.StockIndexService;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 주가지수 API Controller
@@ -42,6 +44,17 @@ public class StockIndexController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "주가지수 이력 조회 (차트용)", description = "시장 구분과 기간으로 일별 종가 이력을 조회합니다. (종료일 기본값: 오늘)")
+    @GetMapping("/history/{mrktCls}")
+    public ResponseEntity<List<MarketBarDTO>> getStockIndexHistory(
+            @PathVariable String mrktCls,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        List<MarketBarDTO> response = stockIndexService.getStockIndexHistory(mrktCls, from,
+                to != null ? to : LocalDate.now());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "주가지수 데이터 수동 수집", description = "API에서 주가지수 데이터를 가져와서 DB에 저장합니다.")
     @PostMapping("/fetch")
     public ResponseEntity<String> fetchStockIndices(
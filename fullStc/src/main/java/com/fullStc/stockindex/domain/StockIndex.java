@@ -13,7 +13,9 @@ import java.time.LocalDate;
  * 주가지수 정보 엔티티
  */
 @Entity
-@Table(name = "stock_index")
+@Table(name = "stock_index", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_index_mrkt_date", columnNames = { "mrkt_cls", "bas_dt" })
+})
 @Getter
 @Builder
 @NoArgsConstructor
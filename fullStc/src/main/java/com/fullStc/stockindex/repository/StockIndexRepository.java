@@ -19,6 +19,9 @@ public interface StockIndexRepository extends JpaRepository<StockIndex, Long> {
     // 시장 구분과 기준일로 주가지수 조회
     Optional<StockIndex> findByMrktClsAndBasDt(String mrktCls, LocalDate basDt);
 
+    // 시장 구분과 기간으로 일별 주가지수 조회 (날짜순)
+    List<StockIndex> findByMrktClsAndBasDtBetweenOrderByBasDtAsc(String mrktCls, LocalDate from, LocalDate to);
+
     // 시장 구분으로 최신 주가지수 조회
     Optional<StockIndex> findFirstByMrktClsOrderByBasDtDesc(String mrktCls);
 }
@@ -1,6 +1,7 @@
 package com.fullStc.stockindex.scheduler;
 
 import com.fullStc.stockindex.service.StockIndexService;
+import com.fullStc.config.SchedulingConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,7 +23,7 @@ public class StockIndexScheduler {
     /**
      * 매일 오전 9시에 주가지수 데이터 수집
      */
-    @Scheduled(cron = "0 0 9 * * ?") // 매일 오전 9시
+    @Scheduled(cron = "0 0 9 * * ?", scheduler = SchedulingConfig.MARKET_DATA) // 매일 오전 9시
     public void fetchDailyStockIndices() {
         try {
             LocalDate today = LocalDate.now();
@@ -1,5 +1,6 @@
 package com.fullStc.stockindex.service;
 
+import com.fullStc.marketdata.dto.MarketBarDTO;
 import com.fullStc.stockindex.dto.StockIndexDTO;
 import com.fullStc.stockindex.dto.StockIndexResponseDTO;
 
@@ -27,6 +28,16 @@ public interface StockIndexService {
      */
     StockIndexDTO getStockIndexByMarket(String mrktCls, LocalDate searchDate);
 
+    /**
+     * 특정 시장의 일별 주가지수 이력 조회 (차트용, 종가 기준)
+     * 
+     * @param mrktCls 시장 구분 (KOSPI 또는 KOSDAQ)
+     * @param from    시작일
+     * @param to      종료일
+     * @return 날짜순 시세 봉 목록
+     */
+    List<MarketBarDTO> getStockIndexHistory(String mrktCls, LocalDate from, LocalDate to);
+
     /**
      * API에서 주가지수 데이터 가져와서 DB에 저장
      * 
@@ -0,0 +1,45 @@
+package com.fullStc.stockindex.service;
+
+import com.fullStc.stockindex.domain.StockIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.util.List;
+
+/**
+ * 일별 주가지수 일괄 저장
+ * 시장·기준일이 같으면 덮어쓰되, 새 값이 비어 있는 항목은 기존 값을 유지합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockIndexStoreService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO stock_index
+            (bas_dt, idx_nm, clpr, vs, flt_rt, mrkt_cls)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                idx_nm = COALESCE(VALUES(idx_nm), idx_nm),
+                clpr   = COALESCE(VALUES(clpr), clpr),
+                vs     = COALESCE(VALUES(vs), vs),
+                flt_rt = COALESCE(VALUES(flt_rt), flt_rt)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchUpsert(List<StockIndex> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, indices, 500, (ps, s) -> {
+            ps.setDate(1, Date.valueOf(s.getBasDt()));
+            ps.setString(2, s.getIdxNm());
+            ps.setBigDecimal(3, s.getClpr());
+            ps.setBigDecimal(4, s.getVs());
+            ps.setBigDecimal(5, s.getFltRt());
+            ps.setString(6, s.getMrktCls());
+        });
+    }
+}
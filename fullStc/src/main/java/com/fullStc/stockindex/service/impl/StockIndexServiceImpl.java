@@ -1,5 +1,6 @@
 package com.fullStc.stockindex.service.impl;
 
+import com.fullStc.marketdata.dto.MarketBarDTO;
 import com.fullStc.stockindex.client.StockIndexApiClient;
 import com.fullStc.stockindex.client.StockIndexCrawler;
 import com.fullStc.stockindex.domain.StockIndex;
@@ -9,6 +10,7 @@ import com.fullStc.stockindex.dto.StockIndexResponseDTO;
 import com.fullStc.stockindex.exception.StockIndexException;
 import com.fullStc.stockindex.repository.StockIndexRepository;
 import com.fullStc.stockindex.service.StockIndexService;
+import com.fullStc.stockindex.service.StockIndexStoreService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,6 +34,7 @@ public class StockIndexServiceImpl implements StockIndexService {
     private final StockIndexApiClient apiClient;
     private final StockIndexCrawler crawler;
     private final StockIndexRepository repository;
+    private final StockIndexStoreService storeService;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,13 +47,13 @@ public class StockIndexServiceImpl implements StockIndexService {
             List<StockIndex> dbIndices = repository.findByBasDt(finalSearchDate);
 
             if (!dbIndices.isEmpty()) {
-                log.info("[주가지수] DB에서 데이터 조회 성공 - 날짜: {}, 개수: {}", dateStr, dbIndices.size());
+                log.debug("[주가지수] DB에서 데이터 조회 성공 - 날짜: {}, 개수: {}", dateStr, dbIndices.size());
                 List<StockIndexDTO> dtos = dbIndices.stream()
                         .map(this::convertToDTO)
                         .collect(Collectors.toList());
 
                 // 조회된 데이터 상세 로그 출력
-                dtos.forEach(dto -> log.info("[주가지수] 조회 데이터 - 시장: {}, 지수명: {}, 종가: {}, 전일대비: {}, 등락률: {}%",
+                dtos.forEach(dto -> log.debug("[주가지수] 조회 데이터 - 시장: {}, 지수명: {}, 종가: {}, 전일대비: {}, 등락률: {}%",
                         dto.getMrktCls(), dto.getIdxNm(), dto.getClpr(), dto.getVs(), dto.getFltRt()));
 
                 return StockIndexResponseDTO.builder()
@@ -87,6 +91,25 @@ public class StockIndexServiceImpl implements StockIndexService {
         return convertToDTO(index);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MarketBarDTO> getStockIndexHistory(String mrktCls, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        return repository.findByMrktClsAndBasDtBetweenOrderByBasDtAsc(mrktCls.toUpperCase(), from, to)
+                .stream()
+                .map(index -> MarketBarDTO.builder()
+                        .time(index.getBasDt().atStartOfDay())
+                        .open(index.getClpr())
+                        .high(index.getClpr())
+                        .low(index.getClpr())
+                        .close(index.getClpr())
+                        .samples(1)
+                        .build())
+                .toList();
+    }
+
     @Override
     @Transactional
     public void fetchAndSaveStockIndices(LocalDate searchDate) {
@@ -98,6 +121,7 @@ public class StockIndexServiceImpl implements StockIndexService {
         try {
             // KOSPI와 KOSDAQ 모두 조회
             String[] markets = { "KOSPI", "KOSDAQ" };
+            List<StockIndex> collected = new ArrayList<>();
 
             for (String mrktCls : markets) {
                 try {
@@ -129,32 +153,12 @@ public class StockIndexServiceImpl implements StockIndexService {
                         continue;
                     }
 
-                    // 각 응답을 DB에 저장
+                    // 시장별 응답을 모아 두었다가 한 번에 저장 (같은 시장·날짜는 마지막 응답이 남음)
                     for (StockIndexApiResponseDTO apiResponse : apiResponses) {
-                        // API 응답 데이터 로그 출력
-                        log.info("[주가지수] API 응답 데이터 - 시장: {}, 지수명: {}, 종가: {}, 전일대비: {}, 등락률: {}%",
+                        log.debug("[주가지수] API 응답 데이터 - 시장: {}, 지수명: {}, 종가: {}, 전일대비: {}, 등락률: {}%",
                                 mrktCls, apiResponse.getIdxNm(), apiResponse.getClpr(), apiResponse.getVs(),
                                 apiResponse.getFltRt());
-
-                        // 이미 저장된 데이터가 있는지 확인
-                        repository.findByMrktClsAndBasDt(mrktCls, finalSearchDate)
-                                .ifPresentOrElse(
-                                        existing -> {
-                                            // 기존 데이터 업데이트
-                                            StockIndex updated = updateEntity(existing, apiResponse, mrktCls,
-                                                    finalSearchDate);
-                                            repository.save(updated);
-                                            log.info("[주가지수] 데이터 업데이트 완료 - 시장: {}, 날짜: {}, 지수명: {}, 종가: {}",
-                                                    mrktCls, dateStr, updated.getIdxNm(), updated.getClpr());
-                                        },
-                                        () -> {
-                                            // 새 데이터 저장
-                                            StockIndex newIndex = convertToEntity(apiResponse, mrktCls,
-                                                    finalSearchDate);
-                                            repository.save(newIndex);
-                                            log.info("[주가지수] 데이터 저장 완료 - 시장: {}, 날짜: {}, 지수명: {}, 종가: {}",
-                                                    mrktCls, dateStr, newIndex.getIdxNm(), newIndex.getClpr());
-                                        });
+                        collected.add(convertToEntity(apiResponse, mrktCls, finalSearchDate));
                     }
 
                     log.info("[주가지수] 데이터 수집 완료 - 시장: {}, 날짜: {}", mrktCls, dateStr);
@@ -165,7 +169,9 @@ public class StockIndexServiceImpl implements StockIndexService {
                 }
             }
 
-            log.info("[주가지수] 모든 시장 데이터 수집 완료 - 날짜: {}", dateStr);
+            // 조회 없이 일괄 upsert (빈 값은 기존 값 유지)
+            storeService.batchUpsert(collected);
+            log.info("[주가지수] 모든 시장 데이터 수집 완료 - 날짜: {}, 저장: {}건", dateStr, collected.size());
 
         } catch (Exception e) {
             log.error("[주가지수] 데이터 수집 중 오류 발생 - 날짜: {}", dateStr, e);
@@ -201,22 +207,6 @@ public class StockIndexServiceImpl implements StockIndexService {
                 .build();
     }
 
-    /**
-     * 기존 Entity 업데이트
-     */
-    private StockIndex updateEntity(StockIndex existing, StockIndexApiResponseDTO dto, String mrktCls,
-            LocalDate basDt) {
-        return StockIndex.builder()
-                .id(existing.getId())
-                .basDt(basDt)
-                .idxNm(dto.getIdxNm() != null ? dto.getIdxNm() : existing.getIdxNm())
-                .clpr(parseBigDecimal(dto.getClpr()) != null ? parseBigDecimal(dto.getClpr()) : existing.getClpr())
-                .vs(parseBigDecimal(dto.getVs()) != null ? parseBigDecimal(dto.getVs()) : existing.getVs())
-                .fltRt(parseBigDecimal(dto.getFltRt()) != null ? parseBigDecimal(dto.getFltRt()) : existing.getFltRt())
-                .mrktCls(mrktCls)
-                .build();
-    }
-
     /**
      * 문자열을 BigDecimal로 변환 (쉼표 제거)
      */
@@ -3,8 +3,6 @@ package com.fullStc.support.repository;
 import com.fullStc.support.domain.Faq;
 import com.fullStc.support.domain.FaqCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -22,23 +20,4 @@ public interface FaqRepository extends JpaRepository<Faq, Long> {
      * 전체 FAQ 목록 조회 (생성일 내림차순)
      */
     List<Faq> findAllByOrderByCreatedAtDesc();
-
-    /**
-     * 키워드 검색 (질문, 답변, 키워드 필드에서 검색)
-     */
-    @Query("SELECT f FROM Faq f WHERE " +
-           "LOWER(f.question) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(f.answer) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(f.keywords) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Faq> searchByKeyword(@Param("keyword") String keyword);
-
-    /**
-     * 카테고리와 키워드로 검색
-     */
-    @Query("SELECT f FROM Faq f WHERE f.category = :category AND (" +
-           "LOWER(f.question) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(f.answer) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(f.keywords) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Faq> searchByCategoryAndKeyword(@Param("category") FaqCategory category, 
-                                          @Param("keyword") String keyword);
 }
@@ -0,0 +1,352 @@
+package com.fullStc.support.service;
+
+import com.fullStc.support.domain.Faq;
+import com.fullStc.support.domain.FaqCategory;
+import com.fullStc.support.dto.FaqResponse;
+import com.fullStc.support.repository.FaqRepository;
+import com.fullStc.util.SharedVersionStamp;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * FAQ 검색 인덱스 (메모리)
+ *
+ * FAQ 테이블은 작고 거의 바뀌지 않으므로 전체를 메모리 역색인으로 들고 BM25로 순위를 매깁니다.
+ * - 시작 시(ApplicationReadyEvent, 초기 데이터 생성 이후)와 FAQ 생성·수정·삭제 커밋 후 전체를 다시 만들어 교체
+ * - 다른 인스턴스에서 바뀐 FAQ는 Redis 버전 스탬프로 감지해 검색 시 다시 만듦 (확인 간격만큼 늦게 반영될 수 있음)
+ * - 검색은 교체된 스냅샷만 읽으므로 DB를 조회하지 않음
+ * - 한국어는 형태소 분석기 없이 조사·어미를 떼고 음절 바이그램을 함께 색인해 부분 일치(예: 드라이브 ↔ 드라이브모드)를 찾음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaqSearchIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드 가중치 (질문·키워드가 답변보다 중요)
+    private static final float QUESTION_WEIGHT = 2.0f;
+    private static final float KEYWORD_WEIGHT = 2.0f;
+    private static final float ANSWER_WEIGHT = 1.0f;
+
+    // 단어 끝 조사·어미 (긴 것부터 확인, 떼고 남은 말이 2글자 이상일 때만)
+    private static final List<String> SUFFIXES = List.of(
+            "하려면", "하나요", "되나요", "인가요", "할까요", "했는데", "하는데", "했어요", "습니다",
+            "에서는", "으로는", "에게서",
+            "에서", "으로", "에게", "한테", "까지", "부터", "처럼", "보다", "이나", "이랑", "하고",
+            "하는", "해요", "하면", "되는", "돼요", "해야", "나요", "어요", "아요", "니다",
+            "은", "는", "이", "가", "을", "를", "에", "로", "와", "과", "도", "의", "만", "요");
+
+    // 검색에 도움이 안 되는 말
+    private static final Set<String> STOPWORDS = Set.of(
+            "어떻게", "어떤", "무엇", "뭐", "왜", "언제", "어디", "있나요", "있어요", "없어요", "없나요",
+            "좀", "제가", "저는", "내가", "그리고", "그런데", "알려줘", "알려주세요", "궁금해요");
+
+    // 인스턴스 간 FAQ 변경 감지용 Redis 키
+    static final String VERSION_KEY = "faq-index:version";
+
+    private final FaqRepository faqRepository;
+    private final SharedVersionStamp versionStamp;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    // 색인을 다시 만든 뒤 호출할 작업 (FAQ를 참고한 답변 캐시 비우기 등)
+    private final List<Runnable> rebuildListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 색인된 FAQ 한 건 (검색 결과는 매번 새 FaqResponse로 만들어 돌려줌)
+     */
+    private record Doc(Long id, FaqCategory category, String question, String answer, String keywords,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        private FaqResponse toResponse() {
+            return FaqResponse.builder()
+                    .id(id)
+                    .category(category)
+                    .categoryName(category != null ? category.getDisplayName() : null)
+                    .question(question)
+                    .answer(answer)
+                    .keywords(keywords)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 단어별 문서 목록
+     * @param docs 문서 번호 (docs 배열 위치)
+     * @param tf 필드 가중치를 곱한 출현 횟수
+     */
+    private record Posting(int[] docs, float[] tf) {
+    }
+
+    /**
+     * 불변 색인 스냅샷 (docs는 생성일 내림차순)
+     */
+    private record Snapshot(Doc[] docs, float[] lengths, double avgLength, Map<String, Posting> postings) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * FAQ 변경 후 호출 (트랜잭션 안이면 커밋 후에 다시 만들고, 다른 인스턴스에도 알림)
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versionStamp.bump(VERSION_KEY);
+                    rebuild();
+                }
+            });
+            return;
+        }
+        versionStamp.bump(VERSION_KEY);
+        rebuild();
+    }
+
+    /**
+     * 색인을 다시 만들 때마다 호출할 작업 등록 (시작 시 첫 생성, 다른 인스턴스의 변경 반영 포함)
+     */
+    public void onRebuild(Runnable listener) {
+        rebuildListeners.add(listener);
+    }
+
+    /**
+     * DB에서 전체 FAQ를 읽어 색인을 다시 만듦
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        // 읽기 전에 버전을 기록해 두어, 읽는 도중 다른 인스턴스가 바꾼 내용은 다음 확인 때 반영
+        versionStamp.observe(VERSION_KEY);
+        try {
+            Snapshot snapshot = build(faqRepository.findAllByOrderByCreatedAtDesc());
+            current.set(snapshot);
+            log.info("FAQ 색인 생성: {}건, 단어 {}개, {}ms",
+                    snapshot.docs().length, snapshot.postings().size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("FAQ 색인 생성 실패: {}", e.getMessage(), e);
+            return;
+        }
+        for (Runnable listener : rebuildListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.error("FAQ 색인 갱신 후 작업 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * FAQ 검색 (BM25 점수순, 점수가 같으면 최신순)
+     * @param query 검색어 (비어 있으면 전체를 최신순으로)
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param limit 최대 건수 (0 이하면 제한 없음)
+     */
+    public List<FaqResponse> search(String query, FaqCategory category, int limit) {
+        Snapshot snapshot = snapshot();
+        int max = limit > 0 ? limit : Integer.MAX_VALUE;
+        List<String> terms = query == null ? List.of() : new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+
+        List<FaqResponse> results = new ArrayList<>();
+        if (terms.isEmpty()) {
+            if (query != null && !query.isBlank()) {
+                return results;
+            }
+            for (Doc doc : snapshot.docs()) {
+                if (results.size() >= max) {
+                    break;
+                }
+                if (category == null || category == doc.category()) {
+                    results.add(doc.toResponse());
+                }
+            }
+            return results;
+        }
+
+        double n = snapshot.docs().length;
+        double[] scores = new double[snapshot.docs().length];
+        for (String term : terms) {
+            Posting posting = snapshot.postings().get(term);
+            if (posting == null) {
+                continue;
+            }
+            double df = posting.docs().length;
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            for (int i = 0; i < posting.docs().length; i++) {
+                int d = posting.docs()[i];
+                double tf = posting.tf()[i];
+                double norm = K1 * (1 - B + B * snapshot.lengths()[d] / snapshot.avgLength());
+                scores[d] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        for (int d = 0; d < scores.length; d++) {
+            if (scores[d] > 0 && (category == null || category == snapshot.docs()[d].category())) {
+                hits.add(d);
+            }
+        }
+        // docs가 최신순이므로 점수가 같으면 번호가 작은 쪽(최신)이 앞
+        hits.sort((a, b) -> scores[a] != scores[b] ? Double.compare(scores[b], scores[a]) : Integer.compare(a, b));
+        for (int d : hits) {
+            if (results.size() >= max) {
+                break;
+            }
+            results.add(snapshot.docs()[d].toResponse());
+        }
+        return results;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || versionStamp.changedElsewhere(VERSION_KEY)) {
+            // 시작 이벤트 전에 호출됐거나 다른 인스턴스에서 FAQ가 바뀐 경우
+            rebuild();
+            snapshot = current.get();
+        }
+        return snapshot != null ? snapshot : new Snapshot(new Doc[0], new float[0], 1, Map.of());
+    }
+
+    private static Snapshot build(List<Faq> faqs) {
+        Doc[] docs = new Doc[faqs.size()];
+        float[] lengths = new float[faqs.size()];
+        Map<String, Map<Integer, Float>> termDocs = new HashMap<>();
+        double total = 0;
+
+        for (int d = 0; d < faqs.size(); d++) {
+            Faq faq = faqs.get(d);
+            docs[d] = new Doc(faq.getId(), faq.getCategory(), faq.getQuestion(), faq.getAnswer(), faq.getKeywords(),
+                    faq.getCreatedAt(), faq.getUpdatedAt());
+
+            Map<String, Float> tf = new HashMap<>();
+            float length = 0;
+            length += addField(tf, faq.getQuestion(), QUESTION_WEIGHT);
+            String keywords = (faq.getKeywords() != null ? faq.getKeywords() : "")
+                    + " " + (faq.getCategory() != null ? faq.getCategory().getDisplayName() : "");
+            length += addField(tf, keywords, KEYWORD_WEIGHT);
+            length += addField(tf, faq.getAnswer(), ANSWER_WEIGHT);
+            lengths[d] = length;
+            total += length;
+
+            for (Map.Entry<String, Float> e : tf.entrySet()) {
+                termDocs.computeIfAbsent(e.getKey(), k -> new TreeMap<>()).put(d, e.getValue());
+            }
+        }
+
+        Map<String, Posting> postings = new HashMap<>(termDocs.size() * 2);
+        for (Map.Entry<String, Map<Integer, Float>> e : termDocs.entrySet()) {
+            int[] ids = new int[e.getValue().size()];
+            float[] tfs = new float[ids.length];
+            int i = 0;
+            for (Map.Entry<Integer, Float> p : e.getValue().entrySet()) {
+                ids[i] = p.getKey();
+                tfs[i] = p.getValue();
+                i++;
+            }
+            postings.put(e.getKey(), new Posting(ids, tfs));
+        }
+        double avgLength = docs.length > 0 && total > 0 ? total / docs.length : 1;
+        return new Snapshot(docs, lengths, avgLength, Map.copyOf(postings));
+    }
+
+    private static float addField(Map<String, Float> tf, String text, float weight) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            tf.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * 토큰 분리
+     * - 소문자화 후 글자·숫자 묶음 단위로 자름
+     * - 한글 단어: 조사·어미를 뗀 단어 + (3글자 이상이면) 음절 바이그램
+     * - 그 밖의 단어: 2글자 이상(숫자는 1글자도)만
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            if (!Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < lower.length() && Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+            }
+            addWord(tokens, lower.substring(start, i));
+        }
+        return tokens;
+    }
+
+    private static void addWord(List<String> tokens, String word) {
+        if (!containsHangul(word)) {
+            if (word.length() >= 2 || Character.isDigit(word.charAt(0))) {
+                tokens.add(word);
+            }
+            return;
+        }
+        if (STOPWORDS.contains(word)) {
+            return;
+        }
+        String stem = stripSuffix(word);
+        if (stem.length() < 2 || STOPWORDS.contains(stem)) {
+            return;
+        }
+        tokens.add(stem);
+        if (stem.length() >= 3) {
+            for (int j = 0; j + 2 <= stem.length(); j++) {
+                tokens.add(stem.substring(j, j + 2));
+            }
+        }
+    }
+
+    private static String stripSuffix(String word) {
+        for (String suffix : SUFFIXES) {
+            if (word.length() - suffix.length() >= 2 && word.endsWith(suffix)) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 색인된 FAQ 수
+     */
+    public int size() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot.docs().length : 0;
+    }
+}
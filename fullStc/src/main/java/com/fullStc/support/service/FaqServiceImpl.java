@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 public class FaqServiceImpl implements FaqService {
 
     private final FaqRepository faqRepository;
+    private final FaqSearchIndex faqSearchIndex;
 
     @Override
     public List<FaqResponse> getAllFaqs() {
@@ -54,17 +55,9 @@ public class FaqServiceImpl implements FaqService {
     @Override
     public List<FaqResponse> searchFaqs(String keyword, FaqCategory category) {
         log.info("FAQ 검색 - 키워드: {}, 카테고리: {}", keyword, category);
-        
-        List<Faq> faqs;
-        if (category != null) {
-            faqs = faqRepository.searchByCategoryAndKeyword(category, keyword);
-        } else {
-            faqs = faqRepository.searchByKeyword(keyword);
-        }
-        
-        return faqs.stream()
-                .map(FaqResponse::from)
-                .collect(Collectors.toList());
+
+        // 메모리 색인에서 관련도순으로 조회 (DB 조회 없음)
+        return faqSearchIndex.search(keyword, category, 0);
     }
 
     @Override
@@ -87,6 +80,7 @@ public class FaqServiceImpl implements FaqService {
                 .build();
         
         Faq savedFaq = faqRepository.save(faq);
+        faqSearchIndex.refresh();
         return FaqResponse.from(savedFaq);
     }
 
@@ -100,7 +94,8 @@ public class FaqServiceImpl implements FaqService {
         
         faq.update(request.getCategory(), request.getQuestion(), 
                    request.getAnswer(), request.getKeywords());
-        
+        faqSearchIndex.refresh();
+
         return FaqResponse.from(faq);
     }
 
@@ -114,5 +109,6 @@ public class FaqServiceImpl implements FaqService {
         }
         
         faqRepository.deleteById(id);
+        faqSearchIndex.refresh();
     }
 }
@@ -1,5 +1,6 @@
 package com.fullStc.support.service;
 
+import com.fullStc.ai.service.AnswerCache;
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.repository.MemberRepository;
 import com.fullStc.support.domain.Faq;
@@ -7,6 +8,7 @@ import com.fullStc.support.domain.QaHistory;
 import com.fullStc.support.dto.*;
 import com.fullStc.support.repository.FaqRepository;
 import com.fullStc.support.repository.QaHistoryRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,7 +26,7 @@ import java.util.stream.Collectors;
 
 /**
  * Q&A 서비스 구현체
- * FAQ DB 참조 + GPT-4o-mini (Python 서버) 연동
+ * FAQ 검색 인덱스 참조 + GPT-4o-mini (Python 서버) 연동
  */
 @Slf4j
 @Service
@@ -34,12 +36,24 @@ public class QaServiceImpl implements QaService {
 
     private final QaHistoryRepository qaHistoryRepository;
     private final FaqRepository faqRepository;
+    private final FaqSearchIndex faqSearchIndex;
+    private final AnswerCache answerCache;
     private final MemberRepository memberRepository;
     private final RestTemplate restTemplate;
 
+    // 질문과 함께 AI에 넘길 관련 FAQ 수
+    private static final int RELATED_FAQ_LIMIT = 3;
+
     @Value("${ai.python.server.url:http://localhost:8000}")
     private String pythonServerUrl;
 
+    @PostConstruct
+    void init() {
+        // FAQ가 바뀌면 이전 FAQ를 참고한 답변은 버림
+        // (색인은 인스턴스마다 FAQ 변경을 감지해 다시 만들므로 각자 자기 캐시만 비움)
+        faqSearchIndex.onRebuild(() -> answerCache.invalidateLocal(AnswerCache.Scope.QA));
+    }
+
     @Override
     @Transactional
     public QaMessageResponse sendMessage(Long userId, QaMessageRequest request) {
@@ -55,21 +69,29 @@ public class QaServiceImpl implements QaService {
             sessionId = UUID.randomUUID().toString();
         }
 
-        // 3. FAQ DB에서 관련 FAQ 검색
-        List<Faq> relatedFaqs = searchRelatedFaqs(request.getMessage());
+        // 3. FAQ 검색 인덱스에서 관련 FAQ 검색 (DB 조회 없음)
+        List<FaqResponse> relatedFaqs = faqSearchIndex.search(request.getMessage(), null, RELATED_FAQ_LIMIT);
         log.info("관련 FAQ 검색 결과: {} 건", relatedFaqs.size());
 
-        // 4. Python 서버의 GPT-4o-mini API 호출 (FAQ 정보 포함)
+        // 4. 이전 대화 없는 첫 질문은 답변 캐시 확인, 없으면 Python 서버의 GPT-4o-mini API 호출 (FAQ 정보 포함)
+        boolean firstTurn = request.getConversationHistory() == null || request.getConversationHistory().isEmpty();
+        AnswerCache.Lookup cacheLookup = firstTurn ? answerCache.lookup(AnswerCache.Scope.QA, request.getMessage()) : null;
         String aiReply;
-        try {
-            aiReply = callPythonQaApi(request.getMessage(), request.getConversationHistory(), relatedFaqs);
-        } catch (Exception e) {
-            log.error("Python Q&A API 호출 실패: {}", e.getMessage());
-            aiReply = "죄송합니다. 현재 AI 서비스에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        if (cacheLookup != null && cacheLookup.hit()) {
+            log.info("Q&A 답변 캐시 적중");
+            aiReply = cacheLookup.answer();
+        } else {
+            try {
+                aiReply = callPythonQaApi(request.getMessage(), request.getConversationHistory(), relatedFaqs, cacheLookup);
+            } catch (Exception e) {
+                log.error("Python Q&A API 호출 실패: {}", e.getMessage());
+                aiReply = "죄송합니다. 현재 AI 서비스에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.";
+            }
         }
 
         // 6. 대화 히스토리 저장
-        Faq primaryFaq = relatedFaqs.isEmpty() ? null : relatedFaqs.get(0);
+        // 연관관계만 걸면 되므로 조회 없이 참조만 사용
+        Faq primaryFaq = relatedFaqs.isEmpty() ? null : faqRepository.getReferenceById(relatedFaqs.get(0).getId());
         QaHistory history = QaHistory.builder()
                 .user(user)
                 .sessionId(sessionId)
@@ -80,15 +102,11 @@ public class QaServiceImpl implements QaService {
         qaHistoryRepository.save(history);
 
         // 7. 응답 생성
-        List<FaqResponse> faqResponses = relatedFaqs.stream()
-                .map(FaqResponse::from)
-                .collect(Collectors.toList());
-
         return QaMessageResponse.builder()
                 .reply(aiReply)
                 .sessionId(sessionId)
                 .timestamp(LocalDateTime.now())
-                .relatedFaqs(faqResponses)
+                .relatedFaqs(relatedFaqs)
                 .build();
     }
 
@@ -110,39 +128,22 @@ public class QaServiceImpl implements QaService {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 사용자 질문에서 관련 FAQ 검색
-     */
-    private List<Faq> searchRelatedFaqs(String question) {
-        // 질문에서 키워드 추출 (간단한 방식)
-        String[] keywords = question.split("\\s+");
-        Set<Faq> resultSet = new LinkedHashSet<>();
-
-        for (String keyword : keywords) {
-            if (keyword.length() >= 2) {  // 2글자 이상만 검색
-                List<Faq> found = faqRepository.searchByKeyword(keyword);
-                resultSet.addAll(found);
-            }
-        }
-
-        // 최대 3개만 반환
-        return resultSet.stream().limit(3).collect(Collectors.toList());
-    }
-
     /**
      * Python 서버의 GPT-4o-mini Q&A API 호출
+     * 정상 응답만 답변 캐시에 저장 (타임아웃·연결 오류 안내 문구는 저장하지 않음)
      */
     private String callPythonQaApi(String userMessage, 
                                    List<QaMessageRequest.ConversationMessage> history,
-                                   List<Faq> relatedFaqs) {
+                                   List<FaqResponse> relatedFaqs,
+                                   AnswerCache.Lookup cacheLookup) {
         log.info("Python Q&A API 호출 시작 - URL: {}", pythonServerUrl);
 
         try {
             // FAQ 데이터를 Map 리스트로 변환
             List<Map<String, String>> faqData = new ArrayList<>();
-            for (Faq faq : relatedFaqs) {
+            for (FaqResponse faq : relatedFaqs) {
                 Map<String, String> faqMap = new HashMap<>();
-                faqMap.put("category", faq.getCategory() != null ? faq.getCategory().getDisplayName() : "");
+                faqMap.put("category", faq.getCategoryName() != null ? faq.getCategoryName() : "");
                 faqMap.put("question", faq.getQuestion());
                 faqMap.put("answer", faq.getAnswer());
                 faqData.add(faqMap);
@@ -185,6 +186,7 @@ public class QaServiceImpl implements QaService {
             if (response != null && response.containsKey("reply")) {
                 String reply = (String) response.get("reply");
                 log.info("Python Q&A API 응답 수신 완료");
+                answerCache.put(cacheLookup, reply);
                 return reply;
             }
             
@@ -1,9 +1,15 @@
 package com.fullStc.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
@@ -14,8 +20,12 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import com.fullStc.member.domain.enums.MemberRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -32,15 +42,50 @@ public class JwtUtil {
     // Refresh Token 만료 시간 (밀리초) - 7일
     private final long refreshTokenExpiration;
 
+    // 서명 검증 파서 (불변 객체라 여러 스레드에서 재사용 가능)
+    private final JwtParser parser;
+
+    // 검증을 마친 토큰의 클레임 캐시 (키: 토큰 SHA-256, 토큰의 exp 시각에 만료)
+    private final Cache<String, VerifiedClaims> verifiedClaims;
+
     // 생성자: application.properties에서 설정값 주입
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize) {
         // 시크릿 문자열을 SecretKey로 변환 (HS256 알고리즘 사용)
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedClaims value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 검증된 클레임과 만료 시각 (밀리초)
+    private record VerifiedClaims(Map<String, Object> claims, long expiresAt) {
     }
 
     // Access Token 생성 (기본 2시간 유효)
@@ -115,10 +160,7 @@ public class JwtUtil {
     public boolean validateToken(String token) {
         try {
             // 토큰 파싱 및 서명 검증
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (Exception e) {
             // 토큰이 유효하지 않거나 만료된 경우
@@ -128,7 +170,28 @@ public class JwtUtil {
 
     // 토큰 유효성 검증 및 클레임 반환 (Map 반환 - 참고 코드용)
     public Map<String, Object> validateTokenAndGetClaims(String token) {
+        return toClaimsMap(extractAllClaims(token));
+    }
+
+    // 요청 인증용 토큰 검증 (한 번의 파싱으로 서명·만료 확인, 같은 토큰 재요청 시 캐시 사용)
+    // 만료 시 ExpiredJwtException, 위조·형식 오류 시 JwtException 발생
+    public Map<String, Object> verifyAndGetClaims(String token) {
+        String key = hashOf(token);
+        VerifiedClaims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.claims();
+        }
+
         Claims claims = extractAllClaims(token);
+        Map<String, Object> claimsMap = Collections.unmodifiableMap(toClaimsMap(claims));
+        if (claims.getExpiration() != null) {
+            verifiedClaims.put(key, new VerifiedClaims(claimsMap, claims.getExpiration().getTime()));
+        }
+        return claimsMap;
+    }
+
+    // Claims → Map 변환
+    private Map<String, Object> toClaimsMap(Claims claims) {
         Map<String, Object> claimsMap = new HashMap<>();
         claimsMap.put("sub", claims.getSubject());
         claimsMap.put("email", claims.get("email"));
@@ -200,10 +263,16 @@ public class JwtUtil {
 
     // 토큰에서 모든 클레임 추출
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // 캐시 키: 원본 토큰을 메모리에 남기지 않도록 해시 사용
+    private static String hashOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -0,0 +1,91 @@
+package com.fullStc.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 소요 시간(ms) 히스토그램
+ *
+ * 고정된 로그 간격 구간(1ms ~ 10분)에 건수만 누적하므로 기록 비용이 작고 메모리가 일정합니다.
+ * 백분위수는 해당 구간의 상한값으로 근사합니다.
+ */
+public class LatencyHistogram {
+
+    // 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    private static final long[] BOUNDS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500,
+            1_000, 2_000, 5_000, 10_000, 30_000, 60_000, 120_000, 300_000, 600_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 요약 값
+     * @param count 기록 건수
+     * @param meanMs 평균
+     * @param p50Ms 중앙값 (구간 상한 근사)
+     * @param p95Ms 95 백분위수
+     * @param p99Ms 99 백분위수
+     * @param maxMs 최댓값
+     */
+    public record Snapshot(long count, double meanMs, long p50Ms, long p95Ms, long p99Ms, long maxMs) {
+    }
+
+    /**
+     * 소요 시간 기록 (음수는 0으로 처리)
+     */
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        int i = 0;
+        while (i < BOUNDS.length && value > BOUNDS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * 현재까지의 요약 (기록 중에 읽으면 구간 합과 건수가 약간 어긋날 수 있음)
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        long maxValue = max.get();
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0);
+        }
+        return new Snapshot(total, (double) sum.sum() / total,
+                percentile(counts, total, 0.50, maxValue),
+                percentile(counts, total, 0.95, maxValue),
+                percentile(counts, total, 0.99, maxValue),
+                maxValue);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // 구간 상한이 실제 최댓값보다 크면 최댓값으로 제한
+                return i < BOUNDS.length ? Math.min(BOUNDS[i], maxValue) : maxValue;
+            }
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,82 @@
+package com.fullStc.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 간 메모리 캐시 무효화용 버전 스탬프 (Redis)
+ *
+ * 데이터를 바꾼 인스턴스가 키의 값을 올리고(bump), 다른 인스턴스는 캐시를 읽을 때
+ * 최대 check-interval-ms마다 값을 확인해 마지막으로 본 값과 다르면 자기 캐시를 다시 만듭니다.
+ * Redis에 연결할 수 없으면 변경한 인스턴스의 캐시만 갱신되고, 나머지는 연결이 돌아온 뒤 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SharedVersionStamp {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 다른 인스턴스의 변경을 확인하는 최소 간격 (이 시간 안에서는 Redis를 조회하지 않음)
+    @Value("${cache.version-check-interval-ms:5000}")
+    private long checkIntervalMs;
+
+    // 키 → 마지막으로 본 버전과 확인 시각
+    private final ConcurrentHashMap<String, Seen> seen = new ConcurrentHashMap<>();
+
+    private record Seen(String version, long checkedAt) {
+    }
+
+    /**
+     * 이 인스턴스에서 데이터를 바꿨음을 알림 (다른 인스턴스가 다음 확인 때 캐시를 다시 만듦)
+     */
+    public void bump(String key) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(key);
+            seen.put(key, new Seen(String.valueOf(version), System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("캐시 버전 갱신 실패, 다른 인스턴스에는 반영되지 않음: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시를 만들기 직전에 호출해 현재 버전을 기록 (이후의 변경만 감지)
+     */
+    public void observe(String key) {
+        long now = System.currentTimeMillis();
+        try {
+            seen.put(key, new Seen(redisTemplate.opsForValue().get(key), now));
+        } catch (Exception e) {
+            Seen last = seen.get(key);
+            seen.put(key, new Seen(last != null ? last.version() : null, now));
+        }
+    }
+
+    /**
+     * 마지막으로 본 뒤 다른 인스턴스가 버전을 올렸는지 (확인 간격이 지나지 않았으면 false)
+     */
+    public boolean changedElsewhere(String key) {
+        long now = System.currentTimeMillis();
+        Seen last = seen.get(key);
+        if (last != null && now - last.checkedAt() < checkIntervalMs) {
+            return false;
+        }
+        String version;
+        try {
+            version = redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.debug("캐시 버전 확인 실패: key={}, error={}", key, e.getMessage());
+            seen.put(key, new Seen(last != null ? last.version() : null, now));
+            return false;
+        }
+        Seen previous = seen.put(key, new Seen(version, now));
+        // 처음 보는 키는 비교할 기준이 없으므로 변경으로 보지 않음 (캐시를 만들 때 observe로 기록)
+        return previous != null && !Objects.equals(previous.version(), version);
+    }
+}
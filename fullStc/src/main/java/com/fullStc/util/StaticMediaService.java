@@ -0,0 +1,210 @@
+package com.fullStc.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정적 미디어 파일(업로드 파일, 썸네일, 생성 영상) 응답 공통 처리
+ *
+ * 파일 크기·수정 시각·MIME 타입을 메모리에 캐시해 요청마다 파일 시스템을 조회하지 않고,
+ * ETag/Last-Modified 조건부 요청(304)과 Range 요청(206, 영상 탐색)을 처리합니다.
+ */
+@Slf4j
+@Component
+public class StaticMediaService {
+
+    /**
+     * UUID 파일명처럼 내용이 바뀌지 않는 파일용 캐시 정책 (1년, immutable)
+     */
+    public static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    /**
+     * 같은 이름으로 다시 생성될 수 있는 파일용 캐시 정책 (매번 ETag로 재검증)
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    // 덮어쓸 수 있는 파일의 메타데이터 재확인 주기
+    @Value("${media.metadata.mutable-ttl-ms:5000}")
+    private long mutableTtlMs;
+
+    // 파일 경로 → 메타데이터
+    private final Cache<Path, MediaFile> metadata = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * 파일 메타데이터
+     */
+    public record MediaFile(Path path, long size, long lastModified, MediaType mediaType, String etag,
+                            long checkedAt) {
+    }
+
+    /**
+     * 파일 조회 (캐시 우선)
+     * @param path 파일 절대 경로
+     * @param immutable 내용이 바뀌지 않는 파일이면 true (캐시를 재확인하지 않음)
+     * @return 메타데이터 (일반 파일이 없으면 null, 없는 파일은 캐시하지 않음)
+     */
+    public MediaFile find(Path path, boolean immutable) {
+        MediaFile cached = metadata.getIfPresent(path);
+        if (cached != null && (immutable || System.currentTimeMillis() - cached.checkedAt() < mutableTtlMs)) {
+            return cached;
+        }
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (!attrs.isRegularFile()) {
+                metadata.invalidate(path);
+                return null;
+            }
+            long size = attrs.size();
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            MediaFile file = (cached != null && cached.size() == size && cached.lastModified() == lastModified)
+                    ? new MediaFile(path, size, lastModified, cached.mediaType(), cached.etag(), System.currentTimeMillis())
+                    : new MediaFile(path, size, lastModified, mediaTypeOf(path),
+                            "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"",
+                            System.currentTimeMillis());
+            metadata.put(path, file);
+            return file;
+        } catch (IOException e) {
+            metadata.invalidate(path);
+            return null;
+        }
+    }
+
+    /**
+     * 캐시에서 제거 (파일 삭제 시)
+     */
+    public void evict(Path path) {
+        metadata.invalidate(path);
+    }
+
+    /**
+     * 파일 응답 생성
+     * - If-None-Match / If-Modified-Since 일치 → 304
+     * - Range 요청 → 206 (If-Range가 현재 ETag와 다르면 전체 전송)
+     * - 그 외 → 200 전체 전송
+     * @param file 조회한 파일
+     * @param request 요청 헤더
+     * @param cacheControl 캐시 정책
+     * @param disposition Content-Disposition 값 (null이면 생략)
+     */
+    public ResponseEntity<?> serve(MediaFile file, HttpHeaders request, CacheControl cacheControl, String disposition) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(file.etag());
+        headers.setLastModified(file.lastModified());
+        headers.setCacheControl(cacheControl);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(file, request)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        headers.setContentType(file.mediaType());
+        if (disposition != null) {
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, disposition);
+        }
+
+        boolean rangeRequested = request.getFirst(HttpHeaders.RANGE) != null;
+        if (rangeRequested && ifRangeMatches(file, request)) {
+            Resource resource = new FileSystemResource(file.path());
+            try {
+                List<HttpRange> ranges = request.getRange();
+                if (ranges.size() == 1) {
+                    // 단일 구간: 해당 위치로 건너뛴 뒤 필요한 바이트만 전송
+                    ResourceRegion region = ranges.get(0).toResourceRegion(resource);
+                    return new ResponseEntity<>(region, headers, HttpStatus.PARTIAL_CONTENT);
+                }
+                return new ResponseEntity<>(HttpRange.toResourceRegions(ranges, resource), headers,
+                        HttpStatus.PARTIAL_CONTENT);
+            } catch (IllegalArgumentException e) {
+                headers.remove(HttpHeaders.CONTENT_TYPE);
+                headers.remove(HttpHeaders.CONTENT_DISPOSITION);
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+                return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            }
+        }
+
+        headers.setContentLength(file.size());
+        if (rangeRequested) {
+            // If-Range 불일치: Range 헤더가 남아 있으면 Spring이 부분 응답으로 바꾸므로 스트림 리소스로 전체 전송
+            try {
+                InputStream in = Files.newInputStream(file.path());
+                return new ResponseEntity<>(new InputStreamResource(in), headers, HttpStatus.OK);
+            } catch (IOException e) {
+                metadata.invalidate(file.path());
+                return ResponseEntity.notFound().build();
+            }
+        }
+        return new ResponseEntity<>(new FileSystemResource(file.path()), headers, HttpStatus.OK);
+    }
+
+    private static boolean isNotModified(MediaFile file, HttpHeaders request) {
+        List<String> ifNoneMatch = request.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            for (String tag : ifNoneMatch) {
+                // 약한 비교 (W/ 접두사 무시)
+                String normalized = tag.startsWith("W/") ? tag.substring(2) : tag;
+                if ("*".equals(normalized) || file.etag().equals(normalized)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = request.getIfModifiedSince();
+        // HTTP 날짜는 초 단위이므로 밀리초를 버리고 비교
+        return ifModifiedSince >= 0 && file.lastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private static boolean ifRangeMatches(MediaFile file, HttpHeaders request) {
+        String ifRange = request.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return file.etag().equals(ifRange);
+        }
+        try {
+            return file.lastModified() / 1000 <= request.getFirstDate(HttpHeaders.IF_RANGE) / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static MediaType mediaTypeOf(Path path) {
+        return MediaTypeFactory.getMediaType(path.getFileName().toString()).orElseGet(() -> {
+            try {
+                String probed = Files.probeContentType(path);
+                return probed != null ? MediaType.parseMediaType(probed) : MediaType.APPLICATION_OCTET_STREAM;
+            } catch (IOException | IllegalArgumentException e) {
+                log.debug("MIME 타입 확인 실패: {}", path);
+                return MediaType.APPLICATION_OCTET_STREAM;
+            }
+        });
+    }
+}
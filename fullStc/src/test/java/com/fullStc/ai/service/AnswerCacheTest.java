@@ -0,0 +1,100 @@
+package com.fullStc.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStc.ai.service.AnswerCache.Lookup;
+import com.fullStc.ai.service.AnswerCache.Scope;
+import com.fullStc.news.provider.OpenAiEmbedder;
+import com.fullStc.util.SharedVersionStamp;
+
+// 답변 캐시의 문자열 일치·유사 질문 적중·비우기·적중률 테스트
+public class AnswerCacheTest {
+
+    private OpenAiEmbedder embedder;
+    private SharedVersionStamp versionStamp;
+    private AnswerCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        embedder = mock(OpenAiEmbedder.class);
+        versionStamp = mock(SharedVersionStamp.class);
+        cache = new AnswerCache(embedder, versionStamp);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "chatTtlMinutes", 30L);
+        ReflectionTestUtils.setField(cache, "qaTtlMinutes", 60L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "maxQuestionLength", 200);
+        ReflectionTestUtils.setField(cache, "semanticEnabled", false);
+        ReflectionTestUtils.setField(cache, "semanticThreshold", 0.9);
+        cache.init();
+    }
+
+    // 공백·대소문자·문장부호만 다른 질문은 같은 답, 범위는 서로 섞이지 않음
+    @Test
+    public void testExactMatchAfterNormalization() {
+        Lookup miss = cache.lookup(Scope.QA, "비밀번호 재설정은 어떻게 하나요?");
+        assertThat(miss.hit()).isFalse();
+        cache.put(miss, "설정 > 계정에서 재설정하세요.");
+
+        Lookup hit = cache.lookup(Scope.QA, "  비밀번호   재설정은 어떻게 하나요 ");
+        assertThat(hit.hit()).isTrue();
+        assertThat(hit.answer()).isEqualTo("설정 > 계정에서 재설정하세요.");
+        assertThat(cache.lookup(Scope.CHAT, "비밀번호 재설정은 어떻게 하나요?").hit()).isFalse();
+        assertThat(cache.lookup(Scope.QA, "?!")).isNull();
+        verify(embedder, never()).embed(anyString());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> qa = (Map<String, Object>) cache.getStats().get("qa");
+        assertThat(qa.get("exactHits")).isEqualTo(1L);
+        assertThat(qa.get("misses")).isEqualTo(1L);
+        assertThat((double) qa.get("hitRate")).isEqualTo(0.5);
+    }
+
+    // 비우기 전에 시작한 요청의 답은 저장하지 않음
+    @Test
+    public void testInvalidateDropsInFlightAnswers() {
+        Lookup before = cache.lookup(Scope.QA, "영상 제작 시간");
+        cache.invalidate(Scope.QA);
+        cache.put(before, "오래된 답");
+
+        assertThat(cache.lookup(Scope.QA, "영상 제작 시간").hit()).isFalse();
+        verify(versionStamp).bump("answer-cache:qa:version");
+    }
+
+    // 다른 인스턴스에서 비운 범위는 다음 조회 때 이 인스턴스에서도 비움
+    @Test
+    public void testInvalidatedElsewhere() {
+        cache.put(cache.lookup(Scope.QA, "영상 제작 시간"), "1~3분");
+        when(versionStamp.changedElsewhere("answer-cache:qa:version")).thenReturn(true).thenReturn(false);
+
+        assertThat(cache.lookup(Scope.QA, "영상 제작 시간").hit()).isFalse();
+        verify(versionStamp, never()).bump(anyString());
+    }
+
+    // 문장이 달라도 임베딩이 기준 이상 비슷하면 적중
+    @Test
+    public void testSemanticMatch() {
+        ReflectionTestUtils.setField(cache, "semanticEnabled", true);
+        when(embedder.embed("비밀번호 재설정 방법")).thenReturn(new float[] {1f, 0f, 0f});
+        when(embedder.embed("비번 초기화 어떻게 해")).thenReturn(new float[] {0.95f, 0.05f, 0f});
+        when(embedder.embed("영상 제작 시간")).thenReturn(new float[] {0f, 1f, 0f});
+
+        cache.put(cache.lookup(Scope.CHAT, "비밀번호 재설정 방법"), "계정 설정에서 재설정하세요.");
+
+        Lookup similar = cache.lookup(Scope.CHAT, "비번 초기화 어떻게 해");
+        assertThat(similar.hit()).isTrue();
+        assertThat(similar.answer()).isEqualTo("계정 설정에서 재설정하세요.");
+        assertThat(cache.lookup(Scope.CHAT, "영상 제작 시간").hit()).isFalse();
+    }
+}
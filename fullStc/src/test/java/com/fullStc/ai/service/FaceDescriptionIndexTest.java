@@ -0,0 +1,74 @@
+package com.fullStc.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fullStc.ai.service.FaceDescriptionIndex.Match;
+
+// FaceDescriptionIndex 단어 일치 점수 검색 테스트 (Python compare_faces와 같은 점수인지 확인)
+public class FaceDescriptionIndexTest {
+
+    private FaceDescriptionIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new FaceDescriptionIndex();
+        index.upsert(1L, "kim@test.com", "김철수", "round face short black hair brown eyes glasses");
+        index.upsert(2L, "lee@test.com", "이영희", "oval face long brown hair green eyes");
+        index.upsert(3L, "park@test.com", "박민수", "square face bald beard blue eyes");
+    }
+
+    // 가장 비슷한 설명의 회원 검색 (점수 = 공통 단어 수 / 큰 쪽 단어 수)
+    @Test
+    public void testFindBest() {
+        Match match = index.findBest("Round face short black hair dark eyes glasses");
+
+        assertThat(match.memberId()).isEqualTo(1L);
+        assertThat(match.email()).isEqualTo("kim@test.com");
+        // 공통 7단어 / 8단어
+        assertThat(match.score()).isCloseTo(7.0 / 8.0, within(1e-9));
+    }
+
+    // 특정 회원과의 점수는 코사인이 아닌 기존 max 기준 (공통 2단어, 3단어 vs 7단어 → 2/7)
+    @Test
+    public void testSimilarityUsesMaxDenominator() {
+        assertThat(index.similarity("lee@test.com", "oval face").score()).isCloseTo(2.0 / 7.0, within(1e-9));
+        assertThat(index.similarity("lee@test.com", "oval  face long brown hair green eyes").score())
+                .isCloseTo(1.0, within(1e-9));
+        assertThat(index.similarity("none@test.com", "oval face")).isNull();
+    }
+
+    // 일치하는 단어가 없으면 결과 없음
+    @Test
+    public void testNoOverlap() {
+        assertThat(index.findBest("tall person")).isNull();
+        assertThat(index.findBest("")).isNull();
+    }
+
+    // 재등록은 교체, 삭제 후에는 검색되지 않음
+    @Test
+    public void testUpsertAndRemove() {
+        index.upsert(1L, "kim@test.com", "김철수", "square face bald beard blue eyes");
+        assertThat(index.size()).isEqualTo(3);
+
+        index.remove(3L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findBest("square face bald beard blue eyes").memberId()).isEqualTo(1L);
+
+        index.remove(1L);
+        index.remove(2L);
+        assertThat(index.findBest("oval face")).isNull();
+    }
+
+    // 빈 설명은 등록하지 않음
+    @Test
+    public void testBlankDescriptionIgnored() {
+        index.upsert(4L, "blank@test.com", "blank", "   ");
+        index.upsert(5L, "null@test.com", "null", null);
+
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -2,7 +2,6 @@ package com.fullStc.board.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -20,11 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 import com.fullStc.board.domain.Board;
 import com.fullStc.board.domain.BoardComment;
 import com.fullStc.board.domain.BoardLike;
-import com.fullStc.board.domain.BoardView;
 import com.fullStc.board.repository.BoardCommentRepository;
 import com.fullStc.board.repository.BoardLikeRepository;
 import com.fullStc.board.repository.BoardRepository;
-import com.fullStc.board.repository.BoardViewRepository;
 import com.fullStc.config.TestConfig;
 import com.fullStc.member.domain.Member;
 import com.fullStc.member.repository.MemberRepository;
@@ -33,7 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * 게시판 더미 데이터 생성 테스트
- * Board, BoardComment, BoardFile, BoardLike, BoardView 테이블에 더미 데이터를 생성합니다.
+ * Board, BoardComment, BoardFile, BoardLike 테이블에 더미 데이터를 생성합니다.
+ * (일별 조회 중복 확인은 BoardViewDedupService로 옮겨 board_view 테이블은 더 이상 쓰지 않음)
  */
 @SpringBootTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -53,9 +51,6 @@ class BoardDummyDataTest {
     @Autowired
     private BoardLikeRepository boardLikeRepository;
 
-    @Autowired
-    private BoardViewRepository boardViewRepository;
-
     private final Random random = new Random();
 
     // 더미 제목 목록 (뉴스 기사 스타일)
@@ -303,56 +298,16 @@ class BoardDummyDataTest {
 
         log.info("좋아요 생성 완료: {}개", totalLikes);
 
-        // 5. 조회 기록 생성
-        int totalViews = 0;
-        LocalDate today = LocalDate.now();
-        List<Member> viewedMembers = new ArrayList<>();
-        
-        for (Board board : boards) {
-            // 각 게시글당 0~50개의 조회 기록 생성
-            int viewCount = random.nextInt(51); // 0~50개
-            viewedMembers.clear();
-            
-            for (int i = 0; i < viewCount; i++) {
-                // 랜덤 회원 선택
-                Member viewUser = members.get(random.nextInt(members.size()));
-                
-                // 이미 조회한 회원인지 확인
-                if (viewedMembers.contains(viewUser)) {
-                    continue;
-                }
-                
-                // 이미 존재하는 조회 기록인지 확인
-                if (boardViewRepository.existsByBoardAndUserAndViewDate(board, viewUser, today)) {
-                    continue;
-                }
-                
-                BoardView boardView = BoardView.builder()
-                    .board(board)
-                    .user(viewUser)
-                    .viewDate(today)
-                    .build();
-
-                boardViewRepository.save(boardView);
-                viewedMembers.add(viewUser);
-                totalViews++;
-            }
-        }
-
-        log.info("조회 기록 생성 완료: {}개", totalViews);
-
         // 최종 통계
         log.info("=== 게시판 더미 데이터 생성 완료 ===");
         log.info("생성된 게시글 수: {}개", totalBoards);
         log.info("생성된 댓글 수: {}개", totalComments);
         log.info("생성된 좋아요 수: {}개", totalLikes);
-        log.info("생성된 조회 기록 수: {}개", totalViews);
 
         // 검증
         assertThat(boardRepository.count()).isGreaterThanOrEqualTo(totalBoards);
         assertThat(boardCommentRepository.count()).isGreaterThanOrEqualTo(totalComments);
         assertThat(boardLikeRepository.count()).isGreaterThanOrEqualTo(totalLikes);
-        assertThat(boardViewRepository.count()).isGreaterThanOrEqualTo(totalViews);
     }
 }
 
@@ -0,0 +1,69 @@
+package com.fullStc.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStc.board.service.BoardCounterService.BoardCounter;
+
+// 카운터 증감 누산·배치 반영 테스트 (반영 후 항목 제거, 실패 시 증감 복원)
+public class BoardCounterServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardCounterService counterService;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        counterService = new BoardCounterService(jdbcTemplate);
+    }
+
+    // 반영이 끝난 게시글·댓글 항목은 맵에서 제거
+    @Test
+    public void testFlushRemovesDrainedEntries() {
+        counterService.add(1L, BoardCounter.VIEW, 3);
+        counterService.add(2L, BoardCounter.LIKE, 1);
+        counterService.addCommentLike(10L, 1);
+        assertThat(counterService.pending(1L, BoardCounter.VIEW)).isEqualTo(3);
+
+        counterService.flush();
+
+        assertThat(counterService.pending(1L, BoardCounter.VIEW)).isZero();
+        assertThat(boardDeltas()).isEmpty();
+        assertThat(commentLikeDeltas()).isEmpty();
+    }
+
+    // DB 반영 실패 시 증감을 되돌려 다음 주기에 다시 시도
+    @Test
+    public void testFlushFailureRestoresDeltas() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+        counterService.add(1L, BoardCounter.LIKE, 2);
+        counterService.add(1L, BoardCounter.LIKE, -1);
+        counterService.addCommentLike(10L, 1);
+
+        counterService.flush();
+
+        assertThat(counterService.pending(1L, BoardCounter.LIKE)).isEqualTo(1);
+        assertThat(((LongAdder) commentLikeDeltas().get(10L)).sum()).isEqualTo(1);
+        assertThat(boardDeltas()).hasSize(1);
+    }
+
+    private Map<?, ?> boardDeltas() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(counterService, "boardDeltas");
+    }
+
+    private Map<?, ?> commentLikeDeltas() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(counterService, "commentLikeDeltas");
+    }
+}
@@ -0,0 +1,74 @@
+package com.fullStc.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// BoardSearchIndex 역색인 검색 테스트
+public class BoardSearchIndexTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 1, 15, 12, 0);
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new BoardSearchIndex();
+        index.upsert(1L, 10L, "경제왕", "금리 인상 전망", "한국은행이 기준금리를 올렸다", now.minusDays(30));
+        index.upsert(2L, 20L, "Reader", "부동산 시장", "금리 때문에 거래가 줄었다", now.minusDays(1));
+        index.upsert(3L, 10L, "경제왕", "AI 반도체", "엔비디아 실적 발표", now.minusDays(2));
+    }
+
+    // 부분 문자열 검색 (LIKE '%키워드%'와 같은 적중)
+    @Test
+    public void testSubstringMatch() {
+        assertThat(index.search("금리", "TITLE_CONTENT", now)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("기준금리", "TITLE_CONTENT", now)).containsExactly(1L);
+        assertThat(index.search("금", "TITLE", now)).containsExactly(1L);
+        assertThat(index.search("ai", "TITLE", now)).containsExactly(3L);
+        assertThat(index.search("금리인", "TITLE_CONTENT", now)).isEmpty();
+    }
+
+    // 제목 적중이 내용 적중보다 높은 점수
+    @Test
+    public void testTitleWeighted() {
+        List<Long> result = index.search("금리", "TITLE_CONTENT", now);
+
+        assertThat(result.get(0)).isEqualTo(1L);
+    }
+
+    // 여러 단어는 모두 포함해야 함
+    @Test
+    public void testAllTermsRequired() {
+        assertThat(index.search("금리 거래", "TITLE_CONTENT", now)).containsExactly(2L);
+    }
+
+    // 작성자 검색은 최신순
+    @Test
+    public void testWriterSearch() {
+        assertThat(index.search("경제", "WRITER", now)).containsExactly(3L, 1L);
+    }
+
+    // 닉네임 변경 후에는 새 닉네임으로만 찾음
+    @Test
+    public void testRenameWriter() {
+        index.renameWriter(10L, "금융왕");
+
+        assertThat(index.search("경제", "WRITER", now)).isEmpty();
+        assertThat(index.search("금융", "WRITER", now)).containsExactly(3L, 1L);
+    }
+
+    // 수정·삭제 반영
+    @Test
+    public void testUpdateAndRemove() {
+        index.upsert(2L, 20L, "Reader", "주식 시장", "코스피 상승", now.minusDays(1));
+        index.remove(1L);
+
+        assertThat(index.search("금리", "TITLE_CONTENT", now)).isEmpty();
+        assertThat(index.search("코스피", "TITLE_CONTENT", now)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,125 @@
+package com.fullStc.briefdelivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStc.briefdelivery.entity.BriefDeliverySchedule;
+import com.fullStc.briefdelivery.repository.BriefDeliveryScheduleRepository;
+import com.fullStc.briefdelivery.service.BriefDeliveryClaimService.Claim;
+import com.fullStc.briefdelivery.service.BriefEditionService.Edition;
+import com.fullStc.briefdelivery.service.BriefEditionService.Issue;
+import com.fullStc.member.service.MemberContextService;
+import com.fullStc.member.service.MemberContextService.MemberSummary;
+
+// 예약을 묶어서 가져와 PDF 생성 → 메일 발송으로 넘기고 결과를 반영하는 동작 테스트 (DB·외부 호출은 목)
+public class BriefDeliveryWorkerTest {
+
+    private BriefDeliveryClaimService claimService;
+    private BriefDeliveryScheduleRepository scheduleRepository;
+    private MemberContextService memberContextService;
+    private BriefEditionService editionService;
+    private BriefDeliveryMailService mailService;
+    private BriefDeliveryWorker worker;
+
+    @BeforeEach
+    public void setUp() {
+        claimService = mock(BriefDeliveryClaimService.class);
+        scheduleRepository = mock(BriefDeliveryScheduleRepository.class);
+        memberContextService = mock(MemberContextService.class);
+        editionService = mock(BriefEditionService.class);
+        mailService = mock(BriefDeliveryMailService.class);
+
+        worker = new BriefDeliveryWorker(claimService, scheduleRepository, memberContextService, editionService, mailService);
+        ReflectionTestUtils.setField(worker, "renderThreads", 2);
+        ReflectionTestUtils.setField(worker, "mailThreads", 2);
+        ReflectionTestUtils.setField(worker, "maxInFlight", 2);
+        ReflectionTestUtils.setField(worker, "claimBatch", 2);
+        ReflectionTestUtils.setField(worker, "staleMinutes", 15);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        worker.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdown();
+    }
+
+    // 가져온 만큼 가득 차면 더 가져오고, 성공은 완료로·판 생성 실패는 실패로 반영
+    @Test
+    public void testDispatchesUntilDrainedAndRecordsResults() {
+        when(claimService.claimDue(anyInt())).thenReturn(List.of(new Claim(1L, 1), new Claim(2L, 1))).thenReturn(List.of());
+        schedule(1L, 10L, List.of("it"));
+        schedule(2L, 20L, List.of("economy"));
+        Edition edition = new Edition("it", new byte[] {1, 2, 3}, 5, Instant.now());
+        when(editionService.getEdition(List.of("it"))).thenReturn(new Issue(edition, true));
+        when(editionService.personalize(edition, "user10")).thenReturn(new byte[] {1, 2, 3, 4});
+        when(editionService.getEdition(List.of("economy")))
+                .thenThrow(new IllegalStateException("PDF generation returned empty bytes"));
+        when(claimService.complete(any(), anyLong(), anyLong())).thenReturn(true);
+
+        assertThat(worker.dispatchDue()).isEqualTo(2);
+
+        verify(claimService, timeout(5000)).complete(eq(new Claim(1L, 1)), anyLong(), anyLong());
+        verify(mailService, timeout(5000)).sendPdfMail(eq("user10@test.com"), eq("user10"), any(),
+                aryEq(new byte[] {1, 2, 3, 4}), any());
+        verify(claimService, timeout(5000)).fail(eq(new Claim(2L, 1)), eq("PDF generation returned empty bytes"), isNull(), isNull());
+        verify(mailService, never()).sendPdfMail(eq("user20@test.com"), any(), any(), any(), any());
+        verify(claimService, timeout(5000).times(2)).claimDue(anyInt());
+    }
+
+    // 회원이 없으면 판을 만들지 않고 실패 처리
+    @Test
+    public void testMissingMemberMarksFailed() {
+        when(claimService.claimDue(anyInt())).thenReturn(List.of(new Claim(3L, 2))).thenReturn(List.of());
+        when(scheduleRepository.findById(3L)).thenReturn(Optional.of(BriefDeliverySchedule.builder()
+                .id(3L).userId(30L).scheduledAt(Instant.now()).status("PROCESSING").build()));
+
+        assertThat(worker.dispatchDue()).isEqualTo(1);
+
+        verify(claimService, timeout(5000)).fail(eq(new Claim(3L, 2)), eq("Member not found"), isNull(), isNull());
+        verify(editionService, never()).getEdition(any());
+    }
+
+    // 비활성(탈퇴) 회원에게는 판을 만들지 않고 실패 처리
+    @Test
+    public void testDisabledMemberMarksFailed() {
+        when(claimService.claimDue(anyInt())).thenReturn(List.of(new Claim(4L, 1))).thenReturn(List.of());
+        when(scheduleRepository.findById(4L)).thenReturn(Optional.of(BriefDeliverySchedule.builder()
+                .id(4L).userId(40L).scheduledAt(Instant.now()).status("PROCESSING").build()));
+        when(memberContextService.getSummary(40L))
+                .thenReturn(new MemberSummary(40L, "user40@test.com", "user40", false, List.of("USER")));
+
+        assertThat(worker.dispatchDue()).isEqualTo(1);
+
+        verify(claimService, timeout(5000)).fail(eq(new Claim(4L, 1)), eq("Member disabled"), isNull(), isNull());
+        verify(editionService, never()).getEdition(any());
+        verify(mailService, never()).sendPdfMail(any(), any(), any(), any(), any());
+    }
+
+    private void schedule(Long id, Long userId, List<String> categories) {
+        when(scheduleRepository.findById(id)).thenReturn(Optional.of(BriefDeliverySchedule.builder()
+                .id(id).userId(userId).scheduledAt(Instant.now()).status("PROCESSING").build()));
+        when(memberContextService.getSummary(userId))
+                .thenReturn(new MemberSummary(userId, "user" + userId + "@test.com", "user" + userId, true, List.of("USER")));
+        when(memberContextService.getCategories(userId)).thenReturn(categories);
+    }
+}
@@ -0,0 +1,111 @@
+package com.fullStc.briefdelivery.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStc.briefdelivery.dto.BriefDeliveryPdfRequestDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.fullStc.news.domain.NewsCluster;
+import com.fullStc.news.repository.NewsClusterRepository;
+
+// 같은 카테고리 조합은 기사 선정·PDF 생성을 한 번만 하고, 기사가 바뀌면 새 판을 만드는지 테스트
+public class BriefEditionServiceTest {
+
+    private NewsClusterRepository clusterRepository;
+    private BriefDeliveryPdfService pdfService;
+    private BriefEditionService service;
+
+    @BeforeEach
+    public void setUp() {
+        clusterRepository = mock(NewsClusterRepository.class);
+        pdfService = mock(BriefDeliveryPdfService.class);
+        service = new BriefEditionService(clusterRepository, pdfService);
+        ReflectionTestUtils.setField(service, "selectionTtlSeconds", 60L);
+        ReflectionTestUtils.setField(service, "editionTtlMinutes", 60L);
+        ReflectionTestUtils.setField(service, "cacheMaxMb", 16L);
+        service.init();
+    }
+
+    // 카테고리 순서·대소문자가 달라도 같은 판, 동시에 요청해도 PDF는 한 번만 생성
+    @Test
+    public void testSameCategorySetRendersOnce() throws Exception {
+        when(clusterRepository.findByCategoriesOrderByUpdatedAtDesc(eq(List.of("economy", "it")), anyInt()))
+                .thenReturn(List.of(cluster(1L, "economy", 100), cluster(2L, "it", 200)));
+        CountDownLatch rendering = new CountDownLatch(1);
+        when(pdfService.generatePdf(any())).thenAnswer(inv -> {
+            rendering.await();
+            return new byte[] {1, 2, 3};
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BriefEditionService.Issue>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                List<String> categories = i % 2 == 0 ? List.of("it", "economy") : List.of("Economy", "IT", "it");
+                futures.add(pool.submit(() -> service.getEdition(categories)));
+            }
+            Thread.sleep(200);
+            rendering.countDown();
+
+            int renderedCount = 0;
+            for (Future<BriefEditionService.Issue> f : futures) {
+                BriefEditionService.Issue issue = f.get();
+                assertThat(issue.edition().pdf()).containsExactly(1, 2, 3);
+                renderedCount += issue.rendered() ? 1 : 0;
+            }
+            assertThat(renderedCount).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(pdfService, times(1)).generatePdf(any());
+        verify(clusterRepository, times(1)).findByCategoriesOrderByUpdatedAtDesc(any(), anyInt());
+    }
+
+    // 기사가 갱신되면 다른 판, PDF에는 개인 정보가 들어가지 않음
+    @Test
+    public void testContentChangeCreatesNewEdition() {
+        when(clusterRepository.findByCategoriesOrderByUpdatedAtDesc(eq(List.of("it")), anyInt()))
+                .thenReturn(List.of(cluster(1L, "it", 100)))
+                .thenReturn(List.of(cluster(1L, "it", 300)));
+        when(pdfService.generatePdf(any())).thenReturn(new byte[] {9});
+
+        String first = service.getEdition(List.of("it")).edition().key();
+        // 기사 선정 재사용 시간이 지난 것처럼 비움
+        ((Cache<?, ?>) ReflectionTestUtils.getField(service, "selections")).invalidateAll();
+        String second = service.getEdition(List.of("it")).edition().key();
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(first).startsWith("it|");
+        verify(pdfService, times(2)).generatePdf(argThat((BriefDeliveryPdfRequestDto r) ->
+                r.getUserName() == null && r.getUserEmail() == null && r.getLeadArticle().getId() == 1L));
+    }
+
+    private static NewsCluster cluster(Long id, String category, long updatedAtMillis) {
+        return NewsCluster.builder()
+                .id(id)
+                .category(category)
+                .clusterTitle("title" + id)
+                .clusterSummary("summary" + id)
+                .updatedAt(Instant.ofEpochMilli(updatedAtMillis))
+                .build();
+    }
+}
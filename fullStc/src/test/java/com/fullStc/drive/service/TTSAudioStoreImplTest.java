@@ -0,0 +1,61 @@
+package com.fullStc.drive.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// TTS 오디오 캐시 용량 제한 테스트 (임대 중인 파일은 LRU 제거에서 제외)
+public class TTSAudioStoreImplTest {
+
+    @TempDir
+    Path dir;
+
+    // 방금 돌려준 파일은 용량을 넘어도 지우지 않음
+    @Test
+    public void testLeasedFileIsNotEvicted() throws Exception {
+        TTSAudioStoreImpl store = newStore(60_000);
+
+        Path first = store.getOrCreate("a", target -> write(target, 60));
+        Path second = store.getOrCreate("b", target -> write(target, 60));
+
+        assertThat(first).exists();
+        assertThat(second).exists();
+        assertThat(store.totalBytes()).isEqualTo(120);
+    }
+
+    // 임대가 끝난 파일은 오래된 순으로 제거
+    @Test
+    public void testExpiredLeaseIsEvicted() throws Exception {
+        TTSAudioStoreImpl store = newStore(0);
+
+        Path first = store.getOrCreate("a", target -> write(target, 60));
+        Thread.sleep(5);
+        Path second = store.getOrCreate("b", target -> write(target, 60));
+
+        assertThat(first).doesNotExist();
+        assertThat(store.find("a")).isNull();
+        assertThat(second).exists();
+        assertThat(store.totalBytes()).isEqualTo(60);
+    }
+
+    private TTSAudioStoreImpl newStore(long readLeaseMs) throws Exception {
+        TTSAudioStoreImpl store = new TTSAudioStoreImpl();
+        ReflectionTestUtils.setField(store, "cacheDir", dir.toString());
+        ReflectionTestUtils.setField(store, "maxBytes", 100L);
+        ReflectionTestUtils.setField(store, "model", "tts-1-hd");
+        ReflectionTestUtils.setField(store, "readLeaseMs", readLeaseMs);
+        store.init();
+        return store;
+    }
+
+    private static boolean write(Path target, int size) throws IOException {
+        Files.write(target, new byte[size]);
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullStc.drive.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+// FuzzyMatchingUtil 단답형 명령 인식 테스트
+public class FuzzyMatchingUtilTest {
+
+    // 정확 매칭 (공백·문장부호 무시)
+    @Test
+    public void testExactMatch() {
+        FuzzyMatchingUtil.CommandMatch match = FuzzyMatchingUtil.match("다음 기사!");
+
+        assertThat(match).isNotNull();
+        assertThat(match.intent()).isEqualTo("NEXT");
+        assertThat(match.type()).isEqualTo("EXACT");
+        assertThat(match.confidence()).isEqualTo(1.0f);
+    }
+
+    // 여러 의도에 등록된 문구는 우선순위가 높은 의도로
+    @Test
+    public void testDuplicatePhraseUsesPriority() {
+        assertThat(FuzzyMatchingUtil.matchCommand("이어서")).isEqualTo("RESUME_CHOICE");
+        assertThat(FuzzyMatchingUtil.matchCommand("이전 뉴스")).isEqualTo("RESUME_CHOICE");
+    }
+
+    // 명령어가 문장 대부분을 차지하면 포함 매칭
+    @Test
+    public void testContainsMatch() {
+        FuzzyMatchingUtil.CommandMatch match = FuzzyMatchingUtil.match("일시정지해");
+
+        assertThat(match).isNotNull();
+        assertThat(match.intent()).isEqualTo("PAUSE");
+        assertThat(match.type()).isEqualTo("CONTAINS");
+    }
+
+    // 자모 단위 오타 매칭
+    @Test
+    public void testFuzzyMatch() {
+        FuzzyMatchingUtil.CommandMatch match = FuzzyMatchingUtil.match("다움");
+
+        assertThat(match).isNotNull();
+        assertThat(match.intent()).isEqualTo("NEXT");
+        assertThat(match.type()).isEqualTo("FUZZY");
+    }
+
+    // 명령이 아닌 문장은 Python 분석으로 넘어가도록 null
+    @Test
+    public void testNoMatch() {
+        assertThat(FuzzyMatchingUtil.match("안녕")).isNull();
+        assertThat(FuzzyMatchingUtil.match("오늘 날씨 어때")).isNull();
+        assertThat(FuzzyMatchingUtil.match("  ")).isNull();
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullStc.drive.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// PlaylistScriptUtil 존댓말 변환·문장 단위 분할 테스트
+public class PlaylistScriptUtilTest {
+
+    // 평서형 종결어미 → 존댓말 (마침표·공백·문장 끝 모두)
+    @Test
+    public void testToPolite() {
+        assertThat(PlaylistScriptUtil.toPolite("금리를 동결했다.")).isEqualTo("금리를 동결했습니다.");
+        assertThat(PlaylistScriptUtil.toPolite("전망이 밝다고 밝혔다")).isEqualTo("전망이 밝다고 밝혔습니다");
+        assertThat(PlaylistScriptUtil.toPolite("상승세가 이어지고 있다 거래량도 늘었다."))
+                .isEqualTo("상승세가 이어지고 있습니다. 거래량도 늘었습니다.");
+    }
+
+    // 구체적인 어미를 먼저 바꾸고, 단어 중간의 같은 글자는 그대로 둠
+    @Test
+    public void testToPoliteKeepsWordInternalMatches() {
+        assertThat(PlaylistScriptUtil.toPolite("효과가 나타났다.")).isEqualTo("효과가 나타났습니다.");
+        assertThat(PlaylistScriptUtil.toPolite("있다면 좋겠습니다.")).isEqualTo("있다면 좋겠습니다.");
+    }
+
+    // maxChars 이하로 문장을 묶고, 한 문장이 더 길면 그대로 한 덩어리
+    @Test
+    public void testChunkBySentence() {
+        List<String> chunks = PlaylistScriptUtil.chunkBySentence("가나다. 라마바! 사아자? 차카타.", 9);
+
+        assertThat(chunks).containsExactly("가나다. 라마바!", "사아자? 차카타.");
+        assertThat(PlaylistScriptUtil.chunkBySentence("아주 긴 한 문장입니다.", 5))
+                .containsExactly("아주 긴 한 문장입니다.");
+    }
+
+    // 빈 텍스트는 덩어리 없음
+    @Test
+    public void testChunkBySentenceBlank() {
+        assertThat(PlaylistScriptUtil.chunkBySentence("   ", 10)).isEmpty();
+    }
+}
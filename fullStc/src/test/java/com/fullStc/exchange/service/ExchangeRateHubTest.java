@@ -0,0 +1,71 @@
+package com.fullStc.exchange.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStc.exchange.dto.ExchangeRateDTO;
+import com.fullStc.exchange.dto.ExchangeRateResponseDTO;
+
+// 환율 스냅샷 교체·통화별 조회·변경 감지 테스트
+public class ExchangeRateHubTest {
+
+    private ExchangeRateHub hub;
+
+    @BeforeEach
+    public void setUp() {
+        hub = new ExchangeRateHub(new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(hub, "maxAgeMs", 60_000L);
+    }
+
+    // 같은 환율이 다시 들어오면 스냅샷(ETag)을 유지하고, 바뀌면 새 스냅샷으로 교체
+    @Test
+    public void testPublishOnlyChangesOnNewRates() {
+        assertThat(hub.publish(response("1400.50", "9.45"))).isTrue();
+        ExchangeRateHub.Snapshot first = hub.current("20251014");
+        assertThat(first).isNotNull();
+
+        assertThat(hub.publish(response("1400.50", "9.45"))).isFalse();
+        assertThat(hub.current("20251014").etag()).isEqualTo(first.etag());
+
+        assertThat(hub.publish(response("1401.00", "9.45"))).isTrue();
+        ExchangeRateHub.Snapshot second = hub.current("20251014");
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(second.byCurrency().get("USD").getDealBasR()).isEqualByComparingTo("1401.00");
+        assertThat(new String(second.json(), StandardCharsets.UTF_8)).contains("\"curUnit\":\"USD\"");
+    }
+
+    // 통화 코드는 대소문자 구분 없이 조회하고, 다른 날짜나 오래된 스냅샷은 주지 않음
+    @Test
+    public void testLookupAndExpiry() {
+        hub.publish(response("1400.50", "9.45"));
+
+        assertThat(hub.current("20251014").byCurrency().get("JPY(100)").getDealBasR()).isEqualByComparingTo("9.45");
+        assertThat(hub.current("20251015")).isNull();
+
+        ReflectionTestUtils.setField(hub, "maxAgeMs", -1L);
+        assertThat(hub.current("20251014")).isNull();
+    }
+
+    private static ExchangeRateResponseDTO response(String usd, String jpy) {
+        LocalDate date = LocalDate.of(2025, 10, 14);
+        return ExchangeRateResponseDTO.builder()
+                .exchangeRates(List.of(
+                        ExchangeRateDTO.builder().curUnit("USD").curNm("미국 달러")
+                                .dealBasR(new BigDecimal(usd)).searchDate(date).build(),
+                        ExchangeRateDTO.builder().curUnit("JPY(100)").curNm("일본 옌")
+                                .dealBasR(new BigDecimal(jpy)).searchDate(date).build()))
+                .searchDate("20251014")
+                .result(1)
+                .message("실시간 크롤링 데이터")
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fullStc.marketdata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fullStc.marketdata.domain.MarketBar.Resolution;
+import com.fullStc.marketdata.service.MarketTickStore.Row;
+
+// 수집값을 1분·1시간 봉으로 합치는 동작 테스트 (DB 없이 메모리 부분만)
+public class MarketTickStoreTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 10, 14, 10, 15, 0);
+
+    private MarketTickStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new MarketTickStore(null, null);
+    }
+
+    // 같은 분의 수집값은 하나의 봉으로 합쳐지고, 저장 후에는 새로 들어온 횟수만 다시 저장
+    @Test
+    public void testAggregatesWithinBucket() {
+        store.record(Map.of("FX:USD", new BigDecimal("1400")), T0);
+        store.record(Map.of("FX:USD", new BigDecimal("1405")), T0.plusSeconds(5));
+        store.record(Map.of("FX:USD", new BigDecimal("1398")), T0.plusSeconds(10));
+
+        List<Row> rows = store.drain();
+        assertThat(rows).hasSize(2);
+        Row minute = row(rows, Resolution.M1);
+        assertThat(minute.bucketStart()).isEqualTo(T0);
+        assertThat(minute.open()).isEqualByComparingTo("1400");
+        assertThat(minute.high()).isEqualByComparingTo("1405");
+        assertThat(minute.low()).isEqualByComparingTo("1398");
+        assertThat(minute.close()).isEqualByComparingTo("1398");
+        assertThat(minute.samples()).isEqualTo(3);
+        assertThat(row(rows, Resolution.H1).bucketStart()).isEqualTo(T0.withMinute(0));
+
+        assertThat(store.drain()).isEmpty();
+
+        store.record(Map.of("FX:USD", new BigDecimal("1399")), T0.plusSeconds(15));
+        Row again = row(store.drain(), Resolution.M1);
+        assertThat(again.samples()).isEqualTo(1);
+        assertThat(again.open()).isEqualByComparingTo("1400");
+        assertThat(again.low()).isEqualByComparingTo("1398");
+        assertThat(again.close()).isEqualByComparingTo("1399");
+    }
+
+    // 다음 분으로 넘어가면 이전 봉은 마감되어 새 봉과 함께 저장
+    @Test
+    public void testRollsOverToNextBucket() {
+        store.record(Map.of("FX:USD", new BigDecimal("1400")), T0);
+        store.record(Map.of("FX:USD", new BigDecimal("1401")), T0.plusMinutes(1));
+
+        List<Row> minutes = store.drain().stream()
+                .filter(r -> r.resolution() == Resolution.M1)
+                .toList();
+        assertThat(minutes).extracting(Row::bucketStart).containsExactly(T0, T0.plusMinutes(1));
+        assertThat(minutes).extracting(Row::samples).containsExactly(1, 1);
+    }
+
+    private static Row row(List<Row> rows, Resolution resolution) {
+        return rows.stream().filter(r -> r.resolution() == resolution).findFirst().orElseThrow();
+    }
+}
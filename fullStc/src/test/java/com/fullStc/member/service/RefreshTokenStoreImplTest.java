@@ -0,0 +1,130 @@
+package com.fullStc.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fullStc.member.domain.Member;
+import com.fullStc.member.domain.RefreshToken;
+import com.fullStc.member.repository.MemberRepository;
+import com.fullStc.member.repository.RefreshTokenRepository;
+import com.fullStc.member.service.RefreshTokenStore.StoredToken;
+
+// Refresh Token 저장소 테스트 (Redis 조회, Redis에 없을 때·장애 시 DB 대체 경로, 만료 처리)
+public class RefreshTokenStoreImplTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private RefreshTokenRepository refreshTokenRepository;
+    private MemberRepository memberRepository;
+    private RefreshTokenStoreImpl store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        store = new RefreshTokenStoreImpl(redisTemplate, refreshTokenRepository, memberRepository, new ObjectMapper());
+    }
+
+    // Redis에 있으면 저장된 클레임 반환 (DB 조회 없음)
+    @Test
+    public void testFindFromRedis() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of(
+                "userId", "7",
+                "claims", "{\"email\":\"a@test.com\",\"roleNames\":[\"USER\"]}",
+                "expiresAt", String.valueOf(expiresAt.toEpochMilli())));
+
+        StoredToken stored = store.find("token");
+
+        assertThat(stored.userId()).isEqualTo(7L);
+        assertThat(stored.claims()).containsEntry("email", "a@test.com");
+        assertThat(stored.isExpired()).isFalse();
+        verify(refreshTokenRepository, never()).findByToken(any());
+    }
+
+    // Redis에 없으면 DB에서 조회 (Redis 장애 중 저장된 토큰, 클레임 없음)
+    @Test
+    public void testFindFallsBackToDatabaseOnRedisMiss() {
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        when(refreshTokenRepository.findByToken("token"))
+                .thenReturn(Optional.of(dbToken("token", LocalDateTime.now().plusDays(1))));
+
+        StoredToken stored = store.find("token");
+
+        assertThat(stored.userId()).isEqualTo(7L);
+        assertThat(stored.claims()).isNull();
+        assertThat(stored.isExpired()).isFalse();
+    }
+
+    // Redis 장애 시에도 DB에서 조회, 어디에도 없으면 null
+    @Test
+    public void testFindFallsBackToDatabaseOnRedisFailure() {
+        when(hashOperations.entries(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        when(refreshTokenRepository.findByToken("token")).thenReturn(Optional.empty());
+
+        assertThat(store.find("token")).isNull();
+        verify(refreshTokenRepository).findByToken("token");
+    }
+
+    // 만료된 DB 토큰은 삭제하고 만료 상태로 반환 (없는 토큰과 구분)
+    @Test
+    public void testFindExpiredDatabaseToken() {
+        RefreshToken expired = dbToken("token", LocalDateTime.now().minusDays(1));
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        when(refreshTokenRepository.findByToken("token")).thenReturn(Optional.of(expired));
+
+        StoredToken stored = store.find("token");
+
+        assertThat(stored).isNotNull();
+        assertThat(stored.isExpired()).isTrue();
+        verify(refreshTokenRepository).delete(expired);
+    }
+
+    // Redis 저장 실패 시 DB에 저장
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSaveFallsBackToDatabase() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(memberRepository.getReferenceById(7L)).thenReturn(Member.builder().id(7L).build());
+
+        store.save(7L, "token", Map.of("email", "a@test.com", "password", "secret"), Instant.now().plusSeconds(3600));
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getToken()).isEqualTo("token");
+        assertThat(saved.getValue().getMember().getId()).isEqualTo(7L);
+    }
+
+    private static RefreshToken dbToken(String token, LocalDateTime expiryDate) {
+        return RefreshToken.builder()
+                .member(Member.builder().id(7L).build())
+                .token(token)
+                .expiryDate(expiryDate)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.fullStc.news.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fullStc.news.provider.FeedFetcher.FeedItem;
+import com.fullStc.outbound.service.OutboundHttpClientFactory;
+import com.fullStc.outbound.service.OutboundHttpClientFactory.Limits;
+import com.fullStc.outbound.service.OutboundHttpMetrics;
+import com.sun.net.httpserver.HttpServer;
+
+// RSS 조건부 요청(304)과 워터마크 기준 파싱 중단 테스트 (로컬 HTTP 서버 사용)
+public class FeedFetcherTest {
+
+    private HttpServer server;
+    private OutboundHttpClientFactory factory;
+    private FeedFetcher fetcher;
+
+    private final AtomicReference<String> feed = new AtomicReference<>();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/rss", exchange -> {
+            String body = feed.get();
+            String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            fullResponses.incrementAndGet();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/rss+xml; charset=UTF-8");
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        factory = new OutboundHttpClientFactory(new OutboundHttpMetrics());
+        fetcher = new FeedFetcher(factory.restTemplate("external",
+                new Limits(4, 4, Duration.ofSeconds(1), Duration.ofSeconds(5))));
+        ReflectionTestUtils.setField(fetcher, "maxItems", 100);
+        ReflectionTestUtils.setField(fetcher, "stopAfterOld", 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        factory.destroy();
+        server.stop(0);
+    }
+
+    // 바뀌지 않은 피드는 304로 받고 이전 목록을 돌려주며, 바뀐 피드는 새 항목을 앞에 합침
+    @Test
+    public void testConditionalGetAndMerge() {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/rss";
+        feed.set(rss(item("b", "Tue, 14 Oct 2025 10:00:00 GMT"), item("a", "Tue, 14 Oct 2025 09:00:00 GMT")));
+
+        assertThat(fetcher.fetch(url)).extracting(FeedItem::link).containsExactly("b", "a");
+        assertThat(fetcher.fetch(url)).extracting(FeedItem::link).containsExactly("b", "a");
+        assertThat(fullResponses).hasValue(1);
+        assertThat(notModified).hasValue(1);
+
+        feed.set(rss(item("c", "Tue, 14 Oct 2025 11:00:00 GMT"), item("b", "Tue, 14 Oct 2025 10:00:00 GMT"),
+                item("a", "Tue, 14 Oct 2025 09:00:00 GMT")));
+        assertThat(fetcher.fetch(url)).extracting(FeedItem::link).containsExactly("c", "b", "a");
+        assertThat(fullResponses).hasValue(2);
+    }
+
+    // 워터마크 이전 항목이 연속으로 나오면 나머지는 읽지 않음 (중간에 섞인 오래된 항목은 건너뜀)
+    @Test
+    public void testParseStopsAtWatermark() throws Exception {
+        String xml = rss(
+                item("new1", "Tue, 14 Oct 2025 12:00:00 GMT"),
+                item("old1", "Tue, 14 Oct 2025 08:00:00 GMT"),
+                item("new2", "Tue, 14 Oct 2025 11:00:00 GMT"),
+                item("old2", "Tue, 14 Oct 2025 07:00:00 GMT"),
+                item("old3", "Tue, 14 Oct 2025 06:00:00 GMT"),
+                item("new3", "Tue, 14 Oct 2025 13:00:00 GMT"));
+
+        List<FeedItem> items = FeedFetcher.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+                Instant.parse("2025-10-14T10:00:00Z"), 2, 100);
+
+        assertThat(items).extracting(FeedItem::link).containsExactly("new1", "new2");
+        assertThat(items.get(0).title()).isEqualTo("title new1");
+        assertThat(items.get(0).description()).isEqualTo("<b>desc</b> new1");
+        assertThat(items.get(0).publishedAt()).isEqualTo(Instant.parse("2025-10-14T12:00:00Z"));
+    }
+
+    private static String rss(String... items) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>t</title>"
+                + String.join("", items) + "</channel></rss>";
+    }
+
+    private static String item(String link, String pubDate) {
+        return "<item><title>title " + link + "</title><link>" + link + "</link>"
+                + "<description>&lt;b&gt;desc&lt;/b&gt; " + link + "</description>"
+                + "<pubDate>" + pubDate + "</pubDate>"
+                + "<source url=\"https://example.com\">Example</source></item>";
+    }
+}
@@ -0,0 +1,129 @@
+package com.fullStc.outbound.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fullStc.outbound.dto.OutboundEndpointStatsDTO;
+import com.fullStc.outbound.service.OutboundHttpClientFactory.Limits;
+import com.sun.net.httpserver.HttpServer;
+
+// 풀링 RestTemplate의 커넥션 재사용과 엔드포인트 지표 테스트 (로컬 HTTP 서버 사용)
+public class OutboundHttpClientFactoryTest {
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private OutboundHttpMetrics metrics;
+    private OutboundHttpClientFactory factory;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/face", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            int status = exchange.getRequestURI().getPath().endsWith("/missing") ? 404 : 200;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/redirect", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/face/target");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+
+        metrics = new OutboundHttpMetrics();
+        factory = new OutboundHttpClientFactory(metrics);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        factory.destroy();
+        server.stop(0);
+    }
+
+    // 연속 요청은 같은 keep-alive 커넥션을 재사용하고, ID 구간은 하나의 엔드포인트로 집계
+    @Test
+    public void testReusesConnectionAndRecordsMetrics() {
+        RestTemplate restTemplate = factory.restTemplate("python",
+                new Limits(4, 4, Duration.ofSeconds(1), Duration.ofSeconds(5)));
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        for (int i = 0; i < 5; i++) {
+            restTemplate.getForObject(base + "/face/user" + i + "@test.com", String.class);
+        }
+        assertThatThrownBy(() -> restTemplate.getForObject(base + "/face/missing", String.class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+
+        assertThat(clientPorts).hasSize(1);
+
+        OutboundEndpointStatsDTO face = stats("127.0.0.1:" + server.getAddress().getPort() + "/face/{id}");
+        assertThat(face.getRequests()).isEqualTo(5);
+        assertThat(face.getErrorResponses()).isZero();
+        assertThat(face.getLatency().count()).isEqualTo(5);
+
+        OutboundEndpointStatsDTO missing = stats("127.0.0.1:" + server.getAddress().getPort() + "/face/missing");
+        assertThat(missing.getErrorResponses()).isEqualTo(1);
+
+        assertThat(factory.getPoolStats()).singleElement()
+                .satisfies(pool -> {
+                    assertThat(pool.getClient()).isEqualTo("python");
+                    assertThat(pool.getLeased()).isZero();
+                    assertThat(pool.getMax()).isEqualTo(4);
+                });
+    }
+
+    // 리다이렉트를 따라가지 않는 클라이언트는 같은 풀을 쓰고 3xx 응답을 그대로 반환
+    @Test
+    public void testWithoutRedirectsSharesPool() {
+        RestTemplate following = factory.restTemplate("external",
+                new Limits(4, 4, Duration.ofSeconds(1), Duration.ofSeconds(5)));
+        RestTemplate notFollowing = factory.restTemplateWithoutRedirects("external");
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        assertThat(following.getForEntity(base + "/redirect", String.class).getStatusCode().value()).isEqualTo(200);
+        ResponseEntity<String> redirect = notFollowing.getForEntity(base + "/redirect", String.class);
+        assertThat(redirect.getStatusCode().value()).isEqualTo(302);
+        assertThat(redirect.getHeaders().getFirst("Location")).isEqualTo("/face/target");
+
+        assertThat(factory.getPoolStats()).singleElement()
+                .satisfies(pool -> assertThat(pool.getClient()).isEqualTo("external"));
+        assertThatThrownBy(() -> factory.restTemplateWithoutRedirects("unknown"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 경로 정규화 (쿼리 제외, 숫자·UUID·이메일 구간 치환)
+    @Test
+    public void testEndpointNormalization() {
+        assertThat(OutboundHttpMetrics.endpoint(URI.create("http://localhost:8000/face/kim@test.com")))
+                .isEqualTo("localhost:8000/face/{id}");
+        assertThat(OutboundHttpMetrics.endpoint(URI.create("https://api.openai.com/v1/embeddings?x=1")))
+                .isEqualTo("api.openai.com/v1/embeddings");
+        assertThat(OutboundHttpMetrics.endpoint(
+                URI.create("http://localhost:8000/api/drive/tts/3f2b1c9e-8a7d-4e6f-9b0a-1c2d3e4f5a6b/123")))
+                .isEqualTo("localhost:8000/api/drive/tts/{id}/{id}");
+    }
+
+    private OutboundEndpointStatsDTO stats(String endpoint) {
+        return metrics.getStats().stream()
+                .filter(s -> s.getEndpoint().equals(endpoint))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,106 @@
+package com.fullStc.scheduling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.fullStc.config.SchedulingConfig;
+import com.fullStc.scheduling.dto.ScheduledJobStatusDTO;
+
+// ScheduledJobMonitor 실행 감시·중복 실행 방지 테스트
+public class ScheduledJobMonitorTest {
+
+    private ScheduledJobMonitor monitor;
+    private SampleJob target;
+    private SampleJob job;
+
+    @BeforeEach
+    public void setUp() {
+        monitor = new ScheduledJobMonitor();
+        target = new SampleJob();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(monitor);
+        job = factory.getProxy();
+    }
+
+    // 실행 횟수·실패·스케줄 기록
+    @Test
+    public void testRecordsRunsAndFailures() {
+        job.quick();
+        job.quick();
+        assertThatThrownBy(job::failing).isInstanceOf(IllegalStateException.class);
+
+        ScheduledJobStatusDTO quick = status("SampleJob.quick");
+        assertThat(quick.getRuns()).isEqualTo(2);
+        assertThat(quick.getPool()).isEqualTo(SchedulingConfig.INGEST);
+        assertThat(quick.getSchedule()).isEqualTo("fixedDelay 1000ms");
+        assertThat(quick.getDuration().count()).isEqualTo(2);
+        // 두 번째 실행은 직전 종료 + 1초에 시작됐어야 하므로 음수 지연(0으로 기록)
+        assertThat(quick.getLag().count()).isEqualTo(1);
+
+        ScheduledJobStatusDTO failing = status("SampleJob.failing");
+        assertThat(failing.getFailures()).isEqualTo(1);
+        assertThat(failing.getPool()).isEqualTo(SchedulingConfig.MAINTENANCE);
+        assertThat(failing.getLastError()).contains("boom");
+        assertThat(failing.isRunning()).isFalse();
+    }
+
+    // 실행 중인 작업이 다시 호출되면 건너뜀
+    @Test
+    public void testSkipsOverlappingRun() throws Exception {
+        CompletableFuture<Void> first = CompletableFuture.runAsync(job::slow);
+        assertThat(target.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        job.slow();
+        target.release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        ScheduledJobStatusDTO slow = status("SampleJob.slow");
+        assertThat(slow.getRuns()).isEqualTo(1);
+        assertThat(slow.getSkipped()).isEqualTo(1);
+        assertThat(target.slowCalls.get()).isEqualTo(1);
+    }
+
+    private ScheduledJobStatusDTO status(String name) {
+        return monitor.getStatuses().stream()
+                .filter(s -> s.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    static class SampleJob {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger slowCalls = new AtomicInteger();
+
+        @Scheduled(fixedDelay = 1000, scheduler = SchedulingConfig.INGEST)
+        public void quick() {
+        }
+
+        @Scheduled(cron = "0 0 3 * * *")
+        public void failing() {
+            throw new IllegalStateException("boom");
+        }
+
+        @Scheduled(fixedRate = 1000)
+        public void slow() {
+            slowCalls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
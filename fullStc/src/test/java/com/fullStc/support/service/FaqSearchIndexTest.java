@@ -0,0 +1,102 @@
+package com.fullStc.support.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fullStc.support.domain.Faq;
+import com.fullStc.support.domain.FaqCategory;
+import com.fullStc.support.dto.FaqResponse;
+import com.fullStc.support.repository.FaqRepository;
+import com.fullStc.util.SharedVersionStamp;
+
+// FAQ 메모리 색인의 한국어 토큰 분리와 BM25 순위 테스트
+public class FaqSearchIndexTest {
+
+    private FaqRepository faqRepository;
+    private SharedVersionStamp versionStamp;
+    private FaqSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        faqRepository = mock(FaqRepository.class);
+        versionStamp = mock(SharedVersionStamp.class);
+        index = new FaqSearchIndex(faqRepository, versionStamp);
+        LocalDateTime now = LocalDateTime.of(2025, 10, 14, 9, 0);
+        when(faqRepository.findAllByOrderByCreatedAtDesc()).thenReturn(List.of(
+                faq(3L, FaqCategory.ACCOUNT, "비밀번호를 변경하려면 어떻게 하나요?",
+                        "프로필 설정에서 비밀번호 변경 메뉴를 이용하세요.", "비밀번호,변경,계정", now),
+                faq(2L, FaqCategory.DRIVE, "드라이브모드에서 음성 명령은 어떻게 사용하나요?",
+                        "운전 중에는 음성으로 뉴스를 들을 수 있습니다.", "음성,명령", now.minusDays(1)),
+                faq(1L, FaqCategory.VIDEO, "영상 제작에 시간이 얼마나 걸리나요?",
+                        "영상 길이에 따라 1~3분 정도 걸립니다.", "영상,제작,시간", now.minusDays(2))));
+        index.rebuild();
+    }
+
+    // 조사·어미를 떼고, 3글자 이상 한글은 바이그램도 만듦
+    @Test
+    public void testTokenize() {
+        assertThat(FaqSearchIndex.tokenize("비밀번호를 변경하려면 어떻게 하나요?"))
+                .contains("비밀번호", "비밀", "번호", "변경")
+                .doesNotContain("어떻게", "비밀번호를");
+        assertThat(FaqSearchIndex.tokenize("추가 TTS 3분")).containsExactly("추가", "tts", "3분");
+    }
+
+    // 관련도순으로 돌려주고, 부분 단어·카테고리 필터·빈 검색어를 처리하며 DB는 처음 한 번만 읽음
+    @Test
+    public void testSearchRanksAndFilters() {
+        List<FaqResponse> password = index.search("비밀번호 바꾸는 방법", null, 3);
+        assertThat(password).extracting(FaqResponse::getId).first().isEqualTo(3L);
+
+        assertThat(index.search("드라이브 음성", null, 3)).extracting(FaqResponse::getId).first().isEqualTo(2L);
+        assertThat(index.search("영상 시간", FaqCategory.DRIVE, 0)).isEmpty();
+        assertThat(index.search("없는단어입니다", null, 0)).isEmpty();
+        assertThat(index.search("", FaqCategory.VIDEO, 0)).extracting(FaqResponse::getId).containsExactly(1L);
+        assertThat(index.search(null, null, 2)).extracting(FaqResponse::getId).containsExactly(3L, 2L);
+
+        verify(faqRepository, times(1)).findAllByOrderByCreatedAtDesc();
+    }
+
+    // 다른 인스턴스가 FAQ를 바꿨으면 검색 전에 다시 만들고 갱신 후 작업(답변 캐시 비우기)도 실행
+    @Test
+    public void testRebuildsWhenChangedElsewhere() {
+        Runnable listener = mock(Runnable.class);
+        index.onRebuild(listener);
+        when(versionStamp.changedElsewhere(FaqSearchIndex.VERSION_KEY)).thenReturn(true).thenReturn(false);
+
+        index.search("비밀번호", null, 1);
+        index.search("비밀번호", null, 1);
+
+        verify(faqRepository, times(2)).findAllByOrderByCreatedAtDesc();
+        verify(listener, times(1)).run();
+    }
+
+    // 이 인스턴스에서 바꾸면 다른 인스턴스에 알림
+    @Test
+    public void testRefreshBumpsVersion() {
+        index.refresh();
+
+        verify(versionStamp).bump(FaqSearchIndex.VERSION_KEY);
+        verify(faqRepository, times(2)).findAllByOrderByCreatedAtDesc();
+    }
+
+    private static Faq faq(Long id, FaqCategory category, String question, String answer, String keywords,
+                           LocalDateTime createdAt) {
+        return Faq.builder()
+                .id(id)
+                .category(category)
+                .question(question)
+                .answer(answer)
+                .keywords(keywords)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ from typing import Any, Optional
 
 import qrcode
 import requests
+from pypdf import PdfReader, PdfWriter
 from reportlab.lib import colors
 from reportlab.lib.pagesizes import A4
 from reportlab.lib.styles import getSampleStyleSheet, ParagraphStyle
@@ -16,7 +17,9 @@ from reportlab.platypus import (
     SimpleDocTemplate, Paragraph, Spacer, Image, Table, TableStyle,
     PageBreak, KeepTogether,
 )
+from reportlab.pdfgen import canvas
 from reportlab.pdfbase import pdfmetrics
+from reportlab.pdfbase.cidfonts import UnicodeCIDFont
 from reportlab.pdfbase.ttfonts import TTFont
 
 logger = logging.getLogger(__name__)
@@ -31,12 +34,21 @@ CATEGORY_DISPLAY = {
     "culture": "문화",
 }
 
-# 한글 폰트 없으면 기본 폰트 사용 (Helvetica)
+# 한글 폰트: 맑은 고딕(Windows) → reportlab 내장 한글 CID 폰트(파일 없이 어디서나 사용 가능) → Helvetica
 try:
     pdfmetrics.registerFont(TTFont("Malgun", "C:/Windows/Fonts/malgun.ttf"))
     DEFAULT_FONT = "Malgun"
 except Exception:
-    DEFAULT_FONT = "Helvetica"
+    try:
+        pdfmetrics.registerFont(UnicodeCIDFont("HYGothic-Medium"))
+        DEFAULT_FONT = "HYGothic-Medium"
+    except Exception:
+        DEFAULT_FONT = "Helvetica"
+
+# 1면 제호 줄 오른쪽 끝 (수신자 이름 위치, build_pdf의 여백·제호 크기 기준)
+PAGE_RIGHT_MARGIN = 18 * mm
+PAGE_TOP_MARGIN = 12 * mm
+RECIPIENT_BASELINE = 7 * mm
 
 
 def _category_label(cat: str) -> str:
@@ -139,18 +151,47 @@ def _summary_for_pdf(full_summary: str, max_chars: int) -> str:
     return cut[:max_chars].rstrip().replace("\n", " ") + "…"
 
 
+def _draw_recipient(c: canvas.Canvas, user_name: str) -> None:
+    """
+    1면 제호 줄 오른쪽에 수신자 이름 표시 (판 생성과 개인화 덧입히기가 같은 위치를 사용)
+    """
+    c.saveState()
+    c.setFont(DEFAULT_FONT, 9)
+    c.setFillColor(colors.HexColor("#555555"))
+    c.drawRightString(A4[0] - PAGE_RIGHT_MARGIN, A4[1] - PAGE_TOP_MARGIN - RECIPIENT_BASELINE, f"{user_name} 님")
+    c.restoreState()
+
+
+def personalize_pdf(pdf_bytes: bytes, user_name: str) -> bytes:
+    """
+    공유 판 PDF의 1면에 수신자 이름만 덧입혀 반환 (기사·이미지는 다시 그리지 않음)
+    """
+    overlay_buffer = io.BytesIO()
+    c = canvas.Canvas(overlay_buffer, pagesize=A4)
+    _draw_recipient(c, user_name)
+    c.save()
+    overlay_buffer.seek(0)
+
+    writer = PdfWriter(clone_from=PdfReader(io.BytesIO(pdf_bytes)))
+    writer.pages[0].merge_page(PdfReader(overlay_buffer).pages[0])
+    out = io.BytesIO()
+    writer.write(out)
+    return out.getvalue()
+
+
 def build_pdf(payload: dict[str, Any]) -> bytes:
     """
     Java에서 전달한 DTO(JSON)로 PDF 생성 후 바이트 반환
     신문형: 제호 → 1면 리드(이미지+제목+요약) → 2단 그리드 → 푸터
+    userName이 없으면 이름 없는 공유 판을 만들고, 이름은 personalize_pdf로 수신자마다 덧입힘
     """
     buffer = io.BytesIO()
     doc = SimpleDocTemplate(
         buffer,
         pagesize=A4,
-        rightMargin=18 * mm,
+        rightMargin=PAGE_RIGHT_MARGIN,
         leftMargin=18 * mm,
-        topMargin=12 * mm,
+        topMargin=PAGE_TOP_MARGIN,
         bottomMargin=12 * mm,
     )
     styles = getSampleStyleSheet()
@@ -224,10 +265,10 @@ def build_pdf(payload: dict[str, Any]) -> bytes:
     story = []
 
     # ----- 1. 제호 (Masthead) -----
-    userName = payload.get("userName") or "고객"
+    userName = payload.get("userName")
     publishDate = payload.get("publishDate") or ""
     story.append(Paragraph("NewsPulse", masthead_style))
-    story.append(Paragraph(f"발행일 {publishDate} · {userName} · 맞춤형 브리핑", subtitle_style))
+    story.append(Paragraph(f"발행일 {publishDate} · 맞춤형 브리핑", subtitle_style))
     # 구분선
     line_table = Table([[""]], colWidths=[doc.width], rowHeights=[1.5 * mm])
     line_table.setStyle(TableStyle([("BACKGROUND", (0, 0), (-1, -1), colors.HexColor("#e0e0e0"))]))
@@ -338,6 +379,9 @@ def build_pdf(payload: dict[str, Any]) -> bytes:
     if scheduled_log:
         story.append(Paragraph(scheduled_log, footer_style))
 
-    doc.build(story)
+    if userName:
+        doc.build(story, onFirstPage=lambda c, d: _draw_recipient(c, userName))
+    else:
+        doc.build(story)
     buffer.seek(0)
     return buffer.read()
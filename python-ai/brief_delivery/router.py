@@ -5,12 +5,12 @@
 import logging
 from typing import Any, Optional
 
-from fastapi import APIRouter, HTTPException
+from fastapi import APIRouter, HTTPException, Query, Request
 from fastapi.responses import Response
 from pydantic import BaseModel
 
 from .nlu_chain import analyze_brief_delivery
-from .pdf_service import build_pdf
+from .pdf_service import build_pdf, personalize_pdf
 
 logger = logging.getLogger(__name__)
 
@@ -64,3 +64,24 @@ async def generate_pdf(payload: dict[str, Any]):
     except Exception as e:
         logger.exception("브리핑 PDF 생성 오류: %s", e)
         raise HTTPException(status_code=500, detail=str(e))
+
+
+@router.post("/personalize-pdf")
+async def personalize(request: Request, user_name: str = Query(..., alias="userName")):
+    """
+    공유 판 PDF(요청 본문)에 수신자 이름을 덧입혀 반환
+    """
+    try:
+        pdf_bytes = await request.body()
+        if not pdf_bytes:
+            raise HTTPException(status_code=400, detail="PDF 본문이 비어 있습니다")
+        return Response(
+            content=personalize_pdf(pdf_bytes, user_name),
+            media_type="application/pdf",
+            headers={"Content-Disposition": "attachment; filename=briefing.pdf"},
+        )
+    except HTTPException:
+        raise
+    except Exception as e:
+        logger.exception("브리핑 PDF 개인화 오류: %s", e)
+        raise HTTPException(status_code=500, detail=str(e))
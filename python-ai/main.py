@@ -312,6 +312,15 @@ class FaceRecognitionResponse(BaseModel):
     error: Optional[str] = None
 
 
+class FaceAnalyzeResponse(BaseModel):
+    """얼굴 분석 응답 (매칭은 Java 측 색인에서 수행)"""
+    success: bool
+    face_detected: bool
+    face_count: int
+    description: Optional[str] = None
+    error: Optional[str] = None
+
+
 # ===== 환율 관련 모델 =====
 class ExchangeRateResponse(BaseModel):
     """환율 정보 응답"""
@@ -1136,6 +1145,57 @@ async def recognize_face(request: FaceRecognitionRequest):
         )
 
 
+@app.post("/face/analyze", response_model=FaceAnalyzeResponse)
+async def analyze_face(request: FaceRecognitionRequest):
+    """
+    얼굴 분석 엔드포인트 (로그인 시 얼굴 인식용)
+    
+    이미지 한 장을 분석해 얼굴 설명만 반환하고, 등록된 얼굴과의 비교는 Java 측 색인에서 수행합니다.
+    - image_base64: Base64 인코딩된 얼굴 이미지
+    """
+    logger.info("얼굴 분석 요청 수신")
+    
+    try:
+        if "," in request.image_base64:
+            image_base64 = request.image_base64.split(",")[1]
+        else:
+            image_base64 = request.image_base64
+        
+        image = Image.open(BytesIO(base64.b64decode(image_base64)))
+        buffered = BytesIO()
+        image.save(buffered, format="PNG")
+        image_base64_png = base64.b64encode(buffered.getvalue()).decode()
+        
+        analysis_result = analyze_face_with_openai(image_base64_png)
+        face_detected = analysis_result.get("face_detected", False)
+        face_count = analysis_result.get("face_count", 0)
+        face_description = analysis_result.get("face_description", "")
+        
+        if not face_detected:
+            return FaceAnalyzeResponse(
+                success=True,
+                face_detected=False,
+                face_count=0,
+                description="이미지에서 얼굴을 감지할 수 없습니다."
+            )
+        
+        return FaceAnalyzeResponse(
+            success=True,
+            face_detected=True,
+            face_count=face_count,
+            description=face_description
+        )
+        
+    except Exception as e:
+        logger.error(f"얼굴 분석 에러: {str(e)}")
+        return FaceAnalyzeResponse(
+            success=False,
+            face_detected=False,
+            face_count=0,
+            error=str(e)
+        )
+
+
 @app.delete("/face/{user_id}")
 async def delete_face(user_id: str):
     """
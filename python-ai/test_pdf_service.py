@@ -0,0 +1,76 @@
+"""
+브리핑 PDF 개인화(personalize_pdf) 테스트
+공유 판 1면에 수신자 이름만 덧입히고 나머지 페이지·내용은 그대로 두는지 확인
+"""
+import io
+import time
+
+import pytest
+from pypdf import PdfReader
+from reportlab.lib.pagesizes import A4
+from reportlab.pdfgen import canvas
+
+from brief_delivery.pdf_service import DEFAULT_FONT, personalize_pdf
+
+
+def _shared_edition(pages: int = 2) -> bytes:
+    """이름 없는 공유 판 대용 PDF (페이지마다 라틴 문자 표식)"""
+    buffer = io.BytesIO()
+    c = canvas.Canvas(buffer, pagesize=A4)
+    for i in range(pages):
+        c.setFont("Helvetica", 12)
+        c.drawString(72, 720, f"EDITION PAGE {i + 1}")
+        c.showPage()
+    c.save()
+    return buffer.getvalue()
+
+
+def _font_names(page) -> set:
+    resources = page.get("/Resources")
+    resources = resources.get_object() if resources is not None else {}
+    fonts = resources.get("/Font")
+    fonts = fonts.get_object() if fonts is not None else {}
+    return {str(font.get_object().get("/BaseFont", "")) for font in fonts.values()}
+
+
+class TestPersonalizePdf:
+    """수신자 이름 덧입히기 테스트"""
+
+    def test_keeps_pages_and_content(self):
+        """페이지 수와 기존 내용 유지, 2면 이후는 변경 없음"""
+        shared = _shared_edition()
+        reader = PdfReader(io.BytesIO(personalize_pdf(shared, "홍길동")))
+
+        assert len(reader.pages) == 2
+        assert "EDITION PAGE 1" in reader.pages[0].extract_text()
+        assert "EDITION PAGE 2" in reader.pages[1].extract_text()
+        assert not any(DEFAULT_FONT in name for name in _font_names(reader.pages[1]))
+
+    @pytest.mark.parametrize("user_name", ["홍길동", "김 민지", "Alex 박"])
+    def test_korean_name_uses_registered_font(self, user_name):
+        """한글 이름은 등록된 한글 폰트로 1면에만 그림 (Helvetica로 떨어지면 글자가 깨짐)"""
+        assert DEFAULT_FONT != "Helvetica"
+
+        reader = PdfReader(io.BytesIO(personalize_pdf(_shared_edition(), user_name)))
+
+        assert any(DEFAULT_FONT in name for name in _font_names(reader.pages[0]))
+
+    def test_shared_edition_unchanged(self):
+        """입력한 공유 판 바이트는 수정하지 않음 (수신자마다 같은 판을 재사용)"""
+        shared = _shared_edition()
+        before = bytes(shared)
+
+        personalize_pdf(shared, "홍길동")
+
+        assert shared == before
+
+    def test_per_recipient_cost(self):
+        """수신자 한 명당 덧입히기 비용 (판 전체를 다시 읽고 쓰므로 판 크기에 비례)"""
+        shared = _shared_edition(pages=8)
+
+        start = time.perf_counter()
+        personalized = personalize_pdf(shared, "홍길동")
+        elapsed_ms = (time.perf_counter() - start) * 1000
+
+        print(f"\n판 {len(shared)} bytes → 개인화 {len(personalized)} bytes, {elapsed_ms:.1f}ms")
+        assert len(personalized) < len(shared) * 2 + 64 * 1024